@@ -0,0 +1,81 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.sysml.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.apache.sysml.runtime.instructions.InstructionUtils;
+import org.apache.sysml.runtime.matrix.data.MatrixBlock;
+import org.apache.sysml.runtime.matrix.data.MatrixIndexes;
+import org.apache.sysml.runtime.matrix.operators.AggregateUnaryOperator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks of the unary aggregates in LibMatrixAgg (full, row, and
+ * column aggregates) over dense and sparse inputs.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class AggregateBenchmark 
+{
+	@Param({"10000"})
+	public int rows;
+	
+	@Param({"1000"})
+	public int cols;
+	
+	@Param({"1.0", "0.1", "0.001"})
+	public double sparsity;
+	
+	@Param({"uak+", "uark+", "uack+", "uamax", "uarimax"})
+	public String opcode;
+	
+	@Param({"1", "-1"}) //-1: local parallelism
+	public int threads;
+	
+	private MatrixBlock _X;
+	private AggregateUnaryOperator _op;
+	
+	@Setup
+	public void setup() throws Exception {
+		_X = BenchmarkUtils.createRandomMatrix(rows, cols, sparsity, BenchmarkUtils.SEED);
+		_op = InstructionUtils.parseBasicAggregateUnaryOperator(opcode, BenchmarkUtils.getParallelism(threads));
+	}
+	
+	@Benchmark
+	public MatrixBlock aggregate() throws Exception {
+		return (MatrixBlock) _X.aggregateUnaryOperations(_op, new MatrixBlock(),
+			rows, cols, new MatrixIndexes(1, 1), true);
+	}
+}
@@ -0,0 +1,95 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.sysml.benchmark;
+
+import org.apache.sysml.runtime.DMLRuntimeException;
+import org.apache.sysml.runtime.controlprogram.parfor.stat.InfrastructureAnalyzer;
+import org.apache.sysml.runtime.functionobjects.Multiply;
+import org.apache.sysml.runtime.functionobjects.Plus;
+import org.apache.sysml.runtime.matrix.data.MatrixBlock;
+import org.apache.sysml.runtime.matrix.operators.AggregateBinaryOperator;
+import org.apache.sysml.runtime.matrix.operators.AggregateOperator;
+
+/**
+ * Shared data generators and parameter handling of the kernel benchmarks.
+ */
+public class BenchmarkUtils 
+{
+	public static final long SEED = 7;
+	
+	/**
+	 * Obtains the degree of parallelism for a benchmark parameter, where
+	 * a non-positive value refers to the local parallelism.
+	 * 
+	 * @param threads number of threads parameter
+	 * @return number of threads
+	 */
+	public static int getParallelism(int threads) {
+		return (threads > 0) ? threads :
+			InfrastructureAnalyzer.getLocalParallelism();
+	}
+	
+	public static AggregateBinaryOperator createMatMultOperator(int k) {
+		return new AggregateBinaryOperator(Multiply.getMultiplyFnObject(),
+			new AggregateOperator(0, Plus.getPlusFnObject()), k);
+	}
+	
+	/**
+	 * Creates a random matrix of uniformly distributed values in [-1,1].
+	 * 
+	 * @param rows number of rows
+	 * @param cols number of columns
+	 * @param sparsity fraction of non-zero values
+	 * @param seed random seed
+	 * @return matrix block in its preferred dense or sparse format
+	 * @throws DMLRuntimeException if DMLRuntimeException occurs
+	 */
+	public static MatrixBlock createRandomMatrix(int rows, int cols, double sparsity, long seed) 
+		throws DMLRuntimeException 
+	{
+		MatrixBlock ret = MatrixBlock.randOperations(rows, cols, sparsity, -1, 1, "uniform", seed);
+		ret.examSparsity();
+		return ret;
+	}
+	
+	/**
+	 * Creates a random matrix of integer values in [0,maxValue], which is
+	 * amenable to compression (few distinct values per column).
+	 * 
+	 * @param rows number of rows
+	 * @param cols number of columns
+	 * @param sparsity fraction of non-zero values
+	 * @param maxValue maximum value
+	 * @param seed random seed
+	 * @return matrix block in its preferred dense or sparse format
+	 * @throws DMLRuntimeException if DMLRuntimeException occurs
+	 */
+	public static MatrixBlock createCompressibleMatrix(int rows, int cols, double sparsity, int maxValue, long seed) 
+		throws DMLRuntimeException 
+	{
+		MatrixBlock tmp = MatrixBlock.randOperations(rows, cols, sparsity, 0, maxValue, "uniform", seed);
+		MatrixBlock ret = new MatrixBlock(rows, cols, false);
+		for( int i=0; i<rows; i++ )
+			for( int j=0; j<cols; j++ )
+				ret.quickSetValue(i, j, Math.round(tmp.quickGetValue(i, j)));
+		ret.examSparsity();
+		return ret;
+	}
+}
@@ -0,0 +1,95 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.sysml.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.apache.sysml.runtime.instructions.InstructionUtils;
+import org.apache.sysml.runtime.matrix.data.MatrixBlock;
+import org.apache.sysml.runtime.matrix.operators.BinaryOperator;
+import org.apache.sysml.runtime.matrix.operators.ScalarOperator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks of the cellwise binary operations in LibMatrixBincell, i.e.,
+ * matrix-matrix, matrix-vector (row vector broadcasting), and
+ * matrix-scalar operations over dense and sparse inputs.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class BincellBenchmark 
+{
+	@Param({"10000"})
+	public int rows;
+	
+	@Param({"1000"})
+	public int cols;
+	
+	@Param({"1.0", "0.1"})
+	public double sparsity1;
+	
+	@Param({"1.0", "0.1"})
+	public double sparsity2;
+	
+	@Param({"+", "*", "/"})
+	public String opcode;
+	
+	private MatrixBlock _X, _Y, _v;
+	private BinaryOperator _bop;
+	private ScalarOperator _sop;
+	
+	@Setup
+	public void setup() throws Exception {
+		_X = BenchmarkUtils.createRandomMatrix(rows, cols, sparsity1, BenchmarkUtils.SEED);
+		_Y = BenchmarkUtils.createRandomMatrix(rows, cols, sparsity2, BenchmarkUtils.SEED+1);
+		_v = BenchmarkUtils.createRandomMatrix(1, cols, 1.0, BenchmarkUtils.SEED+2);
+		_bop = InstructionUtils.parseBinaryOperator(opcode);
+		_sop = InstructionUtils.parseScalarBinaryOperator(opcode, false, 7);
+	}
+	
+	@Benchmark
+	public MatrixBlock matrixMatrix() throws Exception {
+		return (MatrixBlock) _X.binaryOperations(_bop, _Y, new MatrixBlock());
+	}
+	
+	@Benchmark
+	public MatrixBlock matrixRowVector() throws Exception {
+		return (MatrixBlock) _X.binaryOperations(_bop, _v, new MatrixBlock());
+	}
+	
+	@Benchmark
+	public MatrixBlock matrixScalar() throws Exception {
+		return (MatrixBlock) _X.scalarOperations(_sop, new MatrixBlock());
+	}
+}
@@ -0,0 +1,132 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.sysml.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.apache.sysml.lops.MMTSJ.MMTSJType;
+import org.apache.sysml.lops.MapMultChain.ChainType;
+import org.apache.sysml.runtime.compress.CompressedMatrixBlock;
+import org.apache.sysml.runtime.instructions.InstructionUtils;
+import org.apache.sysml.runtime.matrix.data.MatrixBlock;
+import org.apache.sysml.runtime.matrix.data.MatrixIndexes;
+import org.apache.sysml.runtime.matrix.operators.AggregateBinaryOperator;
+import org.apache.sysml.runtime.matrix.operators.AggregateUnaryOperator;
+import org.apache.sysml.runtime.matrix.operators.ScalarOperator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks of the operations over compressed matrix blocks, i.e., 
+ * compression itself, matrix-vector multiplications, transpose-self
+ * matrix multiplication, aggregates, scalar operations and decompression.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class CompressedBenchmark 
+{
+	@Param({"100000"})
+	public int rows;
+	
+	@Param({"20"})
+	public int cols;
+	
+	@Param({"1.0", "0.1"})
+	public double sparsity;
+	
+	@Param({"5", "100"}) //max distinct values per column
+	public int distinct;
+	
+	@Param({"1", "-1"}) //-1: local parallelism
+	public int threads;
+	
+	private MatrixBlock _X;
+	private MatrixBlock _cX; //compressed, if compressible
+	private MatrixBlock _v, _u;
+	private int _k;
+	
+	@Setup
+	public void setup() throws Exception {
+		_k = BenchmarkUtils.getParallelism(threads);
+		_X = BenchmarkUtils.createCompressibleMatrix(rows, cols, sparsity, distinct, BenchmarkUtils.SEED);
+		_cX = new CompressedMatrixBlock(_X).compress(_k);
+		_v = BenchmarkUtils.createRandomMatrix(cols, 1, 1.0, BenchmarkUtils.SEED+1);
+		_u = BenchmarkUtils.createRandomMatrix(1, rows, 1.0, BenchmarkUtils.SEED+2);
+	}
+	
+	@Benchmark
+	public MatrixBlock compress() throws Exception {
+		return new CompressedMatrixBlock(_X).compress(_k);
+	}
+	
+	@Benchmark
+	public MatrixBlock rightMatrixVectorMult() throws Exception {
+		AggregateBinaryOperator op = BenchmarkUtils.createMatMultOperator(_k);
+		return (MatrixBlock) _cX.aggregateBinaryOperations(_cX, _v, new MatrixBlock(), op);
+	}
+	
+	@Benchmark
+	public MatrixBlock leftVectorMatrixMult() throws Exception {
+		AggregateBinaryOperator op = BenchmarkUtils.createMatMultOperator(_k);
+		return (MatrixBlock) _cX.aggregateBinaryOperations(_u, _cX, new MatrixBlock(), op);
+	}
+	
+	@Benchmark
+	public MatrixBlock mmchainXtXv() throws Exception {
+		return _cX.chainMatrixMultOperations(_v, null, new MatrixBlock(), ChainType.XtXv, _k);
+	}
+	
+	@Benchmark
+	public MatrixBlock tsmmLeft() throws Exception {
+		return _cX.transposeSelfMatrixMultOperations(new MatrixBlock(), MMTSJType.LEFT, _k);
+	}
+	
+	@Benchmark
+	public MatrixBlock sum() throws Exception {
+		AggregateUnaryOperator op = InstructionUtils.parseBasicAggregateUnaryOperator("uak+", _k);
+		return (MatrixBlock) _cX.aggregateUnaryOperations(op, new MatrixBlock(),
+			rows, cols, new MatrixIndexes(1, 1), true);
+	}
+	
+	@Benchmark
+	public MatrixBlock scalarMultiply() throws Exception {
+		ScalarOperator op = InstructionUtils.parseScalarBinaryOperator("*", false, 7);
+		return (MatrixBlock) _cX.scalarOperations(op, new MatrixBlock());
+	}
+	
+	@Benchmark
+	public MatrixBlock decompress() throws Exception {
+		return (_cX instanceof CompressedMatrixBlock) ?
+			((CompressedMatrixBlock)_cX).decompress(_k) : _cX;
+	}
+}
@@ -0,0 +1,133 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.apache.sysml.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.sysml.api.jmlc.Connection;
+import org.apache.sysml.api.jmlc.PreparedScript;
+import org.apache.sysml.api.jmlc.PreparedScriptPool;
+import org.apache.sysml.runtime.matrix.data.MatrixBlock;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks of the JMLC scoring throughput (requests per second) of one
+ * prepared script executed by a varying number of serving threads, which
+ * either use thread-local clones of a prepared script pool or create a
+ * new clone per request. Comparing the throughput over the threads 
+ * parameter shows the scaling with the number of cores.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class JMLCScoringBenchmark 
+{
+	private static final int NUM_REQUESTS = 1024;
+	
+	private static final String SCRIPT =
+		  "X = read(\"./tmp/X\", rows=-1, cols=-1);"
+		+ "W = read(\"./tmp/W\", rows=-1, cols=-1);"
+		+ "Y = 1 / (1 + exp(-(X %*% W)));"
+		+ "write(Y, \"./tmp/Y\");";
+	
+	@Param({"1", "100"})
+	public int rows;
+	
+	@Param({"100"})
+	public int cols;
+	
+	@Param({"1", "2", "4", "-1"}) //-1: local parallelism
+	public int threads;
+	
+	private Connection _conn;
+	private PreparedScript _pscript;
+	private PreparedScriptPool _pool;
+	private ExecutorService _exec;
+	private MatrixBlock[] _X;
+	
+	@Setup
+	public void setup() throws Exception {
+		_conn = new Connection();
+		_pscript = _conn.prepareScript(SCRIPT, new String[]{"X","W"}, new String[]{"Y"}, false);
+		_pscript.setMatrix("W", BenchmarkUtils.createRandomMatrix(cols, 10, 1.0, BenchmarkUtils.SEED), true);
+		_pool = new PreparedScriptPool(_pscript);
+		_exec = Executors.newFixedThreadPool(BenchmarkUtils.getParallelism(threads));
+		_X = new MatrixBlock[NUM_REQUESTS];
+		for( int i=0; i<NUM_REQUESTS; i++ )
+			_X[i] = BenchmarkUtils.createRandomMatrix(rows, cols, 1.0, BenchmarkUtils.SEED+i);
+	}
+	
+	@TearDown
+	public void teardown() throws Exception {
+		_exec.shutdown();
+		_conn.close();
+	}
+	
+	@Benchmark
+	@OperationsPerInvocation(NUM_REQUESTS)
+	public int pooledScripts() throws Exception {
+		List<Callable<MatrixBlock>> tasks = new ArrayList<>();
+		for( MatrixBlock X : _X )
+			tasks.add(() -> _pool.executeScript("X", X).getMatrixBlock("Y"));
+		return execute(tasks);
+	}
+	
+	@Benchmark
+	@OperationsPerInvocation(NUM_REQUESTS)
+	public int clonePerRequest() throws Exception {
+		List<Callable<MatrixBlock>> tasks = new ArrayList<>();
+		for( MatrixBlock X : _X )
+			tasks.add(() -> {
+				PreparedScript ps = _pscript.clone(false);
+				ps.setMatrix("X", X, false);
+				return ps.executeScript().getMatrixBlock("Y");
+			});
+		return execute(tasks);
+	}
+	
+	private int execute(List<Callable<MatrixBlock>> tasks) throws Exception {
+		int ret = 0;
+		for( Future<MatrixBlock> f : _exec.invokeAll(tasks) )
+			ret += f.get().getNumRows();
+		return ret;
+	}
+}
@@ -0,0 +1,113 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.sysml.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.apache.sysml.lops.MMTSJ.MMTSJType;
+import org.apache.sysml.lops.MapMultChain.ChainType;
+import org.apache.sysml.runtime.matrix.data.LibMatrixMult;
+import org.apache.sysml.runtime.matrix.data.MatrixBlock;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks of the matrix multiplication kernels in LibMatrixMult, i.e.,
+ * matrix-matrix multiplication over all combinations of dense and sparse
+ * inputs, matrix-vector multiplication chains, and transpose-self
+ * matrix multiplication.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class MatrixMultBenchmark 
+{
+	@Param({"2000"})
+	public int rows;
+	
+	@Param({"1000"})
+	public int cols;
+	
+	@Param({"1.0", "0.1", "0.001"})
+	public double sparsity1;
+	
+	@Param({"1.0", "0.1"})
+	public double sparsity2;
+	
+	@Param({"1", "-1"}) //-1: local parallelism
+	public int threads;
+	
+	private MatrixBlock _X, _Y, _v, _w;
+	private int _k;
+	
+	@Setup
+	public void setup() throws Exception {
+		_k = BenchmarkUtils.getParallelism(threads);
+		_X = BenchmarkUtils.createRandomMatrix(rows, cols, sparsity1, BenchmarkUtils.SEED);
+		_Y = BenchmarkUtils.createRandomMatrix(cols, 100, sparsity2, BenchmarkUtils.SEED+1);
+		_v = BenchmarkUtils.createRandomMatrix(cols, 1, 1.0, BenchmarkUtils.SEED+2);
+		_w = BenchmarkUtils.createRandomMatrix(rows, 1, 1.0, BenchmarkUtils.SEED+3);
+	}
+	
+	@Benchmark
+	public MatrixBlock matrixMult() throws Exception {
+		MatrixBlock ret = new MatrixBlock(rows, 100, false);
+		LibMatrixMult.matrixMult(_X, _Y, ret, _k);
+		return ret;
+	}
+	
+	@Benchmark
+	public MatrixBlock matrixVectorMult() throws Exception {
+		MatrixBlock ret = new MatrixBlock(rows, 1, false);
+		LibMatrixMult.matrixMult(_X, _v, ret, _k);
+		return ret;
+	}
+	
+	@Benchmark
+	public MatrixBlock mmchainXtXv() throws Exception {
+		MatrixBlock ret = new MatrixBlock(cols, 1, false);
+		LibMatrixMult.matrixMultChain(_X, _v, null, ret, ChainType.XtXv, _k);
+		return ret;
+	}
+	
+	@Benchmark
+	public MatrixBlock mmchainXtwXv() throws Exception {
+		MatrixBlock ret = new MatrixBlock(cols, 1, false);
+		LibMatrixMult.matrixMultChain(_X, _v, _w, ret, ChainType.XtwXv, _k);
+		return ret;
+	}
+	
+	@Benchmark
+	public MatrixBlock tsmmLeft() throws Exception {
+		return _X.transposeSelfMatrixMultOperations(new MatrixBlock(), MMTSJType.LEFT, _k);
+	}
+}
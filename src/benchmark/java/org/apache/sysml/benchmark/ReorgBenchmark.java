@@ -0,0 +1,75 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.sysml.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.apache.sysml.runtime.matrix.data.LibMatrixReorg;
+import org.apache.sysml.runtime.matrix.data.MatrixBlock;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks of the transpose in LibMatrixReorg over dense and sparse
+ * inputs, including tall-skinny and short-wide shapes.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class ReorgBenchmark 
+{
+	@Param({"10000x1000", "1000x10000", "100000x10"})
+	public String shape;
+	
+	@Param({"1.0", "0.1", "0.001"})
+	public double sparsity;
+	
+	@Param({"1", "-1"}) //-1: local parallelism
+	public int threads;
+	
+	private MatrixBlock _X;
+	private int _k;
+	
+	@Setup
+	public void setup() throws Exception {
+		String[] parts = shape.split("x");
+		_X = BenchmarkUtils.createRandomMatrix(Integer.parseInt(parts[0]),
+			Integer.parseInt(parts[1]), sparsity, BenchmarkUtils.SEED);
+		_k = BenchmarkUtils.getParallelism(threads);
+	}
+	
+	@Benchmark
+	public MatrixBlock transpose() throws Exception {
+		MatrixBlock ret = new MatrixBlock(_X.getNumColumns(), _X.getNumRows(), _X.isInSparseFormat());
+		return LibMatrixReorg.transpose(_X, ret, _k);
+	}
+}
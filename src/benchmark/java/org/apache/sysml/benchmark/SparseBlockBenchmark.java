@@ -0,0 +1,119 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.sysml.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.apache.sysml.runtime.matrix.data.MatrixBlock;
+import org.apache.sysml.runtime.matrix.data.SparseBlock;
+import org.apache.sysml.runtime.matrix.data.SparseBlockFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks of the basic access paths of the sparse block variants
+ * (MCSR, CSR, COO), i.e., row-wise scans, point lookups, construction
+ * via appends, and conversion from the default format.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class SparseBlockBenchmark 
+{
+	@Param({"10000"})
+	public int rows;
+	
+	@Param({"1000"})
+	public int cols;
+	
+	@Param({"0.1", "0.01", "0.001"})
+	public double sparsity;
+	
+	@Param({"MCSR", "CSR", "COO"})
+	public SparseBlock.Type type;
+	
+	private MatrixBlock _X;
+	private SparseBlock _sblock;
+	
+	@Setup
+	public void setup() throws Exception {
+		_X = BenchmarkUtils.createRandomMatrix(rows, cols, sparsity, BenchmarkUtils.SEED);
+		_sblock = SparseBlockFactory.copySparseBlock(type, _X.getSparseBlock(), true);
+	}
+	
+	@Benchmark
+	public double scan() {
+		SparseBlock a = _sblock;
+		double sum = 0;
+		for( int i=0; i<rows; i++ ) {
+			if( a.isEmpty(i) ) continue;
+			int apos = a.pos(i);
+			int alen = a.size(i);
+			int[] aix = a.indexes(i);
+			double[] avals = a.values(i);
+			for( int j=apos; j<apos+alen; j++ )
+				sum += aix[j] * avals[j];
+		}
+		return sum;
+	}
+	
+	@Benchmark
+	public double get() {
+		SparseBlock a = _sblock;
+		double sum = 0;
+		for( int i=0; i<rows; i++ )
+			for( int j=0; j<cols; j+=7 )
+				sum += a.get(i, j);
+		return sum;
+	}
+	
+	@Benchmark
+	public SparseBlock append() {
+		SparseBlock a = _sblock;
+		SparseBlock c = SparseBlockFactory.createSparseBlock(type, rows);
+		for( int i=0; i<rows; i++ ) {
+			if( a.isEmpty(i) ) continue;
+			int apos = a.pos(i);
+			int alen = a.size(i);
+			int[] aix = a.indexes(i);
+			double[] avals = a.values(i);
+			for( int j=apos; j<apos+alen; j++ )
+				c.append(i, aix[j], avals[j]);
+		}
+		return c;
+	}
+	
+	@Benchmark
+	public SparseBlock copy() {
+		return SparseBlockFactory.copySparseBlock(type, _X.getSparseBlock(), true);
+	}
+}
@@ -24,12 +24,19 @@ import java.util.List;
 import org.apache.sysml.api.mlcontext.ScriptExecutor;
 import org.apache.sysml.conf.ConfigurationManager;
 import org.apache.sysml.conf.DMLConfig;
+import org.apache.sysml.hops.codegen.SpoofAsyncCompiler;
 import org.apache.sysml.hops.codegen.SpoofCompiler;
 import org.apache.sysml.runtime.DMLRuntimeException;
 import org.apache.sysml.runtime.controlprogram.Program;
+import org.apache.sysml.runtime.controlprogram.caching.CachePrefetcher;
+import org.apache.sysml.runtime.controlprogram.caching.EvictionCodec;
+import org.apache.sysml.runtime.controlprogram.caching.MmapFileUtils;
 import org.apache.sysml.runtime.controlprogram.context.ExecutionContext;
 import org.apache.sysml.runtime.instructions.gpu.context.GPUContext;
 import org.apache.sysml.runtime.instructions.gpu.context.GPUContextPool;
+import org.apache.sysml.runtime.lineage.LineageCache;
+import org.apache.sysml.runtime.lineage.LineageCacheConfig;
+import org.apache.sysml.runtime.matrix.data.DenseBlockFactory;
 import org.apache.sysml.utils.NativeHelper;
 import org.apache.sysml.utils.Statistics;
 
@@ -78,6 +85,15 @@ public class ScriptExecutorUtils {
 		DMLScript.SYNCHRONIZE_GPU = dmlconf.getBooleanValue(DMLConfig.SYNCHRONIZE_GPU);
 		DMLScript.EAGER_CUDA_FREE = dmlconf.getBooleanValue(DMLConfig.EAGER_CUDA_FREE);
 		DMLScript.STATISTICS_MAX_WRAP_LEN = dmlconf.getIntValue(DMLConfig.STATS_MAX_WRAP_LEN);		
+		LineageCacheConfig.setReuse(dmlconf.getBooleanValue(DMLConfig.LINEAGE_REUSE));
+		DenseBlockFactory.setOffHeap(dmlconf.getBooleanValue(DMLConfig.DENSE_OFFHEAP));
+		DenseBlockFactory.setSinglePrecision("single".equalsIgnoreCase(
+			dmlconf.getTextValue(DMLConfig.CP_FLOATING_POINT_PRECISION).trim()));
+		MmapFileUtils.setEnabled(dmlconf.getBooleanValue(DMLConfig.CACHING_EVICTION_MMAP));
+		CachePrefetcher.setEnabled(dmlconf.getBooleanValue(DMLConfig.CACHING_PREFETCH));
+		SpoofAsyncCompiler.setEnabled(ConfigurationManager.isCodegenEnabled()
+			&& dmlconf.getBooleanValue(DMLConfig.CODEGEN_ASYNC));
+		EvictionCodec.setType(dmlconf.getTextValue(DMLConfig.CACHING_EVICTION_CODEC));
 		NativeHelper.initialize(dmlconf.getTextValue(DMLConfig.NATIVE_BLAS_DIR), dmlconf.getTextValue(DMLConfig.NATIVE_BLAS).trim());
 		
 		if(DMLScript.USE_ACCELERATOR) {
@@ -110,6 +126,14 @@ public class ScriptExecutorUtils {
 			}
 			if( ConfigurationManager.isCodegenEnabled() )
 				SpoofCompiler.cleanupCodeGenerator();
+			if( LineageCacheConfig.isReuse() )
+				LineageCache.resetCache();
+			DenseBlockFactory.setOffHeap(false);
+			DenseBlockFactory.setSinglePrecision(false);
+			MmapFileUtils.setEnabled(false);
+			CachePrefetcher.setEnabled(false);
+			SpoofAsyncCompiler.setEnabled(false);
+			EvictionCodec.setType(EvictionCodec.Type.NONE);
 			
 			// display statistics (incl caching stats if enabled)
 			Statistics.stopRunTimer();
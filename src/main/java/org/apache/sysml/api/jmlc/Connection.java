@@ -21,6 +21,7 @@ package org.apache.sysml.api.jmlc;
 
 import java.io.BufferedReader;
 import java.io.Closeable;
+import java.io.FileInputStream;
 import java.io.FileReader;
 import java.io.IOException;
 import java.io.InputStream;
@@ -252,6 +253,44 @@ public class Connection implements Closeable
 		return new PreparedScript(rtprog, inputs, outputs, _dmlconf, _cconf);
 	}
 	
+	/**
+	 * Loads a prepared script that has been compiled and saved via 
+	 * {@link PreparedScript#save(String)}, which avoids parsing and 
+	 * compilation. The loaded script is executed with the configuration 
+	 * of this connection.
+	 * 
+	 * @param fname local file name of the saved prepared script
+	 * @return PreparedScript object representing the precompiled script
+	 * @throws DMLException if DMLException occurs
+	 */
+	public PreparedScript loadPreparedScript(String fname) 
+		throws DMLException 
+	{
+		try( InputStream is = new FileInputStream(fname) ) {
+			return loadPreparedScript(is);
+		}
+		catch(IOException ex) {
+			throw new DMLException("Failed to load prepared script from "+fname+".", ex);
+		}
+	}
+	
+	/**
+	 * Loads a prepared script that has been compiled and saved via 
+	 * {@link PreparedScript#save(OutputStream)}, which avoids parsing and 
+	 * compilation. The loaded script is executed with the configuration 
+	 * of this connection.
+	 * 
+	 * @param is input stream of the saved prepared script
+	 * @return PreparedScript object representing the precompiled script
+	 * @throws DMLException if DMLException occurs
+	 */
+	public PreparedScript loadPreparedScript(InputStream is) 
+		throws DMLException 
+	{
+		setLocalConfigs();
+		return PreparedScript.load(is, _dmlconf, _cconf);
+	}
+	
 	/**
 	 * Close connection to SystemML, which clears the
 	 * thread-local DML and compiler configurations.
@@ -0,0 +1,335 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.apache.sysml.api.jmlc;
+
+import java.util.ArrayList;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.apache.sysml.api.DMLException;
+import org.apache.sysml.runtime.DMLRuntimeException;
+import org.apache.sysml.runtime.matrix.data.MatrixBlock;
+import org.apache.sysml.runtime.util.DataConverter;
+
+/**
+ * Micro-batching front-end for a prepared scoring script, which collects 
+ * concurrent (typically single-row) scoring requests, stacks them into 
+ * one input matrix, executes the prepared script once per batch, and 
+ * splits the output rows back to the individual callers. This amortizes
+ * the per-call overhead of variable binding, instruction interpretation,
+ * and result materialization over many requests.
+ * 
+ * A batch is executed once it reaches the maximum number of rows, or once
+ * the oldest request waited for the maximum latency. The script needs to
+ * be row-wise independent, i.e., row i of the output is only computed from
+ * row i of the input; all other inputs (e.g., models) need to be bound
+ * with reuse=true. Each worker thread executes its own shallow clone of 
+ * the prepared script.
+ */
+public class MicroBatchScorer implements AutoCloseable
+{
+	private static final Log LOG = LogFactory.getLog(MicroBatchScorer.class.getName());
+	
+	private final String _inVarname;
+	private final String _outVarname;
+	private final int _maxBatchSize;
+	private final long _maxWaitNanos;
+	
+	private final LinkedBlockingQueue<ScoringRequest> _queue;
+	private final Thread[] _workers;
+	private volatile boolean _closed = false;
+	
+	//basic statistics
+	private final AtomicLong _numRequests = new AtomicLong(0);
+	private final AtomicLong _numBatches = new AtomicLong(0);
+	
+	/**
+	 * Creates a micro-batching scorer with a single worker thread.
+	 * 
+	 * @param pscript prepared script with bound reused inputs
+	 * @param inVarname registered input variable of the stacked rows
+	 * @param outVarname registered output variable of the scores
+	 * @param maxBatchSize maximum number of rows per batch
+	 * @param maxWaitMs maximum wait time in milliseconds before a batch is executed
+	 */
+	public MicroBatchScorer(PreparedScript pscript, String inVarname, String outVarname, int maxBatchSize, long maxWaitMs) {
+		this(pscript, inVarname, outVarname, maxBatchSize, maxWaitMs, 1);
+	}
+	
+	/**
+	 * Creates a micro-batching scorer with k worker threads, each executing
+	 * batches over its own clone of the prepared script.
+	 * 
+	 * @param pscript prepared script with bound reused inputs
+	 * @param inVarname registered input variable of the stacked rows
+	 * @param outVarname registered output variable of the scores
+	 * @param maxBatchSize maximum number of rows per batch
+	 * @param maxWaitMs maximum wait time in milliseconds before a batch is executed
+	 * @param k number of worker threads
+	 */
+	public MicroBatchScorer(PreparedScript pscript, String inVarname, String outVarname, int maxBatchSize, long maxWaitMs, int k) {
+		if( maxBatchSize < 1 || maxWaitMs < 0 || k < 1 )
+			throw new IllegalArgumentException("Invalid micro-batch configuration: "
+				+ "maxBatchSize="+maxBatchSize+", maxWaitMs="+maxWaitMs+", k="+k+".");
+		_inVarname = inVarname;
+		_outVarname = outVarname;
+		_maxBatchSize = maxBatchSize;
+		_maxWaitNanos = TimeUnit.MILLISECONDS.toNanos(maxWaitMs);
+		_queue = new LinkedBlockingQueue<>();
+		
+		//start daemon workers over script clones
+		_workers = new Thread[k];
+		for( int i=0; i<k; i++ ) {
+			PreparedScript ps = (i==0) ? pscript : pscript.clone(false);
+			_workers[i] = new Thread(new BatchWorker(ps), "MicroBatchScorer-"+i);
+			_workers[i].setDaemon(true);
+			_workers[i].start();
+		}
+	}
+	
+	/**
+	 * Scores a single row and blocks until the batch containing it has
+	 * been executed.
+	 * 
+	 * @param row input row as double array
+	 * @return output row as double array
+	 * @throws DMLException if the batch execution failed
+	 */
+	public double[] score(double[] row) throws DMLException {
+		MatrixBlock in = new MatrixBlock(1, row.length, false);
+		in.init(row, 1, row.length);
+		return DataConverter.convertToDoubleVector(score(in), false);
+	}
+	
+	/**
+	 * Scores the rows of the given matrix block and blocks until the 
+	 * batch containing them has been executed.
+	 * 
+	 * @param rows input rows as matrix block
+	 * @return output rows as matrix block
+	 * @throws DMLException if the batch execution failed
+	 */
+	public MatrixBlock score(MatrixBlock rows) throws DMLException {
+		try {
+			return scoreAsync(rows).get();
+		}
+		catch(InterruptedException ex) {
+			Thread.currentThread().interrupt();
+			throw new DMLException(ex);
+		}
+		catch(ExecutionException ex) {
+			throw (ex.getCause() instanceof DMLException) ? 
+				(DMLException) ex.getCause() : new DMLException(ex.getCause());
+		}
+	}
+	
+	/**
+	 * Submits the rows of the given matrix block for scoring in one of 
+	 * the next batches.
+	 * 
+	 * @param rows input rows as matrix block
+	 * @return future of the output rows, which fails with a DMLException
+	 * if the scorer is closed before the rows are executed
+	 */
+	public CompletableFuture<MatrixBlock> scoreAsync(MatrixBlock rows) {
+		if( _closed )
+			throw new IllegalStateException("Micro-batch scorer already closed.");
+		if( rows.getNumRows() > _maxBatchSize )
+			throw new IllegalArgumentException("Number of rows "+rows.getNumRows()
+				+ " exceeds the maximum batch size "+_maxBatchSize+".");
+		ScoringRequest req = new ScoringRequest(rows);
+		_numRequests.incrementAndGet();
+		_queue.add(req);
+		//fail requests that raced with a concurrent close, which might
+		//have already drained the queue (otherwise, close fails it)
+		if( _closed && _queue.remove(req) )
+			req.future.completeExceptionally(createClosedException());
+		return req.future;
+	}
+	
+	public long getNumRequests() {
+		return _numRequests.get();
+	}
+	
+	public long getNumBatches() {
+		return _numBatches.get();
+	}
+	
+	@Override
+	public void close() {
+		_closed = true;
+		for( Thread worker : _workers )
+			worker.interrupt();
+		for( Thread worker : _workers ) {
+			try { worker.join(); }
+			catch(InterruptedException ex) {
+				Thread.currentThread().interrupt();
+			}
+		}
+		//fail all pending requests
+		ScoringRequest req = null;
+		while( (req = _queue.poll()) != null )
+			req.future.completeExceptionally(createClosedException());
+	}
+	
+	private static DMLException createClosedException() {
+		return new DMLException("Micro-batch scorer closed before execution.");
+	}
+	
+	private static MatrixBlock stackRows(ArrayList<ScoringRequest> batch, int rlen) 
+		throws DMLException
+	{
+		//single request w/o need for copy
+		if( batch.size() == 1 )
+			return batch.get(0).rows;
+		
+		//allocate output and copy request rows
+		int clen = batch.get(0).rows.getNumColumns();
+		long nnz = 0;
+		boolean sparse = true;
+		for( ScoringRequest req : batch ) {
+			if( req.rows.getNumColumns() != clen )
+				throw new DMLException("Number of columns mismatch in micro-batch: "
+					+ req.rows.getNumColumns()+" vs "+clen+".");
+			nnz += req.rows.getNonZeros();
+			sparse &= req.rows.isInSparseFormat();
+		}
+		MatrixBlock ret = new MatrixBlock(rlen, clen, sparse, nnz);
+		try {
+			int rl = 0;
+			for( ScoringRequest req : batch ) {
+				int nr = req.rows.getNumRows();
+				ret.copy(rl, rl+nr-1, 0, clen-1, req.rows, false);
+				rl += nr;
+			}
+			ret.setNonZeros(nnz);
+		}
+		catch(DMLRuntimeException ex) {
+			throw new DMLException(ex);
+		}
+		return ret;
+	}
+	
+	private static class ScoringRequest
+	{
+		private final MatrixBlock rows;
+		private final CompletableFuture<MatrixBlock> future;
+		
+		public ScoringRequest(MatrixBlock rows) {
+			this.rows = rows;
+			this.future = new CompletableFuture<>();
+		}
+	}
+	
+	private class BatchWorker implements Runnable
+	{
+		private final PreparedScript _pscript;
+		private ScoringRequest _carry = null;
+		
+		public BatchWorker(PreparedScript pscript) {
+			_pscript = pscript;
+		}
+		
+		@Override
+		public void run() {
+			ArrayList<ScoringRequest> batch = new ArrayList<>();
+			try {
+				while( !_closed ) {
+					collectBatch(batch);
+					executeBatch(batch);
+					batch.clear();
+				}
+			}
+			catch(InterruptedException ex) {
+				//requeue already collected requests on close
+				_queue.addAll(batch);
+			}
+			if( _carry != null )
+				_queue.add(_carry);
+		}
+		
+		private void collectBatch(ArrayList<ScoringRequest> batch) 
+			throws InterruptedException
+		{
+			//block until first request, and collect further requests
+			//until the batch is full or the max wait time is reached
+			ScoringRequest req = (_carry != null) ? _carry : _queue.take();
+			_carry = null;
+			batch.add(req);
+			int rlen = req.rows.getNumRows();
+			long deadline = System.nanoTime() + _maxWaitNanos;
+			while( rlen < _maxBatchSize ) {
+				long remaining = deadline - System.nanoTime();
+				req = (remaining > 0) ? 
+					_queue.poll(remaining, TimeUnit.NANOSECONDS) : _queue.poll();
+				if( req == null )
+					break;
+				if( rlen + req.rows.getNumRows() > _maxBatchSize ) {
+					//defer request that does not fit to next batch
+					_carry = req;
+					break;
+				}
+				batch.add(req);
+				rlen += req.rows.getNumRows();
+			}
+		}
+		
+		private void executeBatch(ArrayList<ScoringRequest> batch) {
+			try {
+				//stack rows and execute script once
+				int rlen = 0;
+				for( ScoringRequest req : batch )
+					rlen += req.rows.getNumRows();
+				MatrixBlock in = stackRows(batch, rlen);
+				_pscript.setMatrix(_inVarname, in, false);
+				MatrixBlock out = _pscript.executeScript().getMatrixBlock(_outVarname);
+				_numBatches.incrementAndGet();
+				if( out.getNumRows() != rlen )
+					throw new DMLException("Number of output rows "+out.getNumRows()
+						+ " does not match number of batched input rows "+rlen+".");
+				
+				//split output rows back to requests
+				if( batch.size() == 1 ) {
+					batch.get(0).future.complete(out);
+				}
+				else {
+					int rl = 0;
+					for( ScoringRequest req : batch ) {
+						int nr = req.rows.getNumRows();
+						req.future.complete(out.sliceOperations(
+							rl, rl+nr-1, 0, out.getNumColumns()-1, new MatrixBlock()));
+						rl += nr;
+					}
+				}
+			}
+			catch(Exception ex) {
+				LOG.error("Failed to execute micro-batch of "+batch.size()+" requests.", ex);
+				for( ScoringRequest req : batch )
+					req.future.completeExceptionally(ex);
+			}
+		}
+	}
+}
@@ -19,6 +19,15 @@
 
 package org.apache.sysml.api.jmlc;
 
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -34,9 +43,11 @@ import org.apache.sysml.conf.ConfigurationManager;
 import org.apache.sysml.conf.DMLConfig;
 import org.apache.sysml.conf.CompilerConfig.ConfigType;
 import org.apache.sysml.hops.OptimizerUtils;
+import org.apache.sysml.hops.codegen.SpoofCompiler;
 import org.apache.sysml.hops.ipa.FunctionCallGraph;
 import org.apache.sysml.parser.DMLProgram;
 import org.apache.sysml.parser.Expression.ValueType;
+import org.apache.sysml.runtime.codegen.CodegenUtils;
 import org.apache.sysml.runtime.controlprogram.FunctionProgramBlock;
 import org.apache.sysml.runtime.controlprogram.LocalVariableMap;
 import org.apache.sysml.runtime.controlprogram.Program;
@@ -44,6 +55,7 @@ import org.apache.sysml.runtime.controlprogram.caching.FrameObject;
 import org.apache.sysml.runtime.controlprogram.caching.MatrixObject;
 import org.apache.sysml.runtime.controlprogram.context.ExecutionContext;
 import org.apache.sysml.runtime.controlprogram.context.ExecutionContextFactory;
+import org.apache.sysml.runtime.controlprogram.parfor.ProgramConverter;
 import org.apache.sysml.runtime.instructions.cp.BooleanObject;
 import org.apache.sysml.runtime.instructions.cp.Data;
 import org.apache.sysml.runtime.instructions.cp.DoubleObject;
@@ -66,6 +78,10 @@ public class PreparedScript
 {
 	private static final Log LOG = LogFactory.getLog(PreparedScript.class.getName());
 	
+	//file header of serialized prepared scripts
+	private static final int MAGIC = 0x53504c4e; //SPLN
+	private static final int VERSION = 1;
+	
 	//input/output specification
 	private final HashSet<String> _inVarnames;
 	private final HashSet<String> _outVarnames;
@@ -514,6 +530,145 @@ public class PreparedScript
 		return new PreparedScript(this);
 	}
 	
+	/**
+	 * Saves the compiled runtime program of this prepared script, including 
+	 * the class data of generated operators, to the given local file. Bound 
+	 * inputs (e.g., reused models) are not saved. The saved script can be
+	 * loaded via {@link Connection#loadPreparedScript(String)} without
+	 * parsing and compilation.
+	 * 
+	 * @param fname local file name
+	 * @throws DMLException if the program cannot be serialized
+	 */
+	public void save(String fname) throws DMLException {
+		try( OutputStream os = new FileOutputStream(fname) ) {
+			save(os);
+		}
+		catch(IOException ex) {
+			throw new DMLException("Failed to save prepared script to "+fname+".", ex);
+		}
+	}
+	
+	/**
+	 * Saves the compiled runtime program of this prepared script, including 
+	 * the class data of generated operators, to the given output stream.
+	 * 
+	 * @param os output stream
+	 * @throws DMLException if the program cannot be serialized
+	 */
+	public void save(OutputStream os) throws DMLException {
+		try {
+			//serialize program and collect generated classes
+			HashMap<String, byte[]> clsMap = new HashMap<>();
+			byte[] prog = ProgramConverter.serializeProgram(_prog, clsMap)
+				.getBytes(StandardCharsets.UTF_8);
+			
+			DataOutputStream out = new DataOutputStream(new BufferedOutputStream(os));
+			out.writeInt(MAGIC);
+			out.writeInt(VERSION);
+			writeStrings(out, _inVarnames);
+			writeStrings(out, _outVarnames);
+			out.writeUTF(SpoofCompiler.JAVA_COMPILER.name());
+			out.writeInt(clsMap.size());
+			for( Entry<String, byte[]> e : clsMap.entrySet() ) {
+				out.writeUTF(e.getKey());
+				out.writeInt(e.getValue().length);
+				out.write(e.getValue());
+			}
+			out.writeInt(prog.length);
+			out.write(prog);
+			out.flush();
+		}
+		catch(IOException ex) {
+			throw new DMLException("Failed to save prepared script.", ex);
+		}
+	}
+	
+	/**
+	 * Loads a prepared script saved via {@link #save(OutputStream)}.
+	 * Meant to be invoked only from Connection.
+	 * 
+	 * @param is input stream
+	 * @param dmlconf dml configuration 
+	 * @param cconf compiler configuration
+	 * @return prepared script
+	 * @throws DMLException if DMLException occurs
+	 */
+	protected static PreparedScript load(InputStream is, DMLConfig dmlconf, CompilerConfig cconf) 
+		throws DMLException
+	{
+		try {
+			DataInputStream in = new DataInputStream(new BufferedInputStream(is));
+			if( in.readInt() != MAGIC || in.readInt() != VERSION )
+				throw new DMLException("Invalid prepared script file header.");
+			String[] inputs = readStrings(in);
+			String[] outputs = readStrings(in);
+			
+			//load generated classes (before parsing referencing instructions)
+			String compiler = in.readUTF();
+			int numCls = in.readInt();
+			if( numCls > 0 && !compiler.equals(SpoofCompiler.JAVA_COMPILER.name()) )
+				throw new DMLException("Prepared script saved with codegen compiler "
+					+ compiler +" but loaded with "+SpoofCompiler.JAVA_COMPILER.name()+".");
+			for( int i=0; i<numCls; i++ ) {
+				String name = in.readUTF();
+				byte[] data = new byte[in.readInt()];
+				in.readFully(data);
+				CodegenUtils.getClassSync(name, data);
+			}
+			
+			//parse runtime program
+			byte[] prog = new byte[in.readInt()];
+			in.readFully(prog);
+			Program rtprog = ProgramConverter.parseProgram(new String(prog, StandardCharsets.UTF_8));
+			return new PreparedScript(rtprog, inputs, outputs, dmlconf, cconf);
+		}
+		catch(IOException ex) {
+			throw new DMLException("Failed to load prepared script.", ex);
+		}
+	}
+	
+	private static void writeStrings(DataOutputStream out, HashSet<String> strs) throws IOException {
+		out.writeInt(strs.size());
+		for( String str : strs )
+			out.writeUTF(str);
+	}
+	
+	private static String[] readStrings(DataInputStream in) throws IOException {
+		String[] ret = new String[in.readInt()];
+		for( int i=0; i<ret.length; i++ )
+			ret[i] = in.readUTF();
+		return ret;
+	}
+	
+	/**
+	 * Creates a shallow clone for execution by another thread, which shares
+	 * the program and the data of reused inputs but binds reused matrices and
+	 * frames to private cache objects. This avoids contention on the
+	 * synchronized acquire and release of shared cache objects on execute.
+	 * 
+	 * @return an equivalent prepared script with private input bindings
+	 * @throws DMLException if DMLException occurs
+	 */
+	protected PreparedScript cloneWithPrivateInputs() 
+		throws DMLException 
+	{
+		PreparedScript ret = new PreparedScript(this);
+		for( Entry<String, Data> e : _inVarReuse.entrySet() ) {
+			if( e.getValue() instanceof MatrixObject ) {
+				MatrixObject mo = (MatrixObject) e.getValue();
+				ret.setMatrix(e.getKey(), mo.acquireRead(), true);
+				mo.release();
+			}
+			else if( e.getValue() instanceof FrameObject ) {
+				FrameObject fo = (FrameObject) e.getValue();
+				ret.setFrame(e.getKey(), fo.acquireRead(), true);
+				fo.release();
+			}
+		}
+		return ret;
+	}
+	
 	@Override
 	public Object clone() {
 		return clone(true);
@@ -0,0 +1,113 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.apache.sysml.api.jmlc;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.sysml.api.DMLException;
+import org.apache.sysml.runtime.matrix.data.MatrixBlock;
+
+/**
+ * Pool of prepared scripts for concurrent execution of one precompiled 
+ * script by many serving threads. Each thread lazily obtains its own 
+ * shallow clone with a private symbol table and execution context, while 
+ * the compiled program and the data of reused inputs (e.g., models bound 
+ * with reuse=true) are shared read-only across all threads. Since the
+ * clones are held in thread-local slots, there are no locks in the hot
+ * path of obtaining and executing a script.
+ * 
+ * Reused inputs need to be bound to the given prepared script before the
+ * first use of the pool; later changes are not propagated to existing
+ * thread-local clones.
+ */
+public class PreparedScriptPool 
+{
+	private final PreparedScript _pscript;
+	private final ThreadLocal<PreparedScript> _scripts;
+	private final AtomicInteger _numScripts;
+	
+	/**
+	 * Creates a pool of thread-local clones of the given prepared script.
+	 * 
+	 * @param pscript prepared script with bound reused inputs
+	 */
+	public PreparedScriptPool(PreparedScript pscript) {
+		_pscript = pscript;
+		_scripts = new ThreadLocal<>();
+		_numScripts = new AtomicInteger(0);
+	}
+	
+	/**
+	 * Obtains the prepared script of the current thread, which is
+	 * created on the first call of each thread.
+	 * 
+	 * @return thread-local prepared script
+	 * @throws DMLException if DMLException occurs
+	 */
+	public PreparedScript getPreparedScript() 
+		throws DMLException 
+	{
+		PreparedScript ret = _scripts.get();
+		if( ret == null ) {
+			ret = _pscript.cloneWithPrivateInputs();
+			_scripts.set(ret);
+			_numScripts.incrementAndGet();
+		}
+		return ret;
+	}
+	
+	/**
+	 * Binds the given matrix to a registered input variable and executes
+	 * the prepared script of the current thread.
+	 * 
+	 * @param varname input variable name
+	 * @param matrix input matrix
+	 * @return ResultVariables object encapsulating output results
+	 * @throws DMLException if DMLException occurs
+	 */
+	public ResultVariables executeScript(String varname, MatrixBlock matrix) 
+		throws DMLException 
+	{
+		PreparedScript pscript = getPreparedScript();
+		pscript.setMatrix(varname, matrix, false);
+		return pscript.executeScript();
+	}
+	
+	/**
+	 * Releases the prepared script of the current thread, e.g., before
+	 * returning a thread to a pool that outlives this script pool.
+	 */
+	public void release() {
+		if( _scripts.get() != null ) {
+			_scripts.remove();
+			_numScripts.decrementAndGet();
+		}
+	}
+	
+	/**
+	 * Obtains the number of thread-local prepared scripts.
+	 * 
+	 * @return number of prepared scripts
+	 */
+	public int getNumPreparedScripts() {
+		return _numScripts.get();
+	}
+}
@@ -194,6 +194,16 @@ public class ConfigurationManager
 			|| getCompilerConfigFlag(ConfigType.CODEGEN_ENABLED);
 	}
 	
+	public static double getCompressionTimeBudget() {
+		DMLConfig conf = getDMLConfig();
+		return (conf != null) ? conf.getDoubleValue(DMLConfig.COMPRESSED_BUDGET) : -1;
+	}
+	
+	public static boolean isCompressedFrames() {
+		DMLConfig conf = getDMLConfig();
+		return conf != null && conf.getBooleanValue(DMLConfig.COMPRESSED_FRAMES);
+	}
+	
 	
 	///////////////////////////////////////
 	// Thread-local classes
@@ -75,6 +75,8 @@ public class DMLConfig
 	public static final String CP_PARALLEL_OPS      = "sysml.cp.parallel.ops";
 	public static final String CP_PARALLEL_IO       = "sysml.cp.parallel.io";
 	public static final String COMPRESSED_LINALG    = "sysml.compressed.linalg"; //auto, true, false
+	public static final String COMPRESSED_BUDGET    = "sysml.compressed.linalg.budget"; //in ms, <=0 unlimited
+	public static final String COMPRESSED_FRAMES    = "sysml.compressed.frames"; //boolean
 	public static final String NATIVE_BLAS          = "sysml.native.blas";
 	public static final String NATIVE_BLAS_DIR      = "sysml.native.blas.directory";
 	public static final String CODEGEN              = "sysml.codegen.enabled"; //boolean
@@ -82,6 +84,15 @@ public class DMLConfig
 	public static final String CODEGEN_OPTIMIZER    = "sysml.codegen.optimizer"; //see SpoofCompiler.PlanSelector
 	public static final String CODEGEN_PLANCACHE    = "sysml.codegen.plancache"; //boolean
 	public static final String CODEGEN_LITERALS     = "sysml.codegen.literals"; //1..heuristic, 2..always
+	public static final String CODEGEN_CLASSCACHE   = "sysml.codegen.classcache"; //local dir or none
+	public static final String CODEGEN_CLASSCACHE_SIZE = "sysml.codegen.classcache.size"; //in MB
+	public static final String CODEGEN_ASYNC        = "sysml.codegen.async"; //boolean
+	public static final String LINEAGE_REUSE        = "sysml.lineage.reuse"; //boolean
+	public static final String DENSE_OFFHEAP        = "sysml.dense.offheap"; //boolean
+	public static final String CACHING_EVICTION_MMAP = "sysml.caching.eviction.mmap"; //boolean
+	public static final String CACHING_PREFETCH     = "sysml.caching.prefetch"; //boolean
+	public static final String CACHING_EVICTION_CODEC = "sysml.caching.eviction.codec"; //see EvictionCodec.Type
+	public static final String CP_FLOATING_POINT_PRECISION = "sysml.cp.floating.point.precision"; // String to specify the datatype to use internally: supported values are double, single
 	
 	public static final String EXTRA_FINEGRAINED_STATS = "sysml.stats.finegrained"; //boolean
 	public static final String STATS_MAX_WRAP_LEN   = "sysml.stats.maxWrapLength"; //int
@@ -125,11 +136,22 @@ public class DMLConfig
 		_defaultVals.put(CP_PARALLEL_OPS,        "true" );
 		_defaultVals.put(CP_PARALLEL_IO,         "true" );
 		_defaultVals.put(COMPRESSED_LINALG,      Compression.CompressConfig.AUTO.name() );
+		_defaultVals.put(COMPRESSED_BUDGET,      "-1" );
+		_defaultVals.put(COMPRESSED_FRAMES,      "false" );
 		_defaultVals.put(CODEGEN,                "false" );
 		_defaultVals.put(CODEGEN_COMPILER,       CompilerType.AUTO.name() );
 		_defaultVals.put(CODEGEN_OPTIMIZER,      PlanSelector.FUSE_COST_BASED_V2.name() );
 		_defaultVals.put(CODEGEN_PLANCACHE,      "true" );
 		_defaultVals.put(CODEGEN_LITERALS,       "1" );
+		_defaultVals.put(CODEGEN_CLASSCACHE,     "none" );
+		_defaultVals.put(CODEGEN_CLASSCACHE_SIZE, "64" );
+		_defaultVals.put(CODEGEN_ASYNC,          "false" );
+		_defaultVals.put(LINEAGE_REUSE,          "false" );
+		_defaultVals.put(DENSE_OFFHEAP,          "false" );
+		_defaultVals.put(CP_FLOATING_POINT_PRECISION, "double" );
+		_defaultVals.put(CACHING_EVICTION_MMAP,  "false" );
+		_defaultVals.put(CACHING_PREFETCH,       "false" );
+		_defaultVals.put(CACHING_EVICTION_CODEC, "none" );
 		_defaultVals.put(NATIVE_BLAS,            "none" );
 		_defaultVals.put(NATIVE_BLAS_DIR,        "none" );
 		_defaultVals.put(EXTRA_FINEGRAINED_STATS,"false" );
@@ -418,8 +440,10 @@ public class DMLConfig
 				NUM_REDUCERS, DEFAULT_BLOCK_SIZE,
 				YARN_APPMASTER, YARN_APPMASTERMEM, YARN_MAPREDUCEMEM, 
 				CP_PARALLEL_OPS, CP_PARALLEL_IO, NATIVE_BLAS, NATIVE_BLAS_DIR,
-				COMPRESSED_LINALG, 
+				COMPRESSED_LINALG, COMPRESSED_BUDGET, COMPRESSED_FRAMES, LINEAGE_REUSE, DENSE_OFFHEAP, CP_FLOATING_POINT_PRECISION,
+				CACHING_EVICTION_MMAP, CACHING_PREFETCH, CACHING_EVICTION_CODEC,
 				CODEGEN, CODEGEN_COMPILER, CODEGEN_OPTIMIZER, CODEGEN_PLANCACHE, CODEGEN_LITERALS,
+				CODEGEN_CLASSCACHE, CODEGEN_CLASSCACHE_SIZE, CODEGEN_ASYNC,
 				EXTRA_FINEGRAINED_STATS, STATS_MAX_WRAP_LEN,
 				AVAILABLE_GPUS, SYNCHRONIZE_GPU, EAGER_CUDA_FREE, FLOATING_POINT_PRECISION
 		}; 
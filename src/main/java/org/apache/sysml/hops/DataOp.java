@@ -48,6 +48,10 @@ public class DataOp extends Hop
 	private long _inRowsInBlock = -1;
 	private long _inColsInBlock = -1;
 	
+	//column projection of columnar reads (1-based, inclusive)
+	private long _colLower = -1;
+	private long _colUpper = -1;
+	
 	private boolean _recompileRead = true;
 	
 	/**
@@ -276,6 +280,8 @@ public class DataOp extends Hop
 				l = new Data(HopsData2Lops.get(_dataop), null, inputLops, getName(), null, 
 						getDataType(), getValueType(), false, getInputFormatType());
 				l.getOutputParameters().setDimensions(getDim1(), getDim2(), _inRowsInBlock, _inColsInBlock, getNnz(), getUpdateType());
+				if( hasColumnProjection() )
+					((Data)l).setColumnProjection(_colLower, _colUpper);
 				break;
 				
 			case PERSISTENTWRITE:
@@ -341,6 +347,30 @@ public class DataOp extends Hop
 		return _inColsInBlock;
 	}
 	
+	/**
+	 * Sets the column range (1-based, inclusive) to read from a columnar
+	 * input file, which allows the reader to skip all other column chunks.
+	 * 
+	 * @param cl column lower bound
+	 * @param cu column upper bound
+	 */
+	public void setColumnProjection( long cl, long cu ) {
+		_colLower = cl;
+		_colUpper = cu;
+	}
+	
+	public long getColumnProjectionLower() {
+		return _colLower;
+	}
+	
+	public long getColumnProjectionUpper() {
+		return _colUpper;
+	}
+	
+	public boolean hasColumnProjection() {
+		return _colLower > 0 && _colUpper > 0;
+	}
+	
 	public boolean isRead()
 	{
 		return( _dataop == DataOpTypes.PERSISTENTREAD || _dataop == DataOpTypes.TRANSIENTREAD );
@@ -456,7 +486,8 @@ public class DataOp extends Hop
 			checkAndSetForcedPlatform();
 
 			//additional check for write only
-			if( getDataType()==DataType.SCALAR || (getDataType()==DataType.FRAME && REMOTE==ExecType.MR) )
+			if( getDataType()==DataType.SCALAR || (getDataType()==DataType.FRAME && REMOTE==ExecType.MR) 
+				|| (_dataop == DataOpTypes.PERSISTENTWRITE && _inFormat == FileFormatTypes.COLUMNAR) )
 				_etypeForced = ExecType.CP;
 			
 			if( _etypeForced != null )
@@ -543,6 +574,8 @@ public class DataOp extends Hop
 		ret._inFormat = _inFormat;
 		ret._inRowsInBlock = _inRowsInBlock;
 		ret._inColsInBlock = _inColsInBlock;
+		ret._colLower = _colLower;
+		ret._colUpper = _colUpper;
 		ret._recompileRead = _recompileRead;
 		ret._paramIndexMap = (HashMap<String, Integer>) _paramIndexMap.clone();
 		//note: no deep cp of params since read-only 
@@ -569,6 +602,8 @@ public class DataOp extends Hop
 					  && _inFormat == that2._inFormat
 					  && _inRowsInBlock == that2._inRowsInBlock
 					  && _inColsInBlock == that2._inColsInBlock
+					  && _colLower == that2._colLower
+					  && _colUpper == that2._colUpper
 					  && _paramIndexMap!=null && that2._paramIndexMap!=null );
 		
 		//above conditions also ensure consistency with regard to 
@@ -38,7 +38,7 @@ import org.apache.sysml.runtime.controlprogram.parfor.opt.CostEstimatorHops;
  * Note: Currently, we support expressions in function arguments along with function calls
  * in expressions with single outputs, leaving multiple outputs handling as it is.
  */
-public class FunctionOp extends Hop
+public class FunctionOp extends Hop implements MultiThreadedHop
 {
 	public enum FunctionType{
 		DML,
@@ -56,6 +56,7 @@ public class FunctionOp extends Hop
 	private String[] _outputs = null; 
 	private ArrayList<Hop> _outputHops = null;
 	private boolean _singleOutFun = false;
+	private int _maxNumThreads = -1; //-1 for unlimited (multi-return builtins only)
 	
 	private FunctionOp() {
 		//default constructor for clone
@@ -114,6 +115,16 @@ public class FunctionOp extends Hop
 	public FunctionType getFunctionType() {
 		return _type;
 	}
+	
+	@Override
+	public void setMaxNumThreads( int k ) {
+		_maxNumThreads = k;
+	}
+	
+	@Override
+	public int getMaxNumThreads() {
+		return _maxNumThreads;
+	}
 
 	@Override
 	public boolean allowsAllExecTypes() {
@@ -243,6 +254,13 @@ public class FunctionOp extends Hop
 		//construct function call
 		Lop fcall = _singleOutFun ? new FunctionCallCPSingle( tmp, _fnamespace, _fname, et ) :
 			new FunctionCallCP(tmp, _fnamespace, _fname, _outputs, _outputHops, et);
+		
+		//set degree of parallelism for multi-threaded builtin functions
+		if( _type == FunctionType.MULTIRETURN_BUILTIN && et == ExecType.CP
+			&& getFunctionName().equalsIgnoreCase("transformencode") ) {
+			((FunctionCallCP)fcall).setNumThreads(
+				OptimizerUtils.getConstrainedNumThreads(_maxNumThreads));
+		}
 		setLineNumbers(fcall);
 		setLops(fcall);
 		
@@ -307,6 +325,7 @@ public class FunctionOp extends Hop
 		ret._fnamespace = _fnamespace;
 		ret._fname = _fname;
 		ret._outputs = _outputs.clone();
+		ret._maxNumThreads = _maxNumThreads;
 		if( _outputHops != null )
 			ret._outputHops = (ArrayList<Hop>) _outputHops.clone();
 		
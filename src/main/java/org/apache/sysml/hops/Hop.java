@@ -1133,7 +1133,7 @@ public abstract class Hop implements ParseInfo
 	}
 
 	public enum FileFormatTypes {
-		TEXT, BINARY, MM, CSV
+		TEXT, BINARY, MM, CSV, COLUMNAR
 	}
 
 	public enum DataOpTypes {
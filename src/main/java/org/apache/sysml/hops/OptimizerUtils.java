@@ -33,6 +33,7 @@ import org.apache.sysml.conf.DMLConfig;
 import org.apache.sysml.hops.Hop.DataOpTypes;
 import org.apache.sysml.hops.Hop.FileFormatTypes;
 import org.apache.sysml.hops.Hop.OpOp2;
+import org.apache.sysml.hops.estim.SparsityEstimator;
 import org.apache.sysml.hops.rewrite.HopRewriteUtils;
 import org.apache.sysml.lops.Checkpoint;
 import org.apache.sysml.lops.Lop;
@@ -123,6 +124,12 @@ public class OptimizerUtils
 	
 	public static boolean ALLOW_AUTO_VECTORIZATION = true;
 	
+	/**
+	 * Enables the pushdown of constant column ranges of right indexing operations
+	 * into persistent reads of columnar files, which only read the required chunks.
+	 */
+	public static boolean ALLOW_COLUMNAR_PROJECTION_PUSHDOWN = true;
+	
 	/**
 	 * Enables simple expression evaluation for datagen parameters 'rows', 'cols'. Simple
 	 * expressions are defined as binary operations on literals and nrow/ncol. This applies
@@ -166,6 +173,15 @@ public class OptimizerUtils
 	 */
 	public static boolean ALLOW_SUM_PRODUCT_REWRITES = true;
 	
+	/**
+	 * Sparsity estimator used for cost-based optimization of matrix multiplication 
+	 * chains. Data-based estimators (bitset, density map, matrix histogram) are only
+	 * used if all inputs are available in memory during dynamic recompilation, 
+	 * otherwise we fall back to the metadata-based average-case estimate.
+	 */
+	public static SparsityEstimator.EstimatorType SPARSITY_ESTIMATOR = 
+		SparsityEstimator.EstimatorType.MATRIX_HISTOGRAM;
+	
 	/**
 	 * Enables a specific hop dag rewrite that splits hop dags after csv persistent reads with 
 	 * unknown size in order to allow for recompile.
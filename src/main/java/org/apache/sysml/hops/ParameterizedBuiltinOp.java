@@ -186,10 +186,19 @@ public class ParameterizedBuiltinOp extends Hop implements MultiThreadedHop
 				constructLopsRExpand(inputlops, et);
 				break;
 			} 
+			case TRANSFORMAPPLY: {
+				ExecType et = optFindExecType();
+				int k = OptimizerUtils.getConstrainedNumThreads( _maxNumThreads );
+				ParameterizedBuiltin pbilop = new ParameterizedBuiltin(inputlops,
+						HopsParameterizedBuiltinLops.get(_op), getDataType(), getValueType(), et, k);
+				setOutputDimensions(pbilop);
+				setLineNumbers(pbilop);
+				setLops(pbilop);
+				break;
+			}
 			case CDF:
 			case INVCDF: 
 			case REPLACE:
-			case TRANSFORMAPPLY:
 			case TRANSFORMDECODE:
 			case TRANSFORMCOLMAP:
 			case TRANSFORMMETA:
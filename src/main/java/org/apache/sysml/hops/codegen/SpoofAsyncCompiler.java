@@ -0,0 +1,143 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.apache.sysml.hops.codegen;
+
+import java.util.HashSet;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.apache.sysml.api.DMLScript;
+import org.apache.sysml.hops.codegen.cplan.CNodeTpl;
+import org.apache.sysml.runtime.codegen.CodegenUtils;
+import org.apache.sysml.utils.Statistics;
+
+/**
+ * Asynchronous compilation of generated operators during dynamic recompilation.
+ * Instead of compiling new classes synchronously, which stalls the execution of
+ * loops for every new plan, the generated source code is compiled on a background
+ * thread and the recompiled hop dag falls back to the unfused operators. Once the
+ * class is compiled, it is put into the plan cache, where subsequent dynamic 
+ * recompilations of the same program block pick it up and swap in the fused 
+ * operator. Plans that are still pending are not submitted again.
+ */
+public class SpoofAsyncCompiler 
+{
+	private static final Log LOG = LogFactory.getLog(SpoofAsyncCompiler.class.getName());
+	
+	//number of threads for concurrent class compilation
+	public static final int NUM_THREADS = 1;
+	
+	//cplans with pending compilation (w/ plan equivalence semantics)
+	private static final HashSet<CNodeTpl> _pending = new HashSet<>();
+	
+	private static volatile ExecutorService _pool = null;
+	
+	public static synchronized void setEnabled(boolean flag) {
+		if( flag && _pool == null )
+			_pool = Executors.newFixedThreadPool(NUM_THREADS);
+		else if( !flag && _pool != null ) {
+			//discard pending tasks (running tasks complete independently)
+			_pool.shutdownNow();
+			_pool = null;
+			synchronized( _pending ) {
+				_pending.clear();
+			}
+		}
+	}
+	
+	public static boolean isEnabled() {
+		return _pool != null;
+	}
+	
+	/**
+	 * Issues the asynchronous compilation of the given cplan and source 
+	 * code, unless a compilation of an equivalent cplan is still pending.
+	 * 
+	 * @param cplan cplan of generated operator
+	 * @param name fully qualified class name
+	 * @param src generated source code
+	 * @param cache plan cache, which receives the compiled class
+	 * @return true if the compilation was issued or is pending
+	 */
+	protected static boolean compile(CNodeTpl cplan, String name, String src, SpoofCompiler.PlanCache cache) {
+		ExecutorService pool = _pool;
+		if( pool == null )
+			return false;
+		synchronized( _pending ) {
+			if( !_pending.add(cplan) )
+				return true; //already pending
+		}
+		try {
+			pool.submit(() -> {
+				try {
+					long t0 = System.nanoTime();
+					Class<?> cla = CodegenUtils.compileClass(name, src);
+					cache.putPlan(cplan, cla);
+					if( DMLScript.STATISTICS ) {
+						Statistics.incrementCodegenAsyncCompile();
+						Statistics.incrementCodegenAsyncCompileTime(System.nanoTime()-t0);
+					}
+				}
+				catch(Exception ex) {
+					//plan remains unfused, as no class is put into the plan cache
+					LOG.warn("Failed asynchronous compilation of class "+name+".", ex);
+				}
+				finally {
+					synchronized( _pending ) {
+						_pending.remove(cplan);
+					}
+				}
+			});
+			return true;
+		}
+		catch(RejectedExecutionException ex) {
+			synchronized( _pending ) {
+				_pending.remove(cplan);
+			}
+			return false; //concurrently disabled
+		}
+	}
+	
+	/**
+	 * Waits until all issued compilations are completed, which is 
+	 * primarily useful for deterministic tests.
+	 * 
+	 * @param timeout max wait time in milliseconds
+	 * @return true if no compilations are pending
+	 * @throws InterruptedException if interrupted while waiting
+	 */
+	public static boolean awaitPending(long timeout) throws InterruptedException {
+		long end = System.currentTimeMillis() + timeout;
+		while( true ) {
+			synchronized( _pending ) {
+				if( _pending.isEmpty() )
+					return true;
+			}
+			if( System.currentTimeMillis() >= end )
+				return false;
+			TimeUnit.MILLISECONDS.sleep(5);
+		}
+	}
+}
@@ -87,6 +87,7 @@ import org.apache.sysml.parser.WhileStatement;
 import org.apache.sysml.parser.WhileStatementBlock;
 import org.apache.sysml.parser.Expression.DataType;
 import org.apache.sysml.runtime.DMLRuntimeException;
+import org.apache.sysml.runtime.codegen.CodegenClassCache;
 import org.apache.sysml.runtime.codegen.CodegenUtils;
 import org.apache.sysml.runtime.codegen.SpoofCellwise.CellType;
 import org.apache.sysml.runtime.codegen.SpoofRowwise.RowType;
@@ -412,6 +413,15 @@ public class SpoofCompiler
 						LOG.info(src);
 					}
 					
+					//compile generated java source code in the background during dynamic
+					//recompilation (fallback to unfused operators until the class is ready)
+					if( recompile && PLAN_CACHE_POLICY!=PlanCachePolicy.NONE && SpoofAsyncCompiler.compile(
+						tmp.getValue(), "codegen."+tmp.getValue().getClassname(), src, planCache) ) {
+						if( DMLScript.STATISTICS )
+							Statistics.incrementCodegenPlanCacheTotal();
+						continue;
+					}
+					
 					//compile generated java source code
 					cla = CodegenUtils.compileClass("codegen."+
 							tmp.getValue().getClassname(), src);
@@ -497,6 +507,12 @@ public class SpoofCompiler
 		PLAN_SEL_POLICY = type;
 	}
 	
+	public static void setConfiguredClassCache() {
+		DMLConfig conf = ConfigurationManager.getDMLConfig();
+		CodegenClassCache.configure(conf.getTextValue(DMLConfig.CODEGEN_CLASSCACHE),
+			conf.getIntValue(DMLConfig.CODEGEN_CLASSCACHE_SIZE));
+	}
+	
 	public static void setExecTypeSpecificJavaCompiler() {
 		DMLConfig conf = ConfigurationManager.getDMLConfig();
 		String compiler = conf.getTextValue(DMLConfig.CODEGEN_COMPILER);
@@ -839,7 +855,7 @@ public class SpoofCompiler
 	 * longer referenced.
 	 * 
 	 */
-	private static class PlanCache {
+	protected static class PlanCache {
 		private final LinkedHashMap<CNode, Class<?>> _plans;
 		private final int _maxSize;
 		
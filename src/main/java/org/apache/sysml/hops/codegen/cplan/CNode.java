@@ -40,6 +40,7 @@ public abstract class CNode
 	protected long _cols = -1;
 	protected DataType _dataType;
 	protected boolean _literal = false;
+	protected boolean _sparseRow = false;
 	
 	//cached hash to allow memoization in DAG structures and repeated 
 	//recursive hash computation over all inputs (w/ reset on updates)
@@ -71,7 +72,11 @@ public abstract class CNode
 	}
 	
 	public String createVarname() {
-		_genVar = "TMP"+_seqVar.getNextID();
+		return createVarname(false);
+	}
+	
+	public String createVarname(boolean sparse) {
+		_genVar = (sparse ? "STMP" : "TMP")+_seqVar.getNextID();
 		return _genVar; 
 	}
 	
@@ -80,7 +85,7 @@ public abstract class CNode
 	}
 	
 	public String getVectorLength() {
-		if( getVarname().startsWith("a") )
+		if( getVarname().startsWith("a") || getVarname().startsWith("STMP") )
 			return "len";
 		else if( getVarname().startsWith("b") )
 			return getVarname()+".clen";
@@ -131,6 +136,16 @@ public abstract class CNode
 		_hash = 0;
 	}
 	
+	public boolean isSparseRowIntermediate() {
+		return _sparseRow;
+	}
+	
+	public void setSparseRowIntermediate(boolean flag) {
+		//note: only used for sparse row template bodies,
+		//and hence, not included in hashCode and equals
+		_sparseRow = flag;
+	}
+	
 	public CNode getOutput() {
 		return _output;
 	}
@@ -20,6 +20,7 @@
 package org.apache.sysml.hops.codegen.cplan;
 
 import org.apache.commons.lang.StringUtils;
+import org.apache.commons.lang.math.NumberUtils;
 import org.apache.sysml.hops.codegen.template.TemplateUtils;
 import org.apache.sysml.parser.Expression.DataType;
 import org.apache.sysml.runtime.util.UtilFunctions;
@@ -72,14 +73,14 @@ public class CNodeBinary extends CNode
 		public String getTemplate(boolean sparseLhs, boolean sparseRhs, boolean scalarVector, boolean scalarInput) {
 			switch (this) {
 				case DOT_PRODUCT:
-					return sparseLhs ? "    double %TMP% = LibSpoofPrimitives.dotProduct(%IN1v%, %IN2%, %IN1i%, %POS1%, %POS2%, alen);\n" :
+					return sparseLhs ? "    double %TMP% = LibSpoofPrimitives.dotProduct(%IN1v%, %IN2%, %IN1i%, %POS1%, %POS2%, %IN1n%);\n" :
 									"    double %TMP% = LibSpoofPrimitives.dotProduct(%IN1%, %IN2%, %POS1%, %POS2%, %LEN%);\n";
 				case VECT_MATRIXMULT:
-					return sparseLhs ? "    double[] %TMP% = LibSpoofPrimitives.vectMatrixMult(%IN1v%, %IN2%, %IN1i%, %POS1%, %POS2%, alen, len);\n" :
+					return sparseLhs ? "    double[] %TMP% = LibSpoofPrimitives.vectMatrixMult(%IN1v%, %IN2%, %IN1i%, %POS1%, %POS2%, %IN1n%, len);\n" :
 									"    double[] %TMP% = LibSpoofPrimitives.vectMatrixMult(%IN1%, %IN2%, %POS1%, %POS2%, %LEN%);\n";
 				case VECT_OUTERMULT_ADD:
-					return  sparseLhs ? "    LibSpoofPrimitives.vectOuterMultAdd(%IN1v%, %IN2%, %OUT%, %IN1i%, %POS1%, %POS2%, %POSOUT%, alen, %LEN1%, %LEN2%);\n" :
-							sparseRhs ? "    LibSpoofPrimitives.vectOuterMultAdd(%IN1%, %IN2v%, %OUT%, %POS1%, %IN2i%, %POS2%, %POSOUT%, alen, %LEN1%, %LEN2%);\n" :
+					return  sparseLhs ? "    LibSpoofPrimitives.vectOuterMultAdd(%IN1v%, %IN2%, %OUT%, %IN1i%, %POS1%, %POS2%, %POSOUT%, %IN1n%, %LEN1%, %LEN2%);\n" :
+							sparseRhs ? "    LibSpoofPrimitives.vectOuterMultAdd(%IN1%, %IN2v%, %OUT%, %POS1%, %IN2i%, %POS2%, %POSOUT%, %IN2n%, %LEN1%, %LEN2%);\n" :
 									"    LibSpoofPrimitives.vectOuterMultAdd(%IN1%, %IN2%, %OUT%, %POS1%, %POS2%, %POSOUT%, %LEN1%, %LEN2%);\n";
 				
 				//vector-scalar-add operations
@@ -99,10 +100,10 @@ public class CNodeBinary extends CNode
 				case VECT_CBIND_ADD: {
 					String vectName = getVectorPrimitiveName();
 					if( scalarVector )
-						return sparseLhs ? "    LibSpoofPrimitives.vect"+vectName+"Add(%IN1%, %IN2v%, %OUT%, %IN2i%, %POS2%, %POSOUT%, alen, %LEN%);\n" : 
+						return sparseRhs ? "    LibSpoofPrimitives.vect"+vectName+"Add(%IN1%, %IN2v%, %OUT%, %IN2i%, %POS2%, %POSOUT%, %IN2n%, %LEN%);\n" : 
 										"    LibSpoofPrimitives.vect"+vectName+"Add(%IN1%, %IN2%, %OUT%, %POS2%, %POSOUT%, %LEN%);\n";
 					else	
-						return sparseLhs ? "    LibSpoofPrimitives.vect"+vectName+"Add(%IN1v%, %IN2%, %OUT%, %IN1i%, %POS1%, %POSOUT%, alen, %LEN%);\n" : 
+						return sparseLhs ? "    LibSpoofPrimitives.vect"+vectName+"Add(%IN1v%, %IN2%, %OUT%, %IN1i%, %POS1%, %POSOUT%, %IN1n%, %LEN%);\n" : 
 										"    LibSpoofPrimitives.vect"+vectName+"Add(%IN1%, %IN2%, %OUT%, %POS1%, %POSOUT%, %LEN%);\n";
 				}
 				
@@ -122,10 +123,10 @@ public class CNodeBinary extends CNode
 				case VECT_GREATEREQUAL_SCALAR: {
 					String vectName = getVectorPrimitiveName();
 					if( scalarVector )
-						return sparseRhs ? "    double[] %TMP% = LibSpoofPrimitives.vect"+vectName+"Write(%IN1%, %IN2v%, %IN2i%, %POS2%, alen, %LEN%);\n" : 
+						return sparseRhs ? "    double[] %TMP% = LibSpoofPrimitives.vect"+vectName+"Write(%IN1%, %IN2v%, %IN2i%, %POS2%, %IN2n%, %LEN%);\n" : 
 										"    double[] %TMP% = LibSpoofPrimitives.vect"+vectName+"Write(%IN1%, %IN2%, %POS2%, %LEN%);\n";
 					else	
-						return sparseLhs ? "    double[] %TMP% = LibSpoofPrimitives.vect"+vectName+"Write(%IN1v%, %IN2%, %IN1i%, %POS1%, alen, %LEN%);\n" : 
+						return sparseLhs ? "    double[] %TMP% = LibSpoofPrimitives.vect"+vectName+"Write(%IN1v%, %IN2%, %IN1i%, %POS1%, %IN1n%, %LEN%);\n" : 
 										"    double[] %TMP% = LibSpoofPrimitives.vect"+vectName+"Write(%IN1%, %IN2%, %POS1%, %LEN%);\n";
 				}
 				
@@ -134,7 +135,7 @@ public class CNodeBinary extends CNode
 						return  "    double[] %TMP% = LibSpoofPrimitives.vectCbindWrite(%IN1%, %IN2%);\n";
 					else
 						return sparseLhs ? 
-								"    double[] %TMP% = LibSpoofPrimitives.vectCbindWrite(%IN1v%, %IN2%, %IN1i%, %POS1%, alen, %LEN%);\n" : 
+								"    double[] %TMP% = LibSpoofPrimitives.vectCbindWrite(%IN1v%, %IN2%, %IN1i%, %POS1%, %IN1n%, %LEN%);\n" : 
 								"    double[] %TMP% = LibSpoofPrimitives.vectCbindWrite(%IN1%, %IN2%, %POS1%, %LEN%);\n";
 				
 				//vector-vector operations
@@ -151,10 +152,12 @@ public class CNodeBinary extends CNode
 				case VECT_GREATER:
 				case VECT_GREATEREQUAL: {
 					String vectName = getVectorPrimitiveName();
-					return sparseLhs ? 
-						"    double[] %TMP% = LibSpoofPrimitives.vect"+vectName+"Write(%IN1v%, %IN2%, %IN1i%, %POS1%, %POS2%, alen, %LEN%);\n" : 
+					return (sparseLhs && sparseRhs && isSparseSparsePrimitive()) ?
+						"    double[] %TMP% = LibSpoofPrimitives.vect"+vectName+"Write(%IN1v%, %IN2v%, %IN1i%, %IN2i%, %POS1%, %POS2%, %IN1n%, %IN2n%, %LEN%);\n" : 
+						   sparseLhs ? 
+						"    double[] %TMP% = LibSpoofPrimitives.vect"+vectName+"Write(%IN1v%, %IN2%, %IN1i%, %POS1%, %POS2%, %IN1n%, %LEN%);\n" : 
 						   sparseRhs ?
-						"    double[] %TMP% = LibSpoofPrimitives.vect"+vectName+"Write(%IN1%, %IN2v%, %POS1%, %IN2i%, %POS2%, alen, %LEN%);\n" : 
+						"    double[] %TMP% = LibSpoofPrimitives.vect"+vectName+"Write(%IN1%, %IN2v%, %POS1%, %IN2i%, %POS2%, %IN2n%, %LEN%);\n" : 
 						"    double[] %TMP% = LibSpoofPrimitives.vect"+vectName+"Write(%IN1%, %IN2%, %POS1%, %POS2%, %LEN%);\n";
 				}
 				
@@ -204,6 +207,28 @@ public class CNodeBinary extends CNode
 					throw new RuntimeException("Invalid binary type: "+this.toString());
 			}
 		}
+		public String getSparseTemplate(boolean sparseLhs, boolean sparseRhs, boolean scalarVector) {
+			//templates for sparse row intermediates (see isSparseSafeRowOutput)
+			String vectName = getVectorPrimitiveName();
+			switch (this) {
+				case VECT_MULT_SCALAR:
+					return scalarVector ? 
+						"    SparseRowVector %TMP% = LibSpoofPrimitives.vect"+vectName+"Write(%LEN%, %IN1%, %IN2v%, %IN2i%, %POS2%, %IN2n%);\n" :
+						"    SparseRowVector %TMP% = LibSpoofPrimitives.vect"+vectName+"Write(%LEN%, %IN1v%, %IN2%, %IN1i%, %POS1%, %IN1n%);\n";
+				case VECT_DIV_SCALAR:
+					return "    SparseRowVector %TMP% = LibSpoofPrimitives.vect"+vectName+"Write(%LEN%, %IN1v%, %IN2%, %IN1i%, %POS1%, %IN1n%);\n";
+				case VECT_MULT:
+				case VECT_PLUS:
+				case VECT_MINUS:
+					return (sparseLhs && sparseRhs) ?
+						"    SparseRowVector %TMP% = LibSpoofPrimitives.vect"+vectName+"Write(%LEN%, %IN1v%, %IN2v%, %IN1i%, %IN2i%, %POS1%, %POS2%, %IN1n%, %IN2n%);\n" :
+						   sparseLhs ?
+						"    SparseRowVector %TMP% = LibSpoofPrimitives.vect"+vectName+"Write(%LEN%, %IN1v%, %IN2%, %IN1i%, %POS1%, %POS2%, %IN1n%);\n" :
+						"    SparseRowVector %TMP% = LibSpoofPrimitives.vect"+vectName+"Write(%LEN%, %IN1%, %IN2v%, %POS1%, %IN2i%, %POS2%, %IN2n%);\n";
+				default:
+					throw new RuntimeException("Invalid sparse binary type: "+this.toString());
+			}
+		}
 		public boolean isVectorPrimitive() {
 			return isVectorScalarPrimitive() 
 				|| isVectorVectorPrimitive()
@@ -227,6 +252,10 @@ public class CNodeBinary extends CNode
 				|| this == VECT_LESS || this == VECT_LESSEQUAL
 				|| this == VECT_GREATER || this == VECT_GREATEREQUAL;
 		}
+		public boolean isSparseSparsePrimitive() {
+			return this == VECT_MULT
+				|| this == VECT_PLUS || this == VECT_MINUS;
+		}
 		public boolean isVectorMatrixPrimitive() {
 			return this == VECT_MATRIXMULT
 				|| this == VECT_OUTERMULT_ADD;
@@ -262,6 +291,44 @@ public class CNodeBinary extends CNode
 		return _type;
 	}
 	
+	public boolean isSparseSafeRowOutput() {
+		boolean sparseLhs = TemplateUtils.isSparseRowVector(_inputs.get(0));
+		boolean sparseRhs = TemplateUtils.isSparseRowVector(_inputs.get(1));
+		switch( _type ) {
+			case VECT_MULT_SCALAR:
+			case VECT_MULT:
+				return sparseLhs || sparseRhs;
+			case VECT_DIV_SCALAR: //X/0 not sparse-safe
+				return sparseLhs && isNonZeroLiteral(_inputs.get(1));
+			case VECT_PLUS:
+			case VECT_MINUS:
+				return sparseLhs && sparseRhs;
+			default:
+				return false;
+		}
+	}
+	
+	public boolean isSparseRowInputSupported(int pos, boolean sparseOther) {
+		CNode other = _inputs.get(1-pos);
+		if( _type.isVectorVectorPrimitive() )
+			return !sparseOther || _type.isSparseSparsePrimitive();
+		else if( _type.isVectorScalarPrimitive() || _type.name().endsWith("_ADD") ) {
+			switch( _type ) {
+				case VECT_CBIND: return pos == 0;
+				case VECT_OUTERMULT_ADD: return !sparseOther;
+				default: return other.getDataType().isScalar();
+			}
+		}
+		else if( _type == BinType.DOT_PRODUCT || _type == BinType.VECT_MATRIXMULT )
+			return pos == 0 && !sparseOther;
+		return false;
+	}
+	
+	private static boolean isNonZeroLiteral(CNode node) {
+		return node.isLiteral() && NumberUtils.isNumber(node.getVarname())
+			&& NumberUtils.toDouble(node.getVarname()) != 0;
+	}
+	
 	@Override
 	public String codegen(boolean sparse) {
 		if( isGenerated() )
@@ -273,25 +340,27 @@ public class CNodeBinary extends CNode
 		sb.append(_inputs.get(0).codegen(sparse));
 		sb.append(_inputs.get(1).codegen(sparse));
 		
-		//generate binary operation (use sparse template, if data input)
-		boolean lsparseLhs = sparse && _inputs.get(0) instanceof CNodeData 
-			&& _inputs.get(0).getVarname().startsWith("a");
-		boolean lsparseRhs = sparse && _inputs.get(1) instanceof CNodeData 
-			&& _inputs.get(1).getVarname().startsWith("a");
+		//generate binary operation (use sparse template, if data input or sparse intermediate)
+		boolean lsparseLhs = sparse && TemplateUtils.isSparseRowVector(_inputs.get(0));
+		boolean lsparseRhs = sparse && TemplateUtils.isSparseRowVector(_inputs.get(1));
+		boolean lsparseOut = sparse && isSparseRowIntermediate();
 		boolean scalarInput = _inputs.get(0).getDataType().isScalar();
 		boolean scalarVector = (_inputs.get(0).getDataType().isScalar()
 			&& _inputs.get(1).getDataType().isMatrix());
-		String var = createVarname();
-		String tmp = _type.getTemplate(lsparseLhs, lsparseRhs, scalarVector, scalarInput);
+		String var = createVarname(lsparseOut);
+		String tmp = lsparseOut ? _type.getSparseTemplate(lsparseLhs, lsparseRhs, scalarVector) :
+			_type.getTemplate(lsparseLhs, lsparseRhs, scalarVector, scalarInput);
 		tmp = tmp.replace("%TMP%", var);
 		
 		//replace input references and start indexes
 		for( int j=0; j<2; j++ ) {
 			String varj = _inputs.get(j).getVarname();
+			boolean sparseInt = sparse && _inputs.get(j).isSparseRowIntermediate();
 			
 			//replace sparse and dense inputs
-			tmp = tmp.replace("%IN"+(j+1)+"v%", varj+"vals");
-			tmp = tmp.replace("%IN"+(j+1)+"i%", varj+"ix");
+			tmp = tmp.replace("%IN"+(j+1)+"v%", sparseInt ? varj+".values()" : varj+"vals");
+			tmp = tmp.replace("%IN"+(j+1)+"i%", sparseInt ? varj+".indexes()" : varj+"ix");
+			tmp = tmp.replace("%IN"+(j+1)+"n%", sparseInt ? varj+".size()" : "alen");
 			tmp = tmp.replace("%IN"+(j+1)+"%", 
 				varj.startsWith("b") ? varj + ".values(rix)" : varj );
 			
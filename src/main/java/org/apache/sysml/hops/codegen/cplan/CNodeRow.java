@@ -20,6 +20,7 @@
 package org.apache.sysml.hops.codegen.cplan;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 
 import org.apache.sysml.hops.codegen.SpoofFusedOp.SpoofOutputDimsType;
 import org.apache.sysml.hops.codegen.cplan.CNodeBinary.BinType;
@@ -35,6 +36,7 @@ public class CNodeRow extends CNodeTpl
 			+ "import org.apache.sysml.runtime.codegen.SpoofOperator.SideInput;\n"
 			+ "import org.apache.sysml.runtime.codegen.SpoofRowwise;\n"
 			+ "import org.apache.sysml.runtime.codegen.SpoofRowwise.RowType;\n"
+			+ "import org.apache.sysml.runtime.matrix.data.SparseRowVector;\n"
 			+ "import org.apache.commons.math3.util.FastMath;\n"
 			+ "\n"
 			+ "public final class %TMP% extends SpoofRowwise { \n"
@@ -52,6 +54,7 @@ public class CNodeRow extends CNodeTpl
 	private static final String TEMPLATE_ROWAGG_OUT  = "    c[rix] = %IN%;\n";
 	private static final String TEMPLATE_FULLAGG_OUT = "    c[0] += %IN%;\n";
 	private static final String TEMPLATE_NOAGG_OUT   = "    LibSpoofPrimitives.vectWrite(%IN%, c, rix*%LEN%, %LEN%);\n";
+	private static final String TEMPLATE_NOAGG_SOUT  = "    LibSpoofPrimitives.vectWrite(%IN%.values(), %IN%.indexes(), c, rix*%LEN%, %IN%.size());\n";
 	
 	public CNodeRow(ArrayList<CNode> inputs, CNode output ) {
 		super(inputs, output);
@@ -99,12 +102,14 @@ public class CNodeRow extends CNodeTpl
 		// note: ignore sparse flag, generate both
 		String tmp = TEMPLATE;
 		
-		//generate dense/sparse bodies
+		//generate dense/sparse bodies, where the sparse body keeps
+		//sparse-safe row intermediates in sparse representation
 		String tmpDense = _output.codegen(false)
-			+ getOutputStatement(_output.getVarname());
+			+ getOutputStatement(_output.getVarname(), false);
 		_output.resetGenerated();
+		determineSparseRowIntermediates();
 		String tmpSparse = _output.codegen(true)
-			+ getOutputStatement(_output.getVarname());
+			+ getOutputStatement(_output.getVarname(), true);
 		tmp = tmp.replace("%TMP%", createVarname());
 		tmp = tmp.replace("%BODY_dense%", tmpDense);
 		tmp = tmp.replace("%BODY_sparse%", tmpSparse);
@@ -126,11 +131,14 @@ public class CNodeRow extends CNodeTpl
 		return tmp;
 	}
 	
-	private String getOutputStatement(String varName) {
+	private String getOutputStatement(String varName, boolean sparse) {
 		switch( _type ) {
 			case NO_AGG:
 			case NO_AGG_B1:
 			case NO_AGG_CONST:
+				if( sparse && _output.isSparseRowIntermediate() )
+					return TEMPLATE_NOAGG_SOUT.replace("%IN%", varName)
+						.replace("%LEN%", "len");
 				return TEMPLATE_NOAGG_OUT.replace("%IN%", varName)
 					.replace("%LEN%", _output.getVarname()+".length");
 			case FULL_AGG:
@@ -142,6 +150,65 @@ public class CNodeRow extends CNodeTpl
 		}
 	}
 
+	private void determineSparseRowIntermediates() {
+		//collect consumers of all nodes (w/ repeated inputs)
+		HashMap<Long, ArrayList<CNode>> parents = new HashMap<>();
+		_output.resetVisitStatus();
+		rCollectParents(_output, parents);
+		_output.resetVisitStatus();
+		
+		//bottom-up selection of sparse row intermediates
+		rDetermineSparseRowIntermediates(_output, parents);
+		_output.resetVisitStatus();
+	}
+	
+	private static void rCollectParents(CNode node, HashMap<Long, ArrayList<CNode>> parents) {
+		if( node.isVisited() )
+			return;
+		for( CNode c : node.getInput() ) {
+			parents.computeIfAbsent(c.getID(), k -> new ArrayList<>()).add(node);
+			rCollectParents(c, parents);
+		}
+		node.setSparseRowIntermediate(false);
+		node.setVisited();
+	}
+	
+	private void rDetermineSparseRowIntermediates(CNode node, HashMap<Long, ArrayList<CNode>> parents) {
+		if( node.isVisited() )
+			return;
+		for( CNode c : node.getInput() )
+			rDetermineSparseRowIntermediates(c, parents);
+		
+		//use sparse output if the operation is sparse-safe over sparse inputs
+		//and all consumers (or the output statement) support sparse inputs
+		boolean ret = (node instanceof CNodeBinary && ((CNodeBinary)node).isSparseSafeRowOutput())
+			|| (node instanceof CNodeUnary && ((CNodeUnary)node).isSparseSafeRowOutput());
+		ArrayList<CNode> consumers = parents.get(node.getID());
+		if( consumers == null )
+			ret &= (_type == RowType.NO_AGG || _type == RowType.NO_AGG_B1 || _type == RowType.NO_AGG_CONST);
+		for( int i=0; ret && consumers!=null && i<consumers.size(); i++ )
+			ret &= isSparseRowInputSupported(consumers.get(i), node);
+		node.setSparseRowIntermediate(ret);
+		node.setVisited();
+	}
+	
+	private static boolean isSparseRowInputSupported(CNode parent, CNode input) {
+		if( parent instanceof CNodeUnary )
+			return ((CNodeUnary)parent).isSparseRowInputSupported();
+		else if( parent instanceof CNodeBinary ) {
+			boolean ret = true;
+			for( int i=0; i<2; i++ ) {
+				if( parent.getInput().get(i) != input )
+					continue;
+				CNode other = parent.getInput().get(1-i);
+				ret &= ((CNodeBinary)parent).isSparseRowInputSupported(i,
+					other == input || TemplateUtils.isSparseRowVector(other));
+			}
+			return ret;
+		}
+		return false;
+	}
+	
 	@Override
 	public void setOutputDims() {
 		// TODO Auto-generated method stub
@@ -56,7 +56,7 @@ public class CNodeUnary extends CNode
 				case ROW_MAXS:
 				case ROW_COUNTNNZS: {
 					String vectName = StringUtils.capitalize(name().substring(4, name().length()-1).toLowerCase());
-					return sparse ? "    double %TMP% = LibSpoofPrimitives.vect"+vectName+"(%IN1v%, %IN1i%, %POS1%, alen, len);\n": 
+					return sparse ? "    double %TMP% = LibSpoofPrimitives.vect"+vectName+"(%IN1v%, %IN1i%, %POS1%, %IN1n%, len);\n": 
 									"    double %TMP% = LibSpoofPrimitives.vect"+vectName+"(%IN1%, %POS1%, %LEN%);\n"; 
 				}
 			
@@ -83,7 +83,7 @@ public class CNodeUnary extends CNode
 				case VECT_CUMMIN:
 				case VECT_CUMMAX:{
 					String vectName = getVectorPrimitiveName();
-					return sparse ? "    double[] %TMP% = LibSpoofPrimitives.vect"+vectName+"Write(%IN1v%, %IN1i%, %POS1%, alen, len);\n" : 
+					return sparse ? "    double[] %TMP% = LibSpoofPrimitives.vect"+vectName+"Write(%IN1v%, %IN1i%, %POS1%, %IN1n%, len);\n" : 
 									"    double[] %TMP% = LibSpoofPrimitives.vect"+vectName+"Write(%IN1%, %POS1%, %LEN%);\n";
 				}
 					
@@ -148,6 +148,13 @@ public class CNodeUnary extends CNode
 					throw new RuntimeException("Invalid unary type: "+this.toString());
 			}
 		}
+		public String getSparseTemplate() {
+			//template for sparse row intermediates (see isSparseSafeVectorPrimitive)
+			if( !isSparseSafeVectorPrimitive() )
+				throw new RuntimeException("Invalid sparse unary type: "+this.toString());
+			return "    SparseRowVector %TMP% = LibSpoofPrimitives.vect"
+				+getVectorPrimitiveName()+"Write(len, %IN1v%, %IN1i%, %POS1%, %IN1n%);\n";
+		}
 		public boolean isVectorScalarPrimitive() {
 			return this == VECT_EXP || this == VECT_POW2
 				|| this == VECT_MULT2 || this == VECT_SQRT
@@ -160,6 +167,16 @@ public class CNodeUnary extends CNode
 				|| this == VECT_CUMSUM || this == VECT_CUMMIN
 				|| this == VECT_CUMMAX;
 		}
+		public boolean isSparseSafeVectorPrimitive() {
+			return ArrayUtils.contains(new UnaryType[]{
+				VECT_POW2, VECT_MULT2, VECT_SQRT, VECT_ABS, VECT_ROUND,
+				VECT_CEIL, VECT_FLOOR, VECT_SIGN, VECT_SIN, VECT_TAN,
+				VECT_ASIN, VECT_ATAN, VECT_SINH, VECT_TANH}, this);
+		}
+		public boolean isRowAggregate() {
+			return ArrayUtils.contains(new UnaryType[]{
+				ROW_SUMS, ROW_SUMSQS, ROW_MINS, ROW_MAXS, ROW_COUNTNNZS}, this);
+		}
 		public UnaryType getVectorAddPrimitive() {
 			return UnaryType.valueOf("VECT_"+getVectorPrimitiveName().toUpperCase()+"_ADD");
 		}
@@ -194,6 +211,15 @@ public class CNodeUnary extends CNode
 		_type = type;
 	}
 
+	public boolean isSparseSafeRowOutput() {
+		return _type.isSparseSafeVectorPrimitive()
+			&& TemplateUtils.isSparseRowVector(_inputs.get(0));
+	}
+	
+	public boolean isSparseRowInputSupported() {
+		return _type.isRowAggregate() || _type.isVectorScalarPrimitive();
+	}
+	
 	@Override
 	public String codegen(boolean sparse) {
 		if( isGenerated() )
@@ -204,19 +230,20 @@ public class CNodeUnary extends CNode
 		//generate children
 		sb.append(_inputs.get(0).codegen(sparse));
 		
-		//generate unary operation
-		boolean lsparse = sparse && (_inputs.get(0) instanceof CNodeData
-			&& _inputs.get(0).getVarname().startsWith("a")
-			&& !_inputs.get(0).isLiteral());
-		String var = createVarname();
-		String tmp = _type.getTemplate(lsparse);
+		//generate unary operation (use sparse template, if data input or sparse intermediate)
+		boolean lsparse = sparse && TemplateUtils.isSparseRowVector(_inputs.get(0));
+		boolean lsparseOut = sparse && isSparseRowIntermediate();
+		String var = createVarname(lsparseOut);
+		String tmp = lsparseOut ? _type.getSparseTemplate() : _type.getTemplate(lsparse);
 		tmp = tmp.replace("%TMP%", var);
 		
 		String varj = _inputs.get(0).getVarname();
+		boolean sparseInt = sparse && _inputs.get(0).isSparseRowIntermediate();
 		
 		//replace sparse and dense inputs
-		tmp = tmp.replace("%IN1v%", varj+"vals");
-		tmp = tmp.replace("%IN1i%", varj+"ix");
+		tmp = tmp.replace("%IN1v%", sparseInt ? varj+".values()" : varj+"vals");
+		tmp = tmp.replace("%IN1i%", sparseInt ? varj+".indexes()" : varj+"ix");
+		tmp = tmp.replace("%IN1n%", sparseInt ? varj+".size()" : "alen");
 		tmp = tmp.replace("%IN1%", varj.startsWith("b") && !_type.isScalarLookup()
 			&& TemplateUtils.isMatrix(_inputs.get(0)) ? varj + ".values(rix)" : varj );
 		
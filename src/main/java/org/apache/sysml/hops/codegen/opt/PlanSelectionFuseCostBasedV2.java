@@ -44,6 +44,7 @@ import org.apache.sysml.hops.Hop;
 import org.apache.sysml.hops.Hop.AggOp;
 import org.apache.sysml.hops.Hop.DataOpTypes;
 import org.apache.sysml.hops.Hop.Direction;
+import org.apache.sysml.hops.Hop.OpOp1;
 import org.apache.sysml.hops.Hop.OpOp2;
 import org.apache.sysml.hops.IndexingOp;
 import org.apache.sysml.hops.LiteralOp;
@@ -862,6 +863,7 @@ public class PlanSelectionFuseCostBasedV2 extends PlanSelection
 		
 		//add compute costs of current operator to costs vector
 		costVect.computeCosts += computeCosts.get(currentHopId);
+		costVect.sparseSafe &= isSparseSafeRowOperation(current);
 		
 		//process children recursively
 		for( int i=0; i< current.getInput().size(); i++ ) {
@@ -885,14 +887,19 @@ public class PlanSelectionFuseCostBasedV2 extends PlanSelection
 		//add costs for opened fused operator
 		if( opened ) {
 			double memInputs = sumInputMemoryEstimates(memo, costVect);
+			Hop driver = memo.getHopRefs().get(costVect.getMaxInputSizeHopID());
+			//sparsity correction for row template w/ sparse row intermediates
+			double tmpCompute = costVect.computeCosts;
+			if( best != null && best.type == TemplateType.ROW && costVect.sparseSafe 
+				&& driver != null && driver.dimsKnown(true) )
+				tmpCompute *= driver.getSparsity();
 			double tmpCosts = costVect.outSize * 8 / WRITE_BANDWIDTH_MEM
 				+ Math.max(memInputs / READ_BANDWIDTH_MEM,
-				costVect.computeCosts/ COMPUTE_BANDWIDTH);
+				tmpCompute / COMPUTE_BANDWIDTH);
 			//read correction for distributed computation
 			if( memInputs > OptimizerUtils.getLocalMemBudget() )
 				tmpCosts += costVect.getSideInputSize() * 8 / READ_BANDWIDTH_BROADCAST;
 			//sparsity correction for outer-product template (and sparse-safe cell)
-			Hop driver = memo.getHopRefs().get(costVect.getMaxInputSizeHopID());
 			if( best != null && best.type == TemplateType.OUTER )
 				tmpCosts *= driver.dimsKnown(true) ? driver.getSparsity() : SPARSE_SAFE_SPARSITY_EST;
 			//write correction for known evictions in CP
@@ -1070,6 +1077,22 @@ public class PlanSelectionFuseCostBasedV2 extends PlanSelection
 		computeCosts.put(current.getHopID(), costs);
 	}
 	
+	private static boolean isSparseSafeRowOperation(Hop current) {
+		//operations that keep sparse row intermediates in generated row
+		//templates (see CNodeRow), column vector operations are per row
+		return current.getDim2() == 1
+			|| current instanceof AggUnaryOp
+			|| current instanceof AggBinaryOp
+			|| HopRewriteUtils.isTransposeOperation(current)
+			|| HopRewriteUtils.isUnary(current, OpOp1.ABS, OpOp1.ROUND, OpOp1.CEIL,
+				OpOp1.FLOOR, OpOp1.SIGN, OpOp1.SQRT, OpOp1.SIN, OpOp1.TAN,
+				OpOp1.ASIN, OpOp1.ATAN, OpOp1.SINH, OpOp1.TANH)
+			|| HopRewriteUtils.isBinary(current, OpOp2.MULT)
+			|| (HopRewriteUtils.isBinary(current, OpOp2.DIV)
+				&& current.getInput().get(1) instanceof LiteralOp
+				&& !HopRewriteUtils.isLiteralOfValue(current.getInput().get(1), 0));
+	}
+	
 	private static boolean hasNoRefToMatPoint(long hopID, 
 			MemoTableEntry me, InterestingPoint[] M, boolean[] plan) {
 		return !InterestingPoint.isMatPoint(M, hopID, me, plan);
@@ -1085,6 +1108,7 @@ public class PlanSelectionFuseCostBasedV2 extends PlanSelection
 		public final long ID;
 		public final double outSize; 
 		public double computeCosts = 0;
+		public boolean sparseSafe = true;
 		public final HashMap<Long, Double> inSizes = new HashMap<>();
 		
 		public CostVector(double outputSize) {
@@ -266,6 +266,13 @@ public class TemplateUtils
 		return ret;
 	}
 	
+	public static boolean isSparseRowVector(CNode node) {
+		//main input of sparse row template bodies or sparse row intermediate
+		return (node instanceof CNodeData && !node.isLiteral()
+			&& node.getVarname().startsWith("a"))
+			|| node.isSparseRowIntermediate();
+	}
+
 	public static boolean rContainsInput(CNode node, long hopID) {
 		boolean ret = false;
 		for( CNode c : node.getInput() )
@@ -0,0 +1,39 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.sysml.hops.estim;
+
+import org.apache.sysml.hops.OptimizerUtils;
+
+/**
+ * Basic average case estimator for matrix sparsity:
+ * sp = 1 - Math.pow(1-sp1*sp2, k)
+ */
+public class EstimatorBasicAvg extends SparsityEstimator
+{
+	@Override
+	public double estim(MMNode root) {
+		if( root.isLeaf() )
+			return getSparsity(root);
+		double sp1 = estim(root.getLeft());
+		double sp2 = estim(root.getRight());
+		return setSparsity(root, OptimizerUtils.getMatMultSparsity(sp1, sp2,
+			root.getRows(), root.getLeft().getCols(), root.getCols(), false));
+	}
+}
@@ -0,0 +1,147 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.sysml.hops.estim;
+
+import org.apache.sysml.runtime.matrix.data.DenseBlock;
+import org.apache.sysml.runtime.matrix.data.MatrixBlock;
+import org.apache.sysml.runtime.matrix.data.SparseBlock;
+
+/**
+ * This estimator implements naive but rather common approach of boolean matrix
+ * multiplies which allows to infer the exact non-zero structure and thus is
+ * also useful for sparse result preallocation. The synopses require m*n bits
+ * and hence, this estimator is only meant for small to medium-sized data.
+ * 
+ * For example, this approach has been used in the following papers:
+ * - Cohen: Structure prediction and computation of sparse matrix products, 
+ *   J. Comb. Optim. 1998
+ * - Amossen and Pagh: Faster join-projects and sparse matrix multiplications,
+ *   ICDT 2009
+ */
+public class EstimatorBitsetMM extends SparsityEstimator
+{
+	@Override
+	public double estim(MMNode root) {
+		//fallback to average-case estimate for metadata-only inputs
+		if( isMetadataOnly(root) )
+			return new EstimatorBasicAvg().estim(root);
+		
+		BitsetMatrix out = estimInternal(root);
+		return setSparsity(root, (double) out.getNonZeros() 
+			/ out.getNumRows() / out.getNumColumns());
+	}
+	
+	private BitsetMatrix estimInternal(MMNode node) {
+		if( node.getSynopsis() != null )
+			return (BitsetMatrix) node.getSynopsis();
+		BitsetMatrix ret = node.isLeaf() ? new BitsetMatrix(node.getData()) :
+			estimInternal(node.getLeft()).matMult(estimInternal(node.getRight()));
+		node.setSynopsis(ret);
+		return ret;
+	}
+	
+	private static class BitsetMatrix {
+		private final int _rlen;
+		private final int _clen;
+		private final int _rwords; //words per row
+		private final long[] _data;
+		private long _nonZeros = 0;
+		
+		public BitsetMatrix(int rlen, int clen) {
+			_rlen = rlen;
+			_clen = clen;
+			_rwords = (int) Math.ceil((double)clen / 64);
+			_data = new long[rlen * _rwords];
+		}
+		
+		public BitsetMatrix(MatrixBlock in) {
+			this(in.getNumRows(), in.getNumColumns());
+			init(in);
+		}
+		
+		public int getNumRows() {
+			return _rlen;
+		}
+		
+		public int getNumColumns() {
+			return _clen;
+		}
+		
+		public long getNonZeros() {
+			return _nonZeros;
+		}
+		
+		private void set(int r, int c) {
+			int off = r * _rwords;
+			int wix = c >>> 6; //div 64
+			int bix = c & 63;  //mod 64
+			_data[off+wix] |= 1L << bix;
+		}
+		
+		private void init(MatrixBlock in) {
+			if( in.isEmptyBlock(false) )
+				return;
+			if( in.isInSparseFormat() ) {
+				SparseBlock a = in.getSparseBlock();
+				for( int i=0; i<in.getNumRows(); i++ ) {
+					if( a.isEmpty(i) ) continue;
+					int apos = a.pos(i);
+					int alen = a.size(i);
+					int[] aix = a.indexes(i);
+					for( int k=apos; k<apos+alen; k++ )
+						set(i, aix[k]);
+				}
+			}
+			else {
+				//row-wise copy, independent of the dense block layout
+				DenseBlock a = in.getDenseBlock();
+				double[] avals = new double[in.getNumColumns()];
+				for( int i=0; i<in.getNumRows(); i++ ) {
+					a.get(i, i+1, 0, avals.length, avals, 0);
+					for( int j=0; j<avals.length; j++ )
+						if( avals[j] != 0 )
+							set(i, j);
+				}
+			}
+			for( long w : _data )
+				_nonZeros += Long.bitCount(w);
+		}
+		
+		public BitsetMatrix matMult(BitsetMatrix m2) {
+			BitsetMatrix out = new BitsetMatrix(_rlen, m2._clen);
+			final int cd = _clen;
+			final int n64 = m2._rwords;
+			long lnnz = 0;
+			for( int i=0, aix=0, cix=0; i<_rlen; i++, aix+=_rwords, cix+=n64 ) {
+				//OR all rows of m2 selected by the non-zeros of the current row
+				for( int k=0; k<cd; k++ )
+					if( (_data[aix+(k>>>6)] & (1L << (k & 63))) != 0 ) {
+						int bix = k * n64;
+						for( int j=0; j<n64; j++ )
+							out._data[cix+j] |= m2._data[bix+j];
+					}
+				for( int j=0; j<n64; j++ )
+					lnnz += Long.bitCount(out._data[cix+j]);
+			}
+			out._nonZeros = lnnz;
+			return out;
+		}
+	}
+}
@@ -0,0 +1,157 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.sysml.hops.estim;
+
+import org.apache.sysml.runtime.matrix.data.DenseBlock;
+import org.apache.sysml.runtime.matrix.data.MatrixBlock;
+import org.apache.sysml.runtime.matrix.data.SparseBlock;
+import org.apache.sysml.runtime.util.UtilFunctions;
+
+/**
+ * This estimator implements an approach called density maps, as introduced in
+ * Kernert et al.: SLACID - Sparse Linear Algebra in a Column-Oriented In-Memory 
+ * Database System, SSDBM 2014. The density map maintains the density per block 
+ * of size b x b, and applies the average-case estimate per output block over 
+ * the common dimension. In contrast to the global average-case estimate, this
+ * captures skew across blocks (e.g., dense rows or columns in power-law data).
+ */
+public class EstimatorDensityMap extends SparsityEstimator
+{
+	private static final int BLOCK_SIZE = 256;
+	
+	private final int _b;
+	
+	public EstimatorDensityMap() {
+		this(BLOCK_SIZE);
+	}
+	
+	public EstimatorDensityMap(int blocksize) {
+		_b = blocksize;
+	}
+	
+	@Override
+	public double estim(MMNode root) {
+		//fallback to average-case estimate for metadata-only inputs
+		if( isMetadataOnly(root) )
+			return new EstimatorBasicAvg().estim(root);
+		
+		DensityMap out = estimInternal(root);
+		return setSparsity(root, out.getSparsity());
+	}
+	
+	private DensityMap estimInternal(MMNode node) {
+		if( node.getSynopsis() != null )
+			return (DensityMap) node.getSynopsis();
+		DensityMap ret = node.isLeaf() ? new DensityMap(node.getData(), _b) :
+			estimInternal(node.getLeft()).matMult(estimInternal(node.getRight()));
+		node.setSynopsis(ret);
+		return ret;
+	}
+	
+	private static class DensityMap {
+		private final int _rlen;
+		private final int _clen;
+		private final int _b;
+		private final int _mb; //number of row blocks
+		private final int _nb; //number of column blocks
+		private final double[] _dens;
+		
+		public DensityMap(int rlen, int clen, int b) {
+			_rlen = rlen;
+			_clen = clen;
+			_b = b;
+			_mb = (int)Math.ceil((double)rlen / b);
+			_nb = (int)Math.ceil((double)clen / b);
+			_dens = new double[_mb * _nb];
+		}
+		
+		public DensityMap(MatrixBlock in, int b) {
+			this(in.getNumRows(), in.getNumColumns(), b);
+			init(in);
+		}
+		
+		private int getRowBlockSize(int bi) {
+			return UtilFunctions.computeBlockSize(_rlen, bi+1, _b);
+		}
+		
+		private int getColBlockSize(int bj) {
+			return UtilFunctions.computeBlockSize(_clen, bj+1, _b);
+		}
+		
+		private void init(MatrixBlock in) {
+			//count non-zeros per block
+			if( !in.isEmptyBlock(false) ) {
+				if( in.isInSparseFormat() ) {
+					SparseBlock a = in.getSparseBlock();
+					for( int i=0; i<_rlen; i++ ) {
+						if( a.isEmpty(i) ) continue;
+						int apos = a.pos(i);
+						int alen = a.size(i);
+						int[] aix = a.indexes(i);
+						int off = (i/_b) * _nb;
+						for( int k=apos; k<apos+alen; k++ )
+							_dens[off + aix[k]/_b] ++;
+					}
+				}
+				else {
+					//row-wise copy, independent of the dense block layout
+					DenseBlock a = in.getDenseBlock();
+					double[] avals = new double[_clen];
+					for( int i=0; i<_rlen; i++ ) {
+						a.get(i, i+1, 0, _clen, avals, 0);
+						int off = (i/_b) * _nb;
+						for( int j=0; j<_clen; j++ )
+							_dens[off + j/_b] += (avals[j] != 0) ? 1 : 0;
+					}
+				}
+			}
+			//scale counts to block densities
+			for( int bi=0; bi<_mb; bi++ )
+				for( int bj=0; bj<_nb; bj++ )
+					_dens[bi*_nb+bj] /= (double)getRowBlockSize(bi) * getColBlockSize(bj);
+		}
+		
+		public double getSparsity() {
+			double nnz = 0;
+			for( int bi=0; bi<_mb; bi++ )
+				for( int bj=0; bj<_nb; bj++ )
+					nnz += _dens[bi*_nb+bj] * getRowBlockSize(bi) * getColBlockSize(bj);
+			return nnz / _rlen / _clen;
+		}
+		
+		public DensityMap matMult(DensityMap m2) {
+			DensityMap out = new DensityMap(_rlen, m2._clen, _b);
+			final int kb = _nb;
+			for( int bi=0; bi<_mb; bi++ )
+				for( int bj=0; bj<m2._nb; bj++ ) {
+					//probability of an output cell being zero (log-space),
+					//average-case estimate per block over common dimension
+					double lzero = 0;
+					for( int bk=0; bk<kb; bk++ ) {
+						double sp = _dens[bi*_nb+bk] * m2._dens[bk*m2._nb+bj];
+						lzero += (sp >= 1) ? Double.NEGATIVE_INFINITY :
+							getColBlockSize(bk) * Math.log1p(-sp);
+					}
+					out._dens[bi*out._nb+bj] = 1 - Math.exp(lzero);
+				}
+			return out;
+		}
+	}
+}
@@ -0,0 +1,155 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.sysml.hops.estim;
+
+import org.apache.sysml.runtime.matrix.data.DenseBlock;
+import org.apache.sysml.runtime.matrix.data.MatrixBlock;
+import org.apache.sysml.runtime.matrix.data.SparseBlock;
+
+/**
+ * This estimator implements a sketch of row and column non-zero counts 
+ * (matrix histograms), which requires only m+n counts per matrix. The output
+ * sparsity is computed exactly if the lhs has at most one non-zero per row 
+ * or the rhs has at most one non-zero per column (e.g., selection and 
+ * permutation matrices), and otherwise via an average-case estimate per 
+ * index of the common dimension, which accounts for skewed distributions
+ * of non-zeros as common in power-law graphs. Output histograms for chains
+ * of matrix products are derived by scaling the input histograms.
+ */
+public class EstimatorMatrixHistogram extends SparsityEstimator
+{
+	@Override
+	public double estim(MMNode root) {
+		//fallback to average-case estimate for metadata-only inputs
+		if( isMetadataOnly(root) )
+			return new EstimatorBasicAvg().estim(root);
+		
+		MatrixHistogram out = estimInternal(root);
+		return setSparsity(root, out.getSparsity());
+	}
+	
+	private MatrixHistogram estimInternal(MMNode node) {
+		if( node.getSynopsis() != null )
+			return (MatrixHistogram) node.getSynopsis();
+		MatrixHistogram ret = node.isLeaf() ? new MatrixHistogram(node.getData()) :
+			estimInternal(node.getLeft()).matMult(estimInternal(node.getRight()));
+		node.setSynopsis(ret);
+		return ret;
+	}
+	
+	private static class MatrixHistogram {
+		private final double[] _rNnz; //non-zeros per row
+		private final double[] _cNnz; //non-zeros per column
+		private double _nnz = 0;
+		private double _rMax = 0;
+		private double _cMax = 0;
+		
+		public MatrixHistogram(int rlen, int clen) {
+			_rNnz = new double[rlen];
+			_cNnz = new double[clen];
+		}
+		
+		public MatrixHistogram(MatrixBlock in) {
+			this(in.getNumRows(), in.getNumColumns());
+			init(in);
+		}
+		
+		private void init(MatrixBlock in) {
+			if( in.isEmptyBlock(false) )
+				return;
+			if( in.isInSparseFormat() ) {
+				SparseBlock a = in.getSparseBlock();
+				for( int i=0; i<_rNnz.length; i++ ) {
+					if( a.isEmpty(i) ) continue;
+					int apos = a.pos(i);
+					int alen = a.size(i);
+					int[] aix = a.indexes(i);
+					_rNnz[i] = alen;
+					for( int k=apos; k<apos+alen; k++ )
+						_cNnz[aix[k]] ++;
+				}
+			}
+			else {
+				//row-wise copy, independent of the dense block layout
+				DenseBlock a = in.getDenseBlock();
+				double[] avals = new double[_cNnz.length];
+				for( int i=0; i<_rNnz.length; i++ ) {
+					a.get(i, i+1, 0, avals.length, avals, 0);
+					for( int j=0; j<_cNnz.length; j++ )
+						if( avals[j] != 0 ) {
+							_rNnz[i] ++;
+							_cNnz[j] ++;
+						}
+				}
+			}
+			refreshSummaries();
+		}
+		
+		private void refreshSummaries() {
+			_nnz = 0;
+			for( double r : _rNnz ) {
+				_nnz += r;
+				_rMax = Math.max(_rMax, r);
+			}
+			for( double c : _cNnz )
+				_cMax = Math.max(_cMax, c);
+		}
+		
+		public double getSparsity() {
+			return _nnz / _rNnz.length / _cNnz.length;
+		}
+		
+		public MatrixHistogram matMult(MatrixHistogram h2) {
+			final int m = _rNnz.length;
+			final int cd = _cNnz.length;
+			final int n = h2._cNnz.length;
+			
+			//upper bound: number of multiply-adds (and exact for
+			//lhs w/ <=1 nnz per row or rhs w/ <=1 nnz per column)
+			double dot = 0;
+			for( int k=0; k<cd; k++ )
+				dot += _cNnz[k] * h2._rNnz[k];
+			double nnz = dot;
+			
+			//average-case estimate per index of the common dimension
+			if( _rMax > 1 && h2._cMax > 1 ) {
+				double mn = (double)m * n;
+				double lzero = 0;
+				for( int k=0; k<cd; k++ ) {
+					double sp = _cNnz[k] * h2._rNnz[k] / mn;
+					lzero += (sp >= 1) ? Double.NEGATIVE_INFINITY : Math.log1p(-sp);
+				}
+				nnz = Math.min(dot, mn * (1 - Math.exp(lzero)));
+			}
+			
+			//derive output histograms by scaling input histograms
+			MatrixHistogram out = new MatrixHistogram(m, n);
+			double rscale = (_nnz > 0) ? nnz / _nnz : 0;
+			double cscale = (h2._nnz > 0) ? nnz / h2._nnz : 0;
+			for( int i=0; i<m; i++ )
+				out._rNnz[i] = Math.min(n, _rNnz[i] * rscale);
+			for( int j=0; j<n; j++ )
+				out._cNnz[j] = Math.min(m, h2._cNnz[j] * cscale);
+			out.refreshSummaries();
+			out._nnz = nnz;
+			return out;
+		}
+	}
+}
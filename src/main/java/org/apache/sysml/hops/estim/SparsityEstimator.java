@@ -0,0 +1,102 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.sysml.hops.estim;
+
+import org.apache.sysml.hops.OptimizerUtils;
+import org.apache.sysml.runtime.matrix.MatrixCharacteristics;
+import org.apache.sysml.runtime.matrix.data.MatrixBlock;
+
+/**
+ * Base class of all sparsity estimators for matrix products and chains of
+ * matrix products. Leaf nodes without data (i.e., only metadata) are 
+ * estimated via the basic average-case estimator.
+ */
+public abstract class SparsityEstimator 
+{
+	public enum EstimatorType {
+		BASIC_AVG,        //average-case estimate (metadata only)
+		BASIC_WORST,      //worst-case estimate (metadata only)
+		BITSET,           //exact boolean matrix products
+		DENSITY_MAP,      //block-wise density maps
+		MATRIX_HISTOGRAM, //row/column nnz count sketches
+	}
+	
+	/**
+	 * Estimates the output sparsity of a DAG of matrix multiplications
+	 * for the given operator graph of a single root node.
+	 * 
+	 * @param root DAG root node
+	 * @return output sparsity
+	 */
+	public abstract double estim(MMNode root);
+	
+	/**
+	 * Estimates the output sparsity of a single matrix multiplication
+	 * for the two given matrices.
+	 * 
+	 * @param m1 left-hand-side operand
+	 * @param m2 right-hand-side operand
+	 * @return output sparsity
+	 */
+	public double estim(MatrixBlock m1, MatrixBlock m2) {
+		return estim(new MMNode(new MMNode(m1), new MMNode(m2)));
+	}
+	
+	/**
+	 * Estimates the output sparsity of a single matrix multiplication
+	 * for the two given matrix characteristics.
+	 * 
+	 * @param mc1 left-hand-side operand characteristics
+	 * @param mc2 right-hand-side operand characteristics
+	 * @return output sparsity
+	 */
+	public double estim(MatrixCharacteristics mc1, MatrixCharacteristics mc2) {
+		return estim(new MMNode(new MMNode(mc1), new MMNode(mc2)));
+	}
+	
+	public static SparsityEstimator createEstimator(EstimatorType type) {
+		switch( type ) {
+			case BASIC_AVG:        return new EstimatorBasicAvg();
+			case BASIC_WORST:      return new EstimatorBasicWorst();
+			case BITSET:           return new EstimatorBitsetMM();
+			case DENSITY_MAP:      return new EstimatorDensityMap();
+			case MATRIX_HISTOGRAM: return new EstimatorMatrixHistogram();
+			default:
+				throw new RuntimeException("Unsupported sparsity estimator: "+type);
+		}
+	}
+	
+	protected static double getSparsity(MMNode leaf) {
+		MatrixCharacteristics mc = leaf.getMatrixCharacteristics();
+		return OptimizerUtils.getSparsity(mc.getRows(), mc.getCols(), mc.getNonZeros());
+	}
+	
+	protected static double setSparsity(MMNode node, double sp) {
+		//maintain estimated nnz for reuse in operator graphs
+		MatrixCharacteristics mc = node.getMatrixCharacteristics();
+		mc.setNonZeros((long)Math.ceil(sp * mc.getRows() * mc.getCols()));
+		return sp;
+	}
+	
+	protected static boolean isMetadataOnly(MMNode node) {
+		return node.isLeaf() ? !node.hasData() :
+			isMetadataOnly(node.getLeft()) || isMetadataOnly(node.getRight());
+	}
+}
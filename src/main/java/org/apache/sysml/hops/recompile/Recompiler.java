@@ -53,6 +53,7 @@ import org.apache.sysml.hops.ReorgOp;
 import org.apache.sysml.hops.UnaryOp;
 import org.apache.sysml.hops.codegen.SpoofCompiler;
 import org.apache.sysml.hops.rewrite.HopRewriteUtils;
+import org.apache.sysml.hops.rewrite.ProgramRewriteStatus;
 import org.apache.sysml.hops.rewrite.ProgramRewriter;
 import org.apache.sysml.lops.CSVReBlock;
 import org.apache.sysml.lops.DataGen;
@@ -208,7 +209,7 @@ public class Recompiler
 			
 			// dynamic hop rewrites
 			if( !inplace ) {
-				_rewriter.get().rewriteHopDAG( hops, null );
+				_rewriter.get().rewriteHopDAG( hops, createRewriteStatus(vars) );
 				
 				//update stats after rewrites
 				Hop.resetVisitStatus(hops);
@@ -326,7 +327,7 @@ public class Recompiler
 			
 			// dynamic hop rewrites
 			if( !inplace ) {
-				_rewriter.get().rewriteHopDAG( hops, null );
+				_rewriter.get().rewriteHopDAG( hops, createRewriteStatus(vars) );
 				
 				//update stats after rewrites
 				hops.resetVisitStatus();
@@ -1125,8 +1126,17 @@ public class Recompiler
 		
 		return moOut;
 	}
-	
-	
+
+	private static ProgramRewriteStatus createRewriteStatus( LocalVariableMap vars )
+	{
+		//expose live variables to data-dependent rewrites (e.g., sparsity
+		//estimates over in-memory inputs for matrix multiplication chains)
+		ProgramRewriteStatus status = new ProgramRewriteStatus();
+		status.setVariables(vars);
+		return status;
+	}
+
+
 	//helper functions for predicate recompile
 	
 	private static void recompileIfPredicate( IfProgramBlock ipb, IfStatementBlock isb, LocalVariableMap vars, RecompileStatus status, long tid, ResetType resetRecompile ) 
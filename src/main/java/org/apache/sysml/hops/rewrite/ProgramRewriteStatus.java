@@ -19,6 +19,8 @@
 
 package org.apache.sysml.hops.rewrite;
 
+import org.apache.sysml.runtime.controlprogram.LocalVariableMap;
+
 public class ProgramRewriteStatus 
 {
 	
@@ -29,6 +31,7 @@ public class ProgramRewriteStatus
 	
 	//current context
 	private boolean _inParforCtx = false;
+	private LocalVariableMap _vars = null; //live variables during dynamic recompilation
 	
 	public ProgramRewriteStatus()
 	{
@@ -53,6 +56,14 @@ public class ProgramRewriteStatus
 		return _inParforCtx;
 	}
 	
+	public void setVariables(LocalVariableMap vars){
+		_vars = vars;
+	}
+	
+	public LocalVariableMap getVariables(){
+		return _vars;
+	}
+	
 	public void setBlocksize( int blkSize ){
 		_blkSize = blkSize;
 	}
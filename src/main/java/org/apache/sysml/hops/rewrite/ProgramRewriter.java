@@ -99,6 +99,8 @@ public class ProgramRewriter
 				_dagRuleSet.add( new RewriteCommonSubexpressionElimination()     );
 			if( OptimizerUtils.ALLOW_AUTO_VECTORIZATION )
 				_dagRuleSet.add( new RewriteIndexingVectorization()              ); //dependency: cse, simplifications
+			if( OptimizerUtils.ALLOW_COLUMNAR_PROJECTION_PUSHDOWN )
+				_dagRuleSet.add( new RewritePushdownColumnProjection()           ); //dependency: cse, simplifications
 			_dagRuleSet.add( new RewriteInjectSparkPReadCheckpointing()          ); //dependency: reblock
 			
 			//add statement block rewrite rules
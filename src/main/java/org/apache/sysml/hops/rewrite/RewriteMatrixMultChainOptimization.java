@@ -29,14 +29,26 @@ import org.apache.log4j.Level;
 import org.apache.log4j.Logger;
 
 import org.apache.sysml.hops.AggBinaryOp;
+import org.apache.sysml.hops.DataOp;
 import org.apache.sysml.hops.Hop;
+import org.apache.sysml.hops.Hop.DataOpTypes;
 import org.apache.sysml.hops.HopsException;
+import org.apache.sysml.hops.OptimizerUtils;
+import org.apache.sysml.hops.estim.MMNode;
+import org.apache.sysml.hops.estim.SparsityEstimator;
+import org.apache.sysml.runtime.controlprogram.LocalVariableMap;
+import org.apache.sysml.runtime.controlprogram.caching.MatrixObject;
+import org.apache.sysml.runtime.instructions.cp.Data;
+import org.apache.sysml.runtime.matrix.MatrixCharacteristics;
+import org.apache.sysml.runtime.matrix.data.MatrixBlock;
 import org.apache.sysml.utils.Explain;
 
 /**
  * Rule: Determine the optimal order of execution for a chain of
  * matrix multiplications Solution: Classic Dynamic Programming
- * Approach Currently, the approach based only on matrix dimensions
+ * Approach based on matrix dimensions, which is extended by sparsity
+ * estimates of intermediates if the number of non-zeros of all inputs
+ * is known and at least one input is sparse.
  * Goal: To reduce the number of computations in the run-time
  * (map-reduce) layer
  */
@@ -62,7 +74,7 @@ public class RewriteMatrixMultChainOptimization extends HopRewriteRule
 
 		// Find the optimal order for the chain whose result is the current HOP
 		for( Hop h : roots ) 
-			rule_OptimizeMMChains(h);
+			rule_OptimizeMMChains(h, state);
 		
 		return roots;
 	}
@@ -75,7 +87,7 @@ public class RewriteMatrixMultChainOptimization extends HopRewriteRule
 			return null;
 
 		// Find the optimal order for the chain whose result is the current HOP
-		rule_OptimizeMMChains(root);
+		rule_OptimizeMMChains(root, state);
 		
 		return root;
 	}
@@ -85,9 +97,10 @@ public class RewriteMatrixMultChainOptimization extends HopRewriteRule
 	 * to find chains that need to be optimized.
 	 * 
 	 * @param hop high-level operator
+	 * @param state program rewrite status
 	 * @throws HopsException if HopsException occurs
 	 */
-	private void rule_OptimizeMMChains(Hop hop) 
+	private void rule_OptimizeMMChains(Hop hop, ProgramRewriteStatus state) 
 		throws HopsException 
 	{
 		if( hop.isVisited() )
@@ -98,11 +111,11 @@ public class RewriteMatrixMultChainOptimization extends HopRewriteRule
 		{
 			// Try to find and optimize the chain in which current Hop is the
 			// last operator
-			optimizeMMChain(hop);
+			optimizeMMChain(hop, state);
 		}
 		
 		for( Hop hi : hop.getInput() )
-			rule_OptimizeMMChains(hi);
+			rule_OptimizeMMChains(hi, state);
 
 		hop.setVisited();
 	}
@@ -116,9 +129,10 @@ public class RewriteMatrixMultChainOptimization extends HopRewriteRule
 	 * mmChain.
 	 * 
 	 * @param hop high-level operator
+	 * @param state program rewrite status
 	 * @throws HopsException if HopsException occurs
 	 */
-	private void optimizeMMChain( Hop hop ) throws HopsException 
+	private void optimizeMMChain( Hop hop, ProgramRewriteStatus state ) throws HopsException 
 	{
 		if( LOG.isTraceEnabled() ) {
 			LOG.trace("MM Chain Optimization for HOP: (" + hop.getClass().getSimpleName()
@@ -210,9 +224,12 @@ public class RewriteMatrixMultChainOptimization extends HopRewriteRule
 				
 				// Step 4: Find the optimal ordering via dynamic programming.
 				
-				// Invoke Dynamic Programming
+				// Invoke Dynamic Programming (sparsity-aware if all nnz known 
+				// and at least one input is sparse, otherwise dims only)
 				int size = mmChain.size();
-				int[][] split = mmChainDP(dimsArray, mmChain.size());
+				int[][] split = isSparseChain(mmChain) ?
+					mmChainDPSparse(dimsArray, mmChain, state) :
+					mmChainDP(dimsArray, mmChain.size());
 				
 				 // Step 5: Relink the hops using the optimal ordering (split[][]) found from DP.
 				LOG.trace("Optimal MM Chain: ");
@@ -267,6 +284,107 @@ public class RewriteMatrixMultChainOptimization extends HopRewriteRule
 		return split;
 	}
 
+	/**
+	 * mmChainDPSparse(): Sparsity-aware variant of the dynamic programming 
+	 * approach, where the costs of a matrix multiplication are scaled by the
+	 * estimated sparsity of its inputs. The sparsity of intermediates is 
+	 * independent of the chosen split and hence estimated once per sub-chain 
+	 * via the configured sparsity estimator (see OptimizerUtils.SPARSITY_ESTIMATOR).
+	 * Data-based estimators are only used if all inputs are available in memory 
+	 * (i.e., during dynamic recompilation), otherwise they fall back to 
+	 * metadata-based estimates.
+	 */
+	private static int[][] mmChainDPSparse(double[] dimArray, ArrayList<Hop> chain, ProgramRewriteStatus state) 
+	{
+		final int size = chain.size();
+		double[][] dpMatrix = new double[size][size]; //min cost table
+		int[][] split = new int[size][size]; //min cost index table
+		MMNode[][] nodes = new MMNode[size][size]; //sub-chain estimates
+		SparsityEstimator estim = SparsityEstimator
+			.createEstimator(OptimizerUtils.SPARSITY_ESTIMATOR);
+		LocalVariableMap vars = (state != null) ? state.getVariables() : null;
+		
+		//init minimum costs and leaf nodes for chains of length 1
+		for( int i = 0; i < size; i++ ) {
+			Arrays.fill(dpMatrix[i], 0);
+			Arrays.fill(split[i], -1);
+			nodes[i][i] = createLeafNode(chain.get(i), vars);
+		}
+		
+		//compute cost-optimal chains for increasing chain sizes 
+		for( int l = 2; l <= size; l++ ) { // chain length
+			for( int i = 0; i < size - l + 1; i++ ) {
+				int j = i + l - 1;
+				// find cost of (i,j)
+				dpMatrix[i][j] = Double.MAX_VALUE;
+				for( int k = i; k <= j - 1; k++ ) 
+				{
+					//recursive cost computation (w/ expected number of multiply-adds)
+					double cost = dpMatrix[i][k] + dpMatrix[k + 1][j] 
+						+ (dimArray[i] * dimArray[k + 1] * dimArray[j + 1])
+						* getSparsity(nodes[i][k]) * getSparsity(nodes[k + 1][j]);
+					
+					//prune suboptimal
+					if( cost < dpMatrix[i][j] ) {
+						dpMatrix[i][j] = cost;
+						split[i][j] = k;
+					}
+				}
+				
+				//estimate output sparsity of the sub-chain (reuses synopses of inputs)
+				int k = split[i][j];
+				nodes[i][j] = new MMNode(nodes[i][k], nodes[k + 1][j]);
+				double sp = estim.estim(nodes[i][j]);
+				
+				if( LOG.isTraceEnabled() ){
+					LOG.trace("mmchainopt [i="+(i+1)+",j="+(j+1)+"]: costs = "+dpMatrix[i][j]
+						+", split = "+(split[i][j]+1)+", sparsity = "+sp);
+				}
+			}
+		}
+		
+		return split;
+	}
+	
+	private static boolean isSparseChain(ArrayList<Hop> chain) {
+		boolean sparse = false;
+		for( Hop h : chain ) {
+			if( h.getNnz() < 0 )
+				return false;
+			sparse |= OptimizerUtils.getSparsity(h.getDim1(), h.getDim2(), 
+				h.getNnz()) < MatrixBlock.SPARSITY_TURN_POINT;
+		}
+		return sparse;
+	}
+	
+	private static MMNode createLeafNode(Hop hop, LocalVariableMap vars) {
+		//use in-memory matrix blocks of live variables for data-based synopses
+		if( vars != null && hop instanceof DataOp 
+			&& ((DataOp)hop).getDataOpType() == DataOpTypes.TRANSIENTREAD ) 
+		{
+			Data dat = vars.get(hop.getName());
+			if( dat instanceof MatrixObject && ((MatrixObject)dat).isCached(true) ) {
+				MatrixObject mo = (MatrixObject) dat;
+				try {
+					MatrixBlock mb = mo.acquireRead();
+					mo.release();
+					return new MMNode(mb);
+				}
+				catch(Exception ex) {
+					LOG.debug("Failed to obtain in-memory input for sparsity estimation: "+ex.getMessage());
+				}
+			}
+		}
+		
+		//fallback to metadata-based estimates
+		return new MMNode(new MatrixCharacteristics(
+			hop.getDim1(), hop.getDim2(), -1, -1, hop.getNnz()));
+	}
+	
+	private static double getSparsity(MMNode node) {
+		return OptimizerUtils.getSparsity(node.getMatrixCharacteristics());
+	}
+
 	/**
 	 * mmChainRelinkHops(): This method gets invoked after finding the optimal
 	 * order (split[][]) from dynamic programming. It relinks the Hops that are
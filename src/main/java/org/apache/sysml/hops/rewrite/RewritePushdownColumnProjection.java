@@ -0,0 +1,155 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.apache.sysml.hops.rewrite;
+
+import java.util.ArrayList;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.apache.sysml.hops.DataOp;
+import org.apache.sysml.hops.Hop;
+import org.apache.sysml.hops.Hop.DataOpTypes;
+import org.apache.sysml.hops.Hop.FileFormatTypes;
+import org.apache.sysml.hops.Hop.OpOp1;
+import org.apache.sysml.hops.HopsException;
+import org.apache.sysml.hops.IndexingOp;
+import org.apache.sysml.hops.LiteralOp;
+import org.apache.sysml.parser.Expression.DataType;
+
+/**
+ * Rule: Pushdown column projection. If a persistent read of a columnar 
+ * file is exclusively consumed by right indexing operations with full row
+ * ranges and constant column ranges, we push the union of column ranges 
+ * into the read, which allows the reader to skip all other column chunks.
+ * Right indexing operations that cover the entire projection are removed,
+ * while all others are shifted to the new column offsets, e.g.,
+ * X = read(F, format="columnar"); Y = X[,3:5] -> Y = read(F, cols 3:5).
+ */
+public class RewritePushdownColumnProjection extends HopRewriteRule
+{
+	private static final Log LOG = LogFactory.getLog(RewritePushdownColumnProjection.class.getName());
+	
+	@Override
+	public ArrayList<Hop> rewriteHopDAGs(ArrayList<Hop> roots, ProgramRewriteStatus state) 
+		throws HopsException
+	{
+		if( roots == null )
+			return roots;
+		
+		//collect all columnar persistent reads
+		ArrayList<DataOp> reads = new ArrayList<>();
+		Hop.resetVisitStatus(roots);
+		for( Hop h : roots )
+			collectColumnarReads(h, reads);
+		Hop.resetVisitStatus(roots);
+		
+		//apply projection pushdown per read
+		for( DataOp read : reads )
+			pushdownColumnProjection(read);
+		
+		return roots;
+	}
+
+	@Override
+	public Hop rewriteHopDAG(Hop root, ProgramRewriteStatus state) 
+		throws HopsException
+	{
+		//do nothing, persistent reads do not occur in predicates
+		return root;
+	}
+	
+	private static void collectColumnarReads(Hop hop, ArrayList<DataOp> reads) {
+		if( hop.isVisited() )
+			return;
+		
+		//process childs
+		for( Hop c : hop.getInput() )
+			collectColumnarReads(c, reads);
+		
+		//process current hop
+		if( hop instanceof DataOp && hop.getDataType()==DataType.MATRIX
+			&& ((DataOp)hop).getDataOpType()==DataOpTypes.PERSISTENTREAD
+			&& ((DataOp)hop).getInputFormatType()==FileFormatTypes.COLUMNAR
+			&& !((DataOp)hop).hasColumnProjection() && hop.dimsKnown() )
+			reads.add((DataOp)hop);
+		
+		hop.setVisited();
+	}
+	
+	private static void pushdownColumnProjection(DataOp read) 
+		throws HopsException
+	{
+		//check for indexing-only consumers (except nrow, which is unaffected)
+		//and determine the union of constant column ranges
+		ArrayList<IndexingOp> ixs = new ArrayList<>();
+		long cl = Long.MAX_VALUE, cu = -1;
+		for( Hop p : read.getParent() ) {
+			if( HopRewriteUtils.isUnary(p, OpOp1.NROW) )
+				continue;
+			if( !isFullRowConstColumnIndexing(p, read) )
+				return;
+			IndexingOp ix = (IndexingOp) p;
+			cl = Math.min(cl, HopRewriteUtils.getIntValueSafe((LiteralOp)ix.getInput().get(3)));
+			cu = Math.max(cu, HopRewriteUtils.getIntValueSafe((LiteralOp)ix.getInput().get(4)));
+			if( !ixs.contains(ix) )
+				ixs.add(ix);
+		}
+		if( ixs.isEmpty() || cl < 1 || cu > read.getDim2() || cl > cu 
+			|| (cl == 1 && cu == read.getDim2()) )
+			return;
+		
+		//push column projection into read
+		read.setColumnProjection(cl, cu);
+		read.setDim2(cu - cl + 1);
+		read.setNnz(-1);
+		
+		//remove or shift consuming indexing operations
+		for( IndexingOp ix : ixs ) {
+			long ixcl = HopRewriteUtils.getIntValueSafe((LiteralOp)ix.getInput().get(3));
+			long ixcu = HopRewriteUtils.getIntValueSafe((LiteralOp)ix.getInput().get(4));
+			if( ixcl == cl && ixcu == cu ) {
+				HopRewriteUtils.rewireAllParentChildReferences(ix, read);
+				HopRewriteUtils.cleanupUnreferenced(ix);
+			}
+			else {
+				HopRewriteUtils.replaceChildReference(ix, ix.getInput().get(3), new LiteralOp(ixcl-cl+1), 3, false);
+				HopRewriteUtils.replaceChildReference(ix, ix.getInput().get(4), new LiteralOp(ixcu-cl+1), 4, false);
+				ix.refreshSizeInformation();
+			}
+		}
+		
+		LOG.debug("Applied pushdownColumnProjection (line "+read.getBeginLine()+"): "
+			+ read.getFileName()+" ["+cl+":"+cu+"]");
+	}
+	
+	private static boolean isFullRowConstColumnIndexing(Hop hop, Hop input) {
+		if( !(hop instanceof IndexingOp) || hop.getInput().get(0) != input )
+			return false;
+		for( int i=1; i<hop.getInput().size(); i++ )
+			if( hop.getInput().get(i) == input )
+				return false;
+		Hop rl = hop.getInput().get(1), ru = hop.getInput().get(2);
+		return HopRewriteUtils.isLiteralOfValue(rl, 1)
+			&& HopRewriteUtils.isSizeExpressionOf(ru, input, true)
+			&& hop.getInput().get(3) instanceof LiteralOp
+			&& hop.getInput().get(4) instanceof LiteralOp;
+	}
+}
@@ -48,6 +48,10 @@ public class Data extends Lop
 	boolean transient_var = false;
 	
 	private HashMap<String, Lop> _inputParams;
+	
+	//column range pushed into persistent columnar reads (1-based, inclusive)
+	private long _colLower = -1;
+	private long _colUpper = -1;
 
 	/**
 	 * Method to create literal LOPs.
@@ -193,6 +197,8 @@ public class Data extends Lop
 			this.outParams.setFormat(Format.MM);
 		else if (type == FileFormatTypes.CSV )
 			this.outParams.setFormat(Format.CSV);
+		else if (type == FileFormatTypes.COLUMNAR )
+			this.outParams.setFormat(Format.COLUMNAR);
 		else 
 			throw new LopsException("Unexpected format: " + type);
 		setLopProperties();
@@ -206,6 +212,18 @@ public class Data extends Lop
 	{
 		return formatType ;
 	}
+	
+	/**
+	 * Method to set the column range of a persistent columnar read,
+	 * which is passed to the reader via the createvar instruction.
+	 * 
+	 * @param cl column lower bound (1-based, inclusive)
+	 * @param cu column upper bound (1-based, inclusive)
+	 */
+	public void setColumnProjection(long cl, long cu) {
+		_colLower = cl;
+		_colUpper = cu;
+	}
  
 	@Override
 	public String toString() {
@@ -424,6 +442,8 @@ public class Data extends Lop
 					fmt = "textcell";
 				else if (oparams.getFormat() == Format.CSV)
 					fmt = "csv";
+				else if (oparams.getFormat() == Format.COLUMNAR)
+					fmt = "columnar";
 				else if ( oparams.getFormat() == Format.BINARY ){
 					if ( oparams.getRowsInBlock() > 0 || oparams.getColsInBlock() > 0 )
 						fmt = "binaryblock"; 
@@ -519,6 +539,8 @@ public class Data extends Lop
 				fmt = "matrixmarket";
 			else if ( oparams.getFormat() == Format.CSV )
 				fmt = "csv";
+			else if ( oparams.getFormat() == Format.COLUMNAR )
+				fmt = "columnar";
 			else { //binary
 				fmt = ( getDataType() == DataType.FRAME || oparams.getRowsInBlock() > 0 
 					|| oparams.getColsInBlock() > 0 ) ? "binaryblock" : "binarycell";
@@ -556,6 +578,12 @@ public class Data extends Lop
 				sb.append( OPERAND_DELIMITOR );
 				sb.append( createVarCSVHelper() );
 			}
+			else if ( oparams.getFormat() == Format.COLUMNAR && getDataType() == DataType.MATRIX ) {
+				sb.append( OPERAND_DELIMITOR );
+				sb.append( _colLower );
+				sb.append( OPERAND_DELIMITOR );
+				sb.append( _colUpper );
+			}
 			
 			// Frame-specific properties
 			if( getDataType()==DataType.FRAME ) {
@@ -38,6 +38,7 @@ public class FunctionCallCP extends Lop
 	private String _fname;
 	private String[] _outputs;
 	private ArrayList<Lop> _outputLops = null;
+	private int _numThreads = -1; //only for multi-threaded builtins
 
 	public FunctionCallCP(ArrayList<Lop> inputs, String fnamespace, String fname, String[] outputs, ArrayList<Hop> outputHops, ExecType et) 
 		throws HopsException, LopsException 
@@ -77,6 +78,10 @@ public class FunctionCallCP extends Lop
 		return _outputLops;
 	}
 	
+	public void setNumThreads(int k) {
+		_numThreads = k;
+	}
+	
 	@Override
 	public String toString() {
 		return "function call: " + DMLProgram.constructFunctionKey(_fnamespace, _fname);
@@ -99,6 +104,12 @@ public class FunctionCallCP extends Lop
 			sb.append(_outputs[i]);
 		}
 		
+		//optional degree of parallelism (e.g., transformencode)
+		if( _numThreads > 0 ) {
+			sb.append(Lop.OPERAND_DELIMITOR);
+			sb.append(_numThreads);
+		}
+		
 		return sb.toString();
 	}
 	
@@ -2229,6 +2229,9 @@ public class Dag<N extends Lop>
 			else if ( oparams.getFormat() == Format.CSV ) {
 				oinfo = OutputInfo.CSVOutputInfo;
 			}
+			else if ( oparams.getFormat() == Format.COLUMNAR ) {
+				oinfo = OutputInfo.ColumnarOutputInfo;
+			}
 			else {
 				oinfo = OutputInfo.BinaryCellOutputInfo;
 			}
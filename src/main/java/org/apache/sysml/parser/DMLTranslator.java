@@ -291,6 +291,7 @@ public class DMLTranslator
 				dmlconf.getIntValue(DMLConfig.CODEGEN_LITERALS)==2);
 			SpoofCompiler.setConfiguredPlanSelector();
 			SpoofCompiler.setExecTypeSpecificJavaCompiler();
+			SpoofCompiler.setConfiguredClassCache();
 			if( SpoofCompiler.INTEGRATION==IntegrationType.HOPS )
 				codgenHopsDAG(dmlp);
 		}
@@ -1180,6 +1181,7 @@ public class DMLTranslator
 					case TEXT:
 					case MM:
 					case CSV:
+					case COLUMNAR:
 						// write output in textcell format
 						ae.setOutputParams(ae.getDim1(), ae.getDim2(), ae.getNnz(), ae.getUpdateType(), -1, -1);
 						break;
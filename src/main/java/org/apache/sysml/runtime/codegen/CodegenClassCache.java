@@ -0,0 +1,300 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.apache.sysml.runtime.codegen;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.UUID;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.apache.commons.io.IOUtils;
+import org.apache.sysml.hops.codegen.SpoofCompiler;
+import org.apache.sysml.hops.codegen.SpoofCompiler.CompilerType;
+import org.apache.sysml.runtime.io.IOUtilFunctions;
+import org.apache.sysml.runtime.matrix.data.SparseRow;
+import org.apache.sysml.runtime.matrix.data.SparseRowVector;
+import org.apache.sysml.runtime.util.LocalFileUtils;
+
+/**
+ * Persistent on-disk cache of compiled codegen classes, which allows to
+ * reuse the bytecode of generated operators across JVMs and thus avoids
+ * repeated javac compilation of equal fused operators. Entries are keyed
+ * by a hash of the generated source code (with normalized class and variable
+ * names), the class file version of the running JVM, and a hash of the class
+ * files of all runtime classes referenced by generated code (base classes and
+ * primitives), which invalidates cached classes on any change of these classes,
+ * even across development builds of equal version. Cached classes are named after
+ * this key, which avoids conflicts with the per-JVM sequence of generated
+ * class names. If the cache exceeds its maximum size, we evict the least
+ * recently used entries (according to their last modification time, which
+ * is updated on every cache hit).
+ * <p>
+ * Note: the cache is only used with the javac compiler because janino does
+ * not expose the bytecode of compiled classes.
+ */
+public class CodegenClassCache 
+{
+	private static final Log LOG = LogFactory.getLog(CodegenClassCache.class.getName());
+	
+	public static final String CLASS_PREFIX = "TMPH";
+	private static final String CLASS_SUFFIX = ".class";
+	private static final String TMP_SUFFIX = ".tmp";
+	private static final Pattern TMP_NAME = Pattern.compile("\\bS?TMP[0-9]+\\b");
+	
+	//runtime classes referenced by generated code (incl nested classes)
+	private static final Class<?>[] RUNTIME_CLASSES = new Class<?>[] {
+		SpoofOperator.class, SpoofCellwise.class, SpoofMultiAggregate.class,
+		SpoofOuterProduct.class, SpoofRowwise.class, LibSpoofPrimitives.class,
+		SparseRow.class, SparseRowVector.class};
+	private static final String RUNTIME_HASH = getRuntimeHash();
+	
+	//cache directory (null if disabled) and max size in bytes
+	private static String _dir = null;
+	private static long _maxSize = -1;
+	
+	/**
+	 * Configures the persistent class cache.
+	 * 
+	 * @param dir local cache directory, or null/"none" to disable the cache
+	 * @param maxSizeMB maximum cache size in MB
+	 */
+	public static synchronized void configure(String dir, long maxSizeMB) {
+		_dir = (dir == null || dir.isEmpty() || dir.equalsIgnoreCase("none")) ? null : dir;
+		_maxSize = maxSizeMB * 1024 * 1024;
+	}
+	
+	public static boolean isEnabled() {
+		return _dir != null
+			&& SpoofCompiler.JAVA_COMPILER == CompilerType.JAVAC;
+	}
+	
+	/**
+	 * Computes the persistent cache key of a generated class, which is 
+	 * independent of its assigned class name and the generated variable 
+	 * names (renumbered in order of their first occurrence).
+	 * 
+	 * @param name fully qualified class name
+	 * @param src generated source code
+	 * @return hex-encoded cache key
+	 */
+	public static String getKey(String name, String src) {
+		//normalize sequence-based class and variable names
+		String sname = name.substring(name.lastIndexOf('.')+1);
+		HashMap<String, String> names = new HashMap<>();
+		names.put(sname, "%CLASS%");
+		StringBuffer nsrc = new StringBuffer();
+		Matcher m = TMP_NAME.matcher(src);
+		while( m.find() ) {
+			String tmp = m.group();
+			if( !names.containsKey(tmp) )
+				names.put(tmp, "%"+names.size());
+			m.appendReplacement(nsrc, Matcher.quoteReplacement(names.get(tmp)));
+		}
+		m.appendTail(nsrc);
+		
+		try {
+			MessageDigest md = MessageDigest.getInstance("SHA-256");
+			md.update(System.getProperty("java.class.version").getBytes(StandardCharsets.UTF_8));
+			md.update(RUNTIME_HASH.getBytes(StandardCharsets.UTF_8));
+			return toHexString(md.digest(nsrc.toString().getBytes(StandardCharsets.UTF_8)));
+		}
+		catch(NoSuchAlgorithmException ex) {
+			throw new RuntimeException(ex);
+		}
+	}
+	
+	private static String getRuntimeHash() {
+		//hash the class files instead of the build version, which is not
+		//available for development builds; if the class files cannot be read,
+		//we use a random per-JVM hash and thus never reuse classes across JVMs
+		try {
+			MessageDigest md = MessageDigest.getInstance("SHA-256");
+			for( Class<?> clazz : RUNTIME_CLASSES )
+				updateClassHash(md, clazz);
+			return toHexString(md.digest());
+		}
+		catch(Exception ex) {
+			LOG.warn("Failed to hash codegen runtime classes, disabling "
+				+ "reuse of cached classes across JVMs.", ex);
+			return UUID.randomUUID().toString();
+		}
+	}
+	
+	private static void updateClassHash(MessageDigest md, Class<?> clazz) 
+		throws IOException 
+	{
+		String fname = "/" + clazz.getName().replace('.', '/') + CLASS_SUFFIX;
+		InputStream is = clazz.getResourceAsStream(fname);
+		if( is == null )
+			throw new IOException("Class file not found: "+fname);
+		try {
+			md.update(IOUtils.toByteArray(is));
+		}
+		finally {
+			IOUtilFunctions.closeSilently(is);
+		}
+		//nested classes in deterministic order
+		Class<?>[] nested = clazz.getDeclaredClasses();
+		Arrays.sort(nested, Comparator.comparing(Class::getName));
+		for( Class<?> c : nested )
+			updateClassHash(md, c);
+	}
+	
+	private static String toHexString(byte[] hash) {
+		StringBuilder sb = new StringBuilder();
+		for( int i=0; i<16; i++ )
+			sb.append(String.format("%02x", hash[i]));
+		return sb.toString();
+	}
+	
+	/**
+	 * Obtains the fully qualified, key-based name of a cached class.
+	 * 
+	 * @param name fully qualified class name
+	 * @param key persistent cache key
+	 * @return fully qualified name of cached class
+	 */
+	public static String getClassName(String name, String key) {
+		int pos = name.lastIndexOf('.');
+		return (pos >= 0 ? name.substring(0, pos+1) : "") + CLASS_PREFIX + key;
+	}
+	
+	/**
+	 * Replaces the class name of the given generated source code.
+	 * 
+	 * @param src generated source code
+	 * @param name fully qualified old class name
+	 * @param newName fully qualified new class name
+	 * @return modified source code
+	 */
+	public static String renameClass(String src, String name, String newName) {
+		return src.replaceAll("\\b"+name.substring(name.lastIndexOf('.')+1)+"\\b",
+			newName.substring(newName.lastIndexOf('.')+1));
+	}
+	
+	/**
+	 * Reads the bytecode of a cached class, if it exists.
+	 * 
+	 * @param key persistent cache key
+	 * @return class bytes, or null if not cached
+	 */
+	public static byte[] get(String key) {
+		File f = new File(_dir, key + CLASS_SUFFIX);
+		if( !f.exists() )
+			return null;
+		try {
+			byte[] ret = Files.readAllBytes(f.toPath());
+			//maintain usage order for LRU eviction
+			f.setLastModified(System.currentTimeMillis());
+			return ret;
+		}
+		catch(IOException ex) {
+			LOG.warn("Failed to read cached class "+f.getPath()+".", ex);
+			return null;
+		}
+	}
+	
+	/**
+	 * Writes the bytecode of a compiled class to the cache, and evicts
+	 * least recently used entries if the maximum size is exceeded.
+	 * 
+	 * @param key persistent cache key
+	 * @param classBytes class bytes
+	 */
+	public static void put(String key, byte[] classBytes) {
+		if( classBytes == null || classBytes.length > _maxSize )
+			return;
+		try {
+			LocalFileUtils.createLocalFileIfNotExist(_dir);
+			//write to temporary file and rename (atomic for concurrent JVMs)
+			File ftmp = File.createTempFile(key, TMP_SUFFIX, new File(_dir));
+			Files.write(ftmp.toPath(), classBytes);
+			Files.move(ftmp.toPath(), new File(_dir, key + CLASS_SUFFIX).toPath(),
+				StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+			evict();
+		}
+		catch(IOException ex) {
+			LOG.warn("Failed to write cached class "+key+".", ex);
+		}
+	}
+	
+	/**
+	 * Removes a single cache entry, e.g., if the cached class is invalid.
+	 * 
+	 * @param key persistent cache key
+	 */
+	public static void remove(String key) {
+		new File(_dir, key + CLASS_SUFFIX).delete();
+	}
+	
+	/**
+	 * Removes all entries of the configured cache directory.
+	 */
+	public static synchronized void clear() {
+		for( File f : listEntries() )
+			f.delete();
+	}
+	
+	/**
+	 * Gets the current size of all cache entries in bytes.
+	 * 
+	 * @return cache size
+	 */
+	public static long getSize() {
+		long size = 0;
+		for( File f : listEntries() )
+			size += f.length();
+		return size;
+	}
+	
+	private static synchronized void evict() {
+		File[] entries = listEntries();
+		long size = 0;
+		for( File f : entries )
+			size += f.length();
+		if( size <= _maxSize )
+			return;
+		//remove least recently used entries until below max size
+		Arrays.sort(entries, Comparator.comparingLong(File::lastModified));
+		for( int i=0; i<entries.length && size > _maxSize; i++ ) {
+			size -= entries[i].length();
+			entries[i].delete();
+		}
+	}
+	
+	private static File[] listEntries() {
+		File[] ret = (_dir != null) ? new File(_dir)
+			.listFiles((d, fname) -> fname.endsWith(CLASS_SUFFIX)) : null;
+		return (ret != null) ? ret : new File[0];
+	}
+}
@@ -78,8 +78,11 @@ public class CodegenUtils
 		long t0 = DMLScript.STATISTICS ? System.nanoTime() : 0;
 		
 		//compile java source w/ specific compiler
+		//(or obtain it from the persistent class cache)
 		if( SpoofCompiler.JAVA_COMPILER == CompilerType.JANINO )
 			ret = compileClassJanino(name, src);
+		else if( CodegenClassCache.isEnabled() )
+			ret = compileClassJavacCached(name, src);
 		else
 			ret = compileClassJavac(name, src);
 		
@@ -264,6 +267,59 @@ public class CodegenUtils
 		}
 	}
 	
+	private static Class<?> compileClassJavacCached(String name, String src) 
+		throws DMLRuntimeException
+	{
+		//derive key-based class name, independent of the class name sequence
+		String key = CodegenClassCache.getKey(name, src);
+		String pname = CodegenClassCache.getClassName(name, key);
+		Class<?> ret = _cache.get(pname);
+		if( ret != null )
+			return ret;
+		
+		//probe persistent class cache and load class via working dir
+		byte[] classBytes = CodegenClassCache.get(key);
+		if( classBytes != null ) {
+			try {
+				writeClassFile(pname, classBytes);
+				ret = loadFromClassFile(pname, null);
+			}
+			catch(Throwable ex) {
+				LOG.warn("Failed to load cached class "+pname+", recompiling.", ex);
+				CodegenClassCache.remove(key);
+				ret = null;
+			}
+		}
+		
+		//compile and write class to persistent class cache
+		if( ret == null ) {
+			ret = compileClassJavac(pname, CodegenClassCache.renameClass(src, name, pname));
+			CodegenClassCache.put(key, getClassAsByteArray(pname));
+			if( DMLScript.STATISTICS )
+				Statistics.incrementCodegenClassCacheMisses();
+		}
+		else if( DMLScript.STATISTICS ) {
+			Statistics.incrementCodegenClassCacheHits();
+		}
+		
+		_cache.put(pname, ret);
+		return ret;
+	}
+	
+	private static void writeClassFile(String name, byte[] classBytes) 
+		throws DMLRuntimeException, IOException
+	{
+		//create working dir on demand
+		if( _workingDir == null )
+			createWorkingDir();
+		
+		//write class file (for class loading and transfer to remote workers)
+		File ftmp = new File(_workingDir+"/"+name.replace(".", "/")+".class");
+		if( !ftmp.getParentFile().exists() )
+			ftmp.getParentFile().mkdirs();
+		LocalFileUtils.writeByteArrayToLocal(ftmp.getPath(), classBytes);
+	}
+	
 	private static Class<?> loadFromClassFile(String name, byte[] classBytes) 
 		throws DMLRuntimeException 
 	{
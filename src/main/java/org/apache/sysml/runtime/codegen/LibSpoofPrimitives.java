@@ -25,6 +25,7 @@ import org.apache.commons.math3.util.FastMath;
 import org.apache.sysml.runtime.functionobjects.IntegerDivide;
 import org.apache.sysml.runtime.functionobjects.Modulus;
 import org.apache.sysml.runtime.matrix.data.LibMatrixMult;
+import org.apache.sysml.runtime.matrix.data.SparseRowVector;
 
 /**
  * This library contains all vector primitives that are used in 
@@ -198,7 +199,62 @@ public class LibSpoofPrimitives
 	
 	public static double[] vectMultWrite(double[] a, double[] b, int ai, int[] bix, int bi, int blen, int len) {
 		//invariant to the ordering of inputs
-		return vectMultWrite(b, a, bix, ai, bi, blen, len);
+		return vectMultWrite(b, a, bix, bi, ai, blen, len);
+	}
+	
+	public static double[] vectMultWrite(double[] a, double[] b, int[] aix, int[] bix, int ai, int bi, int alen, int blen, int len) {
+		double[] c = allocVector(len, true);
+		if( a == null || b == null ) return c;
+		//merge intersection of sorted column indexes
+		for( int i = ai, j = bi; i < ai+alen && j < bi+blen; ) {
+			if( aix[i] == bix[j] ) {
+				c[aix[i]] = a[i] * b[j];
+				i++; j++;
+			}
+			else if( aix[i] < bix[j] ) i++;
+			else j++;
+		}
+		return c;
+	}
+	
+	public static SparseRowVector vectMultWrite(int len, double[] a, double bval, int[] aix, int ai, int alen) {
+		SparseRowVector c = allocSparseVector(alen, len);
+		if( a == null || bval == 0 ) return c;
+		for( int j = ai; j < ai+alen; j++ )
+			c.append(aix[j], a[j] * bval);
+		return c;
+	}
+	
+	public static SparseRowVector vectMultWrite(int len, double bval, double[] a, int[] aix, int ai, int alen) {
+		return vectMultWrite(len, a, bval, aix, ai, alen);
+	}
+	
+	public static SparseRowVector vectMultWrite(int len, double[] a, double[] b, int[] aix, int ai, int bi, int alen) {
+		SparseRowVector c = allocSparseVector(alen, len);
+		if( a == null || b == null ) return c;
+		for( int j = ai; j < ai+alen; j++ )
+			c.append(aix[j], a[j] * b[bi+aix[j]]);
+		return c;
+	}
+	
+	public static SparseRowVector vectMultWrite(int len, double[] a, double[] b, int ai, int[] bix, int bi, int blen) {
+		//invariant to the ordering of inputs
+		return vectMultWrite(len, b, a, bix, bi, ai, blen);
+	}
+	
+	public static SparseRowVector vectMultWrite(int len, double[] a, double[] b, int[] aix, int[] bix, int ai, int bi, int alen, int blen) {
+		SparseRowVector c = allocSparseVector(Math.min(alen, blen), len);
+		if( a == null || b == null ) return c;
+		//merge intersection of sorted column indexes
+		for( int i = ai, j = bi; i < ai+alen && j < bi+blen; ) {
+			if( aix[i] == bix[j] ) {
+				c.append(aix[i], a[i] * b[j]);
+				i++; j++;
+			}
+			else if( aix[i] < bix[j] ) i++;
+			else j++;
+		}
+		return c;
 	}
 	
 	public static void vectWrite(double[] a, double[] c, int ci, int len) {
@@ -206,6 +262,12 @@ public class LibSpoofPrimitives
 		System.arraycopy(a, 0, c, ci, len);
 	}
 	
+	public static void vectWrite(double[] a, int[] aix, double[] c, int ci, int alen) {
+		if( a == null ) return;
+		for( int j = 0; j < alen; j++ )
+			c[ci+aix[j]] = a[j];
+	}
+	
 	public static void vectWrite(boolean[] a, boolean[] c, int[] aix) {
 		if( a == null ) return;
 		for( int i=0; i<aix.length; i++ )
@@ -407,6 +469,14 @@ public class LibSpoofPrimitives
 		return c;
 	}
 	
+	public static SparseRowVector vectDivWrite(int len, double[] a, double bval, int[] aix, int ai, int alen) {
+		//note: only used for bval != 0, otherwise 0/0=NaN renders the output dense
+		SparseRowVector c = allocSparseVector(alen, len);
+		for( int j = ai; j < ai+alen; j++ )
+			c.append(aix[j], a[j] / bval);
+		return c;
+	}
+	
 	//custom vector minus
 	
 	public static void vectMinusAdd(double[] a, double bval, double[] c, int ai, int ci, int len) {
@@ -487,6 +557,40 @@ public class LibSpoofPrimitives
 		return c;
 	}
 	
+	public static double[] vectMinusWrite(double[] a, double[] b, int[] aix, int[] bix, int ai, int bi, int alen, int blen, int len) {
+		double[] c = allocVector(len, true);
+		for( int j = ai; j < ai+alen; j++ )
+			c[aix[j]] = a[j];
+		for( int j = bi; j < bi+blen; j++ )
+			c[bix[j]] -= b[j];
+		return c;
+	}
+	
+	public static SparseRowVector vectMinusWrite(int len, double[] a, double[] b, int[] aix, int[] bix, int ai, int bi, int alen, int blen) {
+		SparseRowVector c = allocSparseVector(alen+blen, len);
+		//merge union of sorted column indexes
+		int i = ai, j = bi;
+		while( i < ai+alen && j < bi+blen ) {
+			if( aix[i] == bix[j] ) {
+				c.append(aix[i], a[i] - b[j]);
+				i++; j++;
+			}
+			else if( aix[i] < bix[j] ) {
+				c.append(aix[i], a[i]);
+				i++;
+			}
+			else {
+				c.append(bix[j], -b[j]);
+				j++;
+			}
+		}
+		for( ; i < ai+alen; i++ )
+			c.append(aix[i], a[i]);
+		for( ; j < bi+blen; j++ )
+			c.append(bix[j], -b[j]);
+		return c;
+	}
+	
 	//custom vector plus
 	
 	public static void vectPlusAdd(double[] a, double bval, double[] c, int ai, int ci, int len) {
@@ -550,6 +654,40 @@ public class LibSpoofPrimitives
 		return vectPlusWrite(b, a, bix, bi, ai, blen, len);
 	}
 	
+	public static double[] vectPlusWrite(double[] a, double[] b, int[] aix, int[] bix, int ai, int bi, int alen, int blen, int len) {
+		double[] c = allocVector(len, true);
+		for( int j = ai; j < ai+alen; j++ )
+			c[aix[j]] = a[j];
+		for( int j = bi; j < bi+blen; j++ )
+			c[bix[j]] += b[j];
+		return c;
+	}
+	
+	public static SparseRowVector vectPlusWrite(int len, double[] a, double[] b, int[] aix, int[] bix, int ai, int bi, int alen, int blen) {
+		SparseRowVector c = allocSparseVector(alen+blen, len);
+		//merge union of sorted column indexes
+		int i = ai, j = bi;
+		while( i < ai+alen && j < bi+blen ) {
+			if( aix[i] == bix[j] ) {
+				c.append(aix[i], a[i] + b[j]);
+				i++; j++;
+			}
+			else if( aix[i] < bix[j] ) {
+				c.append(aix[i], a[i]);
+				i++;
+			}
+			else {
+				c.append(bix[j], b[j]);
+				j++;
+			}
+		}
+		for( ; i < ai+alen; i++ )
+			c.append(aix[i], a[i]);
+		for( ; j < bi+blen; j++ )
+			c.append(bix[j], b[j]);
+		return c;
+	}
+	
 	//custom vector pow
 	
 	public static void vectPowAdd(double[] a, double bval, double[] c, int ai, int ci, int len) {
@@ -989,6 +1127,13 @@ public class LibSpoofPrimitives
 		return c;
 	}
 	
+	public static SparseRowVector vectAbsWrite(int len, double[] a, int[] aix, int ai, int alen) {
+		SparseRowVector c = allocSparseVector(alen, len);
+		for( int j = ai; j < ai+alen; j++ )
+			c.append(aix[j], Math.abs(a[j]));
+		return c;
+	}
+	
 	//custom round
 	
 	public static void vectRoundAdd(double[] a, double[] c, int ai, int ci, int len) {
@@ -1015,6 +1160,13 @@ public class LibSpoofPrimitives
 		return c;
 	}
 	
+	public static SparseRowVector vectRoundWrite(int len, double[] a, int[] aix, int ai, int alen) {
+		SparseRowVector c = allocSparseVector(alen, len);
+		for( int j = ai; j < ai+alen; j++ )
+			c.append(aix[j], Math.round(a[j]));
+		return c;
+	}
+	
 	//custom ceil
 	
 	public static void vectCeilAdd(double[] a, double[] c, int ai, int ci, int len) {
@@ -1041,6 +1193,13 @@ public class LibSpoofPrimitives
 		return c;
 	}
 	
+	public static SparseRowVector vectCeilWrite(int len, double[] a, int[] aix, int ai, int alen) {
+		SparseRowVector c = allocSparseVector(alen, len);
+		for( int j = ai; j < ai+alen; j++ )
+			c.append(aix[j], FastMath.ceil(a[j]));
+		return c;
+	}
+	
 	//custom floor
 	
 	public static void vectFloorAdd(double[] a, double[] c, int ai, int ci, int len) {
@@ -1067,6 +1226,13 @@ public class LibSpoofPrimitives
 		return c;
 	}
 	
+	public static SparseRowVector vectFloorWrite(int len, double[] a, int[] aix, int ai, int alen) {
+		SparseRowVector c = allocSparseVector(alen, len);
+		for( int j = ai; j < ai+alen; j++ )
+			c.append(aix[j], FastMath.floor(a[j]));
+		return c;
+	}
+	
 	//custom sin
 	
 	public static void vectSinAdd(double[] a, double[] c, int ai, int ci, int len) {
@@ -1093,6 +1259,13 @@ public class LibSpoofPrimitives
 		return c;
 	}
 	
+	public static SparseRowVector vectSinWrite(int len, double[] a, int[] aix, int ai, int alen) {
+		SparseRowVector c = allocSparseVector(alen, len);
+		for( int j = ai; j < ai+alen; j++ )
+			c.append(aix[j], FastMath.sin(a[j]));
+		return c;
+	}
+	
 	//custom cos
 	
 	public static void vectCosAdd(double[] a, double[] c, int ai, int ci, int len) {
@@ -1144,6 +1317,13 @@ public class LibSpoofPrimitives
 			c[aix[j]] = FastMath.tan(a[j]);
 		return c;
 	}
+	
+	public static SparseRowVector vectTanWrite(int len, double[] a, int[] aix, int ai, int alen) {
+		SparseRowVector c = allocSparseVector(alen, len);
+		for( int j = ai; j < ai+alen; j++ )
+			c.append(aix[j], FastMath.tan(a[j]));
+		return c;
+	}
 
 	//custom asin
 	
@@ -1171,6 +1351,13 @@ public class LibSpoofPrimitives
 		return c;
 	}
 	
+	public static SparseRowVector vectAsinWrite(int len, double[] a, int[] aix, int ai, int alen) {
+		SparseRowVector c = allocSparseVector(alen, len);
+		for( int j = ai; j < ai+alen; j++ )
+			c.append(aix[j], FastMath.asin(a[j]));
+		return c;
+	}
+	
 	//custom acos
 	
 	public static void vectAcosAdd(double[] a, double[] c, int ai, int ci, int len) {
@@ -1222,6 +1409,13 @@ public class LibSpoofPrimitives
 			c[aix[j]] = Math.atan(a[j]);
 		return c;
 	}
+	
+	public static SparseRowVector vectAtanWrite(int len, double[] a, int[] aix, int ai, int alen) {
+		SparseRowVector c = allocSparseVector(alen, len);
+		for( int j = ai; j < ai+alen; j++ )
+			c.append(aix[j], Math.atan(a[j]));
+		return c;
+	}
 
 	
 	//custom sinh
@@ -1250,6 +1444,13 @@ public class LibSpoofPrimitives
 		return c;
 	}
 	
+	public static SparseRowVector vectSinhWrite(int len, double[] a, int[] aix, int ai, int alen) {
+		SparseRowVector c = allocSparseVector(alen, len);
+		for( int j = ai; j < ai+alen; j++ )
+			c.append(aix[j], FastMath.sinh(a[j]));
+		return c;
+	}
+	
 	//custom cosh
 	
 	public static void vectCoshAdd(double[] a, double[] c, int ai, int ci, int len) {
@@ -1302,6 +1503,13 @@ public class LibSpoofPrimitives
 		return c;
 	}
 	
+	public static SparseRowVector vectTanhWrite(int len, double[] a, int[] aix, int ai, int alen) {
+		SparseRowVector c = allocSparseVector(alen, len);
+		for( int j = ai; j < ai+alen; j++ )
+			c.append(aix[j], FastMath.tanh(a[j]));
+		return c;
+	}
+	
 	//custom sign
 	
 	public static void vectSignAdd(double[] a, double[] c, int ai, int ci, int len) {
@@ -1328,6 +1536,13 @@ public class LibSpoofPrimitives
 		return c;
 	}
 	
+	public static SparseRowVector vectSignWrite(int len, double[] a, int[] aix, int ai, int alen) {
+		SparseRowVector c = allocSparseVector(alen, len);
+		for( int j = ai; j < ai+alen; j++ )
+			c.append(aix[j], FastMath.signum(a[j]));
+		return c;
+	}
+	
 	//custom pow2
 	
 	public static void vectPow2Add(double[] a, double[] c, int ai, int ci, int len) {
@@ -1354,6 +1569,13 @@ public class LibSpoofPrimitives
 		return c;
 	}
 	
+	public static SparseRowVector vectPow2Write(int len, double[] a, int[] aix, int ai, int alen) {
+		SparseRowVector c = allocSparseVector(alen, len);
+		for( int j = ai; j < ai+alen; j++ )
+			c.append(aix[j], a[j] * a[j]);
+		return c;
+	}
+	
 	//custom mult2
 	
 	public static void vectMult2Add(double[] a, double[] c, int ai, int ci, int len) {
@@ -1380,6 +1602,13 @@ public class LibSpoofPrimitives
 		return c;
 	}
 	
+	public static SparseRowVector vectMult2Write(int len, double[] a, int[] aix, int ai, int alen) {
+		SparseRowVector c = allocSparseVector(alen, len);
+		for( int j = ai; j < ai+alen; j++ )
+			c.append(aix[j], a[j] + a[j]);
+		return c;
+	}
+	
 	//custom sqrt
 	
 	public static void vectSqrtAdd(double[] a, double[] c, int ai, int ci, int len) {
@@ -1406,6 +1635,13 @@ public class LibSpoofPrimitives
 		return c;
 	}
 	
+	public static SparseRowVector vectSqrtWrite(int len, double[] a, int[] aix, int ai, int alen) {
+		SparseRowVector c = allocSparseVector(alen, len);
+		for( int j = ai; j < ai+alen; j++ )
+			c.append(aix[j], Math.sqrt(a[j]));
+		return c;
+	}
+	
 	//custom vector equal
 	
 	public static void vectEqualAdd(double[] a, double bval, double[] c, int ai, int ci, int len) {
@@ -1865,14 +2101,32 @@ public class LibSpoofPrimitives
 		return vect;
 	}
 	
+	protected static SparseRowVector allocSparseVector(int estnnz, int len) {
+		VectorBuffer buff = memPool.get();
+		
+		//find next sparse vector in ring buffer or
+		//allocate new vector if required
+		SparseRowVector vect = buff.nextSparse();
+		if( vect == null )
+			return new SparseRowVector(estnnz, len);
+		
+		//reset vector (w/o shrinking its capacity)
+		vect.reset(estnnz, len);
+		return vect;
+	}
+	
 	/**
 	 * Simple ring buffer of allocated vectors, where
-	 * vectors of different sizes are interspersed.
+	 * vectors of different sizes are interspersed. Sparse row
+	 * intermediates use a separate ring of the same size, whose
+	 * vectors are lazily allocated and grow on demand.
 	 */
 	private static class VectorBuffer {
 		private static final int MAX_SIZE = 512*1024; //4MB
 		private final double[][] _data;
+		private final SparseRowVector[] _sdata;
 		private int _pos;
+		private int _spos;
 		private int _len1;
 		private int _len2;
 		
@@ -1893,7 +2147,9 @@ public class LibSpoofPrimitives
 					_data[i] = new double[len1];
 				}
 			}
+			_sdata = new SparseRowVector[num];
 			_pos = -1;
+			_spos = -1;
 			_len1 = len1;
 			_len2 = len2;
 		}
@@ -1905,6 +2161,14 @@ public class LibSpoofPrimitives
 			} while( _data[_pos].length!=len );
 			return _data[_pos];
 		}
+		public SparseRowVector nextSparse() {
+			if( _sdata.length == 0 )
+				return null;
+			_spos = (_spos+1>=_sdata.length) ? 0 : _spos+1;
+			if( _sdata[_spos] == null )
+				_sdata[_spos] = new SparseRowVector();
+			return _sdata[_spos];
+		}
 		@SuppressWarnings("unused")
 		public boolean isReusable(int num, int len1, int len2) {
 			int lnum = (len2>0 && len1!=len2) ? 2*num : num;
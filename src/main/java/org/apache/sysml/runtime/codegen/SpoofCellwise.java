@@ -49,6 +49,7 @@ import org.apache.sysml.runtime.matrix.data.IJV;
 import org.apache.sysml.runtime.matrix.data.LibMatrixMult;
 import org.apache.sysml.runtime.matrix.data.MatrixBlock;
 import org.apache.sysml.runtime.matrix.data.SparseBlock;
+import org.apache.sysml.runtime.matrix.operators.ScalarOperator;
 import org.apache.sysml.runtime.util.UtilFunctions;
 
 public abstract class SpoofCellwise extends SpoofOperator implements Serializable
@@ -219,6 +220,14 @@ public abstract class SpoofCellwise extends SpoofOperator implements Serializabl
 			k = 1; //serial execution
 		}
 		
+		//special case: compressed no-agg w/o side inputs, where we evaluate
+		//the operator once per distinct value and keep the output compressed
+		if( _type == CellType.NO_AGG && a instanceof CompressedMatrixBlock && b.length == 0
+			&& ((CompressedMatrixBlock)a).isCompressed() && !((CompressedMatrixBlock)a).hasUncompressedColGroup() ) {
+			return (MatrixBlock) a.scalarOperations(
+				new CellwiseScalarOperator(scalars, m, n, sparseSafe), new CompressedMatrixBlock());
+		}
+		
 		//result allocation and preparations
 		boolean sparseOut = _type == CellType.NO_AGG
 			&& sparseSafe && a.isInSparseFormat();
@@ -1040,14 +1049,37 @@ public abstract class SpoofCellwise extends SpoofOperator implements Serializabl
 		KahanObject kbuff = new KahanObject(0, 0);
 		double[] corr = new double[n];
 		
-		Iterator<IJV> iter = a.getIterator(rl, ru, !sparseSafe);
-		while( iter.hasNext() ) {
-			IJV cell = iter.next();
-			double val = genexec(cell.getV(), b, scalars, m, n, cell.getI(), cell.getJ());
-			kbuff.set(c[cell.getJ()], corr[cell.getJ()]);
-			kplus.execute2(kbuff, val);
-			c[cell.getJ()] = kbuff._sum;
-			corr[cell.getJ()] = kbuff._correction;
+		//special case: computation over value-tuples only
+		if( sparseSafe && b.length==0 && !a.hasUncompressedColGroup() ) {
+			//note: all remaining groups are guaranteed ColGroupValue
+			boolean entireGrp = (rl==0 && ru==a.getNumRows());
+			for( ColGroup grp : a.getColGroups() ) {
+				ColGroupValue grpv = (ColGroupValue) grp;
+				int[] colIx = grpv.getColIndices();
+				double[] vals = grpv.getValues();
+				int[] counts = entireGrp ? 
+					grpv.getCounts() : grpv.getCounts(rl, ru);
+				for(int k=0, valOff=0; k<grpv.getNumValues(); k++, valOff+=colIx.length)
+					for(int j=0; j<colIx.length; j++) {
+						double out = genexec(vals[valOff+j], b, scalars, m, n, -1, -1);
+						kbuff.set(c[colIx[j]], corr[colIx[j]]);
+						kplus.execute3(kbuff, out, counts[k]);
+						c[colIx[j]] = kbuff._sum;
+						corr[colIx[j]] = kbuff._correction;
+					}
+			}
+		}
+		//general case of arbitrary side inputs 
+		else {
+			Iterator<IJV> iter = a.getIterator(rl, ru, !sparseSafe);
+			while( iter.hasNext() ) {
+				IJV cell = iter.next();
+				double val = genexec(cell.getV(), b, scalars, m, n, cell.getI(), cell.getJ());
+				kbuff.set(c[cell.getJ()], corr[cell.getJ()]);
+				kplus.execute2(kbuff, val);
+				c[cell.getJ()] = kbuff._sum;
+				corr[cell.getJ()] = kbuff._correction;
+			}
 		}
 		return -1;
 	}
@@ -1056,18 +1088,45 @@ public abstract class SpoofCellwise extends SpoofOperator implements Serializabl
 			double[] c, int m, int n, boolean sparseSafe, int rl, int ru)
 		throws DMLRuntimeException
 	{
-		Arrays.fill(c, rl, ru, (_aggOp==AggOp.MIN) ? Double.MAX_VALUE : -Double.MAX_VALUE);
+		Arrays.fill(c, 0, n, (_aggOp==AggOp.MIN) ? Double.MAX_VALUE : -Double.MAX_VALUE);
 		ValueFunction vfun = getAggFunction();
-		long lnnz = 0;
-		Iterator<IJV> iter = a.getIterator(rl, ru, !sparseSafe);
-		while( iter.hasNext() ) {
-			IJV cell = iter.next();
-			double val = genexec(cell.getV(), b, scalars, m, n, cell.getI(), cell.getJ());
-			c[cell.getI()] = vfun.execute(c[cell.getI()], val);
+		
+		//special case: computation over value-tuples only
+		if( b.length==0 && !a.hasUncompressedColGroup() ) {
+			//note: all remaining groups are guaranteed ColGroupValue
+			boolean entireGrp = (rl==0 && ru==a.getNumRows());
+			for( ColGroup grp : a.getColGroups() ) {
+				ColGroupValue grpv = (ColGroupValue) grp;
+				int[] colIx = grpv.getColIndices();
+				double[] vals = grpv.getValues();
+				int[] counts = entireGrp ? 
+					grpv.getCounts() : grpv.getCounts(rl, ru);
+				long cnt = 0;
+				for(int k=0, valOff=0; k<grpv.getNumValues(); k++, valOff+=colIx.length) {
+					if( counts[k] == 0 ) continue;
+					for(int j=0; j<colIx.length; j++)
+						c[colIx[j]] = vfun.execute(c[colIx[j]],
+							genexec(vals[valOff+j], b, scalars, m, n, -1, -1));
+					cnt += counts[k];
+				}
+				//handle zero rows not covered by any value-tuple
+				if( cnt < ru-rl ) {
+					double val0 = genexec(0, b, scalars, m, n, -1, -1);
+					for(int j=0; j<colIx.length; j++)
+						c[colIx[j]] = vfun.execute(c[colIx[j]], val0);
+				}
+			}
 		}
-		for( int i=rl; i<ru; i++ )
-			lnnz += (c[i]!=0) ? 1 : 0;
-		return lnnz;
+		//general case of arbitrary side inputs 
+		else {
+			Iterator<IJV> iter = a.getIterator(rl, ru, !sparseSafe);
+			while( iter.hasNext() ) {
+				IJV cell = iter.next();
+				double val = genexec(cell.getV(), b, scalars, m, n, cell.getI(), cell.getJ());
+				c[cell.getJ()] = vfun.execute(c[cell.getJ()], val);
+			}
+		}
+		return -1;
 	}
 	
 	private double executeCompressedAggSum(CompressedMatrixBlock a, SideInput[] b, double[] scalars,
@@ -1076,22 +1135,23 @@ public abstract class SpoofCellwise extends SpoofOperator implements Serializabl
 	{
 		KahanFunction kplus = (KahanFunction) getAggFunction();
 		KahanObject kbuff = new KahanObject(0, 0);
-		KahanObject kbuff2 = new KahanObject(0, 0);
 		
 		//special case: computation over value-tuples only
+		//(once per distinct value and column, weighted by the value counts)
 		if( sparseSafe && b.length==0 && !a.hasUncompressedColGroup() ) {
 			//note: all remaining groups are guaranteed ColGroupValue
 			boolean entireGrp = (rl==0 && ru==a.getNumRows());
 			for( ColGroup grp : a.getColGroups() ) {
 				ColGroupValue grpv = (ColGroupValue) grp;
+				int numCols = grpv.getNumCols();
+				double[] vals = grpv.getValues();
 				int[] counts = entireGrp ? 
 					grpv.getCounts() : grpv.getCounts(rl, ru);
-				for(int k=0; k<grpv.getNumValues(); k++) {
-					kbuff2.set(0, 0);
-					double in = grpv.sumValues(k, kplus, kbuff2);
-					double out = genexec(in, b, scalars, m, n, -1, -1);
-					kplus.execute3(kbuff, out, counts[k]);
-				}
+				for(int k=0, valOff=0; k<grpv.getNumValues(); k++, valOff+=numCols)
+					for(int j=0; j<numCols; j++) {
+						double out = genexec(vals[valOff+j], b, scalars, m, n, -1, -1);
+						kplus.execute3(kbuff, out, counts[k]);
+					}
 			}
 		}
 		//general case of arbitrary side inputs 
@@ -1115,11 +1175,36 @@ public abstract class SpoofCellwise extends SpoofOperator implements Serializabl
 		double ret = (_aggOp==AggOp.MIN) ? Double.MAX_VALUE : -Double.MAX_VALUE;
 		ValueFunction vfun = getAggFunction();
 		
-		Iterator<IJV> iter = a.getIterator(rl, ru, !sparseSafe);
-		while( iter.hasNext() ) {
-			IJV cell = iter.next();
-			double val = genexec(cell.getV(), b, scalars, m, n, cell.getI(), cell.getJ());
-			ret = vfun.execute(ret, val);
+		//special case: computation over value-tuples only
+		if( b.length==0 && !a.hasUncompressedColGroup() ) {
+			//note: all remaining groups are guaranteed ColGroupValue
+			boolean entireGrp = (rl==0 && ru==a.getNumRows());
+			for( ColGroup grp : a.getColGroups() ) {
+				ColGroupValue grpv = (ColGroupValue) grp;
+				int numCols = grpv.getNumCols();
+				double[] vals = grpv.getValues();
+				int[] counts = entireGrp ? 
+					grpv.getCounts() : grpv.getCounts(rl, ru);
+				long cnt = 0;
+				for(int k=0, valOff=0; k<grpv.getNumValues(); k++, valOff+=numCols) {
+					if( counts[k] == 0 ) continue;
+					for(int j=0; j<numCols; j++)
+						ret = vfun.execute(ret, genexec(vals[valOff+j], b, scalars, m, n, -1, -1));
+					cnt += counts[k];
+				}
+				//handle zero rows not covered by any value-tuple
+				if( !sparseSafe && cnt < ru-rl )
+					ret = vfun.execute(ret, genexec(0, b, scalars, m, n, -1, -1));
+			}
+		}
+		//general case of arbitrary side inputs 
+		else {
+			Iterator<IJV> iter = a.getIterator(rl, ru, !sparseSafe);
+			while( iter.hasNext() ) {
+				IJV cell = iter.next();
+				double val = genexec(cell.getV(), b, scalars, m, n, cell.getI(), cell.getJ());
+				ret = vfun.execute(ret, val);
+			}
 		}
 		return ret;
 	}
@@ -1127,6 +1212,38 @@ public abstract class SpoofCellwise extends SpoofOperator implements Serializabl
 	protected abstract double genexec( double a, SideInput[] b,
 			double[] scalars, int m, int n, int rowIndex, int colIndex);
 	
+	/**
+	 * Scalar operator wrapper of the generated cellwise function, which
+	 * allows to apply fused operators without side inputs directly to 
+	 * the value dictionaries of compressed column groups.
+	 */
+	private class CellwiseScalarOperator extends ScalarOperator
+	{
+		private static final long serialVersionUID = -3405621412519406397L;
+		
+		private final SideInput[] _b = new SideInput[0];
+		private final double[] _scalars;
+		private final int _rlen;
+		private final int _clen;
+		
+		protected CellwiseScalarOperator(double[] scalars, int rlen, int clen, boolean sparseSafe) {
+			super(null, 0, sparseSafe);
+			_scalars = scalars;
+			_rlen = rlen;
+			_clen = clen;
+		}
+		
+		@Override
+		public ScalarOperator setConstant(double cst) {
+			return this;
+		}
+		
+		@Override
+		public double executeScalar(double in) {
+			return genexec(in, _b, _scalars, _rlen, _clen, -1, -1);
+		}
+	}
+	
 	private class ParAggTask implements Callable<Double> 
 	{
 		private final MatrixBlock _a;
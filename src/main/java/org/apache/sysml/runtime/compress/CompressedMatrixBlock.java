@@ -94,6 +94,7 @@ import org.apache.sysml.runtime.matrix.operators.ScalarOperator;
 import org.apache.sysml.runtime.matrix.operators.UnaryOperator;
 import org.apache.sysml.runtime.util.IndexRange;
 import org.apache.sysml.runtime.util.SortUtils;
+import org.apache.sysml.utils.Statistics;
 
 /**
  * Experimental version of MatrixBlock that allows a compressed internal
@@ -110,6 +111,7 @@ public class CompressedMatrixBlock extends MatrixBlock implements Externalizable
 	public static final boolean INVESTIGATE_ESTIMATES = false;
 	public static boolean ALLOW_DDC_ENCODING = true;
 	public static final boolean ALLOW_SHARED_DDC1_DICTIONARY = true;
+	public static final double COCODE_BUDGET_RATIO = 0.5; //of remaining budget
 	private static final boolean LDEBUG = true; //local debug flag
 	private static final Level LDEBUG_LEVEL = Level.INFO; //DEBUG/TRACE for details
 	
@@ -231,6 +233,28 @@ public class CompressedMatrixBlock extends MatrixBlock implements Externalizable
 	 */
 	public MatrixBlock compress(int k) 
 		throws DMLRuntimeException 
+	{
+		//default w/o time budget
+		return compress(k, -1);
+	}
+	
+	/**
+	 * Compress block with the given time budget. The budget is checked after
+	 * column classification (phase 1) and co-coding (phase 2), which aborts 
+	 * the compression if exceeded. The greedy co-coding itself stops early 
+	 * with the current groups once its share (COCODE_BUDGET_RATIO) of the
+	 * remaining budget is exhausted, which reserves the rest for the actual
+	 * compression. However, phase 3 is not budgeted, i.e., once started, it
+	 * runs to completion even if it exceeds the reserved time. The times of
+	 * all phases are available via the compression statistics.
+	 * 
+	 * @param k  number of threads
+	 * @param timeBudget time budget in ms, unlimited if &lt;=0
+	 * @return compressed matrix block or original block if incompressible
+	 * @throws DMLRuntimeException if DMLRuntimeException occurs
+	 */
+	public MatrixBlock compress(int k, double timeBudget) 
+		throws DMLRuntimeException 
 	{
 		//check for redundant compression
 		if( isCompressed() ){
@@ -239,6 +263,7 @@ public class CompressedMatrixBlock extends MatrixBlock implements Externalizable
 
 		Timing time = new Timing(true);
 		_stats = new CompressionStatistics();
+		_stats.timeBudget = timeBudget;
 		
 		// SAMPLE-BASED DECISIONS:
 		// Decisions such as testing if a column is amenable to bitmap
@@ -300,27 +325,30 @@ public class CompressedMatrixBlock extends MatrixBlock implements Externalizable
 			}
 		}
 		
+		_stats.timePhase1 = time.stop();
 		if( LOG.isDebugEnabled() ) {
-			_stats.timePhase1 = time.stop();
 			LOG.debug("Compression statistics:");
 			LOG.debug("--compression phase 1: "+_stats.timePhase1);
 		}
 		
-		if( colsC.isEmpty() ) {
-			if( LOG.isDebugEnabled() )
-				LOG.debug("Abort block compression because all columns are incompressible.");
-			return new MatrixBlock().copyShallow(this);
-		}
+		if( colsC.isEmpty() )
+			return abortCompression("all columns are incompressible.");
+		if( _stats.isBudgetExceeded() )
+			return abortCompression("the time budget was exceeded in phase 1.");
 		
 		// PHASE 2: Grouping columns
-		// Divide the bitmap columns into column groups.
+		// Divide the bitmap columns into column groups (w/ a share of the 
+		// remaining budget, which is positive because it was not exceeded).
 		List<int[]> bitmapColGrps = PlanningCoCoder.findCocodesByPartitioning(
-				bitmapSizeEstimator, colsC, sizeInfos, numRows, k);
+				bitmapSizeEstimator, colsC, sizeInfos, numRows, k, (timeBudget > 0) ? 
+				COCODE_BUDGET_RATIO * (timeBudget - _stats.getTotalTime()) : -1);
 
-		if( LOG.isDebugEnabled() ) {
-			_stats.timePhase2 = time.stop();
+		_stats.timePhase2 = time.stop();
+		if( LOG.isDebugEnabled() )
 			LOG.debug("--compression phase 2: "+_stats.timePhase2);
-		}
+		
+		if( _stats.isBudgetExceeded() )
+			return abortCompression("the time budget was exceeded in phase 2.");
 			
 		if( INVESTIGATE_ESTIMATES ) {
 			double est = 0;
@@ -345,10 +373,9 @@ public class CompressedMatrixBlock extends MatrixBlock implements Externalizable
 			}
 		}
 		
-		if( LOG.isDebugEnabled() ) {
-			_stats.timePhase3 = time.stop();
+		_stats.timePhase3 = time.stop();
+		if( LOG.isDebugEnabled() )
 			LOG.debug("--compression phase 3: "+_stats.timePhase3);
-		}
 		
 		// PHASE 4: Best-effort dictionary sharing for DDC1 single-col groups
 		double[] dict = createSharedDDC1Dictionary(_colGroups);
@@ -357,10 +384,9 @@ public class CompressedMatrixBlock extends MatrixBlock implements Externalizable
 			_sharedDDC1Dict = true;
 		}
 		
-		if( LOG.isDebugEnabled() ) {
-			_stats.timePhase4 = time.stop();
+		_stats.timePhase4 = time.stop();
+		if( LOG.isDebugEnabled() )
 			LOG.debug("--compression phase 4: "+_stats.timePhase4);
-		}
 		
 		// Phase 5: Cleanup
 		// The remaining columns are stored uncompressed as one big column group
@@ -373,18 +399,16 @@ public class CompressedMatrixBlock extends MatrixBlock implements Externalizable
 		_stats.size = estimateCompressedSizeInMemory();
 		_stats.ratio= estimateSizeInMemory() / _stats.size;
 		
-		if( _stats.ratio < 1 ) {
-			if( LOG.isDebugEnabled() )
-				LOG.debug("Abort block compression because compression ratio is less than 1.");
-			return new MatrixBlock().copyShallow(this);
-		}
+		if( _stats.ratio < 1 )
+			return abortCompression("compression ratio is less than 1.");
 		
 		//final cleanup (discard uncompressed block)
 		rawblock.cleanupBlock(true, true);
 		this.cleanupBlock(true, true);
 		
+		_stats.timePhase5 = time.stop();
+		Statistics.maintainCompressionStats(_stats.getPhaseTimes(), false);
 		if( LOG.isDebugEnabled() ) {
-			_stats.timePhase5 = time.stop();
 			int[] counts = getColGroupCounts(_colGroups);
 			LOG.debug("--compression phase 5: "+_stats.timePhase5);
 			LOG.debug("--num col groups: "+_colGroups.size());
@@ -402,6 +426,14 @@ public class CompressedMatrixBlock extends MatrixBlock implements Externalizable
 	public CompressionStatistics getCompressionStatistics() {
 		return _stats;
 	}
+	
+	private MatrixBlock abortCompression(String reason) {
+		if( LOG.isDebugEnabled() )
+			LOG.debug("Abort block compression because "+reason);
+		_stats.aborted = true;
+		Statistics.maintainCompressionStats(_stats.getPhaseTimes(), true);
+		return new MatrixBlock().copyShallow(this);
+	}
 
 	/**
 	 * Get array of counts regarding col group types. The position
@@ -743,6 +775,8 @@ public class CompressedMatrixBlock extends MatrixBlock implements Externalizable
 		public double estSize = -1;
 		public double size = -1;
 		public double ratio = -1;
+		public double timeBudget = -1;
+		public boolean aborted = false;
 		
 		public CompressionStatistics() {
 			//do nothing
@@ -755,6 +789,21 @@ public class CompressedMatrixBlock extends MatrixBlock implements Externalizable
 			timePhase4 = t4;
 			timePhase5 = t5;
 		}
+		
+		public double[] getPhaseTimes() {
+			return new double[]{timePhase1, timePhase2, timePhase3, timePhase4, timePhase5};
+		}
+		
+		public double getTotalTime() {
+			double ret = 0;
+			for( double t : getPhaseTimes() )
+				ret += Math.max(t, 0);
+			return ret;
+		}
+		
+		public boolean isBudgetExceeded() {
+			return timeBudget > 0 && getTotalTime() >= timeBudget;
+		}
 	} 
 
 	@Override
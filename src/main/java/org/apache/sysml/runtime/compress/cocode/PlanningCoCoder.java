@@ -49,6 +49,32 @@ public class PlanningCoCoder
 	public static List<int[]> findCocodesByPartitioning(CompressedSizeEstimator sizeEstimator, List<Integer> cols, 
 			CompressedSizeInfo[] colInfos, int numRows, int k) 
 		throws DMLRuntimeException 
+	{
+		return findCocodesByPartitioning(sizeEstimator, cols, colInfos, numRows, k, -1);
+	}
+	
+	/**
+	 * Find column groups for co-coding by partitioning the given columns into 
+	 * bins and greedy merging within each bin. With k&gt;1, bins are processed 
+	 * in parallel if there are at least k bins, otherwise the candidate merges
+	 * of each greedy iteration are estimated in parallel. Once the given time
+	 * budget is exceeded, the greedy merging stops with the current groups,
+	 * which are valid but potentially suboptimal co-coding decisions. Hence,
+	 * a timeout does not abort the compression; callers reserve the rest of
+	 * their budget for the subsequent compression.
+	 * 
+	 * @param sizeEstimator compressed size estimator
+	 * @param cols list of compressible columns
+	 * @param colInfos size infos of all columns
+	 * @param numRows number of rows
+	 * @param k degree of parallelism
+	 * @param timeBudget time budget in ms, unlimited if &lt;=0
+	 * @return list of column groups
+	 * @throws DMLRuntimeException if DMLRuntimeException occurs
+	 */
+	public static List<int[]> findCocodesByPartitioning(CompressedSizeEstimator sizeEstimator, List<Integer> cols, 
+			CompressedSizeInfo[] colInfos, int numRows, int k, double timeBudget) 
+		throws DMLRuntimeException 
 	{
 		// filtering out non-groupable columns as singleton groups
 		// weight is the ratio of its cardinality to the number of rows 
@@ -66,14 +92,27 @@ public class PlanningCoCoder
 		// use column group partitioner to create partitions of columns
 		List<List<Integer>> bins = createColumnGroupPartitioner(COLUMN_PARTITIONER)
 				.partitionColumns(groupCols, groupColsInfo);
-
+		
 		// brute force grouping within each partition
-		return (k > 1) ?
-				getCocodingGroupsBruteForce(bins, groupColsInfo, sizeEstimator, numRows, k) :
-				getCocodingGroupsBruteForce(bins, groupColsInfo, sizeEstimator, numRows);
+		long deadline = (timeBudget > 0) ? 
+			System.nanoTime() + (long)(timeBudget * 1000000) : Long.MAX_VALUE;
+		if( k > 1 && bins.size() >= k )
+			return getCocodingGroupsBruteForce(bins, groupColsInfo, sizeEstimator, numRows, k, deadline);
+		
+		// sequential processing of bins, but with parallel candidate 
+		// estimation for few but large bins
+		ExecutorService pool = (k > 1) ? Executors.newFixedThreadPool( k ) : null;
+		try {
+			return getCocodingGroupsBruteForce(bins, groupColsInfo, sizeEstimator, numRows, deadline, pool);
+		}
+		finally {
+			if( pool != null )
+				pool.shutdown();
+		}
 	}
 
-	private static List<int[]> getCocodingGroupsBruteForce(List<List<Integer>> bins, HashMap<Integer, GroupableColInfo> groupColsInfo, CompressedSizeEstimator estim, int rlen) 
+	private static List<int[]> getCocodingGroupsBruteForce(List<List<Integer>> bins, HashMap<Integer, GroupableColInfo> groupColsInfo, CompressedSizeEstimator estim, int rlen, long deadline, ExecutorService pool) 
+		throws DMLRuntimeException
 	{
 		List<int[]> retGroups = new ArrayList<>();
 		for (List<Integer> bin : bins) {
@@ -83,7 +122,7 @@ public class PlanningCoCoder
 				sgroups.add(new PlanningCoCodingGroup(col, groupColsInfo.get(col)));
 			// brute force co-coding	
 			PlanningCoCodingGroup[] outputGroups = findCocodesBruteForce(
-					estim, rlen, sgroups.toArray(new PlanningCoCodingGroup[0]));
+					estim, rlen, sgroups.toArray(new PlanningCoCodingGroup[0]), deadline, pool);
 			for (PlanningCoCodingGroup grp : outputGroups)
 				retGroups.add(grp.getColIndices());
 		}
@@ -91,7 +130,7 @@ public class PlanningCoCoder
 		return retGroups;
 	}
 
-	private static List<int[]> getCocodingGroupsBruteForce(List<List<Integer>> bins, HashMap<Integer, GroupableColInfo> groupColsInfo, CompressedSizeEstimator estim, int rlen, int k) 
+	private static List<int[]> getCocodingGroupsBruteForce(List<List<Integer>> bins, HashMap<Integer, GroupableColInfo> groupColsInfo, CompressedSizeEstimator estim, int rlen, int k, long deadline) 
 		throws DMLRuntimeException 
 	{
 		List<int[]> retGroups = new ArrayList<>();
@@ -103,7 +142,7 @@ public class PlanningCoCoder
 				ArrayList<PlanningCoCodingGroup> sgroups = new ArrayList<>();
 				for (Integer col : bin)
 					sgroups.add(new PlanningCoCodingGroup(col, groupColsInfo.get(col)));
-				tasks.add(new CocodeTask(estim, sgroups, rlen));
+				tasks.add(new CocodeTask(estim, sgroups, rlen, deadline));
 			}
 			List<Future<PlanningCoCodingGroup[]>> rtask = pool.invokeAll(tasks);	
 			for( Future<PlanningCoCodingGroup[]> lrtask : rtask )
@@ -126,11 +165,14 @@ public class PlanningCoCoder
 	 * @param sizeEstimator compressed size estimator
 	 * @param numRowsWeight number of rows weight
 	 * @param singltonGroups planning co-coding groups
+	 * @param deadline time in ns (see System.nanoTime) after which no more merges are evaluated
+	 * @param pool thread pool for parallel candidate estimation, or null
 	 * @return
 	 */
 	private static PlanningCoCodingGroup[] findCocodesBruteForce(
 			CompressedSizeEstimator estim, int numRows,
-			PlanningCoCodingGroup[] singletonGroups) 
+			PlanningCoCodingGroup[] singletonGroups, long deadline, ExecutorService pool) 
+		throws DMLRuntimeException
 	{
 		if( LOG.isTraceEnabled() )
 			LOG.trace("Cocoding: process "+singletonGroups.length);
@@ -143,10 +185,17 @@ public class PlanningCoCoder
 		
 		//process merging iterations until no more change
 		boolean changed = true;
-		while( changed && workset.size()>1 ) {
+		boolean timeout = false;
+		while( changed && !timeout && workset.size()>1 ) {
+			//create missing candidates in parallel (and hence w/o pruning
+			//by candidates of the same iteration), which does not affect the
+			//selected merge because pruned candidates are strictly worse
+			if( pool != null )
+				createCandidates(workset, memo, estim, numRows, deadline, pool);
+			
 			//find best merge, incl memoization
 			PlanningCoCodingGroup tmp = null;
-			for( int i=0; i<workset.size(); i++ ) {
+			for( int i=0; i<workset.size() && !timeout; i++ ) {
 				for( int j=i+1; j<workset.size(); j++ ) {
 					PlanningCoCodingGroup c1 = workset.get(i);
 					PlanningCoCodingGroup c2 = workset.get(j);
@@ -156,6 +205,12 @@ public class PlanningCoCoder
 					if( -Math.min(c1.getEstSize(), c2.getEstSize()) > memo.getOptChangeInSize() )
 						continue;
 					
+					//stop evaluating new candidates once the budget is exceeded
+					if( System.nanoTime() > deadline && !memo.contains(c1, c2) ) {
+						timeout = true;
+						break;
+					}
+					
 					//memoization or newly created group (incl bitmap extraction)
 					PlanningCoCodingGroup c1c2 = memo.getOrCreate(c1, c2, estim, numRows);
 		
@@ -167,7 +222,8 @@ public class PlanningCoCoder
 				}
 			}
 			
-			//modify working set
+			//modify working set (also on timeout, as any merge w/ 
+			//negative change in size improves the current groups)
 			if( tmp != null && tmp.getChangeInSize() < 0 ) {
 				workset.remove(tmp.getLeftGroup());
 				workset.remove(tmp.getRightGroup());
@@ -184,11 +240,45 @@ public class PlanningCoCoder
 			}
 		}
 		
+		if( timeout && LOG.isDebugEnabled() )
+			LOG.debug("Cocoding: time budget exceeded with "+workset.size()+" groups.");
 		if( LOG.isTraceEnabled() )
 			LOG.trace("--stats: "+Arrays.toString(memo.getStats()));
 		
 		return workset.toArray(new PlanningCoCodingGroup[0]);
 	}
+	
+	private static void createCandidates(List<PlanningCoCodingGroup> workset, PlanningMemoTable memo,
+			CompressedSizeEstimator estim, int numRows, long deadline, ExecutorService pool) 
+		throws DMLRuntimeException
+	{
+		//collect missing, non-dominated merge candidates
+		ArrayList<CandidateTask> tasks = new ArrayList<>();
+		for( int i=0; i<workset.size(); i++ ) {
+			for( int j=i+1; j<workset.size(); j++ ) {
+				PlanningCoCodingGroup c1 = workset.get(i);
+				PlanningCoCodingGroup c2 = workset.get(j);
+				if( -Math.min(c1.getEstSize(), c2.getEstSize()) > memo.getOptChangeInSize()
+					|| memo.contains(c1, c2) )
+					continue;
+				tasks.add(new CandidateTask(estim, c1, c2, numRows, deadline));
+			}
+		}
+		if( tasks.size() <= 1 )
+			return; //no benefit from parallelism
+		
+		//estimate sizes in parallel and add to memo table
+		try {
+			for( Future<PlanningCoCodingGroup> task : pool.invokeAll(tasks) ) {
+				PlanningCoCodingGroup c1c2 = task.get();
+				if( c1c2 != null )
+					memo.put(c1c2);
+			}
+		}
+		catch(Exception ex) {
+			throw new DMLRuntimeException(ex);
+		}
+	}
 
 	private static ColumnGroupPartitioner createColumnGroupPartitioner(PartitionerType type) {
 		switch( type ) {
@@ -219,18 +309,45 @@ public class PlanningCoCoder
 		private CompressedSizeEstimator _estim = null;
 		private ArrayList<PlanningCoCodingGroup> _sgroups = null;
 		private int _rlen = -1;
+		private long _deadline = -1;
 		
-		protected CocodeTask( CompressedSizeEstimator estim, ArrayList<PlanningCoCodingGroup> sgroups, int rlen )  {
+		protected CocodeTask( CompressedSizeEstimator estim, ArrayList<PlanningCoCodingGroup> sgroups, int rlen, long deadline )  {
 			_estim = estim;
 			_sgroups = sgroups;
 			_rlen = rlen;
+			_deadline = deadline;
 		}
 		
 		@Override
 		public PlanningCoCodingGroup[] call() throws DMLRuntimeException {
 			// brute force co-coding	
 			return findCocodesBruteForce(_estim, _rlen, 
-					_sgroups.toArray(new PlanningCoCodingGroup[0]));
+					_sgroups.toArray(new PlanningCoCodingGroup[0]), _deadline, null);
+		}
+	}
+	
+	private static class CandidateTask implements Callable<PlanningCoCodingGroup> 
+	{
+		private final CompressedSizeEstimator _estim;
+		private final PlanningCoCodingGroup _c1;
+		private final PlanningCoCodingGroup _c2;
+		private final int _rlen;
+		private final long _deadline;
+		
+		protected CandidateTask( CompressedSizeEstimator estim, PlanningCoCodingGroup c1, PlanningCoCodingGroup c2, int rlen, long deadline )  {
+			_estim = estim;
+			_c1 = c1;
+			_c2 = c2;
+			_rlen = rlen;
+			_deadline = deadline;
+		}
+		
+		@Override
+		public PlanningCoCodingGroup call() {
+			//skip remaining candidates once the budget is exceeded
+			if( System.nanoTime() > _deadline )
+				return null;
+			return new PlanningCoCodingGroup(_c1, _c2, _estim, _rlen);
 		}
 	}
 }
@@ -21,6 +21,8 @@ package org.apache.sysml.runtime.compress.estim;
 
 import java.util.Arrays;
 import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
@@ -49,7 +51,7 @@ public class CompressedSizeEstimatorSample extends CompressedSizeEstimator
 	private static final Log LOG = LogFactory.getLog(CompressedSizeEstimatorSample.class.getName());
     
     private int[] _sampleRows = null;
-    private HashMap<Integer, Double> _solveCache = null;
+    private ConcurrentHashMap<Integer, Double> _solveCache = null;
 	
 	public CompressedSizeEstimatorSample(MatrixBlock data, int sampleSize) 
 		throws DMLRuntimeException 
@@ -67,7 +69,8 @@ public class CompressedSizeEstimatorSample extends CompressedSizeEstimator
 		}
 		
 		//establish estimator-local cache for numeric solve
-		_solveCache = new HashMap<>();
+		//(thread-safe for concurrent size estimation tasks)
+		_solveCache = new ConcurrentHashMap<>();
 	}
 
 	@Override
@@ -129,7 +132,7 @@ public class CompressedSizeEstimatorSample extends CompressedSizeEstimator
 	}
 
 	private static int getNumDistinctValues(UncompressedBitmap ubm, int numRows, int[] sampleRows, 
-			HashMap<Integer, Double> solveCache) {
+			Map<Integer, Double> solveCache) {
 		return haasAndStokes(ubm, numRows, sampleRows.length, solveCache);
 	}
 
@@ -512,7 +515,7 @@ public class CompressedSizeEstimatorSample extends CompressedSizeEstimator
 	 * @param sampleRowsReader row reader
 	 * @return estimator
 	 */
-	private static int haasAndStokes(UncompressedBitmap ubm, int nRows, int sampleSize, HashMap<Integer, Double> solveCache)
+	private static int haasAndStokes(UncompressedBitmap ubm, int nRows, int sampleSize, Map<Integer, Double> solveCache)
 	{
 		//obtain value and frequency histograms
 		int numVals = ubm.getNumValues();
@@ -607,7 +610,7 @@ public class CompressedSizeEstimatorSample extends CompressedSizeEstimator
 	 * 
 	 */
 	private static double getDuj2aEstimate(double q, int f[], int n, int dn, double gammaDuj1, int N, 
-			HashMap<Integer, Double> solveCache) {
+			Map<Integer, Double> solveCache) {
 		int c = HAAS_AND_STOKES_UJ2A_CUT2 ? 
 			f.length/2+1 : HAAS_AND_STOKES_UJ2A_C+1;
 		
@@ -686,7 +689,7 @@ public class CompressedSizeEstimatorSample extends CompressedSizeEstimator
 	 * 
 	 */
 	private static double getMethodOfMomentsEstimate(int nj, double q, double min, double max, 
-		HashMap<Integer, Double> solveCache) {
+		Map<Integer, Double> solveCache) {
 		if( solveCache.containsKey(nj) )
 			return solveCache.get(nj);
 		
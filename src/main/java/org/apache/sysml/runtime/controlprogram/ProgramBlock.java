@@ -35,6 +35,7 @@ import org.apache.sysml.parser.ParseInfo;
 import org.apache.sysml.parser.StatementBlock;
 import org.apache.sysml.runtime.DMLRuntimeException;
 import org.apache.sysml.runtime.DMLScriptException;
+import org.apache.sysml.runtime.controlprogram.caching.CachePrefetcher;
 import org.apache.sysml.runtime.controlprogram.caching.MatrixObject;
 import org.apache.sysml.runtime.controlprogram.caching.MatrixObject.UpdateType;
 import org.apache.sysml.runtime.controlprogram.context.ExecutionContext;
@@ -45,6 +46,8 @@ import org.apache.sysml.runtime.instructions.cp.DoubleObject;
 import org.apache.sysml.runtime.instructions.cp.IntObject;
 import org.apache.sysml.runtime.instructions.cp.ScalarObject;
 import org.apache.sysml.runtime.instructions.cp.StringObject;
+import org.apache.sysml.runtime.lineage.LineageCache;
+import org.apache.sysml.runtime.lineage.LineageCacheConfig;
 import org.apache.sysml.runtime.matrix.data.MatrixBlock;
 import org.apache.sysml.utils.Statistics;
 import org.apache.sysml.yarn.DMLAppMasterUtils;
@@ -213,6 +216,10 @@ public class ProgramBlock implements ParseInfo
 			//indexed access required due to dynamic add
 			Instruction currInst = inst.get(i);
 
+			//prefetch evicted inputs of subsequent instructions
+			if( CachePrefetcher.isEnabled() )
+				CachePrefetcher.prefetch(inst, i, ec);
+
 			//execute instruction
 			ec.updateDebugState(i);
 			executeSingleInstruction(currInst, ec);
@@ -260,12 +267,25 @@ public class ProgramBlock implements ParseInfo
 			// pre-process instruction (debug state, inst patching, listeners)
 			Instruction tmp = currInst.preprocessInstruction( ec );
 
+			// probe lineage cache for reusable intermediates
+			boolean reuse = LineageCacheConfig.isReuse();
+			boolean reused = reuse && LineageCache.reuse(tmp, ec);
+			long tr = reuse ? System.nanoTime() : 0;
+
 			// process actual instruction
-			tmp.processInstruction( ec );
+			if( !reused )
+				tmp.processInstruction( ec );
 
 			// post-process instruction (debug)
 			tmp.postprocessInstruction( ec );
 
+			// maintain lineage trace and reuse cache
+			if( reuse ) {
+				ec.getLineage().trace(tmp, ec);
+				if( !reused )
+					LineageCache.put(tmp, ec, System.nanoTime()-tr);
+			}
+
 			// maintain aggregate statistics
 			if( DMLScript.STATISTICS) {
 				Statistics.maintainCPHeavyHitters(
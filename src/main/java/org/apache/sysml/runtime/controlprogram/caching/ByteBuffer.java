@@ -27,7 +27,6 @@ import java.io.IOException;
 
 import org.apache.sysml.runtime.matrix.data.FrameBlock;
 import org.apache.sysml.runtime.matrix.data.MatrixBlock;
-import org.apache.sysml.runtime.util.LocalFileUtils;
 
 /**
  * Wrapper for WriteBuffer byte array per matrix/frame in order to
@@ -106,12 +105,19 @@ public class ByteBuffer
 		throws IOException
 	{
 		if( !_shallow ) {
-			//write out byte serialized array
-			LocalFileUtils.writeByteArrayToLocal(fname, _bdata);
+			//write out byte serialized array (compressed if beneficial)
+			MmapFileUtils.invalidate(fname);
+			EvictionCodec.writeBytes(fname, _bdata);
+		}
+		else if( MmapFileUtils.isApplicable(_cdata) ) {
+			//write cache block in native layout to mapped file
+			EvictionCodec.remove(fname);
+			MmapFileUtils.writeBlock(fname, (MatrixBlock)_cdata);
 		}
 		else {
-			//serialize cache block to output stream
-			LocalFileUtils.writeCacheBlockToLocal(fname, _cdata);
+			//serialize cache block to output stream (compressed if beneficial)
+			MmapFileUtils.invalidate(fname);
+			EvictionCodec.writeBlock(fname, _cdata);
 		}
 	}
 	
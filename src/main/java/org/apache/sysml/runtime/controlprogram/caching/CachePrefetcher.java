@@ -0,0 +1,152 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.apache.sysml.runtime.controlprogram.caching;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.apache.sysml.api.DMLScript;
+import org.apache.sysml.runtime.controlprogram.context.ExecutionContext;
+import org.apache.sysml.runtime.instructions.Instruction;
+import org.apache.sysml.runtime.instructions.InstructionUtils;
+import org.apache.sysml.runtime.instructions.cp.CPInstruction;
+import org.apache.sysml.runtime.instructions.cp.CPOperand;
+import org.apache.sysml.runtime.instructions.cp.Data;
+import org.apache.sysml.runtime.instructions.cp.VariableCPInstruction;
+
+/**
+ * Asynchronous prefetch of evicted matrices and frames. Before an instruction
+ * is executed, the prefetcher looks ahead in the instruction list of the program
+ * block and restores evicted inputs of the following instructions on a background 
+ * thread pool. Restored cache blocks are only put into the soft reference cache 
+ * of the respective cacheable data objects (without pinning), where the 
+ * subsequent acquireRead picks them up. Hence, the buffer pool status is not
+ * modified, and the prefetched blocks remain subject to garbage collection 
+ * under memory pressure, in which case acquireRead falls back to the 
+ * synchronous restore.
+ */
+public class CachePrefetcher 
+{
+	private static final Log LOG = LogFactory.getLog(CachePrefetcher.class.getName());
+	
+	//number of subsequent instructions considered for prefetch
+	public static final int LOOKAHEAD = 4;
+	
+	//number of threads for concurrent restore of evicted blocks
+	public static final int NUM_THREADS = 2;
+	
+	//matrix/frame input variables of instructions (parsed once per instruction)
+	private static final Map<Instruction, String[]> _inputs = 
+		Collections.synchronizedMap(new WeakHashMap<Instruction, String[]>());
+	
+	private static volatile ExecutorService _pool = null;
+	
+	public static synchronized void setEnabled(boolean flag) {
+		if( flag && _pool == null )
+			_pool = Executors.newFixedThreadPool(NUM_THREADS);
+		else if( !flag && _pool != null ) {
+			//discard pending tasks (running tasks complete independently)
+			_pool.shutdownNow();
+			_pool = null;
+		}
+	}
+	
+	public static boolean isEnabled() {
+		return _pool != null;
+	}
+	
+	/**
+	 * Issues the asynchronous prefetch of evicted inputs of all instructions 
+	 * that enter the lookahead window before execution of the instruction at 
+	 * the given position, i.e., the instructions pos+1 to pos+LOOKAHEAD for 
+	 * the first instruction and pos+LOOKAHEAD for all others.
+	 * 
+	 * @param inst list of instructions
+	 * @param pos position of the instruction to be executed next
+	 * @param ec execution context
+	 */
+	public static void prefetch(List<Instruction> inst, int pos, ExecutionContext ec) {
+		ExecutorService pool = _pool;
+		if( pool == null )
+			return;
+		
+		int start = (pos == 0) ? 1 : pos + LOOKAHEAD;
+		int end = Math.min(pos + LOOKAHEAD, inst.size() - 1);
+		for( int i=start; i<=end; i++ ) {
+			for( String varname : getInputs(inst.get(i)) ) {
+				Data dat = ec.getVariable(varname);
+				if( !(dat instanceof CacheableData) || !((CacheableData<?>)dat).isEvicted() )
+					continue;
+				CacheableData<?> cd = (CacheableData<?>) dat;
+				try {
+					pool.submit(() -> {
+						if( cd.prefetch() && DMLScript.STATISTICS )
+							CacheStatistics.incrementPrefetches();
+					});
+				}
+				catch(RejectedExecutionException ex) {
+					return; //concurrently disabled
+				}
+			}
+		}
+	}
+	
+	private static String[] getInputs(Instruction inst) {
+		String[] ret = _inputs.get(inst);
+		if( ret == null ) {
+			ret = parseInputs(inst);
+			_inputs.put(inst, ret);
+		}
+		return ret;
+	}
+	
+	private static String[] parseInputs(Instruction inst) {
+		//only cp instructions access inputs via the buffer pool,
+		//variable instructions do not access the cache blocks
+		if( !(inst instanceof CPInstruction) || inst instanceof VariableCPInstruction )
+			return new String[0];
+		
+		ArrayList<String> ret = new ArrayList<>();
+		try {
+			String[] parts = InstructionUtils.getInstructionPartsWithValueType(inst.toString());
+			for( int i=1; i<parts.length; i++ ) {
+				if( !parts[i].contains(Instruction.VALUETYPE_PREFIX) )
+					continue;
+				CPOperand op = new CPOperand(parts[i]);
+				if( !op.isLiteral() && (op.getDataType().isMatrix() || op.getDataType().isFrame()) )
+					ret.add(op.getName());
+			}
+		}
+		catch(Exception ex) {
+			//unknown instruction format, no prefetch
+			LOG.debug("Failed to obtain prefetch inputs of "+inst.toString(), ex);
+		}
+		return ret.toArray(new String[0]);
+	}
+}
@@ -60,6 +60,21 @@ public class CacheStatistics
 	private static final LongAdder _numWritesFS     = new LongAdder();
 	private static final LongAdder _numWritesHDFS   = new LongAdder();
 	
+	//mmap eviction statistics (subset of fs writes/hits)
+	private static final LongAdder _numWritesMmap   = new LongAdder();
+	private static final LongAdder _numReadsMmap    = new LongAdder();
+	private static final LongAdder _bytesWrittenMmap = new LongAdder();
+	private static final LongAdder _bytesReadMmap   = new LongAdder();
+	private static final LongAdder _numPrefetches   = new LongAdder();
+	
+	//compressed eviction writes/reads, bytes, and times
+	private static final LongAdder _numWritesComp   = new LongAdder();
+	private static final LongAdder _numReadsComp    = new LongAdder();
+	private static final LongAdder _bytesRawComp    = new LongAdder();
+	private static final LongAdder _bytesComp       = new LongAdder();
+	private static final LongAdder _ctimeComp       = new LongAdder();
+	private static final LongAdder _ctimeDecomp     = new LongAdder();
+	
 	//time statistics caching
 	private static final LongAdder _ctimeAcquireR   = new LongAdder(); //in nano sec
 	private static final LongAdder _ctimeAcquireM   = new LongAdder(); //in nano sec
@@ -76,6 +91,18 @@ public class CacheStatistics
 		_numWritesFS.reset();
 		_numWritesHDFS.reset();
 		
+		_numWritesMmap.reset();
+		_numReadsMmap.reset();
+		_bytesWrittenMmap.reset();
+		_bytesReadMmap.reset();
+		_numPrefetches.reset();
+		_numWritesComp.reset();
+		_numReadsComp.reset();
+		_bytesRawComp.reset();
+		_bytesComp.reset();
+		_ctimeComp.reset();
+		_ctimeDecomp.reset();
+		
 		_ctimeAcquireR.reset();
 		_ctimeAcquireM.reset();
 		_ctimeRelease.reset();
@@ -166,6 +193,56 @@ public class CacheStatistics
 		return _numWritesHDFS.longValue();
 	}
 	
+	public static void incrementMmapWrites(long bytes) {
+		_numWritesMmap.increment();
+		_bytesWrittenMmap.add(bytes);
+	}
+	
+	public static long getMmapWrites() {
+		return _numWritesMmap.longValue();
+	}
+	
+	public static void incrementMmapReads(long bytes) {
+		_numReadsMmap.increment();
+		_bytesReadMmap.add(bytes);
+	}
+	
+	public static long getMmapReads() {
+		return _numReadsMmap.longValue();
+	}
+	
+	public static void incrementPrefetches() {
+		_numPrefetches.increment();
+	}
+	
+	public static long getPrefetches() {
+		return _numPrefetches.longValue();
+	}
+	
+	public static void incrementCompressedWrites(long rawBytes, long bytes, long time) {
+		_numWritesComp.increment();
+		_bytesRawComp.add(rawBytes);
+		_bytesComp.add(bytes);
+		_ctimeComp.add(time);
+	}
+	
+	public static long getCompressedWrites() {
+		return _numWritesComp.longValue();
+	}
+	
+	public static void incrementCompressedReads(long time) {
+		_numReadsComp.increment();
+		_ctimeDecomp.add(time);
+	}
+	
+	public static long getCompressedReads() {
+		return _numReadsComp.longValue();
+	}
+	
+	public static double getCompressionRatio() {
+		return (double)_bytesRawComp.longValue() / Math.max(_bytesComp.longValue(), 1);
+	}
+	
 	public static void incrementAcquireRTime(long delta) {
 		_ctimeAcquireR.add(delta);
 	}
@@ -222,6 +299,34 @@ public class CacheStatistics
 		return sb.toString();
 	}
 	
+	public static String displayMmap() {
+		StringBuilder sb = new StringBuilder();
+		sb.append(_numWritesMmap.longValue());
+		sb.append("/");
+		sb.append(_numReadsMmap.longValue());
+		sb.append("/");
+		sb.append(String.format("%.3f", ((double)_bytesWrittenMmap.longValue())/(1024*1024))); //in MB
+		sb.append("/");
+		sb.append(String.format("%.3f", ((double)_bytesReadMmap.longValue())/(1024*1024))); //in MB
+		
+		return sb.toString();
+	}
+	
+	public static String displayCompressed() {
+		StringBuilder sb = new StringBuilder();
+		sb.append(_numWritesComp.longValue());
+		sb.append("/");
+		sb.append(_numReadsComp.longValue());
+		sb.append("/");
+		sb.append(String.format("%.2f", getCompressionRatio()));
+		sb.append("/");
+		sb.append(String.format("%.3f", ((double)_ctimeComp.longValue())/1000000000)); //in sec
+		sb.append("/");
+		sb.append(String.format("%.3f", ((double)_ctimeDecomp.longValue())/1000000000)); //in sec
+		
+		return sb.toString();
+	}
+	
 	public static String displayTime() {	
 		StringBuilder sb = new StringBuilder();
 		sb.append(String.format("%.3f", ((double)_ctimeAcquireR.longValue())/1000000000)); //in sec
@@ -50,6 +50,7 @@ import org.apache.sysml.runtime.matrix.MatrixCharacteristics;
 import org.apache.sysml.runtime.matrix.MetaDataFormat;
 import org.apache.sysml.runtime.matrix.MetaDataNumItemsByEachReducer;
 import org.apache.sysml.runtime.matrix.MetaData;
+import org.apache.sysml.runtime.matrix.data.ColumnarFileFormatProperties;
 import org.apache.sysml.runtime.matrix.data.FileFormatProperties;
 import org.apache.sysml.runtime.matrix.data.InputInfo;
 import org.apache.sysml.runtime.matrix.data.MatrixBlock;
@@ -933,6 +934,45 @@ public abstract class CacheableData<T extends CacheBlock> extends Data
 
 	protected abstract T readBlobFromCache(String fname)
 		throws IOException;
+
+	/**
+	 * Indicates if the data blob is evicted, i.e., neither pinned nor
+	 * available in memory or the soft reference cache. Unsynchronized
+	 * probe, used for issuing asynchronous prefetch requests.
+	 *
+	 * @return true if evicted to the write buffer or local file system
+	 */
+	public boolean isEvicted() {
+		SoftReference<T> cache = _cache;
+		return _cacheStatus == CacheStatus.CACHED && _data == null
+			&& (cache == null || cache.get() == null);
+	}
+
+	/**
+	 * Restores an evicted data blob into the soft reference cache, without
+	 * changing the cache status, such that a subsequent acquire finds the
+	 * blob in memory. Reading the blob while holding the lock ensures that
+	 * concurrent acquires wait for the pending restore and modifications
+	 * cannot interleave with the read.
+	 *
+	 * @return true if the blob was restored, false if not evicted
+	 */
+	public synchronized boolean prefetch() {
+		if( !isEvicted() )
+			return false;
+		try {
+			T data = readBlobFromCache(getCacheFilePathAndName());
+			if( data == null )
+				return false;
+			_cache = new SoftReference<>(data);
+			return true;
+		}
+		catch(IOException ex) {
+			//best effort (e.g., file concurrently deleted)
+			LOG.debug("Failed to prefetch "+getDebugName()+".", ex);
+			return false;
+		}
+	}
 	
 	/**
 	 * Low-level cache I/O method that deletes the file containing the
@@ -1025,6 +1065,11 @@ public abstract class CacheableData<T extends CacheBlock> extends Data
 
 	protected boolean isEqualOutputFormat( String outputFormat )
 	{
+		//columnar reads with column projection differ from their input file
+		if( _formatProps instanceof ColumnarFileFormatProperties
+			&& ((ColumnarFileFormatProperties)_formatProps).hasColumnProjection() )
+			return false;
+		
 		boolean ret = true;
 		if( outputFormat != null ) {
 			try {
@@ -1171,7 +1216,7 @@ public abstract class CacheableData<T extends CacheBlock> extends Data
 		setEmpty();
 	}
 	
-	protected boolean isEmpty(boolean inclCachedNoWrite) {
+	public boolean isEmpty(boolean inclCachedNoWrite) {
 		if( inclCachedNoWrite )
 			return (_cacheStatus == CacheStatus.EMPTY || _cacheStatus == CacheStatus.CACHED_NOWRITE);
 		else
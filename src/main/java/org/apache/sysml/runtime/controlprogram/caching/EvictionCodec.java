@@ -0,0 +1,348 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.apache.sysml.runtime.controlprogram.caching;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.apache.sysml.api.DMLScript;
+import org.apache.sysml.runtime.DMLRuntimeException;
+import org.apache.sysml.runtime.compress.CompressedMatrixBlock;
+import org.apache.sysml.runtime.controlprogram.parfor.stat.InfrastructureAnalyzer;
+import org.apache.sysml.runtime.io.IOUtilFunctions;
+import org.apache.sysml.runtime.matrix.data.DenseBlock;
+import org.apache.sysml.runtime.matrix.data.DenseBlockFactory;
+import org.apache.sysml.runtime.matrix.data.FrameBlock;
+import org.apache.sysml.runtime.matrix.data.MatrixBlock;
+import org.apache.sysml.runtime.util.FastBufferedDataOutputStream;
+import org.apache.sysml.runtime.util.LocalFileUtils;
+
+/**
+ * Optional compression of evicted cache blocks written to the local file 
+ * system. The codec is chosen per block by its estimated benefit:
+ * 
+ * <ul>
+ * <li>NONE: default serialization via LocalFileUtils.</li>
+ * <li>DEFLATE: fast byte compression (deflate with best speed) of the 
+ *   serialized block, if the compression ratio estimated on a sample of 
+ *   the serialized representation exceeds MIN_RATIO.</li>
+ * <li>CLA: compressed linear algebra encoding for sparse or heap double
+ *   dense matrices, if the sample-based planning of CompressedMatrixBlock 
+ *   yields a compression ratio above MIN_RATIO within CLA_TIME_BUDGET 
+ *   (otherwise, or on failures, DEFLATE is considered). Restored blocks
+ *   are decompressed to preserve the original block type.</li>
+ * </ul>
+ * 
+ * Since compressed files carry no header, the codecs of compressed
+ * eviction files are tracked by file name.
+ */
+public class EvictionCodec 
+{
+	private static final Log LOG = LogFactory.getLog(EvictionCodec.class.getName());
+	
+	public enum Type {
+		NONE,
+		DEFLATE,
+		CLA,
+	}
+	
+	//min block size in bytes for compression
+	public static final long MIN_SIZE = 1024 * 1024;
+	
+	//min estimated compression ratio for compression
+	public static final double MIN_RATIO = 1.5;
+	
+	//target size in bytes of samples for estimating the ratio
+	private static final int SAMPLE_SIZE = 64 * 1024;
+	
+	//time budget in ms for CLA planning, which runs under memory pressure
+	private static final double CLA_TIME_BUDGET = 1000;
+	
+	//codecs of evicted files written in compressed form
+	private static final Map<String, Type> _files = new ConcurrentHashMap<>();
+	
+	private static Type _type = Type.NONE;
+	
+	public static void setType(Type type) {
+		_type = type;
+	}
+	
+	public static void setType(String type) {
+		_type = Type.valueOf(type.trim().toUpperCase());
+	}
+	
+	public static Type getType() {
+		return _type;
+	}
+	
+	/**
+	 * Indicates if the given evicted file was written in compressed form.
+	 * 
+	 * @param fname file name
+	 * @return true if written with a codec other than NONE
+	 */
+	public static boolean isCompressed(String fname) {
+		return _files.containsKey(fname);
+	}
+	
+	public static void remove(String fname) {
+		_files.remove(fname);
+	}
+	
+	public static void clear() {
+		_files.clear();
+	}
+	
+	/**
+	 * Writes the given cache block to the local file system, compressed
+	 * with the codec of highest estimated benefit.
+	 * 
+	 * @param fname file name
+	 * @param cb cache block
+	 * @throws IOException if IOException occurs
+	 */
+	public static void writeBlock(String fname, CacheBlock cb) 
+		throws IOException
+	{
+		_files.remove(fname);
+		long t0 = System.nanoTime();
+		
+		//compressed linear algebra encoding of matrices
+		if( _type == Type.CLA && isCompressible(cb) && isClaApplicable((MatrixBlock)cb) ) {
+			MatrixBlock cmb = compress((MatrixBlock)cb);
+			if( cmb != null ) {
+				//note: column groups require the default data output 
+				FileOutputStream fos = new FileOutputStream(fname);
+				DataOutputStream out = new DataOutputStream(
+					new BufferedOutputStream(fos, LocalFileUtils.BUFFER_SIZE));
+				try {
+					cmb.write(out);
+				}
+				finally {
+					IOUtilFunctions.closeSilently(out);
+					IOUtilFunctions.closeSilently(fos);
+				}
+				registerWrite(fname, Type.CLA, cb.getExactSerializedSize(), t0);
+				return;
+			}
+		}
+		
+		//byte compression of serialized representation
+		if( _type != Type.NONE && isCompressible(cb)
+			&& estimateRatio(cb) >= MIN_RATIO ) {
+			Deflater def = new Deflater(Deflater.BEST_SPEED);
+			FileOutputStream fos = new FileOutputStream(fname);
+			FastBufferedDataOutputStream out = new FastBufferedDataOutputStream(
+				new DeflaterOutputStream(fos, def, LocalFileUtils.BUFFER_SIZE), LocalFileUtils.BUFFER_SIZE);
+			try {
+				cb.write(out);
+			}
+			finally {
+				IOUtilFunctions.closeSilently(out);
+				IOUtilFunctions.closeSilently(fos);
+				def.end();
+			}
+			registerWrite(fname, Type.DEFLATE, cb.getExactSerializedSize(), t0);
+			return;
+		}
+		
+		//default serialization
+		LocalFileUtils.writeCacheBlockToLocal(fname, cb);
+	}
+	
+	/**
+	 * Writes the given serialized cache block to the local file system,
+	 * compressed via DEFLATE if beneficial.
+	 * 
+	 * @param fname file name
+	 * @param data serialized cache block
+	 * @throws IOException if IOException occurs
+	 */
+	public static void writeBytes(String fname, byte[] data) 
+		throws IOException
+	{
+		_files.remove(fname);
+		long t0 = System.nanoTime();
+		
+		if( _type != Type.NONE && data.length >= MIN_SIZE
+			&& estimateRatio(data, Math.min(data.length, SAMPLE_SIZE)) >= MIN_RATIO ) {
+			Deflater def = new Deflater(Deflater.BEST_SPEED);
+			FileOutputStream fos = new FileOutputStream(fname);
+			DeflaterOutputStream out = new DeflaterOutputStream(fos, def, LocalFileUtils.BUFFER_SIZE);
+			try {
+				out.write(data);
+			}
+			finally {
+				IOUtilFunctions.closeSilently(out);
+				IOUtilFunctions.closeSilently(fos);
+				def.end();
+			}
+			registerWrite(fname, Type.DEFLATE, data.length, t0);
+			return;
+		}
+		
+		LocalFileUtils.writeByteArrayToLocal(fname, data);
+	}
+	
+	/**
+	 * Reads a cache block from the local file system, decompressed
+	 * according to the codec it was written with.
+	 * 
+	 * @param fname file name
+	 * @param matrix if true, read matrix, otherwise read frame
+	 * @return cache block
+	 * @throws IOException if IOException occurs
+	 */
+	public static CacheBlock readBlock(String fname, boolean matrix) 
+		throws IOException
+	{
+		Type type = _files.get(fname);
+		if( type == null || type == Type.NONE )
+			return LocalFileUtils.readCacheBlockFromLocal(fname, matrix);
+		
+		long t0 = System.nanoTime();
+		CacheBlock ret = null;
+		if( type == Type.CLA ) {
+			CompressedMatrixBlock cmb = new CompressedMatrixBlock();
+			FileInputStream fis = new FileInputStream(fname);
+			DataInputStream in = new DataInputStream(
+				new BufferedInputStream(fis, LocalFileUtils.BUFFER_SIZE));
+			try {
+				cmb.readFields(in);
+				ret = cmb.decompress(InfrastructureAnalyzer.getLocalParallelism());
+			}
+			catch(DMLRuntimeException ex) {
+				throw new IOException(ex);
+			}
+			finally {
+				IOUtilFunctions.closeSilently(in);
+				IOUtilFunctions.closeSilently(fis);
+			}
+		}
+		else { //DEFLATE
+			Inflater inf = new Inflater();
+			InputStream in = new InflaterInputStream(
+				new FileInputStream(fname), inf, LocalFileUtils.BUFFER_SIZE);
+			try {
+				ret = (CacheBlock) LocalFileUtils.readWritableFromStream(in,
+					matrix ? new MatrixBlock() : new FrameBlock());
+			}
+			finally {
+				IOUtilFunctions.closeSilently(in);
+				inf.end();
+			}
+		}
+		
+		if( DMLScript.STATISTICS )
+			CacheStatistics.incrementCompressedReads(System.nanoTime()-t0);
+		return ret;
+	}
+	
+	private static boolean isCompressible(CacheBlock cb) {
+		//note: compressed matrix blocks are serialized as is
+		return cb.getExactSerializedSize() >= MIN_SIZE
+			&& !(cb instanceof CompressedMatrixBlock);
+	}
+	
+	private static boolean isClaApplicable(MatrixBlock mb) {
+		//CLA accesses the underlying arrays of single heap dense blocks,
+		//i.e., off-heap, single-precision, and large blocks are excluded
+		return mb.isInSparseFormat() || mb.getDenseBlock() == null
+			|| DenseBlockFactory.isDenseBlockType(mb.getDenseBlock(), DenseBlock.Type.DRB);
+	}
+	
+	private static MatrixBlock compress(MatrixBlock mb) {
+		//compress with bounded planning time, and fall back to the other 
+		//codecs on failures or if exceeded (incompressible result)
+		try {
+			MatrixBlock ret = new CompressedMatrixBlock(mb)
+				.compress(InfrastructureAnalyzer.getLocalParallelism(), CLA_TIME_BUDGET);
+			return (ret instanceof CompressedMatrixBlock
+				&& ((CompressedMatrixBlock)ret).isCompressed()
+				&& (double)mb.getExactSerializedSize() / ret.getExactSerializedSize() >= MIN_RATIO) ?
+				ret : null;
+		}
+		catch(Exception ex) {
+			//incl. runtime exceptions of unsupported block types
+			LOG.warn("Failed to compress evicted block, written w/o CLA.", ex);
+			return null;
+		}
+	}
+	
+	private static double estimateRatio(CacheBlock cb) 
+		throws IOException
+	{
+		//serialize a sample of leading rows of approx SAMPLE_SIZE bytes
+		int rlen = cb.getNumRows();
+		long size = cb.getExactSerializedSize();
+		int srlen = (int)Math.max(Math.min((double)SAMPLE_SIZE / size * rlen, rlen), 1);
+		ByteArrayOutputStream bos = new ByteArrayOutputStream(SAMPLE_SIZE);
+		try {
+			CacheBlock sample = (srlen < rlen) ? cb.sliceOperations(0, srlen-1, 
+				0, cb.getNumColumns()-1, (cb instanceof MatrixBlock) ? 
+				new MatrixBlock() : new FrameBlock()) : cb;
+			sample.write(new DataOutputStream(bos));
+		}
+		catch(DMLRuntimeException ex) {
+			throw new IOException(ex);
+		}
+		return estimateRatio(bos.toByteArray(), bos.size());
+	}
+	
+	private static double estimateRatio(byte[] data, int len) {
+		Deflater def = new Deflater(Deflater.BEST_SPEED);
+		try {
+			def.setInput(data, 0, len);
+			def.finish();
+			byte[] buff = new byte[LocalFileUtils.BUFFER_SIZE];
+			long clen = 0;
+			while( !def.finished() )
+				clen += def.deflate(buff);
+			return (double) len / Math.max(clen, 1);
+		}
+		finally {
+			def.end();
+		}
+	}
+	
+	private static void registerWrite(String fname, Type type, long size, long t0) {
+		_files.put(fname, type);
+		if( DMLScript.STATISTICS )
+			CacheStatistics.incrementCompressedWrites(size,
+				new File(fname).length(), System.nanoTime()-t0);
+	}
+}
@@ -25,6 +25,7 @@ import java.util.Arrays;
 
 import org.apache.commons.lang.ArrayUtils;
 import org.apache.commons.lang.mutable.MutableBoolean;
+import org.apache.sysml.conf.ConfigurationManager;
 import org.apache.sysml.parser.DataExpression;
 import org.apache.sysml.parser.Expression.DataType;
 import org.apache.sysml.parser.Expression.ValueType;
@@ -159,7 +160,11 @@ public class FrameObject extends CacheableData<FrameBlock>
 	
 	@Override
 	protected FrameBlock readBlobFromCache(String fname) throws IOException {
-		return (FrameBlock)LazyWriteBuffer.readBlock(fname, false);
+		FrameBlock ret = (FrameBlock)LazyWriteBuffer.readBlock(fname, false);
+		//restore dictionary-encoded string columns (serialized as strings)
+		if( ConfigurationManager.isCompressedFrames() )
+			ret.compressStringColumns();
+		return ret;
 	}
 
 	@Override
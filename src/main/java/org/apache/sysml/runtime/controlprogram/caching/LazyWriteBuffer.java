@@ -28,6 +28,7 @@ import java.util.concurrent.Executors;
 
 import org.apache.sysml.api.DMLScript;
 import org.apache.sysml.runtime.controlprogram.parfor.stat.InfrastructureAnalyzer;
+import org.apache.sysml.runtime.matrix.data.MatrixBlock;
 import org.apache.sysml.runtime.util.LocalFileUtils;
 
 public class LazyWriteBuffer 
@@ -111,7 +112,14 @@ public class LazyWriteBuffer
 		else
 		{
 			//write directly to local FS (bypass buffer if too large)
-			LocalFileUtils.writeCacheBlockToLocal(fname, cb);
+			if( MmapFileUtils.isApplicable(cb) ) {
+				EvictionCodec.remove(fname);
+				MmapFileUtils.writeBlock(fname, (MatrixBlock)cb);
+			}
+			else {
+				MmapFileUtils.invalidate(fname);
+				EvictionCodec.writeBlock(fname, cb);
+			}
 			if( DMLScript.STATISTICS ) {
 				CacheStatistics.incrementFSWrites();
 			}
@@ -137,8 +145,12 @@ public class LazyWriteBuffer
 		}
 		
 		//delete from FS if required
-		if( requiresDelete )
-			_fClean.deleteFile(fname);
+		if( requiresDelete ) {
+			EvictionCodec.remove(fname);
+			//mmap files are untracked and deleted synchronously
+			if( !MmapFileUtils.delete(fname) )
+				_fClean.deleteFile(fname);
+		}
 	}
 	
 	public static CacheBlock readBlock(String fname, boolean matrix)
@@ -171,7 +183,8 @@ public class LazyWriteBuffer
 		}
 		else
 		{
-			cb = LocalFileUtils.readCacheBlockFromLocal(fname, matrix);
+			cb = MmapFileUtils.isMapped(fname) ? MmapFileUtils.readBlock(fname) :
+				EvictionCodec.readBlock(fname, matrix);
 			if( DMLScript.STATISTICS )
 				CacheStatistics.incrementFSHits();
 		}
@@ -192,6 +205,8 @@ public class LazyWriteBuffer
 			_mQueue.clear();
 		if( _fClean != null )
 			_fClean.close();
+		MmapFileUtils.clear();
+		EvictionCodec.clear();
 		if( CacheableData.CACHING_BUFFER_PAGECACHE )
 			PageCache.clear();
 	}
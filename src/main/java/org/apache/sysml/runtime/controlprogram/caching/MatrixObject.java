@@ -133,6 +133,44 @@ public class MatrixObject extends CacheableData<MatrixBlock>
 		return _updateType;
 	}
 	
+	/**
+	 * Acquires a read lock and returns the matrix block, where off-heap or
+	 * single-precision dense blocks are replaced by heap double blocks because
+	 * most operations access the underlying arrays. This conversion is done at
+	 * most once per cached block (the heap block replaces the cached block),
+	 * while readers that already obtained the original block remain unaffected.
+	 * 
+	 * @return matrix block backed by double arrays (or sparse)
+	 * @throws CacheException if CacheException occurs
+	 */
+	@Override
+	public synchronized MatrixBlock acquireRead() 
+		throws CacheException 
+	{
+		MatrixBlock mb = super.acquireRead();
+		if( !mb.isInSparseFormat() && mb.getDenseBlock() != null
+			&& !mb.getDenseBlock().hasDoubleArrays() ) {
+			//note: same content, so no need for dirty marking
+			_data = mb.getHeapDenseCopy();
+		}
+		return _data;
+	}
+	
+	/**
+	 * Acquires a read lock and returns the matrix block as is, i.e., without
+	 * conversion of off-heap or single-precision dense blocks. This is only
+	 * used by instructions whose kernels access dense blocks exclusively via
+	 * the row/range accessors of the dense block API.
+	 * 
+	 * @return matrix block
+	 * @throws CacheException if CacheException occurs
+	 */
+	public synchronized MatrixBlock acquireReadAnyDense() 
+		throws CacheException 
+	{
+		return super.acquireRead();
+	}
+	
 	@Override
 	public void updateMatrixCharacteristics (MatrixCharacteristics mc) {
 		_metaData.getMatrixCharacteristics().set(mc);
@@ -0,0 +1,508 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.sysml.runtime.controlprogram.caching;
+
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.apache.sysml.api.DMLScript;
+import org.apache.sysml.runtime.compress.CompressedMatrixBlock;
+import org.apache.sysml.runtime.io.IOUtilFunctions;
+import org.apache.sysml.runtime.matrix.data.DenseBlock;
+import org.apache.sysml.runtime.matrix.data.DenseBlockOffHeap;
+import org.apache.sysml.runtime.matrix.data.MatrixBlock;
+import org.apache.sysml.runtime.matrix.data.SparseBlock;
+import org.apache.sysml.runtime.matrix.data.SparseBlockCSR;
+
+/**
+ * Eviction of matrix blocks to memory-mapped local files in their native
+ * layout, as an alternative to the serialization via LocalFileUtils.
+ * 
+ * Dense blocks are written as row-major arrays of doubles in native byte
+ * order and restored as off-heap dense blocks directly over private 
+ * (copy-on-write) mappings of the file, i.e., without deserialization or
+ * copying, and pages are only read on first access. Sparse blocks are
+ * written in CSR layout (row pointers, column indexes, values) and restored
+ * via bulk copies into a CSR block. Frames and compressed blocks are not
+ * supported and use the default serialization.
+ * 
+ * Since restored dense blocks might be shared beyond the lifetime of their
+ * cache entries, their mappings are released on garbage collection, while
+ * all other mappings are transient and unmapped at the end of each read or
+ * write. Files are never modified in place but deleted and recreated (see
+ * writeBlock), which keeps existing private mappings valid, and deleted as 
+ * soon as the cache entry is freed (see LazyWriteBuffer.deleteBlock).
+ */
+public class MmapFileUtils 
+{
+	private static final Log LOG = LogFactory.getLog(MmapFileUtils.class.getName());
+	
+	//file header: type, rlen, clen, blen (dense) / 0, nnz
+	private static final int HEADER_SIZE = 24;
+	private static final int TYPE_EMPTY  = 0;
+	private static final int TYPE_DENSE  = 1;
+	private static final int TYPE_SPARSE = 2;
+	
+	//max size of mapped file regions for sparse blocks (1GB)
+	private static final long MAX_REGION_SIZE = 1L << 30;
+	
+	//names of evicted files written in the mmap format
+	private static final Set<String> _files = ConcurrentHashMap.newKeySet();
+	
+	//unmapping of transient mappings (null if not supported by the JVM)
+	private static final Unmapper UNMAPPER = createUnmapper();
+	
+	private static boolean _enabled = false;
+	
+	public static void setEnabled(boolean flag) {
+		_enabled = flag;
+	}
+	
+	public static boolean isEnabled() {
+		return _enabled;
+	}
+	
+	/**
+	 * Indicates if the given cache block can be evicted via memory-mapped files.
+	 * 
+	 * @param cb cache block
+	 * @return true if mmap eviction is enabled and applicable
+	 */
+	public static boolean isApplicable(CacheBlock cb) {
+		return _enabled && cb instanceof MatrixBlock 
+			&& !(cb instanceof CompressedMatrixBlock)
+			&& ((MatrixBlock)cb).getNonZeros() < Integer.MAX_VALUE;
+	}
+	
+	/**
+	 * Indicates if the given evicted file was written in the mmap format.
+	 * 
+	 * @param fname file name
+	 * @return true if written via writeBlock
+	 */
+	public static boolean isMapped(String fname) {
+		return _files.contains(fname);
+	}
+	
+	/**
+	 * Deletes the given file if written in the mmap format, which is 
+	 * called once the related cache entry is freed.
+	 * 
+	 * @param fname file name
+	 * @return true if the file was written in the mmap format
+	 */
+	public static boolean delete(String fname) {
+		if( !_files.remove(fname) )
+			return false;
+		try {
+			Files.deleteIfExists(Paths.get(fname));
+		}
+		catch(IOException ex) {
+			LOG.warn("Failed to delete evicted file "+fname+".", ex);
+		}
+		return true;
+	}
+	
+	/**
+	 * Deletes the given file if written in the mmap format, which is required
+	 * before overwriting it with another format.
+	 * 
+	 * @param fname file name
+	 * @throws IOException if IOException occurs
+	 */
+	public static void invalidate(String fname) 
+		throws IOException
+	{
+		if( _files.remove(fname) )
+			Files.deleteIfExists(Paths.get(fname));
+	}
+	
+	public static void clear() {
+		for( String fname : _files )
+			delete(fname);
+	}
+	
+	/**
+	 * Writes the given matrix block in its native layout to a memory-mapped file.
+	 * 
+	 * @param fname file name
+	 * @param mb matrix block
+	 * @throws IOException if IOException occurs
+	 */
+	public static void writeBlock(String fname, MatrixBlock mb) 
+		throws IOException
+	{
+		Path path = Paths.get(fname);
+		
+		//recreate file (avoid stale data of an existing file)
+		_files.remove(fname);
+		Files.deleteIfExists(path);
+		
+		int rlen = mb.getNumRows();
+		int clen = mb.getNumColumns();
+		boolean empty = mb.isEmptyBlock(false);
+		int type = empty ? TYPE_EMPTY : mb.isInSparseFormat() ? TYPE_SPARSE : TYPE_DENSE;
+		int blen = Math.max(Math.min(rlen, DenseBlockOffHeap.MAX_BLOCK_SIZE / Math.max(clen, 1)), 1);
+		long nnz = empty ? 0 : (type==TYPE_SPARSE) ?
+			mb.getSparseBlock().size() : mb.getNonZeros();
+		long size = 0;
+		
+		FileChannel channel = null;
+		try {
+			channel = FileChannel.open(path, StandardOpenOption.CREATE_NEW,
+				StandardOpenOption.READ, StandardOpenOption.WRITE);
+			
+			//write header
+			MappedByteBuffer header = channel.map(MapMode.READ_WRITE, 0, HEADER_SIZE);
+			header.putInt(type).putInt(rlen).putInt(clen)
+				.putInt(type==TYPE_DENSE ? blen : 0).putLong(nnz);
+			unmap(header);
+			size += HEADER_SIZE;
+			
+			//write data (note: getDenseBlock returns the dense block as is,
+			//i.e., off-heap and single-precision blocks are not materialized)
+			if( type == TYPE_DENSE )
+				size += writeDense(channel, mb.getDenseBlock(), rlen, clen, blen);
+			else if( type == TYPE_SPARSE )
+				size += writeSparse(channel, mb.getSparseBlock(), rlen, (int)nnz);
+		}
+		finally {
+			IOUtilFunctions.closeSilently(channel);
+		}
+		
+		_files.add(fname);
+		if( DMLScript.STATISTICS )
+			CacheStatistics.incrementMmapWrites(size);
+	}
+	
+	/**
+	 * Reads a matrix block from a file written via writeBlock. Dense blocks
+	 * are restored as off-heap dense blocks over private mappings of the file.
+	 * 
+	 * @param fname file name
+	 * @return matrix block
+	 * @throws IOException if IOException occurs
+	 */
+	public static MatrixBlock readBlock(String fname) 
+		throws IOException
+	{
+		MatrixBlock ret = null;
+		long size = 0;
+		
+		FileChannel channel = null;
+		try {
+			//note: private mappings require a read-write channel
+			channel = FileChannel.open(Paths.get(fname), 
+				StandardOpenOption.READ, StandardOpenOption.WRITE);
+			
+			//read header
+			MappedByteBuffer header = channel.map(MapMode.READ_ONLY, 0, HEADER_SIZE);
+			int type = header.getInt();
+			int rlen = header.getInt();
+			int clen = header.getInt();
+			int blen = header.getInt();
+			long nnz = header.getLong();
+			unmap(header);
+			size += HEADER_SIZE;
+			
+			//read data
+			if( type == TYPE_DENSE ) {
+				ret = new MatrixBlock(rlen, clen, nnz, readDense(channel, rlen, clen, blen));
+				size += (long)rlen * clen * 8;
+			}
+			else if( type == TYPE_SPARSE ) {
+				ret = new MatrixBlock(rlen, clen, nnz, readSparse(channel, rlen, (int)nnz));
+				size += getSparseSize(rlen, (int)nnz);
+			}
+			else
+				ret = new MatrixBlock(rlen, clen, true);
+		}
+		finally {
+			IOUtilFunctions.closeSilently(channel);
+		}
+		
+		if( DMLScript.STATISTICS )
+			CacheStatistics.incrementMmapReads(size);
+		return ret;
+	}
+	
+	private static long writeDense(FileChannel channel, DenseBlock a, int rlen, int clen, int blen) 
+		throws IOException
+	{
+		//one mapped region per off-heap block of blen rows
+		double[] tmp = !a.hasDoubleArrays() ? new double[clen] : null;
+		long pos = HEADER_SIZE;
+		for( int bi=0; bi<rlen; bi+=blen ) {
+			int bimin = Math.min(rlen, bi+blen);
+			long len = (long)(bimin-bi) * clen * 8;
+			MappedByteBuffer region = channel.map(MapMode.READ_WRITE, pos, len);
+			DoubleBuffer c = asDoubles(region);
+			for( int i=bi; i<bimin; i++ ) {
+				if( tmp != null ) {
+					a.get(i, i+1, 0, clen, tmp, 0);
+					c.put(tmp, 0, clen);
+				}
+				else
+					c.put(a.values(i), a.pos(i), clen);
+			}
+			unmap(region);
+			pos += len;
+		}
+		return pos - HEADER_SIZE;
+	}
+	
+	private static DenseBlock readDense(FileChannel channel, int rlen, int clen, int blen) 
+		throws IOException
+	{
+		//one private mapped region per off-heap block of blen rows, where
+		//updates of the restored block are never written back to the file
+		DoubleBuffer[] data = new DoubleBuffer[(int)Math.ceil((double)rlen/blen)];
+		long pos = HEADER_SIZE;
+		for( int bix=0; bix<data.length; bix++ ) {
+			long len = (long)(Math.min(rlen, (bix+1)*blen) - bix*blen) * clen * 8;
+			data[bix] = asDoubles(channel.map(MapMode.PRIVATE, pos, len));
+			pos += len;
+		}
+		return new DenseBlockOffHeap(rlen, clen, blen, data);
+	}
+	
+	private static long writeSparse(FileChannel channel, SparseBlock a, int rlen, int nnz) 
+		throws IOException
+	{
+		//row pointers, column indexes, and values (each 8-byte aligned)
+		RegionWriter out = new RegionWriter(channel, HEADER_SIZE, HEADER_SIZE + getSparseSize(rlen, nnz));
+		int rptr = 0;
+		out.putInt(rptr);
+		for( int i=0; i<rlen; i++ )
+			out.putInt(rptr += a.size(i));
+		out.alignPosition();
+		for( int i=0; i<rlen; i++ )
+			if( !a.isEmpty(i) )
+				out.putInts(a.indexes(i), a.pos(i), a.size(i));
+		out.alignPosition();
+		for( int i=0; i<rlen; i++ )
+			if( !a.isEmpty(i) )
+				out.putDoubles(a.values(i), a.pos(i), a.size(i));
+		out.close();
+		return out.getPosition() - HEADER_SIZE;
+	}
+	
+	private static SparseBlock readSparse(FileChannel channel, int rlen, int nnz) 
+		throws IOException
+	{
+		int[] rowPtr = new int[rlen+1];
+		int[] colInd = new int[nnz];
+		double[] values = new double[nnz];
+		long pos = HEADER_SIZE;
+		pos = align(readInts(channel, pos, rowPtr));
+		pos = align(readInts(channel, pos, colInd));
+		readDoubles(channel, pos, values);
+		return new SparseBlockCSR(rowPtr, colInd, values, nnz);
+	}
+	
+	private static long getSparseSize(int rlen, int nnz) {
+		return align((long)(rlen+1)*4) + align((long)nnz*4) + (long)nnz*8;
+	}
+	
+	private static DoubleBuffer asDoubles(MappedByteBuffer region) {
+		return region.order(ByteOrder.nativeOrder()).asDoubleBuffer();
+	}
+	
+	/**
+	 * Releases the given mapping without waiting for garbage collection,
+	 * which is only valid if the buffer and its views are no longer used. 
+	 * If not supported by the JVM, the mapping is released on GC.
+	 * 
+	 * @param region mapped file region
+	 */
+	private static void unmap(MappedByteBuffer region) {
+		if( UNMAPPER != null ) {
+			try {
+				UNMAPPER.unmap(region);
+			}
+			catch(Exception ex) {
+				LOG.warn("Failed to unmap file region, released on GC.", ex);
+			}
+		}
+	}
+	
+	private static Unmapper createUnmapper() {
+		//java 9+: sun.misc.Unsafe.invokeCleaner (module jdk.unsupported)
+		try {
+			Class<?> clazz = Class.forName("sun.misc.Unsafe");
+			final Method invokeCleaner = clazz.getMethod("invokeCleaner", ByteBuffer.class);
+			Field field = clazz.getDeclaredField("theUnsafe");
+			field.setAccessible(true);
+			final Object unsafe = field.get(null);
+			return new Unmapper() {
+				@Override
+				public void unmap(MappedByteBuffer region) throws Exception {
+					invokeCleaner.invoke(unsafe, region);
+				}
+			};
+		}
+		catch(Exception ex) {
+			//not available, try java 8 API
+		}
+		//java 8: sun.nio.ch.DirectBuffer.cleaner().clean()
+		try {
+			final Method cleaner = Class.forName("sun.nio.ch.DirectBuffer").getMethod("cleaner");
+			final Method clean = Class.forName("sun.misc.Cleaner").getMethod("clean");
+			return new Unmapper() {
+				@Override
+				public void unmap(MappedByteBuffer region) throws Exception {
+					Object obj = cleaner.invoke(region);
+					if( obj != null )
+						clean.invoke(obj);
+				}
+			};
+		}
+		catch(Exception ex) {
+			LOG.warn("Explicit unmapping not supported by this JVM, "
+				+ "mapped file regions are released on GC.");
+			return null;
+		}
+	}
+	
+	private interface Unmapper {
+		public void unmap(MappedByteBuffer region) throws Exception;
+	}
+	
+	private static long readInts(FileChannel channel, long pos, int[] a) 
+		throws IOException
+	{
+		int chunk = (int)(MAX_REGION_SIZE / 4);
+		for( int i=0; i<a.length; i+=chunk ) {
+			int len = Math.min(chunk, a.length-i);
+			MappedByteBuffer region = channel.map(MapMode.READ_ONLY, pos, (long)len*4);
+			region.order(ByteOrder.nativeOrder()).asIntBuffer().get(a, i, len);
+			unmap(region);
+			pos += (long)len*4;
+		}
+		return pos;
+	}
+	
+	private static long readDoubles(FileChannel channel, long pos, double[] a) 
+		throws IOException
+	{
+		int chunk = (int)(MAX_REGION_SIZE / 8);
+		for( int i=0; i<a.length; i+=chunk ) {
+			int len = Math.min(chunk, a.length-i);
+			MappedByteBuffer region = channel.map(MapMode.READ_ONLY, pos, (long)len*8);
+			asDoubles(region).get(a, i, len);
+			unmap(region);
+			pos += (long)len*8;
+		}
+		return pos;
+	}
+	
+	private static long align(long pos) {
+		return (pos + 7) / 8 * 8;
+	}
+	
+	/**
+	 * Sequential writer over mapped file regions of at most MAX_REGION_SIZE,
+	 * which allows for files larger than the 2GB limit of a single mapping.
+	 * Since all sections are 8-byte aligned, values never span regions.
+	 * Regions are unmapped when advancing to the next region and on close.
+	 */
+	private static class RegionWriter {
+		private final FileChannel _channel;
+		private final long _end; //file size
+		private MappedByteBuffer _region = null;
+		private long _regionPos; //file position of current region
+		
+		public RegionWriter(FileChannel channel, long pos, long end) {
+			_channel = channel;
+			_regionPos = pos;
+			_end = end;
+		}
+		
+		public long getPosition() {
+			return _regionPos + ((_region != null) ? _region.position() : 0);
+		}
+		
+		public void close() {
+			if( _region != null ) {
+				_regionPos = getPosition();
+				unmap(_region);
+				_region = null;
+			}
+		}
+		
+		public void putInt(int v) throws IOException {
+			ensureCapacity(4);
+			_region.putInt(v);
+		}
+		
+		public void putInts(int[] a, int ai, int len) throws IOException {
+			while( len > 0 ) {
+				ensureCapacity(4);
+				int llen = Math.min(len, _region.remaining() / 4);
+				_region.asIntBuffer().put(a, ai, llen);
+				_region.position(_region.position() + llen*4);
+				ai += llen; len -= llen;
+			}
+		}
+		
+		public void putDoubles(double[] a, int ai, int len) throws IOException {
+			while( len > 0 ) {
+				ensureCapacity(8);
+				int llen = Math.min(len, _region.remaining() / 8);
+				_region.asDoubleBuffer().put(a, ai, llen);
+				_region.position(_region.position() + llen*8);
+				ai += llen; len -= llen;
+			}
+		}
+		
+		public void alignPosition() throws IOException {
+			long pos = getPosition();
+			int pad = (int)(MmapFileUtils.align(pos) - pos);
+			if( pad > 0 ) {
+				ensureCapacity(pad);
+				_region.position(_region.position() + pad);
+			}
+		}
+		
+		private void ensureCapacity(int len) throws IOException {
+			if( _region != null && _region.remaining() >= len )
+				return;
+			//map next region (extends the file as necessary)
+			close();
+			_region = _channel.map(MapMode.READ_WRITE, _regionPos, Math.min(MAX_REGION_SIZE, _end-_regionPos));
+			_region.order(ByteOrder.nativeOrder());
+		}
+	}
+}
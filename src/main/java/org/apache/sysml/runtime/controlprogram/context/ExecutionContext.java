@@ -46,6 +46,7 @@ import org.apache.sysml.runtime.instructions.cp.ScalarObject;
 import org.apache.sysml.runtime.instructions.cp.ScalarObjectFactory;
 import org.apache.sysml.runtime.instructions.gpu.context.GPUContext;
 import org.apache.sysml.runtime.instructions.gpu.context.GPUObject;
+import org.apache.sysml.runtime.lineage.Lineage;
 import org.apache.sysml.runtime.matrix.MatrixCharacteristics;
 import org.apache.sysml.runtime.matrix.MetaDataFormat;
 import org.apache.sysml.runtime.matrix.MetaData;
@@ -67,6 +68,9 @@ public class ExecutionContext {
 	
 	//debugging (optional)
 	protected DebugState _dbState = null;
+	
+	//lineage trace of live variables (optional, for reuse)
+	protected Lineage _lineage = new Lineage();
 
 	/**
 	 * List of {@link GPUContext}s owned by this {@link ExecutionContext}
@@ -103,6 +107,14 @@ public class ExecutionContext {
 	public void setVariables(LocalVariableMap vars) {
 		_variables = vars;
 	}
+	
+	public Lineage getLineage() {
+		return _lineage;
+	}
+	
+	public void setLineage(Lineage lineage) {
+		_lineage = lineage;
+	}
 
 	/**
 	 * Get the i-th GPUContext
@@ -248,8 +260,26 @@ public class ExecutionContext {
 	 * @throws DMLRuntimeException if DMLRuntimeException occurs
 	 */
 	public MatrixBlock getMatrixInput(String varName, String opcode) throws DMLRuntimeException {
+		return getMatrixInput(varName, opcode, false);
+	}
+	
+	/**
+	 * Pins a matrix variable into memory, update the finegrained statistics and returns the 
+	 * internal matrix block, without conversion of off-heap or single-precision dense blocks.
+	 * This is only used by instructions whose kernels access dense blocks via the dense block API.
+	 * 
+	 * @param varName variable name
+	 * @param opcode  extended opcode
+	 * @return matrix block
+	 * @throws DMLRuntimeException if DMLRuntimeException occurs
+	 */
+	public MatrixBlock getMatrixInputAnyDense(String varName, String opcode) throws DMLRuntimeException {
+		return getMatrixInput(varName, opcode, true);
+	}
+	
+	private MatrixBlock getMatrixInput(String varName, String opcode, boolean anyDense) throws DMLRuntimeException {
 		long t1 = opcode != null && DMLScript.STATISTICS && DMLScript.FINEGRAINED_STATISTICS ? System.nanoTime() : 0;
-		MatrixBlock mb = getMatrixInput(varName);
+		MatrixBlock mb = anyDense ? getMatrixObject(varName).acquireReadAnyDense() : getMatrixInput(varName);
 		if(opcode != null && DMLScript.STATISTICS && DMLScript.FINEGRAINED_STATISTICS) {
 			long t2 = System.nanoTime();
 			if(mb.isInSparseFormat())
@@ -261,7 +291,9 @@ public class ExecutionContext {
 	}
 	
 	/**
-	 * Pins a matrix variable into memory and returns the internal matrix block.
+	 * Pins a matrix variable into memory and returns the internal matrix block. Off-heap
+	 * or single-precision dense blocks are converted once to heap blocks by the buffer
+	 * pool (see MatrixObject.acquireRead) because most operations access the arrays.
 	 * 
 	 * @param varName variable name
 	 * @return matrix block
@@ -83,6 +83,7 @@ import org.apache.sysml.runtime.instructions.cp.VariableCPInstruction;
 import org.apache.sysml.runtime.instructions.gpu.GPUInstruction;
 import org.apache.sysml.runtime.instructions.mr.MRInstruction;
 import org.apache.sysml.runtime.instructions.spark.SPInstruction;
+import org.apache.sysml.runtime.lineage.Lineage;
 import org.apache.sysml.runtime.matrix.MatrixCharacteristics;
 import org.apache.sysml.runtime.matrix.MetaDataFormat;
 import org.apache.sysml.runtime.matrix.data.InputInfo;
@@ -168,6 +169,7 @@ public class ProgramConverter
 	{
 		ExecutionContext cpec = ExecutionContextFactory.createContext(false, ec.getProgram());
 		cpec.setVariables((LocalVariableMap) ec.getVariables().clone());
+		cpec.setLineage(new Lineage(ec.getLineage()));
 	
 		//handle result variables with in-place update flag
 		//(each worker requires its own copy of the empty matrix object)
@@ -788,6 +790,40 @@ public class ProgramConverter
 		return sb.toString();
 	}
 
+	/**
+	 * Serializes a CP-only runtime program, i.e., its program blocks and all
+	 * transitively called functions, which allows to reuse the compiled program
+	 * without parsing and compilation (e.g., for JMLC prepared scripts).
+	 * 
+	 * @param prog runtime program
+	 * @param clsMap output map of class data of generated operators
+	 * @return serialized program
+	 * @throws DMLRuntimeException if the program contains unsupported instructions
+	 */
+	public static String serializeProgram( Program prog, HashMap<String,byte[]> clsMap ) 
+		throws DMLRuntimeException
+	{
+		ArrayList<ProgramBlock> pbs = prog.getProgramBlocks();
+		StringBuilder sb = new StringBuilder();
+		
+		//handle functions
+		sb.append( PARFOR_PROG_BEGIN );
+		sb.append( NEWLINE );
+		sb.append( serializeProgram(prog, pbs, clsMap) );
+		sb.append( PARFOR_PROG_END );
+		sb.append( NEWLINE );
+		sb.append( COMPONENTS_DELIM );
+		sb.append( NEWLINE );
+		
+		//handle program blocks
+		sb.append( PARFOR_PBS_BEGIN );
+		sb.append( NEWLINE );
+		sb.append( rSerializeProgramBlocks(pbs, clsMap) );
+		sb.append( PARFOR_PBS_END );
+		
+		return sb.toString();
+	}
+	
 	private static String serializeProgram( Program prog, ArrayList<ProgramBlock> pbs, HashMap<String, byte[]> clsMap ) 
 		throws DMLRuntimeException
 	{
@@ -1340,6 +1376,28 @@ public class ProgramConverter
 		return body;		
 	}
 
+	/**
+	 * Parses a runtime program serialized via {@link #serializeProgram(Program, HashMap)}.
+	 * Generated operator classes need to be loaded before parsing.
+	 * 
+	 * @param in serialized program
+	 * @return runtime program
+	 * @throws DMLRuntimeException if DMLRuntimeException occurs
+	 */
+	public static Program parseProgram( String in ) 
+		throws DMLRuntimeException
+	{
+		String tmpin = in.replaceAll(NEWLINE, ""); //normalization
+		HierarchyAwareStringTokenizer st = new HierarchyAwareStringTokenizer(tmpin, COMPONENTS_DELIM);
+		
+		//handle functions and program blocks
+		Program prog = parseProgram( st.nextToken(), 0 );
+		for( ProgramBlock pb : rParseProgramBlocks(st.nextToken(), prog, 0) )
+			prog.addProgramBlock(pb);
+		
+		return prog;
+	}
+	
 	public static Program parseProgram( String in, int id ) 
 		throws DMLRuntimeException
 	{
@@ -68,11 +68,16 @@ public class AggregateBinaryCPInstruction extends BinaryCPInstruction {
 		throws DMLRuntimeException
 	{	
 		//get inputs
-		MatrixBlock matBlock1 = ec.getMatrixInput(input1.getName(), getExtendedOpcode());
-		MatrixBlock matBlock2 = ec.getMatrixInput(input2.getName(), getExtendedOpcode());
+		MatrixBlock matBlock1 = ec.getMatrixInputAnyDense(input1.getName(), getExtendedOpcode());
+		MatrixBlock matBlock2 = ec.getMatrixInputAnyDense(input2.getName(), getExtendedOpcode());
 		
 		//compute matrix multiplication
 		AggregateBinaryOperator ab_op = (AggregateBinaryOperator) _optr;
+		if( matBlock1 instanceof CompressedMatrixBlock || matBlock2 instanceof CompressedMatrixBlock ) {
+			//explicit conversion as compressed kernels access the uncompressed side via arrays
+			matBlock1 = matBlock1.getHeapDenseCopy();
+			matBlock2 = matBlock2.getHeapDenseCopy();
+		}
 		MatrixBlock main = (matBlock2 instanceof CompressedMatrixBlock) ? matBlock2 : matBlock1;
 		MatrixBlock ret = (MatrixBlock) main.aggregateBinaryOperations(matBlock1, matBlock2, new MatrixBlock(), ab_op);
 		
@@ -19,6 +19,7 @@
 
 package org.apache.sysml.runtime.instructions.cp;
 
+import org.apache.sysml.conf.ConfigurationManager;
 import org.apache.sysml.hops.OptimizerUtils;
 import org.apache.sysml.runtime.DMLRuntimeException;
 import org.apache.sysml.runtime.compress.CompressedMatrixBlock;
@@ -52,9 +53,10 @@ public class CompressionCPInstruction extends ComputationCPInstruction {
 		//get matrix block input
 		MatrixBlock in = ec.getMatrixInput(input1.getName(), getExtendedOpcode());
 		
-		//compress the matrix block
+		//compress the matrix block (w/ configured time budget)
 		MatrixBlock out = new CompressedMatrixBlock(in)
-			.compress(OptimizerUtils.getConstrainedNumThreads(-1));
+			.compress(OptimizerUtils.getConstrainedNumThreads(-1),
+				ConfigurationManager.getCompressionTimeBudget());
 		
 		//set output and release input
 		ec.releaseMatrixInput(input1.getName(), getExtendedOpcode());
@@ -30,6 +30,8 @@ import org.apache.sysml.runtime.controlprogram.context.ExecutionContext;
 import org.apache.sysml.runtime.functionobjects.KahanPlus;
 import org.apache.sysml.runtime.instructions.InstructionUtils;
 import org.apache.sysml.runtime.matrix.data.ConvolutionParameters;
+import org.apache.sysml.runtime.matrix.data.DenseBlock;
+import org.apache.sysml.runtime.matrix.data.DenseBlockFactory;
 import org.apache.sysml.runtime.matrix.data.LibMatrixDNN;
 import org.apache.sysml.runtime.matrix.data.LibMatrixNative;
 import org.apache.sysml.runtime.matrix.data.MatrixBlock;
@@ -367,6 +369,21 @@ public class ConvolutionCPInstruction extends UnaryCPInstruction {
 		return filter.isInSparseFormat();
 	}
 	
+	private static boolean isSinglePrecisionConv2d(MatrixBlock in, int rlen, int clen) {
+		//single-precision dense input and configured output for the float conv2d kernel
+		return !in.isInSparseFormat() && DenseBlockFactory.isDenseBlockType(in.getDenseBlock(), DenseBlock.Type.FP32)
+			&& DenseBlockFactory.getConfiguredDenseBlockType(rlen, clen) == DenseBlock.Type.FP32;
+	}
+	
+	private static MatrixBlock allocateConv2dOutput(int rlen, int clen, boolean fp32) {
+		MatrixBlock ret = new MatrixBlock(rlen, clen, false);
+		if( fp32 )
+			ret.allocateConfiguredDenseBlock(true);
+		else
+			ret.allocateBlock();
+		return ret;
+	}
+	
 	
 	@Override
 	public void processInstruction(ExecutionContext ec)
@@ -388,9 +405,12 @@ public class ConvolutionCPInstruction extends UnaryCPInstruction {
 			return;
 		}
 		
-		// acquire inputs
+		// acquire inputs (java conv2d kernels are aware of single-precision inputs)
 		MatrixBlock outputBlock = null;
-		MatrixBlock matBlock = ec.getMatrixInput(input1.getName(), getExtendedOpcode());
+		boolean conv2d = instOpcode.equalsIgnoreCase("conv2d") || instOpcode.equalsIgnoreCase("conv2d_bias_add");
+		MatrixBlock matBlock = (conv2d && !NativeHelper.isNativeLibraryLoaded()) ?
+			ec.getMatrixInputAnyDense(input1.getName(), getExtendedOpcode()) :
+			ec.getMatrixInput(input1.getName(), getExtendedOpcode());
 		int pad_h = getScalarInput(ec, _padding, 0);
 		int pad_w = getScalarInput(ec, _padding, 1);
 		int stride_h = getScalarInput(ec, _stride, 0);
@@ -442,7 +462,10 @@ public class ConvolutionCPInstruction extends UnaryCPInstruction {
 				outputBlock = new MatrixBlock(N, K*P*Q, true);
 			}
 			else {
-				outputBlock = new MatrixBlock(N, K*P*Q, false).allocateBlock();
+				boolean fp32 = isSinglePrecisionConv2d(matBlock, N, K*P*Q);
+				if( !fp32 )
+					matBlock = matBlock.getHeapDenseCopy();
+				outputBlock = allocateConv2dOutput(N, K*P*Q, fp32);
 				if(params.enableNative && !isFilterSparse(filter) && !matBlock.isInSparseFormat())
 					LibMatrixNative.conv2d(matBlock, filter, outputBlock, params);
 				else
@@ -472,7 +495,10 @@ public class ConvolutionCPInstruction extends UnaryCPInstruction {
 						n, n+1, params.N, params.K, params.P*params.Q);
 			}
 			else {
-				outputBlock = new MatrixBlock(N, K*P*Q, false).allocateBlock();
+				boolean fp32 = isSinglePrecisionConv2d(matBlock, N, K*P*Q);
+				if( !fp32 )
+					matBlock = matBlock.getHeapDenseCopy();
+				outputBlock = allocateConv2dOutput(N, K*P*Q, fp32);
 				if(!bias.isEmpty()) {
 					// Handle situation where both input and filter are non empty, but bias is empty
 					params.bias = bias;
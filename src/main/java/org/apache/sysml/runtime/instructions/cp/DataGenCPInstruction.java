@@ -121,6 +121,13 @@ public class DataGenCPInstruction extends UnaryCPInstruction {
 		return sparsity;
 	}
 
+	public boolean isDeterministic() {
+		//random matrices and samples w/o user-provided seed differ per invocation
+		return method == DataGenMethod.SEQ || seed != DataGenOp.UNSPECIFIED_SEED
+			|| (method == DataGenMethod.RAND && minValue == maxValue
+				&& (sparsity == 1 || minValue == 0));
+	}
+
 	public static DataGenCPInstruction parseInstruction(String str) 
 		throws DMLRuntimeException 
 	{
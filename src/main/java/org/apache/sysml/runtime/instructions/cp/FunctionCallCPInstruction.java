@@ -37,6 +37,7 @@ import org.apache.sysml.runtime.controlprogram.context.ExecutionContext;
 import org.apache.sysml.runtime.controlprogram.context.ExecutionContextFactory;
 import org.apache.sysml.runtime.instructions.Instruction;
 import org.apache.sysml.runtime.instructions.InstructionUtils;
+import org.apache.sysml.runtime.lineage.LineageCacheConfig;
 
 public class FunctionCallCPInstruction extends CPInstruction {
 	private final String _functionName;
@@ -156,6 +157,15 @@ public class FunctionCallCPInstruction extends CPInstruction {
 			fn_ec.getGPUContext(0).initializeThread();
 		}
 		fn_ec.setVariables(functionVariables);
+		
+		// propagate lineage of input parameters to function scope
+		if( LineageCacheConfig.isReuse() ) {
+			for( int i=0; i<fpb.getInputParams().size(); i++ ) {
+				String pname = fpb.getInputParams().get(i).getName();
+				fn_ec.getLineage().set(pname, ec.getLineage().get(_boundInputs[i], ec), fn_ec);
+			}
+		}
+		
 		// execute the function block
 		try {
 			fpb._functionName = this._functionName;
@@ -202,6 +212,12 @@ public class FunctionCallCPInstruction extends CPInstruction {
 			
 			//add/replace data in symbol table
 			ec.setVariable(boundVarName, boundValue);
+			
+			//propagate lineage of return values to caller scope
+			if( LineageCacheConfig.isReuse() ) {
+				ec.getLineage().set(boundVarName, fn_ec.getLineage()
+					.get(fpb.getOutputParams().get(i).getName(), fn_ec), ec);
+			}
 		}
 	}
 
@@ -19,9 +19,12 @@
 
 package org.apache.sysml.runtime.instructions.cp;
 
+import java.io.IOException;
 import java.util.Arrays;
 import java.util.HashMap;
 
+import org.apache.sysml.conf.ConfigurationManager;
+import org.apache.sysml.hops.OptimizerUtils;
 import org.apache.sysml.lops.Lop;
 import org.apache.sysml.parser.ParameterizedBuiltinFunctionExpression;
 import org.apache.sysml.parser.Statement;
@@ -35,10 +38,12 @@ import org.apache.sysml.runtime.functionobjects.ParameterizedBuiltin;
 import org.apache.sysml.runtime.functionobjects.ValueFunction;
 import org.apache.sysml.runtime.instructions.InstructionUtils;
 import org.apache.sysml.runtime.instructions.mr.GroupedAggregateInstruction;
+import org.apache.sysml.runtime.matrix.MatrixCharacteristics;
 import org.apache.sysml.runtime.matrix.data.FrameBlock;
 import org.apache.sysml.runtime.matrix.data.MatrixBlock;
 import org.apache.sysml.runtime.matrix.operators.Operator;
 import org.apache.sysml.runtime.matrix.operators.SimpleOperator;
+import org.apache.sysml.runtime.transform.TfStreamingApply;
 import org.apache.sysml.runtime.transform.TfUtils;
 import org.apache.sysml.runtime.transform.decode.Decoder;
 import org.apache.sysml.runtime.transform.decode.DecoderFactory;
@@ -46,6 +51,7 @@ import org.apache.sysml.runtime.transform.encode.Encoder;
 import org.apache.sysml.runtime.transform.encode.EncoderFactory;
 import org.apache.sysml.runtime.transform.meta.TfMetaUtils;
 import org.apache.sysml.runtime.util.DataConverter;
+import org.apache.sysml.utils.Statistics;
 
 public class ParameterizedBuiltinCPInstruction extends ComputationCPInstruction {
 	private static final int TOSTRING_MAXROWS = 100;
@@ -247,6 +253,30 @@ public class ParameterizedBuiltinCPInstruction extends ComputationCPInstruction
 			ec.setMatrixOutput(output.getName(), ret, getExtendedOpcode());
 			ec.releaseMatrixInput(params.get("target"), getExtendedOpcode());
 		}
+		else if ( opcode.equalsIgnoreCase("transformapply")
+			&& isStreamingTransformApply(ec) ) {
+			//streaming transformapply over chunks of the unpinned input
+			FrameObject fo = ec.getFrameObject(params.get("target"));
+			MatrixObject mo = ec.getMatrixObject(output.getName());
+			FrameBlock meta = ec.getFrameInput(params.get("meta"));
+			int numThreads = params.containsKey("k") ? Integer.parseInt(params.get("k")) : 1;
+			MatrixCharacteristics mc = mo.getMatrixCharacteristics();
+			int brlen = (mc.getRowsPerBlock() > 0) ? mc.getRowsPerBlock() : ConfigurationManager.getBlocksize();
+			int bclen = (mc.getColsPerBlock() > 0) ? mc.getColsPerBlock() : ConfigurationManager.getBlocksize();
+			try {
+				mc.set(TfStreamingApply.apply(params.get("spec"), meta, fo, mo.getFileName(), 
+					brlen, bclen, OptimizerUtils.getLocalMemBudget(), numThreads));
+			}
+			catch(IOException ex) {
+				throw new DMLRuntimeException(ex);
+			}
+			
+			//output available as written file (deleted on rmvar)
+			mo.setHDFSFileExists(true);
+			mo.setDirty(false);
+			ec.releaseFrameInput(params.get("meta"));
+			Statistics.incrementTransformStreamingApply();
+		}
 		else if ( opcode.equalsIgnoreCase("transformapply")) {
 			//acquire locks
 			FrameBlock data = ec.getFrameInput(params.get("target"));
@@ -254,8 +284,9 @@ public class ParameterizedBuiltinCPInstruction extends ComputationCPInstruction
 			String[] colNames = data.getColumnNames();
 			
 			//compute transformapply
+			int numThreads = params.containsKey("k") ? Integer.parseInt(params.get("k")) : 1;
 			Encoder encoder = EncoderFactory.createEncoder(params.get("spec"), colNames, data.getNumColumns(), meta);
-			MatrixBlock mbout = encoder.apply(data, new MatrixBlock(data.getNumRows(), data.getNumColumns(), false));
+			MatrixBlock mbout = encoder.apply(data, new MatrixBlock(data.getNumRows(), data.getNumColumns(), false), numThreads);
 			
 			//release locks
 			ec.setMatrixOutput(output.getName(), mbout, getExtendedOpcode());
@@ -342,6 +373,19 @@ public class ParameterizedBuiltinCPInstruction extends ComputationCPInstruction
 		}
 	}
 	
+	private boolean isStreamingTransformApply(ExecutionContext ec) 
+		throws DMLRuntimeException
+	{
+		//stream over unpinned csv inputs exceeding the memory budget
+		try {
+			return TfStreamingApply.isApplicable(ec.getFrameObject(params.get("target")), 
+				ec.getMatrixObject(output.getName()), OptimizerUtils.getLocalMemBudget());
+		}
+		catch(IOException ex) {
+			throw new DMLRuntimeException(ex);
+		}
+	}
+	
 	private void warnOnTrunction(CacheBlock data, int rows, int cols) {
 		//warn on truncation because users might not be aware and use toString for verification
 		if( (getParam("rows")==null && data.getNumRows()>rows)
@@ -51,6 +51,7 @@ import org.apache.sysml.runtime.matrix.MatrixCharacteristics;
 import org.apache.sysml.runtime.matrix.MetaDataFormat;
 import org.apache.sysml.runtime.matrix.MetaData;
 import org.apache.sysml.runtime.matrix.data.CSVFileFormatProperties;
+import org.apache.sysml.runtime.matrix.data.ColumnarFileFormatProperties;
 import org.apache.sysml.runtime.matrix.data.FileFormatProperties;
 import org.apache.sysml.runtime.matrix.data.FrameBlock;
 import org.apache.sysml.runtime.matrix.data.InputInfo;
@@ -330,6 +331,11 @@ public class VariableCPInstruction extends CPInstruction {
 				if ( parts.length < 15+extSchema || parts.length > 17+extSchema )
 					throw new DMLRuntimeException("Invalid number of operands in createvar instruction: " + str);
 			}
+			else if ( fmt.equalsIgnoreCase("columnar") ) {
+				// Createvar instructions for columnar reads include the pushed-down column range
+				if ( parts.length != 6 && parts.length != 12 && parts.length != 14 )
+					throw new DMLRuntimeException("Invalid number of operands in createvar instruction: " + str);
+			}
 			else {
 				if ( parts.length != 6 && parts.length != 12+extSchema )
 					throw new DMLRuntimeException("Invalid number of operands in createvar instruction: " + str);
@@ -381,6 +387,11 @@ public class VariableCPInstruction extends CPInstruction {
 				}
 				return new VariableCPInstruction(VariableOperationCode.CreateVariable, in1, in2, in3, iimd, updateType, fmtProperties, schema, opcode, str);
 			}
+			else if ( fmt.equalsIgnoreCase("columnar") && parts.length == 14 ) {
+				FileFormatProperties fmtProperties = new ColumnarFileFormatProperties(
+					Long.parseLong(parts[12]), Long.parseLong(parts[13]));
+				return new VariableCPInstruction(VariableOperationCode.CreateVariable, in1, in2, in3, iimd, updateType, fmtProperties, schema, opcode, str);
+			}
 			else {
 				return new VariableCPInstruction(VariableOperationCode.CreateVariable, in1, in2, in3, iimd, updateType, schema, opcode, str);
 			}
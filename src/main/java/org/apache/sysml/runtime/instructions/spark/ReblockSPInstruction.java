@@ -183,6 +183,12 @@ public class ReblockSPInstruction extends UnarySPInstruction {
 			sec.setRDDHandleForVariable(output.getName(), out);
 			sec.addLineageRDD(output.getName(), input1.getName());
 		}
+		else if(iinfo == InputInfo.ColumnarInputInfo) 
+		{
+			//columnar files are only readable via the local reader (incl column projection),
+			//hence we read the matrix in memory and parallelize it on demand
+			Recompiler.executeInMemoryMatrixReblock(sec, input1.getName(), output.getName());
+		}
 		else {
 			throw new DMLRuntimeException("The given InputInfo is not implemented "
 					+ "for ReblockSPInstruction:" + InputInfo.inputInfoToString(iinfo));
@@ -0,0 +1,287 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.apache.sysml.runtime.io;
+
+import java.nio.charset.StandardCharsets;
+
+import org.apache.hadoop.io.Text;
+import org.apache.sysml.parser.Expression.ValueType;
+
+/**
+ * Byte-level tokenizer for delimited lines, which splits and parses the 
+ * fields directly from the UTF-8 bytes of a Text line, i.e., without 
+ * intermediate strings per line or cell. The semantics are consistent with
+ * the string-based reading via trim, IOUtilFunctions.split, per-cell trim, 
+ * and Double.parseDouble: the line and all fields are trimmed of characters 
+ * &lt;= ' ', an empty line has no fields, and all tokens including empty 
+ * ones are preserved. Quotes are not interpreted.
+ * 
+ * Numbers with at most 15 significant digits and a decimal exponent in 
+ * [-22,22] are parsed via an exact fast path (the mantissa and the power
+ * of ten are exactly representable, hence a single rounding); all other 
+ * numbers and special values (e.g., NaN, Infinity) fall back to 
+ * Double.parseDouble.
+ */
+public class ByteCSVTokenizer 
+{
+	private static final int MAX_FAST_DIGITS = 15;
+	private static final int MAX_FAST_EXP = 22;
+	private static final double[] POW10 = new double[MAX_FAST_EXP+1];
+	
+	static {
+		POW10[0] = 1;
+		for( int i=1; i<POW10.length; i++ )
+			POW10[i] = POW10[i-1] * 10;
+	}
+	
+	private final byte _delim;
+	private byte[] _buf = null;
+	private int _start = 0; //start of trimmed line
+	private int _pos = 0; //start of next field
+	private int _end = 0; //end of trimmed line
+	private int _fl = 0;  //start of current field (incl)
+	private int _fu = 0;  //end of current field (excl)
+	
+	public ByteCSVTokenizer(String delim) {
+		if( !isApplicable(delim) )
+			throw new IllegalArgumentException("Unsupported delimiter for byte-level tokenization: "+delim);
+		_delim = (byte) delim.charAt(0);
+	}
+	
+	/**
+	 * Indicates if the given delimiter is supported, i.e., a single 
+	 * ASCII character that cannot be part of a multi-byte character.
+	 * 
+	 * @param delim delimiter
+	 * @return true if supported
+	 */
+	public static boolean isApplicable(String delim) {
+		return delim != null && delim.length() == 1 && delim.charAt(0) < 128;
+	}
+	
+	public void reset(Text line) {
+		reset(line.getBytes(), line.getLength());
+	}
+	
+	public void reset(byte[] buf, int len) {
+		int l = 0, u = len;
+		while( l < u && isWhitespace(buf[l]) )
+			l++;
+		while( u > l && isWhitespace(buf[u-1]) )
+			u--;
+		_buf = buf;
+		_start = l;
+		_end = u;
+		_pos = (l < u) ? l : u + 1; //no fields if empty
+	}
+	
+	/**
+	 * Advances to the next field of the current line.
+	 * 
+	 * @return true if there is another field
+	 */
+	public boolean next() {
+		if( _pos > _end )
+			return false;
+		int l = _pos, u = _pos;
+		byte[] buf = _buf;
+		while( u < _end && buf[u] != _delim )
+			u++;
+		_pos = u + 1;
+		while( l < u && isWhitespace(buf[l]) )
+			l++;
+		while( u > l && isWhitespace(buf[u-1]) )
+			u--;
+		_fl = l;
+		_fu = u;
+		return true;
+	}
+	
+	/**
+	 * Indicates if the current line contains the given character, e.g.,
+	 * for detecting quotes or comments that require special handling.
+	 * 
+	 * @param c ASCII character
+	 * @return true if contained in the trimmed line
+	 */
+	public boolean contains(char c) {
+		for( int i=_start; i<_end; i++ )
+			if( _buf[i] == c )
+				return true;
+		return false;
+	}
+	
+	public boolean isEmptyLine() {
+		return _start >= _end;
+	}
+	
+	public boolean startsWith(char c) {
+		return _start < _end && _buf[_start] == c;
+	}
+	
+	public boolean isEmpty() {
+		return _fl >= _fu;
+	}
+	
+	public double getDouble() {
+		return parseDouble(_buf, _fl, _fu - _fl);
+	}
+	
+	public long getLong() {
+		return parseLong(_buf, _fl, _fu - _fl);
+	}
+	
+	public boolean getBoolean() {
+		//consistent with Boolean.parseBoolean
+		byte[] b = _buf;
+		return _fu - _fl == 4 
+			&& (b[_fl]  |0x20) == 't' && (b[_fl+1]|0x20) == 'r'
+			&& (b[_fl+2]|0x20) == 'u' && (b[_fl+3]|0x20) == 'e';
+	}
+	
+	public String getString() {
+		return new String(_buf, _fl, _fu - _fl, StandardCharsets.UTF_8);
+	}
+	
+	/**
+	 * Obtains the current field as object of the given value type,
+	 * consistent with UtilFunctions.stringToObject.
+	 * 
+	 * @param vt value type
+	 * @return object of given value type
+	 */
+	public Object getObject(ValueType vt) {
+		switch( vt ) {
+			case STRING:  return getString();
+			case BOOLEAN: return getBoolean();
+			case INT:     return getLong();
+			case DOUBLE:  return getDouble();
+			default: throw new RuntimeException("Unsupported value type: "+vt);
+		}
+	}
+	
+	/**
+	 * Parses a double value from the given byte range, with semantics 
+	 * consistent with Double.parseDouble.
+	 * 
+	 * @param b byte array
+	 * @param off offset
+	 * @param len length
+	 * @return double value
+	 * @throws NumberFormatException if not a valid number
+	 */
+	public static double parseDouble(byte[] b, int off, int len) {
+		int i = off, end = off + len;
+		boolean neg = false;
+		if( i < end && (b[i] == '-' || b[i] == '+') )
+			neg = (b[i++] == '-');
+		
+		//parse integer and fraction digits into mantissa
+		long mant = 0;
+		int ndigits = 0, nparsed = 0, exp10 = 0;
+		for( ; i < end; i++, nparsed++ ) {
+			int d = b[i] - '0';
+			if( d < 0 || d > 9 ) break;
+			if( mant != 0 || d != 0 ) ndigits++;
+			if( ndigits > MAX_FAST_DIGITS ) 
+				return parseDoubleSlow(b, off, len);
+			mant = mant * 10 + d;
+		}
+		if( i < end && b[i] == '.' ) {
+			for( i++; i < end; i++, nparsed++, exp10-- ) {
+				int d = b[i] - '0';
+				if( d < 0 || d > 9 ) break;
+				if( mant != 0 || d != 0 ) ndigits++;
+				if( ndigits > MAX_FAST_DIGITS ) 
+					return parseDoubleSlow(b, off, len);
+				mant = mant * 10 + d;
+			}
+		}
+		if( nparsed == 0 ) //e.g., NaN, Infinity
+			return parseDoubleSlow(b, off, len);
+		
+		//parse exponent
+		if( i < end && (b[i] == 'e' || b[i] == 'E') ) {
+			i++;
+			boolean eneg = false;
+			if( i < end && (b[i] == '-' || b[i] == '+') )
+				eneg = (b[i++] == '-');
+			int exp = 0, nexp = 0;
+			for( ; i < end && exp < 10000; i++, nexp++ ) {
+				int d = b[i] - '0';
+				if( d < 0 || d > 9 ) break;
+				exp = exp * 10 + d;
+			}
+			if( nexp == 0 )
+				return parseDoubleSlow(b, off, len);
+			exp10 += eneg ? -exp : exp;
+		}
+		if( i != end ) //e.g., type suffixes
+			return parseDoubleSlow(b, off, len);
+		
+		//exact fast path (single rounding)
+		double ret;
+		if( mant == 0 )
+			ret = 0;
+		else if( exp10 < -MAX_FAST_EXP || exp10 > MAX_FAST_EXP )
+			return parseDoubleSlow(b, off, len);
+		else
+			ret = (exp10 < 0) ? mant / POW10[-exp10] : mant * POW10[exp10];
+		return neg ? -ret : ret;
+	}
+	
+	/**
+	 * Parses a long value from the given byte range, with semantics 
+	 * consistent with Long.parseLong.
+	 * 
+	 * @param b byte array
+	 * @param off offset
+	 * @param len length
+	 * @return long value
+	 * @throws NumberFormatException if not a valid number
+	 */
+	public static long parseLong(byte[] b, int off, int len) {
+		int i = off, end = off + len;
+		boolean neg = false;
+		if( i < end && (b[i] == '-' || b[i] == '+') )
+			neg = (b[i++] == '-');
+		//fast path for up to 18 digits (no overflow)
+		if( i == end || end - i > 18 )
+			return Long.parseLong(new String(b, off, len, StandardCharsets.UTF_8));
+		long ret = 0;
+		for( ; i < end; i++ ) {
+			int d = b[i] - '0';
+			if( d < 0 || d > 9 )
+				return Long.parseLong(new String(b, off, len, StandardCharsets.UTF_8));
+			ret = ret * 10 + d;
+		}
+		return neg ? -ret : ret;
+	}
+	
+	private static double parseDoubleSlow(byte[] b, int off, int len) {
+		return Double.parseDouble(new String(b, off, len, StandardCharsets.UTF_8));
+	}
+	
+	private static boolean isWhitespace(byte b) {
+		//consistent with String.trim (multi-byte chars are negative)
+		return b >= 0 && b <= ' ';
+	}
+}
@@ -21,6 +21,8 @@ package org.apache.sysml.runtime.io;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
 
 import org.apache.hadoop.fs.FileSystem;
 import org.apache.hadoop.fs.Path;
@@ -84,6 +86,11 @@ public class FrameReaderTextCSV extends FrameReader
 		//core read (sequential/parallel) 
 		readCSVFrameFromHDFS(path, job, fs, ret, lschema, lnames, rlen, clen);
 		
+		//dictionary-encode string columns after the (potentially
+		//multi-threaded) read, which requires plain string arrays
+		if( ConfigurationManager.isCompressedFrames() )
+			ret.compressStringColumns();
+		
 		return ret;
 	}
 	
@@ -135,6 +142,10 @@ public class FrameReaderTextCSV extends FrameReader
 		int row = rl;
 		int col = -1;
 		
+		//unknown number of rows (rlen<0): append rows to dest, which
+		//avoids a separate pass over the split to count its rows
+		Object[] emptyRow = (rlen < 0) ? new Object[(int)clen] : null;
+		
 		//handle header if existing
 		if(first && hasHeader ) {
 			reader.next(key, value); //read header
@@ -143,10 +154,43 @@ public class FrameReaderTextCSV extends FrameReader
 			
 		// Read the data
 		boolean emptyValuesFound = false;
+		ByteCSVTokenizer tok = ByteCSVTokenizer.isApplicable(delim) ?
+			new ByteCSVTokenizer(delim) : null;
 		try
 		{
 			while( reader.next(key, value) ) //foreach line
 			{
+				//parse cells directly from the line bytes w/o intermediate strings
+				//(except for empty lines, lines with quotes, or frame meta data)
+				if( tok != null ) {
+					tok.reset(value);
+					if( !tok.isEmptyLine() && !tok.contains('"') && !tok.startsWith('#') ) {
+						if( emptyRow != null )
+							dest.appendRow(emptyRow);
+						emptyValuesFound = false; col = 0;
+						while( tok.next() ) { //foreach cell
+							if( tok.isEmpty() ) {
+								if( isFill && dfillValue!=0 )
+									dest.set(row, col, UtilFunctions.stringToObject(schema[col], sfillValue));
+								emptyValuesFound = true;
+							}
+							else {
+								dest.set(row, col, tok.getObject(schema[col]));
+							}
+							col++;
+						}
+						
+						//sanity checks for empty values and number of columns
+						if( (emptyValuesFound && !isFill) || col != clen ) {
+							String cellStr = value.toString().trim();
+							IOUtilFunctions.checkAndRaiseErrorCSVEmptyField(cellStr, isFill, emptyValuesFound);
+							IOUtilFunctions.checkAndRaiseErrorCSVNumColumns("", cellStr, col, clen);
+						}
+						row++;
+						continue;
+					}
+				}
+				
 				String cellStr = value.toString().trim();
 				emptyValuesFound = false; col = 0;
 				String[] parts = IOUtilFunctions.splitCSV(cellStr, delim);
@@ -161,6 +205,8 @@ public class FrameReaderTextCSV extends FrameReader
 							dest.getColumnMetadata(j).setNumDistinct(Long.parseLong(parts[j+1]));
 					continue;
 				}
+				if( emptyRow != null )
+					dest.appendRow(emptyRow);
 				
 				for( String part : parts ) //foreach cell
 				{
@@ -203,28 +249,120 @@ public class FrameReaderTextCSV extends FrameReader
 		//compute number of rows
 		int nrow = 0;
 		for( int i=0; i<splits.length; i++ ) 
+			nrow += countCSVRows(splits[i], informat, job, i==0);
+		return new Pair<>(nrow, ncol);
+	}
+	
+	protected final int countCSVRows(InputSplit split, InputFormat<LongWritable,Text> informat, JobConf job, boolean first) 
+		throws IOException
+	{
+		RecordReader<LongWritable, Text> reader = informat.getRecordReader(split, job, Reporter.NULL);
+		LongWritable key = new LongWritable();
+		Text value = new Text();
+		int nrow = 0;
+		
+		try
 		{
-			RecordReader<LongWritable, Text> reader = informat.getRecordReader(splits[i], job, Reporter.NULL);
-			LongWritable key = new LongWritable();
-			Text value = new Text();
+			//ignore header of first split
+			if( first && _props.hasHeader() )
+				reader.next(key, value);
 			
-			try
-			{
-				//ignore header of first split
-				if( i==0 && _props.hasHeader() )
-					reader.next(key, value);
+			//count remaining number of rows, ignore meta data
+			while ( reader.next(key, value) ) {
+				String val = value.toString();
+				nrow += ( val.startsWith(TfUtils.TXMTD_MVPREFIX)
+					|| val.startsWith(TfUtils.TXMTD_NDPREFIX)) ? 0 : 1; 
+			}
+		}
+		finally {
+			IOUtilFunctions.closeSilently(reader);
+		}
+		return nrow;
+	}
+	
+	/**
+	 * Reads the given csv file in chunks of consecutive rows, where the file 
+	 * is split into (at least) the given number of chunks and at most one chunk
+	 * is materialized at a time. Chunks are returned in order of their rows, 
+	 * which allows streaming operations over inputs larger than memory.
+	 * 
+	 * @param fname file name
+	 * @param schema schema of value types
+	 * @param names column names
+	 * @param clen number of columns
+	 * @param numChunks minimum number of chunks
+	 * @return iterator over frame blocks of consecutive rows
+	 * @throws IOException if IOException occurs
+	 */
+	public Iterator<FrameBlock> readFrameChunksFromHDFS(String fname, ValueType[] schema, String[] names, 
+			long clen, int numChunks)
+		throws IOException 
+	{
+		//prepare file access
+		JobConf job = new JobConf(ConfigurationManager.getCachedJobConf());	
+		Path path = new Path( fname );
+		FileSystem fs = IOUtilFunctions.getFileSystem(path, job);
+		FileInputFormat.addInputPath(job, path);
+		
+		//check existence and non-empty file
+		checkValidInputFile(fs, path); 
+		
+		//create ordered splits as basis of chunks
+		TextInputFormat informat = new TextInputFormat();
+		informat.configure(job);
+		InputSplit[] splits = informat.getSplits(job, Math.max(numChunks, 1));
+		splits = IOUtilFunctions.sortInputSplits(splits);
+		
+		return new CSVChunkIterator(splits, informat, job,
+			createOutputSchema(schema, clen), createOutputNames(names, clen), clen);
+	}
+	
+	private class CSVChunkIterator implements Iterator<FrameBlock>
+	{
+		private final InputSplit[] _splits;
+		private final TextInputFormat _informat;
+		private final JobConf _job;
+		private final ValueType[] _schema;
+		private String[] _names;
+		private final long _clen;
+		private int _pos = 0;
+		
+		public CSVChunkIterator(InputSplit[] splits, TextInputFormat informat, 
+			JobConf job, ValueType[] schema, String[] names, long clen) 
+		{
+			_splits = splits;
+			_informat = informat;
+			_job = job;
+			_schema = schema;
+			_names = names;
+			_clen = clen;
+		}
+		
+		@Override
+		public boolean hasNext() {
+			return _pos < _splits.length;
+		}
+		
+		@Override
+		public FrameBlock next() {
+			if( !hasNext() )
+				throw new NoSuchElementException();
+			try {
+				//read the next split in a single pass (w/ appended rows)
+				boolean first = (_pos == 0);
+				FrameBlock ret = createOutputFrameBlock(_schema, _names, 0);
+				readCSVFrameFromInputSplit(_splits[_pos], _informat, 
+					_job, ret, _schema, _names, -1, _clen, 0, first);
 				
-				//count remaining number of rows, ignore meta data
-				while ( reader.next(key, value) ) {
-					String val = value.toString();
-					nrow += ( val.startsWith(TfUtils.TXMTD_MVPREFIX)
-						|| val.startsWith(TfUtils.TXMTD_NDPREFIX)) ? 0 : 1; 
-				}
+				//keep column names of header for all chunks
+				if( first )
+					_names = ret.getColumnNames();
+				_pos++;
+				return ret;
 			}
-			finally {
-				IOUtilFunctions.closeSilently(reader);
+			catch(Exception ex) {
+				throw new RuntimeException("Failed to read csv chunk "+_pos+" of "+_splits.length+".", ex);
 			}
 		}
-		return new Pair<>(nrow, ncol);
 	}
 }
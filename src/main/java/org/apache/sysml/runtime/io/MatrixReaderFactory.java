@@ -23,6 +23,7 @@ import org.apache.sysml.conf.CompilerConfig.ConfigType;
 import org.apache.sysml.conf.ConfigurationManager;
 import org.apache.sysml.runtime.DMLRuntimeException;
 import org.apache.sysml.runtime.matrix.data.CSVFileFormatProperties;
+import org.apache.sysml.runtime.matrix.data.ColumnarFileFormatProperties;
 import org.apache.sysml.runtime.matrix.data.InputInfo;
 import org.apache.sysml.runtime.matrix.data.MatrixBlock;
 import org.apache.sysml.runtime.matrix.data.SparseBlock;
@@ -57,6 +58,8 @@ public class MatrixReaderFactory
 			else
 				reader = new ReaderBinaryBlock( false );
 		}
+		else if( iinfo == InputInfo.ColumnarInputInfo )
+			reader = new ReaderColumnar(null);
 		else {
 			throw new DMLRuntimeException("Failed to create matrix reader for unknown input info: "
 		                                   + InputInfo.inputInfoToString(iinfo));
@@ -95,6 +98,11 @@ public class MatrixReaderFactory
 			else
 				reader = new ReaderBinaryBlock( props.localFS );
 		}
+		else if( iinfo == InputInfo.ColumnarInputInfo ) {
+			if( props.formatProperties!=null && !(props.formatProperties instanceof ColumnarFileFormatProperties) )
+				throw new DMLRuntimeException("Wrong type of file format properties for columnar reader.");
+			reader = new ReaderColumnar( (ColumnarFileFormatProperties)props.formatProperties );
+		}
 		else {
 			throw new DMLRuntimeException("Failed to create matrix reader for unknown input info: "
 		                                   + InputInfo.inputInfoToString(iinfo));
@@ -23,6 +23,7 @@ import org.apache.sysml.conf.CompilerConfig.ConfigType;
 import org.apache.sysml.conf.ConfigurationManager;
 import org.apache.sysml.runtime.DMLRuntimeException;
 import org.apache.sysml.runtime.matrix.data.CSVFileFormatProperties;
+import org.apache.sysml.runtime.matrix.data.ColumnarFileFormatProperties;
 import org.apache.sysml.runtime.matrix.data.FileFormatProperties;
 import org.apache.sysml.runtime.matrix.data.OutputInfo;
 
@@ -72,6 +73,10 @@ public class MatrixWriterFactory
 			else
 				writer = new WriterBinaryBlock(replication);
 		}
+		else if( oinfo == OutputInfo.ColumnarOutputInfo ) {
+			writer = new WriterColumnar( (props instanceof ColumnarFileFormatProperties) ?
+				(ColumnarFileFormatProperties)props : null );
+		}
 		else {
 			throw new DMLRuntimeException("Failed to create matrix writer for unknown output info: "
 		                                   + OutputInfo.outputInfoToString(oinfo));
@@ -0,0 +1,335 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.apache.sysml.runtime.io;
+
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.zip.InflaterInputStream;
+
+import org.apache.commons.io.IOUtils;
+import org.apache.hadoop.fs.FSDataInputStream;
+import org.apache.hadoop.fs.FileSystem;
+import org.apache.hadoop.fs.Path;
+import org.apache.hadoop.fs.PositionedReadable;
+import org.apache.hadoop.fs.Seekable;
+import org.apache.hadoop.mapred.JobConf;
+import org.apache.sysml.api.DMLScript;
+import org.apache.sysml.conf.ConfigurationManager;
+import org.apache.sysml.hops.OptimizerUtils;
+import org.apache.sysml.runtime.DMLRuntimeException;
+import org.apache.sysml.runtime.io.WriterColumnar.ColumnChunk;
+import org.apache.sysml.runtime.matrix.data.ColumnarFileFormatProperties;
+import org.apache.sysml.runtime.matrix.data.MatrixBlock;
+import org.apache.sysml.utils.Statistics;
+
+/**
+ * Reader for the columnar binary format (see {@link WriterColumnar}). If the
+ * file format properties carry a column range (e.g., pushed down from a
+ * right indexing over a persistent read), only the overlapping column chunks
+ * are read and decoded, and empty chunks are skipped based on their stats.
+ * Chunks are read via positioned reads and decoded in parallel.
+ */
+public class ReaderColumnar extends MatrixReader
+{
+	private final ColumnarFileFormatProperties _props;
+	
+	public ReaderColumnar(ColumnarFileFormatProperties props) {
+		_props = props;
+	}
+	
+	@Override
+	public MatrixBlock readMatrixFromHDFS(String fname, long rlen, long clen, int brlen, int bclen, long estnnz) 
+		throws IOException, DMLRuntimeException 
+	{
+		//prepare file access
+		JobConf job = new JobConf(ConfigurationManager.getCachedJobConf());
+		Path path = new Path( fname );
+		FileSystem fs = IOUtilFunctions.getFileSystem(path, job);
+		
+		//check existence and non-empty file
+		checkValidInputFile(fs, path);
+		
+		FSDataInputStream in = fs.open(path);
+		try {
+			return readColumnarMatrix(in, fs.getFileStatus(path).getLen(), rlen, clen, brlen, bclen);
+		}
+		finally {
+			IOUtilFunctions.closeSilently(in);
+		}
+	}
+	
+	@Override
+	public MatrixBlock readMatrixFromInputStream(InputStream is, long rlen, long clen, int brlen, int bclen, long estnnz) 
+		throws IOException, DMLRuntimeException 
+	{
+		//buffer the entire stream because the chunk directory is located in 
+		//the file footer, and chunks are read via positioned reads
+		byte[] data = IOUtils.toByteArray(is);
+		FSDataInputStream in = new FSDataInputStream(new SeekableByteArrayInputStream(data));
+		try {
+			return readColumnarMatrix(in, data.length, rlen, clen, brlen, bclen);
+		}
+		finally {
+			IOUtilFunctions.closeSilently(in);
+		}
+	}
+	
+	private MatrixBlock readColumnarMatrix(FSDataInputStream in, long flen, long rlen, long clen, int brlen, int bclen) 
+		throws IOException, DMLRuntimeException 
+	{
+		//read header and chunk directory
+		long[] dims = new long[2];
+		ColumnChunk[] chunks = readColumnChunks(in, flen, dims);
+		
+		//determine (0-based) column range [cl, cu)
+		int cl = 0, cu = (int)dims[1];
+		if( _props != null && _props.hasColumnProjection() ) {
+			cl = (int)_props.getColLower() - 1;
+			cu = (int)_props.getColUpper();
+		}
+		if( cu > dims[1] )
+			throw new IOException("Invalid column projection ["+(cl+1)+":"+cu+"] for "+dims[1]+" columns.");
+		if( (rlen >= 0 && rlen != dims[0]) || (clen >= 0 && clen != cu-cl) )
+			throw new IOException("Matrix dimensions mismatch with metadata: "+dims[0]+"x"+(cu-cl)+" vs "+rlen+"x"+clen+".");
+		
+		//select overlapping non-empty chunks, and estimate nnz via chunk stats
+		ArrayList<ColumnChunk> sel = new ArrayList<>();
+		long lnnz = 0;
+		for( ColumnChunk chunk : chunks )
+			if( chunk.cu > cl && chunk.cl < cu && chunk.nnz > 0 ) {
+				sel.add(chunk);
+				int ov = Math.min(chunk.cu, cu) - Math.max(chunk.cl, cl);
+				lnnz += (ov == chunk.cu-chunk.cl) ? chunk.nnz : 
+					(long)Math.ceil((double)chunk.nnz * ov / (chunk.cu-chunk.cl));
+			}
+		
+		if( DMLScript.STATISTICS )
+			Statistics.incrementColumnarChunks(sel.size(), chunks.length);
+		
+		//allocate output matrix block
+		MatrixBlock ret = createOutputMatrixBlock(dims[0], cu-cl, bclen, brlen, lnnz, true, false);
+		
+		//core read (sequential/parallel over chunks)
+		readColumnarMatrixFromHDFS(in, ret, sel, cl, cu);
+		
+		//finally check if change of sparse/dense block representation required
+		ret.recomputeNonZeros();
+		ret.examSparsity();
+		return ret;
+	}
+	
+	/**
+	 * Reads the chunk directory (incl. per-chunk statistics) of a columnar
+	 * file without decoding any chunk data.
+	 * 
+	 * @param fname file name
+	 * @return column chunk directory
+	 * @throws IOException if IOException occurs
+	 */
+	public static ColumnChunk[] readColumnChunks(String fname) 
+		throws IOException
+	{
+		JobConf job = new JobConf(ConfigurationManager.getCachedJobConf());
+		Path path = new Path( fname );
+		FileSystem fs = IOUtilFunctions.getFileSystem(path, job);
+		FSDataInputStream in = fs.open(path);
+		try {
+			return readColumnChunks(in, fs.getFileStatus(path).getLen(), new long[2]);
+		}
+		finally {
+			IOUtilFunctions.closeSilently(in);
+		}
+	}
+	
+	private static ColumnChunk[] readColumnChunks(FSDataInputStream in, long flen, long[] dims) 
+		throws IOException
+	{
+		//read and check header
+		if( in.readInt() != WriterColumnar.MAGIC )
+			throw new IOException("Invalid columnar file: wrong magic number.");
+		int version = in.readInt();
+		if( version != WriterColumnar.VERSION )
+			throw new IOException("Unsupported columnar file version: "+version+".");
+		dims[0] = in.readLong();
+		dims[1] = in.readLong();
+		
+		//read chunk directory from file footer
+		in.seek(flen - 12);
+		long dirOffset = in.readLong();
+		if( in.readInt() != WriterColumnar.MAGIC )
+			throw new IOException("Invalid columnar file: corrupted footer.");
+		in.seek(dirOffset);
+		ColumnChunk[] chunks = new ColumnChunk[in.readInt()];
+		for( int i=0; i<chunks.length; i++ )
+			chunks[i] = ColumnChunk.read(in);
+		return chunks;
+	}
+	
+	private static void readColumnarMatrixFromHDFS(FSDataInputStream in, MatrixBlock dest, List<ColumnChunk> chunks, int cl, int cu) 
+		throws IOException
+	{
+		//note: parallel copy only into disjoint column ranges of preallocated dense blocks
+		boolean dense = !dest.isInSparseFormat();
+		ArrayList<DecodeTask> tasks = new ArrayList<>();
+		for( ColumnChunk chunk : chunks )
+			tasks.add(new DecodeTask(in, chunk, dense ? dest : null, cl, cu));
+		int k = Math.min(OptimizerUtils.getParallelBinaryReadParallelism(), tasks.size());
+		
+		try {
+			if( k <= 1 ) {
+				for( DecodeTask task : tasks ) {
+					MatrixBlock tmp = task.call();
+					if( !dense )
+						copyChunk(dest, tmp, task._chunk, cl, cu);
+				}
+			}
+			else {
+				ExecutorService pool = Executors.newFixedThreadPool(k);
+				try {
+					List<Future<MatrixBlock>> rt = pool.invokeAll(tasks);
+					for( int i=0; i<rt.size(); i++ ) {
+						MatrixBlock tmp = rt.get(i).get();
+						if( !dense )
+							copyChunk(dest, tmp, tasks.get(i)._chunk, cl, cu);
+					}
+				}
+				finally {
+					pool.shutdown();
+				}
+			}
+		}
+		catch(Exception ex) {
+			throw new IOException("Failed to read column chunks.", ex);
+		}
+	}
+	
+	private static void copyChunk(MatrixBlock dest, MatrixBlock src, ColumnChunk chunk, int cl, int cu) 
+		throws DMLRuntimeException 
+	{
+		//slice overlapping columns of partially selected chunks
+		int lcl = Math.max(chunk.cl, cl);
+		int lcu = Math.min(chunk.cu, cu);
+		if( lcl > chunk.cl || lcu < chunk.cu )
+			src = src.sliceOperations(0, src.getNumRows()-1, lcl-chunk.cl, lcu-chunk.cl-1, new MatrixBlock());
+		dest.copy(0, dest.getNumRows()-1, lcl-cl, lcu-cl-1, src, false);
+	}
+	
+	/**
+	 * Seekable in-memory input stream with thread-safe positioned reads,
+	 * which allows to read columnar data from arbitrary input streams.
+	 */
+	private static class SeekableByteArrayInputStream extends ByteArrayInputStream 
+		implements Seekable, PositionedReadable
+	{
+		public SeekableByteArrayInputStream(byte[] buf) {
+			super(buf);
+		}
+		
+		@Override
+		public synchronized void seek(long pos) throws IOException {
+			if( pos < 0 || pos > count )
+				throw new IOException("Invalid seek position: "+pos+".");
+			this.pos = (int) pos;
+		}
+		
+		@Override
+		public synchronized long getPos() {
+			return pos;
+		}
+		
+		@Override
+		public boolean seekToNewSource(long targetPos) {
+			return false;
+		}
+		
+		@Override
+		public int read(long position, byte[] buffer, int offset, int length) {
+			if( position >= count )
+				return -1;
+			int len = (int) Math.min(length, count - position);
+			System.arraycopy(buf, (int)position, buffer, offset, len);
+			return len;
+		}
+		
+		@Override
+		public void readFully(long position, byte[] buffer, int offset, int length) throws IOException {
+			if( position < 0 || position + length > count )
+				throw new EOFException("Positioned read beyond end of stream: "+position+"+"+length+".");
+			System.arraycopy(buf, (int)position, buffer, offset, length);
+		}
+		
+		@Override
+		public void readFully(long position, byte[] buffer) throws IOException {
+			readFully(position, buffer, 0, buffer.length);
+		}
+	}
+	
+	private static class DecodeTask implements Callable<MatrixBlock> 
+	{
+		private final FSDataInputStream _in;
+		private final ColumnChunk _chunk;
+		private final MatrixBlock _dest;
+		private final int _cl;
+		private final int _cu;
+		
+		public DecodeTask(FSDataInputStream in, ColumnChunk chunk, MatrixBlock dest, int cl, int cu) {
+			_in = in;
+			_chunk = chunk;
+			_dest = dest;
+			_cl = cl;
+			_cu = cu;
+		}
+		
+		@Override
+		public MatrixBlock call() throws Exception {
+			//positioned read of chunk data (thread-safe, independent of stream position)
+			byte[] buff = new byte[_chunk.length];
+			_in.readFully(_chunk.offset, buff);
+			
+			//decompress and deserialize chunk
+			InputStream is = new ByteArrayInputStream(buff);
+			if( _chunk.compressed )
+				is = new InflaterInputStream(is);
+			MatrixBlock ret = new MatrixBlock();
+			DataInputStream dis = new DataInputStream(is);
+			try {
+				ret.readFields(dis);
+			}
+			finally {
+				IOUtilFunctions.closeSilently(dis);
+			}
+			
+			//copy into disjoint columns of dense output
+			if( _dest != null )
+				copyChunk(_dest, ret, _chunk, _cl, _cu);
+			return ret;
+		}
+	}
+}
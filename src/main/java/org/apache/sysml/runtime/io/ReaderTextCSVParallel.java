@@ -53,7 +53,9 @@ import org.apache.sysml.runtime.matrix.data.MatrixBlock;
  * textcell parallel read, we also do lock-free inserts. If the matrix is
  * sparse, because splits contain row partitioned lines and hence there is no
  * danger of lost updates. Note, there is also no sorting of sparse rows
- * required because data comes in sorted order per row.
+ * required because data comes in sorted order per row. For single-character
+ * delimiters, cells are parsed directly from the bytes of each line without
+ * intermediate strings per line or cell (see ByteCSVTokenizer).
  * 
  */
 public class ReaderTextCSVParallel extends MatrixReader 
@@ -387,7 +389,45 @@ public class ReaderTextCSVParallel extends MatrixReader
 				row = _splitoffsets.getOffsetPerSplit(_splitCount);
 
 				try {
-					if (_sparse) // SPARSE<-value
+					if( ByteCSVTokenizer.isApplicable(_delim) ) // BYTES<-value
+					{
+						//parse cells directly from the line bytes w/o intermediate strings
+						ByteCSVTokenizer tok = new ByteCSVTokenizer(_delim);
+						DenseBlock a = _sparse ? null : _dest.getDenseBlock();
+						while (reader.next(key, value)) // foreach line
+						{
+							tok.reset(value);
+							col = 0;
+							while( tok.next() ) // foreach cell
+							{
+								if( tok.isEmpty() ) {
+									noFillEmpty |= !_fill;
+									cellValue = _fillValue;
+								}
+								else {
+									cellValue = tok.getDouble();
+								}
+								if( cellValue != 0 ) {
+									if( _sparse )
+										_dest.appendValue(row, col, cellValue);
+									else
+										a.set(row, col, cellValue);
+									lnnz++;
+								}
+								col++;
+							}
+							
+							// sanity checks (number of columns, fill values)
+							if( (noFillEmpty && !_fill) || col != _clen ) {
+								String cellStr = value.toString().trim();
+								IOUtilFunctions.checkAndRaiseErrorCSVEmptyField(cellStr, _fill, noFillEmpty);
+								IOUtilFunctions.checkAndRaiseErrorCSVNumColumns(_split.toString(), cellStr, col, _clen);
+							}
+							
+							row++;
+						}
+					}
+					else if (_sparse) // SPARSE<-value
 					{
 						while (reader.next(key, value)) // foreach line
 						{
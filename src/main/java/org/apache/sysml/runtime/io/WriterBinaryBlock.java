@@ -102,9 +102,52 @@ public class WriterBinaryBlock extends MatrixWriter
 		writeBinaryBlockMatrixToSequenceFile(path, job, fs, src, brlen, bclen, 0, (int)rlen);
 	}
 
-	@SuppressWarnings("deprecation")
+	/**
+	 * Writes the given row partition of a larger matrix as a separate part file 
+	 * into the given output directory, which allows writing binary block outputs
+	 * incrementally (e.g., for streaming operations). The row offset of the 
+	 * partition needs to be aligned with the row block size.
+	 * 
+	 * @param src matrix block of the row partition
+	 * @param fname output directory name
+	 * @param partID part file ID
+	 * @param rowOffset 0-based row offset of the partition
+	 * @param brlen number of rows in block
+	 * @param bclen number of columns in block
+	 * @throws IOException if IOException occurs
+	 * @throws DMLRuntimeException if DMLRuntimeException occurs
+	 */
+	public final void writePartitionToHDFS(MatrixBlock src, String fname, int partID, long rowOffset, int brlen, int bclen) 
+		throws IOException, DMLRuntimeException 
+	{
+		if( rowOffset % brlen != 0 )
+			throw new IOException("Row offset "+rowOffset+" not aligned with row block size "+brlen+".");
+		
+		//prepare file access
+		JobConf job = new JobConf(ConfigurationManager.getCachedJobConf());
+		Path path = new Path( fname, IOUtilFunctions.getPartFileName(partID) );
+		FileSystem fs = IOUtilFunctions.getFileSystem(path, job);
+		
+		//set up preferred custom serialization framework for binary block format
+		if( MRJobConfiguration.USE_BINARYBLOCK_SERIALIZATION )
+			MRJobConfiguration.addBinaryBlockSerializationFramework( job );
+		
+		//core write of all blocks w/ shifted block indexes
+		writeBinaryBlockMatrixToSequenceFile(path, job, fs, src, 
+			brlen, bclen, 0, src.getNumRows(), rowOffset/brlen);
+		
+		IOUtilFunctions.deleteCrcFilesFromLocalFileSystem(fs, path);
+	}
+	
 	protected final void writeBinaryBlockMatrixToSequenceFile( Path path, JobConf job, FileSystem fs, MatrixBlock src, int brlen, int bclen, int rl, int ru ) 
 		throws DMLRuntimeException, IOException
+	{
+		writeBinaryBlockMatrixToSequenceFile(path, job, fs, src, brlen, bclen, rl, ru, 0);
+	}
+
+	@SuppressWarnings("deprecation")
+	private void writeBinaryBlockMatrixToSequenceFile( Path path, JobConf job, FileSystem fs, MatrixBlock src, int brlen, int bclen, int rl, int ru, long brOffset ) 
+		throws DMLRuntimeException, IOException
 	{
 		boolean sparse = src.isInSparseFormat();
 		int rlen = src.getNumRows();
@@ -139,7 +182,7 @@ public class WriterBinaryBlock extends MatrixWriter
 			if( rlen <= brlen && clen <= bclen && rl == 0 ) //opt for single block
 			{
 				//directly write single block
-				indexes.setIndexes(1, 1);
+				indexes.setIndexes(brOffset+1, 1);
 				writer.append(indexes, src);
 			}
 			else //general case
@@ -165,7 +208,7 @@ public class WriterBinaryBlock extends MatrixWriter
 								             col_offset, col_offset+maxCol-1, block );
 						
 						//append block to sequence file
-						indexes.setIndexes(blockRow+1, blockCol+1);
+						indexes.setIndexes(brOffset+blockRow+1, blockCol+1);
 						writer.append(indexes, block);
 							
 						//reset block for later reuse
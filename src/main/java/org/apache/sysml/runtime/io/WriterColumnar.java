@@ -0,0 +1,277 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.apache.sysml.runtime.io;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.zip.Deflater;
+
+import org.apache.hadoop.fs.FSDataOutputStream;
+import org.apache.hadoop.fs.FileSystem;
+import org.apache.hadoop.fs.Path;
+import org.apache.hadoop.mapred.JobConf;
+import org.apache.sysml.conf.ConfigurationManager;
+import org.apache.sysml.hops.OptimizerUtils;
+import org.apache.sysml.runtime.DMLRuntimeException;
+import org.apache.sysml.runtime.matrix.data.ColumnarFileFormatProperties;
+import org.apache.sysml.runtime.matrix.data.MatrixBlock;
+import org.apache.sysml.runtime.util.MapReduceTool;
+
+/**
+ * Writer for the columnar binary format, which stores a matrix as a single
+ * file of column chunks (all rows of a range of columns each), followed by
+ * a chunk directory with per-chunk offsets and statistics (nnz, min, max):
+ * 
+ * [magic, version, rlen, clen] [chunk_1] ... [chunk_n] 
+ * [n, directory entries] [directory offset, magic]
+ * 
+ * Each chunk is a serialized matrix block, optionally deflate-compressed if 
+ * this reduces its size. Readers with a pushed-down column range only read 
+ * and decode the chunks that overlap this range.
+ */
+public class WriterColumnar extends MatrixWriter
+{
+	public static final int MAGIC = 0x53434f4c; //SCOL
+	public static final int VERSION = 1;
+	
+	//max number of cells and columns per column chunk
+	public static final long CHUNK_SIZE = 1024 * 1024;
+	public static final int CHUNK_MAX_COLS = 64;
+	
+	//min size reduction to keep a compressed chunk
+	private static final double MIN_COMPRESSION_RATIO = 1.1;
+	
+	protected final boolean _compress;
+	
+	public WriterColumnar(ColumnarFileFormatProperties props) {
+		_compress = (props == null || props.isCompress());
+	}
+	
+	@Override
+	public final void writeMatrixToHDFS(MatrixBlock src, String fname, long rlen, long clen, int brlen, int bclen, long nnz) 
+		throws IOException, DMLRuntimeException 
+	{
+		//validity check matrix dimensions
+		if( src.getNumRows() != rlen || src.getNumColumns() != clen )
+			throw new IOException("Matrix dimensions mismatch with metadata: "+src.getNumRows()+"x"+src.getNumColumns()+" vs "+rlen+"x"+clen+".");
+		
+		//prepare file access
+		JobConf job = new JobConf(ConfigurationManager.getCachedJobConf());
+		Path path = new Path( fname );
+		FileSystem fs = IOUtilFunctions.getFileSystem(path, job);
+		
+		//if the file already exists on HDFS, remove it.
+		MapReduceTool.deleteFileIfExistOnHDFS( fname );
+		
+		//core write (parallel chunk encoding)
+		writeColumnarMatrixToHDFS(path, fs, src);
+		
+		IOUtilFunctions.deleteCrcFilesFromLocalFileSystem(fs, path);
+	}
+
+	@Override
+	public final void writeEmptyMatrixToHDFS(String fname, long rlen, long clen, int brlen, int bclen) 
+		throws IOException, DMLRuntimeException 
+	{
+		MatrixBlock empty = new MatrixBlock((int)rlen, (int)clen, true);
+		writeMatrixToHDFS(empty, fname, rlen, clen, brlen, bclen, 0);
+	}
+	
+	/**
+	 * Obtain the number of columns per chunk, which bounds the chunk size
+	 * for tall matrices but keeps the chunks narrow enough to benefit from
+	 * column projection for wide matrices.
+	 * 
+	 * @param rlen number of rows
+	 * @param clen number of columns
+	 * @return number of columns per chunk
+	 */
+	public static int getChunkWidth(long rlen, long clen) {
+		long w = Math.min(CHUNK_SIZE / Math.max(rlen, 1), CHUNK_MAX_COLS);
+		return (int) Math.max(Math.min(w, clen), 1);
+	}
+	
+	private void writeColumnarMatrixToHDFS(Path path, FileSystem fs, MatrixBlock src) 
+		throws IOException, DMLRuntimeException
+	{
+		int rlen = src.getNumRows();
+		int clen = src.getNumColumns();
+		int w = getChunkWidth(rlen, clen);
+		
+		//encode column chunks (sequential/parallel)
+		ArrayList<EncodeTask> tasks = new ArrayList<>();
+		for( int cl=0; cl<clen; cl+=w )
+			tasks.add(new EncodeTask(src, cl, Math.min(cl+w, clen)));
+		ColumnChunk[] chunks = new ColumnChunk[tasks.size()];
+		int k = Math.min(OptimizerUtils.getParallelBinaryWriteParallelism(), tasks.size());
+		try {
+			if( k <= 1 ) {
+				for( int i=0; i<tasks.size(); i++ )
+					chunks[i] = tasks.get(i).call();
+			}
+			else {
+				ExecutorService pool = Executors.newFixedThreadPool(k);
+				try {
+					ArrayList<Future<ColumnChunk>> rt = new ArrayList<>(pool.invokeAll(tasks));
+					for( int i=0; i<rt.size(); i++ )
+						chunks[i] = rt.get(i).get();
+				}
+				finally {
+					pool.shutdown();
+				}
+			}
+		}
+		catch(Exception ex) {
+			throw new IOException("Failed to encode column chunks.", ex);
+		}
+		
+		//write header, chunks, and chunk directory
+		FSDataOutputStream out = fs.create(path, true);
+		try {
+			out.writeInt(MAGIC);
+			out.writeInt(VERSION);
+			out.writeLong(rlen);
+			out.writeLong(clen);
+			for( ColumnChunk chunk : chunks ) {
+				chunk.offset = out.getPos();
+				out.write(chunk.data, 0, chunk.length);
+				chunk.data = null;
+			}
+			long dirOffset = out.getPos();
+			out.writeInt(chunks.length);
+			for( ColumnChunk chunk : chunks )
+				chunk.write(out);
+			out.writeLong(dirOffset);
+			out.writeInt(MAGIC);
+		}
+		finally {
+			IOUtilFunctions.closeSilently(out);
+		}
+	}
+	
+	private class EncodeTask implements Callable<ColumnChunk> 
+	{
+		private final MatrixBlock _src;
+		private final int _cl;
+		private final int _cu;
+		
+		public EncodeTask(MatrixBlock src, int cl, int cu) {
+			_src = src;
+			_cl = cl;
+			_cu = cu;
+		}
+		
+		@Override
+		public ColumnChunk call() throws Exception {
+			ColumnChunk chunk = new ColumnChunk(_cl, _cu);
+			MatrixBlock tmp = _src.sliceOperations(0, _src.getNumRows()-1, _cl, _cu-1, new MatrixBlock());
+			chunk.nnz = tmp.recomputeNonZeros();
+			if( chunk.nnz == 0 ) {
+				chunk.data = new byte[0];
+				return chunk;
+			}
+			chunk.min = tmp.min();
+			chunk.max = tmp.max();
+			tmp.examSparsity();
+			
+			//serialize chunk, and compress if beneficial
+			ByteArrayOutputStream bos = new ByteArrayOutputStream();
+			DataOutputStream dos = new DataOutputStream(bos);
+			tmp.write(dos);
+			dos.flush();
+			byte[] raw = bos.toByteArray();
+			chunk.data = raw;
+			chunk.length = raw.length;
+			if( _compress ) {
+				Deflater def = new Deflater(Deflater.BEST_SPEED);
+				try {
+					def.setInput(raw);
+					def.finish();
+					byte[] buff = new byte[(int)(raw.length / MIN_COMPRESSION_RATIO)];
+					int len = 0;
+					while( !def.finished() && len < buff.length )
+						len += def.deflate(buff, len, buff.length-len);
+					if( def.finished() ) {
+						chunk.data = buff;
+						chunk.length = len;
+						chunk.compressed = true;
+					}
+				}
+				finally {
+					def.end();
+				}
+			}
+			return chunk;
+		}
+	}
+	
+	/**
+	 * Directory entry of a column chunk, i.e., its column range [cl, cu), 
+	 * file offset and length, compression flag, and statistics.
+	 */
+	public static class ColumnChunk 
+	{
+		public final int cl;
+		public final int cu;
+		public long offset = -1;
+		public int length = 0;
+		public boolean compressed = false;
+		public long nnz = 0;
+		public double min = 0;
+		public double max = 0;
+		protected byte[] data = null;
+		
+		public ColumnChunk(int cl, int cu) {
+			this.cl = cl;
+			this.cu = cu;
+		}
+		
+		public void write(DataOutput out) throws IOException {
+			out.writeInt(cl);
+			out.writeInt(cu);
+			out.writeLong(offset);
+			out.writeInt(length);
+			out.writeBoolean(compressed);
+			out.writeLong(nnz);
+			out.writeDouble(min);
+			out.writeDouble(max);
+		}
+		
+		public static ColumnChunk read(DataInput in) throws IOException {
+			ColumnChunk ret = new ColumnChunk(in.readInt(), in.readInt());
+			ret.offset = in.readLong();
+			ret.length = in.readInt();
+			ret.compressed = in.readBoolean();
+			ret.nnz = in.readLong();
+			ret.min = in.readDouble();
+			ret.max = in.readDouble();
+			return ret;
+		}
+	}
+}
@@ -0,0 +1,270 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.sysml.runtime.lineage;
+
+import java.util.HashMap;
+
+import org.apache.sysml.lops.compile.JobType;
+
+import org.apache.sysml.runtime.controlprogram.caching.MatrixObject;
+import org.apache.sysml.runtime.controlprogram.context.ExecutionContext;
+import org.apache.sysml.runtime.instructions.Instruction;
+import org.apache.sysml.runtime.instructions.InstructionUtils;
+import org.apache.sysml.runtime.instructions.MRJobInstruction;
+import org.apache.sysml.runtime.instructions.cp.CPOperand;
+import org.apache.sysml.runtime.instructions.cp.ComputationCPInstruction;
+import org.apache.sysml.runtime.instructions.cp.Data;
+import org.apache.sysml.runtime.instructions.cp.DataGenCPInstruction;
+import org.apache.sysml.runtime.instructions.cp.ScalarObject;
+import org.apache.sysml.runtime.instructions.cp.VariableCPInstruction;
+
+/**
+ * Lineage trace of the live variables of an execution context, i.e., a
+ * mapping from variable names to the lineage items of their current values.
+ *
+ * Scalars are always traced by value, which makes their lineage independent
+ * of the way they were computed (e.g., loop iteration variables). Matrices and
+ * frames are traced via the instructions that produced them, starting from
+ * persistent reads as lineage leafs, where each trace
+ * entry also keeps the data object it was recorded for. Lookups of variables
+ * that have been overwritten by untraced instructions (or updated in-place)
+ * hence safely return no lineage, which in turn disables reuse of all
+ * dependent intermediates.
+ */
+public class Lineage
+{
+	public static final String LITERAL_OPCODE = "lit";
+	public static final String READ_OPCODE = "read";
+
+	private final HashMap<String, TraceEntry> _traces;
+
+	public Lineage() {
+		_traces = new HashMap<>();
+	}
+
+	public Lineage(Lineage that) {
+		_traces = new HashMap<>(that._traces);
+	}
+
+	/**
+	 * Obtains the lineage item of the given instruction operand.
+	 *
+	 * @param input instruction operand
+	 * @param ec execution context
+	 * @return lineage item, or null if the lineage is unknown
+	 */
+	public LineageItem get(CPOperand input, ExecutionContext ec) {
+		if( input.isLiteral() )
+			return new LineageItem(LITERAL_OPCODE,
+				input.getValueType().name() + Instruction.VALUETYPE_PREFIX + input.getName());
+		return get(input.getName(), ec);
+	}
+
+	/**
+	 * Obtains the lineage item of the current value of the given variable.
+	 *
+	 * @param varname variable name
+	 * @param ec execution context
+	 * @return lineage item, or null if the lineage is unknown
+	 */
+	public LineageItem get(String varname, ExecutionContext ec) {
+		Data dat = ec.getVariable(varname);
+		if( dat == null )
+			return null;
+
+		//scalars are traced by value
+		if( dat instanceof ScalarObject ) {
+			ScalarObject so = (ScalarObject) dat;
+			return new LineageItem(LITERAL_OPCODE,
+				so.getValueType().name() + Instruction.VALUETYPE_PREFIX + so.getStringValue());
+		}
+
+		//in-place updates modify the data object itself
+		if( dat instanceof MatrixObject && ((MatrixObject)dat).getUpdateType().isInPlace() )
+			return null;
+
+		//traced data objects (valid only if still bound)
+		TraceEntry tmp = _traces.get(varname);
+		return (tmp != null && tmp.data == dat) ? tmp.item : null;
+	}
+
+	/**
+	 * Sets the lineage item of the current value of the given variable.
+	 *
+	 * @param varname variable name
+	 * @param li lineage item, or null to remove an existing trace
+	 * @param ec execution context
+	 */
+	public void set(String varname, LineageItem li, ExecutionContext ec) {
+		Data dat = ec.getVariable(varname);
+		if( li == null || dat == null || dat instanceof ScalarObject )
+			_traces.remove(varname);
+		else
+			_traces.put(varname, new TraceEntry(li, dat));
+	}
+
+	public void remove(String varname) {
+		_traces.remove(varname);
+	}
+
+	public void clear() {
+		_traces.clear();
+	}
+
+	/**
+	 * Creates the lineage item of the output of the given instruction from
+	 * the lineage of its inputs. The operation part of the lineage item
+	 * consists of the opcode and all non-operand instruction parameters.
+	 *
+	 * @param inst instruction
+	 * @param ec execution context
+	 * @return lineage item, or null if the instruction is not traceable
+	 * (e.g., random data generation) or the lineage of any input is unknown
+	 */
+	public LineageItem createItem(Instruction inst, ExecutionContext ec) {
+		if( !(inst instanceof ComputationCPInstruction) )
+			return null;
+		CPOperand output = ((ComputationCPInstruction)inst).output;
+		if( output == null || (inst instanceof DataGenCPInstruction
+			&& !((DataGenCPInstruction)inst).isDeterministic()) )
+			return null;
+
+		String[] parts = InstructionUtils.getInstructionPartsWithValueType(inst.toString());
+
+		//determine position of output operand (last operand w/ output name)
+		int outPos = -1;
+		for( int i=1; i<parts.length; i++ )
+			if( isOperand(parts[i]) && new CPOperand(parts[i]).getName().equals(output.getName()) )
+				outPos = i;
+
+		//collect operation parameters and input lineage
+		StringBuilder opcode = new StringBuilder(parts[0]);
+		LineageItem[] inputs = new LineageItem[parts.length];
+		int numInputs = 0;
+		for( int i=1; i<parts.length; i++ ) {
+			if( i == outPos )
+				continue;
+			if( isOperand(parts[i]) ) {
+				LineageItem li = get(new CPOperand(parts[i]), ec);
+				if( li == null )
+					return null;
+				inputs[numInputs++] = li;
+			}
+			else {
+				opcode.append(Instruction.OPERAND_DELIM);
+				opcode.append(parts[i]);
+			}
+		}
+
+		LineageItem[] tmp = new LineageItem[numInputs];
+		System.arraycopy(inputs, 0, tmp, 0, numInputs);
+		return new LineageItem(opcode.toString(), tmp);
+	}
+
+	/**
+	 * Maintains the lineage trace after execution of the given instruction.
+	 *
+	 * @param inst instruction
+	 * @param ec execution context
+	 */
+	public void trace(Instruction inst, ExecutionContext ec) {
+		if( inst instanceof VariableCPInstruction ) {
+			VariableCPInstruction vinst = (VariableCPInstruction) inst;
+			switch( vinst.getOpcode() ) {
+				case "createvar":
+					//persistent reads w/o unique file names are lineage leafs
+					set(vinst.getInput1().getName(), !vinst.getInput1().getDataType().isScalar()
+						&& !Boolean.parseBoolean(vinst.getInput3().getName()) ?
+						new LineageItem(READ_OPCODE, vinst.getInput2().getName()) : null, ec);
+					break;
+				case "cpvar":
+					set(vinst.getInput2().getName(),
+						get(vinst.getInput1().getName(), ec), ec);
+					break;
+				case "mvvar":
+					if( vinst.getInput3() == null ) {
+						TraceEntry tmp = _traces.remove(vinst.getInput1().getName());
+						String varname = vinst.getInput2().getName();
+						set(varname, (tmp != null && tmp.data == ec.getVariable(varname)) ?
+							tmp.item : null, ec);
+					}
+					break;
+				case "rmvar":
+					for( CPOperand input : vinst.getInputs() )
+						remove(input.getName());
+					break;
+				default:
+					//do nothing (e.g., scalar outputs)
+			}
+		}
+		else if( inst instanceof MRJobInstruction ) {
+			MRJobInstruction jinst = (MRJobInstruction) inst;
+			String[] outputs = jinst.getOutputVars();
+			LineageItem[] items = createItems(jinst, ec);
+			for( int i=0; i<outputs.length; i++ )
+				set(outputs[i], (items != null) ? items[i] : null, ec);
+		}
+		else if( inst instanceof ComputationCPInstruction
+			&& ((ComputationCPInstruction)inst).output != null ) {
+			set(((ComputationCPInstruction)inst).getOutputVariableName(),
+				createItem(inst, ec), ec);
+		}
+	}
+
+	private LineageItem[] createItems(MRJobInstruction inst, ExecutionContext ec) {
+		//only reblock jobs are deterministic and free of runtime-generated
+		//parameters; all other jobs (e.g., rand w/o seed) are not traced
+		if( inst.getJobType() != JobType.REBLOCK && inst.getJobType() != JobType.CSV_REBLOCK )
+			return null;
+
+		String[] inputs = inst.getInputVars();
+		LineageItem[] linputs = new LineageItem[inputs.length];
+		for( int i=0; i<inputs.length; i++ )
+			if( (linputs[i] = get(inputs[i], ec)) == null )
+				return null;
+
+		//job instructions refer to inputs/outputs by index, not by name
+		String opcode = inst.getJobType().name() + Instruction.OPERAND_DELIM
+			+ inst.getIv_recordReaderInstructions() + Instruction.OPERAND_DELIM
+			+ inst.getIv_instructionsInMapper() + Instruction.OPERAND_DELIM
+			+ inst.getIv_shuffleInstructions() + Instruction.OPERAND_DELIM
+			+ inst.getIv_aggInstructions() + Instruction.OPERAND_DELIM
+			+ inst.getIv_otherInstructions();
+		LineageItem[] ret = new LineageItem[inst.getOutputVars().length];
+		for( int i=0; i<ret.length; i++ )
+			ret[i] = new LineageItem(opcode + Instruction.OPERAND_DELIM
+				+ inst.getIv_resultIndices()[i], linputs);
+		return ret;
+	}
+
+	private static boolean isOperand(String part) {
+		return part.contains(Instruction.VALUETYPE_PREFIX);
+	}
+
+	private static class TraceEntry {
+		private final LineageItem item;
+		private final Data data;
+
+		public TraceEntry(LineageItem li, Data dat) {
+			item = li;
+			data = dat;
+		}
+	}
+}
@@ -0,0 +1,211 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.sysml.runtime.lineage;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.PriorityQueue;
+
+import org.apache.sysml.api.DMLScript;
+import org.apache.sysml.hops.OptimizerUtils;
+import org.apache.sysml.runtime.DMLRuntimeException;
+import org.apache.sysml.runtime.controlprogram.caching.MatrixObject;
+import org.apache.sysml.runtime.controlprogram.context.ExecutionContext;
+import org.apache.sysml.runtime.instructions.Instruction;
+import org.apache.sysml.runtime.instructions.cp.ComputationCPInstruction;
+import org.apache.sysml.runtime.instructions.cp.Data;
+import org.apache.sysml.runtime.instructions.cp.ScalarObject;
+import org.apache.sysml.runtime.matrix.data.MatrixBlock;
+
+/**
+ * In-memory reuse cache of intermediates, keyed by their lineage items.
+ *
+ * The cache is shared across execution contexts (e.g., function calls and
+ * parfor workers) and bounded by a fraction of the local memory budget. On
+ * overflow, entries are evicted in ascending order of their compute time per
+ * byte, i.e., cheap-to-recompute and large intermediates are evicted first,
+ * and new entries are only admitted if they are more valuable than the
+ * entries they would replace.
+ *
+ * Cached matrix blocks are private copies, i.e., outputs are copied when put
+ * into the cache and cached blocks are copied again when bound on reuse, which
+ * protects the cache entries from later in-place updates of the variables
+ * (e.g., left indexing in loops).
+ */
+public class LineageCache
+{
+	private static final HashMap<LineageItem, CacheEntry> _cache = new HashMap<>();
+	private static final PriorityQueue<CacheEntry> _evictQueue = new PriorityQueue<>();
+	private static long _cacheSize = 0;
+
+	/**
+	 * Probes the cache for the output of the given instruction and, on a
+	 * cache hit, binds the cached value to the instruction output.
+	 *
+	 * @param inst instruction
+	 * @param ec execution context
+	 * @return true if the instruction output was obtained from the cache
+	 * @throws DMLRuntimeException if DMLRuntimeException occurs
+	 */
+	public static boolean reuse(Instruction inst, ExecutionContext ec)
+		throws DMLRuntimeException
+	{
+		if( !LineageCacheConfig.isReusable(inst) )
+			return false;
+		LineageItem li = ec.getLineage().createItem(inst, ec);
+		if( li == null )
+			return false;
+
+		CacheEntry e = null;
+		synchronized( _cache ) {
+			e = _cache.get(li);
+		}
+		if( e == null ) {
+			if( DMLScript.STATISTICS )
+				LineageCacheStatistics.incrementMisses();
+			return false;
+		}
+
+		//bind cached output (outside the critical section)
+		String outName = ((ComputationCPInstruction)inst).getOutputVariableName();
+		if( e.mb != null )
+			ec.setMatrixOutput(outName, copy(e.mb));
+		else
+			ec.setScalarOutput(outName, e.so);
+
+		if( DMLScript.STATISTICS ) {
+			LineageCacheStatistics.incrementHits();
+			LineageCacheStatistics.incrementSavedComputeTime(e.computeTime);
+		}
+		return true;
+	}
+
+	/**
+	 * Puts the traced output of the given, executed instruction into the
+	 * cache if it fits into the cache memory budget.
+	 *
+	 * @param inst instruction
+	 * @param ec execution context
+	 * @param computeTime execution time of the instruction in nano seconds
+	 * @throws DMLRuntimeException if DMLRuntimeException occurs
+	 */
+	public static void put(Instruction inst, ExecutionContext ec, long computeTime)
+		throws DMLRuntimeException
+	{
+		if( !LineageCacheConfig.isReusable(inst) )
+			return;
+		String outName = ((ComputationCPInstruction)inst).getOutputVariableName();
+		LineageItem li = ec.getLineage().get(outName, ec);
+		Data dat = ec.getVariable(outName);
+		if( li == null || dat == null )
+			return;
+
+		//obtain output value (w/o pinning the output beyond this call)
+		CacheEntry e = null;
+		if( dat instanceof MatrixObject ) {
+			MatrixObject mo = (MatrixObject) dat;
+			MatrixBlock mb = mo.acquireRead();
+			mo.release();
+			e = new CacheEntry(li, mb, null, mb.getInMemorySize(), computeTime);
+		}
+		else if( dat instanceof ScalarObject ) {
+			ScalarObject so = (ScalarObject) dat;
+			e = new CacheEntry(li, null, so, OptimizerUtils.DOUBLE_SIZE, computeTime);
+		}
+		if( e == null || e.size > LineageCacheConfig.getCacheLimit() )
+			return;
+		if( e.mb != null ) //copy of admissible entry
+			e = new CacheEntry(li, copy(e.mb), null, e.size, computeTime);
+
+		synchronized( _cache ) {
+			if( _cache.containsKey(li) || !makeSpace(e) )
+				return;
+			_cache.put(li, e);
+			_evictQueue.add(e);
+			_cacheSize += e.size;
+		}
+
+		if( DMLScript.STATISTICS )
+			LineageCacheStatistics.incrementWrites();
+	}
+
+	public static void resetCache() {
+		synchronized( _cache ) {
+			_cache.clear();
+			_evictQueue.clear();
+			_cacheSize = 0;
+		}
+	}
+
+	private static MatrixBlock copy(MatrixBlock mb) {
+		//deep copy in the same format (incl. off-heap dense blocks as heap)
+		return new MatrixBlock(mb);
+	}
+
+	private static boolean makeSpace(CacheEntry e) {
+		//evict entries w/ lower compute time per byte than the new entry
+		long limit = LineageCacheConfig.getCacheLimit();
+		ArrayList<CacheEntry> evicted = new ArrayList<>();
+		long freed = 0;
+		while( _cacheSize - freed + e.size > limit && !_evictQueue.isEmpty()
+			&& _evictQueue.peek().score < e.score ) {
+			CacheEntry tmp = _evictQueue.poll();
+			evicted.add(tmp);
+			freed += tmp.size;
+		}
+
+		//reject new entry if not enough space could be freed
+		if( _cacheSize - freed + e.size > limit ) {
+			_evictQueue.addAll(evicted);
+			return false;
+		}
+
+		for( CacheEntry tmp : evicted )
+			_cache.remove(tmp.key);
+		_cacheSize -= freed;
+		if( DMLScript.STATISTICS )
+			LineageCacheStatistics.incrementEvictions(evicted.size());
+		return true;
+	}
+
+	private static class CacheEntry implements Comparable<CacheEntry>
+	{
+		private final LineageItem key;
+		private final MatrixBlock mb;
+		private final ScalarObject so;
+		private final long size;
+		private final long computeTime;
+		private final double score;
+
+		public CacheEntry(LineageItem li, MatrixBlock mb, ScalarObject so, long size, long computeTime) {
+			this.key = li;
+			this.mb = mb;
+			this.so = so;
+			this.size = Math.max(size, 1);
+			this.computeTime = computeTime;
+			this.score = (double) computeTime / this.size;
+		}
+
+		@Override
+		public int compareTo(CacheEntry that) {
+			return Double.compare(score, that.score);
+		}
+	}
+}
@@ -0,0 +1,62 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.sysml.runtime.lineage;
+
+import java.util.Arrays;
+import java.util.HashSet;
+
+import org.apache.sysml.hops.OptimizerUtils;
+import org.apache.sysml.runtime.instructions.Instruction;
+import org.apache.sysml.runtime.instructions.cp.ComputationCPInstruction;
+
+public class LineageCacheConfig
+{
+	//deterministic and sufficiently expensive operations whose outputs are cached
+	private static final HashSet<String> REUSE_OPCODES = new HashSet<>(Arrays.asList(
+		"tsmm", "ba+*", "mmchain", "solve", "r'", "rightIndex",
+		"append", "+", "-", "*", "/", "uak+", "uark+", "uack+"));
+
+	//fraction of the local memory budget used for the reuse cache
+	public static final double CACHE_FRACTION = 0.05;
+
+	private static boolean _reuse = false;
+
+	public static void setReuse(boolean flag) {
+		_reuse = flag;
+	}
+
+	public static boolean isReuse() {
+		return _reuse;
+	}
+
+	public static long getCacheLimit() {
+		return (long)(CACHE_FRACTION * OptimizerUtils.getLocalMemBudget());
+	}
+
+	public static boolean isReusable(Instruction inst) {
+		if( !(inst instanceof ComputationCPInstruction) )
+			return false;
+		ComputationCPInstruction cinst = (ComputationCPInstruction) inst;
+		//matrix outputs or scalar outputs of matrix operations (e.g., sum(X))
+		return cinst.output != null && REUSE_OPCODES.contains(cinst.getOpcode())
+			&& (cinst.output.getDataType().isMatrix()
+			|| (cinst.input1 != null && cinst.input1.getDataType().isMatrix()));
+	}
+}
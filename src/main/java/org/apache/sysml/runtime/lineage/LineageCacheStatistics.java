@@ -0,0 +1,103 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.sysml.runtime.lineage;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * This singleton provides basic statistics of the lineage-based reuse cache,
+ * maintained via atomic increments because the cache is shared by parfor workers.
+ */
+public class LineageCacheStatistics
+{
+	private static final LongAdder _numHits      = new LongAdder();
+	private static final LongAdder _numMisses    = new LongAdder();
+	private static final LongAdder _numWrites    = new LongAdder();
+	private static final LongAdder _numEvictions = new LongAdder();
+	private static final LongAdder _ctimeSaved   = new LongAdder(); //in nano sec
+
+	public static void reset() {
+		_numHits.reset();
+		_numMisses.reset();
+		_numWrites.reset();
+		_numEvictions.reset();
+		_ctimeSaved.reset();
+	}
+
+	public static void incrementHits() {
+		_numHits.increment();
+	}
+
+	public static long getHits() {
+		return _numHits.longValue();
+	}
+
+	public static void incrementMisses() {
+		_numMisses.increment();
+	}
+
+	public static long getMisses() {
+		return _numMisses.longValue();
+	}
+
+	public static void incrementWrites() {
+		_numWrites.increment();
+	}
+
+	public static long getWrites() {
+		return _numWrites.longValue();
+	}
+
+	public static void incrementEvictions(int delta) {
+		_numEvictions.add(delta);
+	}
+
+	public static long getEvictions() {
+		return _numEvictions.longValue();
+	}
+
+	public static void incrementSavedComputeTime(long delta) {
+		_ctimeSaved.add(delta);
+	}
+
+	public static long getSavedComputeTime() {
+		return _ctimeSaved.longValue();
+	}
+
+	public static String displayHits() {
+		StringBuilder sb = new StringBuilder();
+		sb.append(_numHits.longValue());
+		sb.append("/");
+		sb.append(_numMisses.longValue());
+		return sb.toString();
+	}
+
+	public static String displayWrites() {
+		StringBuilder sb = new StringBuilder();
+		sb.append(_numWrites.longValue());
+		sb.append("/");
+		sb.append(_numEvictions.longValue());
+		return sb.toString();
+	}
+
+	public static String displaySavedTime() {
+		return String.format("%.3f", ((double)_ctimeSaved.longValue())/1000000000);
+	}
+}
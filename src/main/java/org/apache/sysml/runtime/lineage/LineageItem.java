@@ -0,0 +1,150 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.sysml.runtime.lineage;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+
+import org.apache.sysml.runtime.util.UtilFunctions;
+
+/**
+ * Immutable node of a lineage DAG, i.e., the operation (opcode and optional
+ * leaf data such as literal values or file names) and its input lineage items.
+ *
+ * Since lineage items are used as keys of the reuse cache, the hash code is
+ * computed once at construction time from the hash codes of its inputs, and
+ * equality checks are performed without recursion in order to support long
+ * lineage chains of iterative algorithms.
+ */
+public class LineageItem
+{
+	private static final LineageItem[] EMPTY_INPUTS = new LineageItem[0];
+
+	private final String _opcode;
+	private final String _data;
+	private final LineageItem[] _inputs;
+	private final int _hash;
+
+	/**
+	 * Creates a leaf lineage item (e.g., literal or persistent read).
+	 *
+	 * @param opcode operation code of leaf
+	 * @param data leaf data (e.g., literal value or file name)
+	 */
+	public LineageItem(String opcode, String data) {
+		this(opcode, data, EMPTY_INPUTS);
+	}
+
+	/**
+	 * Creates an inner lineage item for the given operation and inputs.
+	 *
+	 * @param opcode operation code (incl relevant operator parameters)
+	 * @param inputs lineage items of all inputs
+	 */
+	public LineageItem(String opcode, LineageItem[] inputs) {
+		this(opcode, null, inputs);
+	}
+
+	private LineageItem(String opcode, String data, LineageItem[] inputs) {
+		_opcode = opcode;
+		_data = data;
+		_inputs = inputs;
+		_hash = computeHash();
+	}
+
+	public String getOpcode() {
+		return _opcode;
+	}
+
+	public String getData() {
+		return _data;
+	}
+
+	public LineageItem[] getInputs() {
+		return _inputs;
+	}
+
+	public boolean isLeaf() {
+		return _inputs.length == 0;
+	}
+
+	@Override
+	public int hashCode() {
+		return _hash;
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		if( !(o instanceof LineageItem) )
+			return false;
+
+		//non-recursive comparison of both lineage DAGs with
+		//early abort on shared sub-DAGs and mismatching hashes
+		Deque<LineageItem> stack1 = new ArrayDeque<>();
+		Deque<LineageItem> stack2 = new ArrayDeque<>();
+		stack1.push(this);
+		stack2.push((LineageItem) o);
+		while( !stack1.isEmpty() ) {
+			LineageItem li1 = stack1.pop();
+			LineageItem li2 = stack2.pop();
+			if( li1 == li2 )
+				continue;
+			if( li1._hash != li2._hash || !li1.equalsLocal(li2) )
+				return false;
+			for( int i=0; i<li1._inputs.length; i++ ) {
+				stack1.push(li1._inputs[i]);
+				stack2.push(li2._inputs[i]);
+			}
+		}
+		return true;
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder sb = new StringBuilder();
+		sb.append(_opcode);
+		if( _data != null ) {
+			sb.append("(");
+			sb.append(_data);
+			sb.append(")");
+		}
+		else {
+			sb.append("#");
+			sb.append(Integer.toHexString(_hash));
+		}
+		return sb.toString();
+	}
+
+	private boolean equalsLocal(LineageItem that) {
+		return _opcode.equals(that._opcode)
+			&& (_data == null ? that._data == null : _data.equals(that._data))
+			&& _inputs.length == that._inputs.length;
+	}
+
+	private int computeHash() {
+		int h = UtilFunctions.intHashCode(_opcode.hashCode(),
+			(_data != null) ? _data.hashCode() : 0);
+		int[] tmp = new int[_inputs.length];
+		for( int i=0; i<_inputs.length; i++ )
+			tmp[i] = _inputs[i]._hash;
+		return UtilFunctions.intHashCode(h, Arrays.hashCode(tmp));
+	}
+}
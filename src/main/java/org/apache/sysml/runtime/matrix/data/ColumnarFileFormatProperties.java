@@ -0,0 +1,69 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.apache.sysml.runtime.matrix.data;
+
+import java.io.Serializable;
+
+/**
+ * File format properties of the columnar binary format, i.e., the
+ * optional per-chunk compression on write and the (1-based, inclusive) 
+ * column range pushed down into a read, where only the column chunks 
+ * overlapping this range are decoded.
+ */
+public class ColumnarFileFormatProperties extends FileFormatProperties implements Serializable
+{
+	private static final long serialVersionUID = 4279826574263457812L;
+	
+	private boolean compress = true;
+	private long colLower = -1;
+	private long colUpper = -1;
+	
+	public ColumnarFileFormatProperties() {
+		super(FileFormat.COLUMNAR);
+	}
+	
+	public ColumnarFileFormatProperties(boolean compress) {
+		super(FileFormat.COLUMNAR);
+		this.compress = compress;
+	}
+	
+	public ColumnarFileFormatProperties(long colLower, long colUpper) {
+		super(FileFormat.COLUMNAR);
+		this.colLower = colLower;
+		this.colUpper = colUpper;
+	}
+	
+	public boolean isCompress() {
+		return compress;
+	}
+	
+	public long getColLower() {
+		return colLower;
+	}
+	
+	public long getColUpper() {
+		return colUpper;
+	}
+	
+	public boolean hasColumnProjection() {
+		return colLower > 0 && colUpper >= colLower;
+	}
+}
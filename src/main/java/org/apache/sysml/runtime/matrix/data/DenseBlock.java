@@ -38,6 +38,8 @@ public abstract class DenseBlock implements Serializable
 	public enum Type {
 		DRB, //dense row block
 		LDRB, //large dense row block
+		OFFHEAP, //off-heap dense row block
+		FP32, //single-precision dense row block
 	}
 	
 	/**
@@ -104,6 +106,28 @@ public abstract class DenseBlock implements Serializable
 	 */
 	public abstract boolean isContiguous();
 	
+	/**
+	 * Indicates if the dense block is stored outside the Java heap.
+	 * 
+	 * @return true if off-heap
+	 */
+	public boolean isOffHeap() {
+		return false;
+	}
+	
+	/**
+	 * Indicates if the underlying blocks are accessible as double
+	 * arrays via values(), values(r), and valuesAt(bix), which is
+	 * not the case for off-heap or single-precision dense blocks.
+	 * For such blocks, these methods throw an UnsupportedOperationException
+	 * and callers need to convert explicitly into a heap dense block.
+	 * 
+	 * @return true if backed by double arrays
+	 */
+	public boolean hasDoubleArrays() {
+		return true;
+	}
+	
 	/**
 	 * Get the length of the dense block as the product
 	 * of row and column dimensions.
@@ -267,6 +291,19 @@ public abstract class DenseBlock implements Serializable
 	public abstract void set(int rl, int ru, int cl, int cu, DenseBlock db);
 	
 	
+	/**
+	 * Copy the given vector (in row-major format of width cu-cl),
+	 * starting at the given position, into the specified index range.
+	 * 
+	 * @param rl row lower index
+	 * @param ru row upper index (exclusive)
+	 * @param cl column lower index 
+	 * @param cu column upper index (exclusive)
+	 * @param v value vector
+	 * @param vix position in value vector
+	 */
+	public abstract void set(int rl, int ru, int cl, int cu, double[] v, int vix);
+	
 	/**
 	 * Copy the given kahan object sum and correction.
 	 * 
@@ -298,6 +335,19 @@ public abstract class DenseBlock implements Serializable
 	 */
 	public abstract double get(int r, int c);
 	
+	/**
+	 * Copy the specified index range into the given vector (in
+	 * row-major format of width cu-cl), starting at the given position.
+	 * 
+	 * @param rl row lower index
+	 * @param ru row upper index (exclusive)
+	 * @param cl column lower index 
+	 * @param cu column upper index (exclusive)
+	 * @param v value vector
+	 * @param vix position in value vector
+	 */
+	public abstract void get(int rl, int ru, int cl, int cu, double[] v, int vix);
+	
 	@Override 
 	public abstract String toString();
 }
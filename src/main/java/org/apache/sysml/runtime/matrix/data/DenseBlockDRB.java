@@ -186,11 +186,19 @@ public class DenseBlockDRB extends DenseBlock
 	
 	@Override
 	public void set(DenseBlock db) {
-		System.arraycopy(db.valuesAt(0), 0, data, 0, rlen*clen);
+		if( !db.hasDoubleArrays() )
+			db.get(0, rlen, 0, clen, data, 0);
+		else
+			System.arraycopy(db.valuesAt(0), 0, data, 0, rlen*clen);
 	}
 	
 	@Override
 	public void set(int rl, int ru, int cl, int cu, DenseBlock db) {
+		if( !db.hasDoubleArrays() ) {
+			for(int i=rl; i<ru; i++)
+				db.get(i-rl, i-rl+1, 0, cu-cl, data, pos(i, cl));
+			return;
+		}
 		double[] a = db.valuesAt(0);
 		if( cl == 0 && cu == clen)
 			System.arraycopy(a, 0, data, rl*clen+cl, (int)db.size());
@@ -206,11 +214,31 @@ public class DenseBlockDRB extends DenseBlock
 		System.arraycopy(v, 0, data, pos(r), clen);
 	}
 
+	@Override
+	public void set(int rl, int ru, int cl, int cu, double[] v, int vix) {
+		int len = cu - cl;
+		if( cl == 0 && cu == clen )
+			System.arraycopy(v, vix, data, rl*clen, (ru-rl)*clen);
+		else
+			for(int i=rl, ix=rl*clen+cl; i<ru; i++, ix+=clen, vix+=len)
+				System.arraycopy(v, vix, data, ix, len);
+	}
+
 	@Override
 	public double get(int r, int c) {
 		return data[pos(r, c)];
 	}
 	
+	@Override
+	public void get(int rl, int ru, int cl, int cu, double[] v, int vix) {
+		int len = cu - cl;
+		if( cl == 0 && cu == clen )
+			System.arraycopy(data, rl*clen, v, vix, (ru-rl)*clen);
+		else
+			for(int i=rl, ix=rl*clen+cl; i<ru; i++, ix+=clen, vix+=len)
+				System.arraycopy(data, ix, v, vix, len);
+	}
+	
 	@Override
 	public String toString() {
 		StringBuilder sb = new StringBuilder();
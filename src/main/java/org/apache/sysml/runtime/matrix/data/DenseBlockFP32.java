@@ -0,0 +1,248 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.apache.sysml.runtime.matrix.data;
+
+import java.util.Arrays;
+
+/**
+ * Single-precision dense row block, i.e., a single float array that halves
+ * the memory requirements compared to DRB. Values are converted from and to
+ * double on all get/set calls; kernels with float paths access the
+ * underlying array directly via valuesFP32().
+ */
+public class DenseBlockFP32 extends DenseBlock
+{
+	private static final long serialVersionUID = 5936394710276734658L;
+
+	private float[] data;
+	private int rlen;
+	private int clen;
+
+	public DenseBlockFP32(int rlen, int clen) {
+		reset(rlen, clen, 0);
+	}
+
+	@Override
+	public void reset() {
+		reset(rlen, clen, 0);
+	}
+
+	@Override
+	public void reset(int rlen, int clen) {
+		reset(rlen, clen, 0);
+	}
+
+	@Override
+	public void reset(int rlen, int clen, double v) {
+		int len = rlen * clen;
+		if( len > capacity() ) {
+			data = new float[len];
+			if( v != 0 )
+				Arrays.fill(data, (float)v);
+		}
+		else {
+			Arrays.fill(data, 0, len, (float)v);
+		}
+		this.rlen = rlen;
+		this.clen = clen;
+	}
+
+	@Override
+	public int numRows() {
+		return rlen;
+	}
+
+	@Override
+	public int numBlocks() {
+		return 1;
+	}
+
+	@Override
+	public int blockSize() {
+		return rlen;
+	}
+
+	@Override
+	public int blockSize(int bix) {
+		return rlen;
+	}
+
+	@Override
+	public boolean isContiguous() {
+		return true;
+	}
+
+	@Override
+	public boolean hasDoubleArrays() {
+		return false;
+	}
+
+	@Override
+	public long size() {
+		return (long)rlen * clen;
+	}
+
+	@Override
+	public int size(int bix) {
+		return rlen * clen;
+	}
+
+	@Override
+	public long capacity() {
+		return (data!=null) ? data.length : -1;
+	}
+
+	@Override
+	public long countNonZeros() {
+		return countNonZeros(0, rlen, 0, clen);
+	}
+
+	@Override
+	public int countNonZeros(int r) {
+		return (int)countNonZeros(r, r+1, 0, clen);
+	}
+
+	@Override
+	public long countNonZeros(int rl, int ru, int cl, int cu) {
+		float[] a = data;
+		long nnz = 0;
+		for( int i=rl, ix=rl*clen; i<ru; i++, ix+=clen )
+			for( int j=ix+cl; j<ix+cu; j++ )
+				nnz += (a[j]!=0) ? 1 : 0;
+		return nnz;
+	}
+
+	@Override
+	public double[][] values() {
+		throw new UnsupportedOperationException("Single-precision dense blocks are not accessible as double arrays (use MatrixBlock.getHeapDenseCopy).");
+	}
+
+	@Override
+	public double[] values(int r) {
+		throw new UnsupportedOperationException("Single-precision dense blocks are not accessible as double arrays (use MatrixBlock.getHeapDenseCopy).");
+	}
+
+	@Override
+	public double[] valuesAt(int bix) {
+		throw new UnsupportedOperationException("Single-precision dense blocks are not accessible as double arrays (use MatrixBlock.getHeapDenseCopy).");
+	}
+
+	/**
+	 * Get the underlying float array of this single block.
+	 *
+	 * @return block
+	 */
+	public float[] valuesFP32() {
+		return data;
+	}
+
+	@Override
+	public int index(int r) {
+		return 0;
+	}
+
+	@Override
+	public int pos(int r) {
+		return r * clen;
+	}
+
+	@Override
+	public int pos(int r, int c) {
+		return r * clen + c;
+	}
+
+	@Override
+	public void set(double v) {
+		Arrays.fill(data, 0, rlen*clen, (float)v);
+	}
+
+	@Override
+	public void set(int rl, int ru, int cl, int cu, double v) {
+		if( cl==0 && cu == clen )
+			Arrays.fill(data, rl*clen, ru*clen, (float)v);
+		else
+			for(int i=rl, ix=rl*clen; i<ru; i++, ix+=clen)
+				Arrays.fill(data, ix+cl, ix+cu, (float)v);
+	}
+
+	@Override
+	public void set(int r, int c, double v) {
+		data[pos(r, c)] = (float)v;
+	}
+
+	@Override
+	public void set(int r, double[] v) {
+		set(r, r+1, 0, clen, v, 0);
+	}
+
+	@Override
+	public void set(DenseBlock db) {
+		if( db instanceof DenseBlockFP32 )
+			System.arraycopy(((DenseBlockFP32)db).data, 0, data, 0, rlen*clen);
+		else
+			set(0, rlen, 0, clen, db);
+	}
+
+	@Override
+	public void set(int rl, int ru, int cl, int cu, DenseBlock db) {
+		double[] tmp = new double[cu-cl];
+		for(int i=rl; i<ru; i++) {
+			db.get(i-rl, i-rl+1, 0, cu-cl, tmp, 0);
+			set(i, i+1, cl, cu, tmp, 0);
+		}
+	}
+
+	@Override
+	public void set(int rl, int ru, int cl, int cu, double[] v, int vix) {
+		float[] c = data;
+		int len = cu - cl;
+		for(int i=rl, cix=rl*clen+cl; i<ru; i++, cix+=clen, vix+=len)
+			for(int j=0; j<len; j++)
+				c[cix+j] = (float)v[vix+j];
+	}
+
+	@Override
+	public double get(int r, int c) {
+		return data[pos(r, c)];
+	}
+
+	@Override
+	public void get(int rl, int ru, int cl, int cu, double[] v, int vix) {
+		float[] a = data;
+		int len = cu - cl;
+		for(int i=rl, aix=rl*clen+cl; i<ru; i++, aix+=clen, vix+=len)
+			for(int j=0; j<len; j++)
+				v[vix+j] = a[aix+j];
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder sb = new StringBuilder();
+		for(int i=0, ix=0; i<rlen; i++, ix+=clen) {
+			for(int j=0; j<clen; j++) {
+				sb.append(data[ix+j]);
+				sb.append("\t");
+			}
+			sb.append("\n");
+		}
+		return sb.toString();
+	}
+}
@@ -22,11 +22,77 @@ package org.apache.sysml.runtime.matrix.data;
 
 public abstract class DenseBlockFactory
 {
+	//min number of cells for off-heap allocation (if enabled), which avoids
+	//the overhead of direct buffers and heap conversions for small blocks
+	public static final long OFFHEAP_MIN_SIZE = 1024 * 1024;
+	
+	//min number of cells for single-precision allocation (if enabled), which
+	//avoids repeated double conversions of small intermediates (e.g., aggregates)
+	public static final long FP32_MIN_SIZE = 1024;
+	
+	private static boolean _offHeap = false;
+	private static boolean _fp32 = false;
+	
+	public static void setOffHeap(boolean flag) {
+		_offHeap = flag;
+	}
+	
+	public static boolean isOffHeap() {
+		return _offHeap;
+	}
+	
+	public static void setSinglePrecision(boolean flag) {
+		_fp32 = flag;
+	}
+	
+	public static boolean isSinglePrecision() {
+		return _fp32;
+	}
+	
 	public static DenseBlock createDenseBlock(int rlen, int clen) {
 		DenseBlock.Type type = ((long)rlen*clen < Integer.MAX_VALUE) ?
 			DenseBlock.Type.DRB : DenseBlock.Type.LDRB;
 		return createDenseBlock(type, rlen, clen);
 	}
+	
+	/**
+	 * Creates a dense block of the configured single-precision or off-heap
+	 * type (if enabled and large enough), or a heap double block otherwise.
+	 * This is only used for outputs of operations that access dense blocks
+	 * via the dense block API rather than the underlying double arrays.
+	 * 
+	 * @param rlen number of rows
+	 * @param clen number of columns
+	 * @return dense block
+	 */
+	public static DenseBlock createConfiguredDenseBlock(int rlen, int clen) {
+		return createDenseBlock(getConfiguredDenseBlockType(rlen, clen), rlen, clen);
+	}
+	
+	public static DenseBlock.Type getConfiguredDenseBlockType(int rlen, int clen) {
+		long len = (long)rlen*clen;
+		if( _fp32 && len >= FP32_MIN_SIZE && len < Integer.MAX_VALUE )
+			return DenseBlock.Type.FP32;
+		else if( _offHeap && len >= OFFHEAP_MIN_SIZE )
+			return DenseBlock.Type.OFFHEAP;
+		return (len < Integer.MAX_VALUE) ? DenseBlock.Type.DRB : DenseBlock.Type.LDRB;
+	}
+	
+	/**
+	 * Creates a heap-based double copy of the given dense block, which is used
+	 * for explicit conversions of off-heap or single-precision dense blocks for
+	 * operations that directly access the underlying arrays.
+	 * 
+	 * @param db dense block
+	 * @return heap dense block
+	 */
+	public static DenseBlock createHeapDenseBlock(DenseBlock db) {
+		int rlen = db.numRows();
+		int clen = (rlen > 0) ? (int)(db.size() / rlen) : 0;
+		DenseBlock ret = createDenseBlock(rlen, clen);
+		ret.set(db);
+		return ret;
+	}
 
 	public static DenseBlock createDenseBlock(double[] data, int rlen, int clen) {
 		return new DenseBlockDRB(data, rlen, clen);
@@ -36,6 +102,8 @@ public abstract class DenseBlockFactory
 		switch( type ) {
 			case DRB: return new DenseBlockDRB(rlen, clen);
 			case LDRB: return new DenseBlockLDRB(rlen, clen);
+			case OFFHEAP: return new DenseBlockOffHeap(rlen, clen);
+			case FP32: return new DenseBlockFP32(rlen, clen);
 			default:
 				throw new RuntimeException("Unexpected dense block type: "+type.name());
 		}
@@ -47,6 +115,8 @@ public abstract class DenseBlockFactory
 
 	public static DenseBlock.Type getDenseBlockType(DenseBlock dblock) {
 		return (dblock instanceof DenseBlockDRB) ? DenseBlock.Type.DRB :
-			(dblock instanceof DenseBlockLDRB) ? DenseBlock.Type.LDRB : null;
+			(dblock instanceof DenseBlockLDRB) ? DenseBlock.Type.LDRB :
+			(dblock instanceof DenseBlockOffHeap) ? DenseBlock.Type.OFFHEAP :
+			(dblock instanceof DenseBlockFP32) ? DenseBlock.Type.FP32 : null;
 	}
 }
@@ -228,23 +228,47 @@ public class DenseBlockLDRB extends DenseBlock
 	
 	@Override
 	public void set(DenseBlock db) {
+		if( !db.hasDoubleArrays() ) {
+			for(int bi=0; bi<numBlocks(); bi++)
+				db.get(bi*blen, bi*blen+blockSize(bi), 0, clen, data[bi], 0);
+			return;
+		}
 		for(int bi=0; bi<numBlocks(); bi++)
 			System.arraycopy(db.valuesAt(bi), 0, data[bi], 0, size(bi));
 	}
 	
 	@Override
 	public void set(int rl, int ru, int cl, int cu, DenseBlock db) {
+		if( !db.hasDoubleArrays() ) {
+			for(int i=rl; i<ru; i++)
+				db.get(i-rl, i-rl+1, 0, cu-cl, values(i), pos(i, cl));
+			return;
+		}
 		for(int i=rl; i<ru; i++) {
 			System.arraycopy(db.values(i-rl),
 				db.pos(i-rl), values(i), pos(i, cl), cu-cl);
 		}
 	}
 
+	@Override
+	public void set(int rl, int ru, int cl, int cu, double[] v, int vix) {
+		int len = cu - cl;
+		for(int i=rl; i<ru; i++, vix+=len)
+			System.arraycopy(v, vix, data[index(i)], pos(i, cl), len);
+	}
+
 	@Override
 	public double get(int r, int c) {
 		return data[index(r)][pos(r, c)];
 	}
 	
+	@Override
+	public void get(int rl, int ru, int cl, int cu, double[] v, int vix) {
+		int len = cu - cl;
+		for(int i=rl; i<ru; i++, vix+=len)
+			System.arraycopy(data[index(i)], pos(i, cl), v, vix, len);
+	}
+	
 	@Override
 	public String toString() {
 		StringBuilder sb = new StringBuilder();
@@ -0,0 +1,393 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.apache.sysml.runtime.matrix.data;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.util.Arrays;
+
+/**
+ * Dense row block stored outside the Java heap in direct byte buffers,
+ * which keeps large dense intermediates out of garbage collection and
+ * allows for more than 2^31 cells similar to LDRB. Since a direct buffer
+ * is limited to 2^31 bytes, the rows are partitioned into blocks of at
+ * most MAX_BLOCK_SIZE cells each.
+ *
+ * The underlying blocks are not exposed as double arrays. Hence, off-heap
+ * blocks are only handed out by the buffer pool to aware operations, which
+ * access the data via get/set of index ranges (see
+ * MatrixObject.acquireReadAnyDense); all other readers obtain a heap block,
+ * which replaces the cached off-heap block once (see MatrixObject.acquireRead).
+ * The off-heap memory is released once the dense block is garbage
+ * collected, and hence accounted against -XX:MaxDirectMemorySize.
+ */
+public class DenseBlockOffHeap extends DenseBlock
+{
+	private static final long serialVersionUID = -2390893014476281702L;
+
+	//max number of cells per direct buffer (2^31 bytes)
+	public static final int MAX_BLOCK_SIZE = Integer.MAX_VALUE / 8;
+
+	private transient DoubleBuffer[] data;
+	private int rlen;
+	private int clen;
+	private int blen;
+
+	public DenseBlockOffHeap(int rlen, int clen) {
+		this(rlen, clen, blocksize(rlen, clen));
+	}
+
+	public DenseBlockOffHeap(int rlen, int clen, int blen) {
+		reset(rlen, clen, blen, 0);
+	}
+	
+	/**
+	 * Creates an off-heap dense block over existing direct buffers (e.g., 
+	 * restored from evicted files) of blen rows each.
+	 * 
+	 * @param rlen number of rows
+	 * @param clen number of columns
+	 * @param blen number of rows per buffer
+	 * @param data direct buffers in native byte order
+	 */
+	public DenseBlockOffHeap(int rlen, int clen, int blen, DoubleBuffer[] data) {
+		this.rlen = rlen;
+		this.clen = clen;
+		this.blen = blen;
+		this.data = data;
+	}
+
+	@Override
+	public void reset() {
+		reset(rlen, clen, blen, 0);
+	}
+
+	@Override
+	public void reset(int rlen, int clen) {
+		reset(rlen, clen, blocksize(rlen, clen), 0);
+	}
+
+	@Override
+	public void reset(int rlen, int clen, double v) {
+		reset(rlen, clen, blocksize(rlen, clen), v);
+	}
+
+	private void reset(int rlen, int clen, int blen, double v) {
+		long llen = (long) rlen * clen;
+		int numPart = (int)Math.ceil((double)rlen / blen);
+		if( data != null && this.clen == clen && this.blen == blen
+			&& numPart <= data.length && llen <= capacity(numPart) ) {
+			//reuse existing buffers (note: new buffers are zero-initialized)
+			for(int i=0; i<numPart; i++) {
+				int lrlen = (int)(Math.min((long)(i+1)*blen,rlen)-(long)i*blen);
+				fill(data[i], 0, lrlen*clen, v);
+			}
+		}
+		else {
+			data = new DoubleBuffer[numPart];
+			for(int i=0; i<numPart; i++) {
+				int lrlen = (int)(Math.min((long)(i+1)*blen,rlen)-(long)i*blen);
+				data[i] = allocBuffer(lrlen*clen);
+				if( v != 0 )
+					fill(data[i], 0, lrlen*clen, v);
+			}
+		}
+		this.rlen = rlen;
+		this.clen = clen;
+		this.blen = blen;
+	}
+
+	@Override
+	public int numRows() {
+		return rlen;
+	}
+
+	@Override
+	public int numBlocks() {
+		return (int)Math.ceil((double)rlen / blen);
+	}
+
+	@Override
+	public int blockSize() {
+		return blen;
+	}
+
+	@Override
+	public int blockSize(int bix) {
+		return Math.min(blen, rlen-bix*blen);
+	}
+
+	@Override
+	public boolean isContiguous() {
+		return rlen <= blen;
+	}
+
+	@Override
+	public boolean isOffHeap() {
+		return true;
+	}
+
+	@Override
+	public boolean hasDoubleArrays() {
+		return false;
+	}
+
+	@Override
+	public long size() {
+		return (long)rlen * clen;
+	}
+
+	@Override
+	public int size(int bix) {
+		return blockSize(bix) * clen;
+	}
+
+	@Override
+	public long capacity() {
+		long len = 0;
+		for(int i=0; i<data.length; i++)
+			len += data[i].capacity();
+		return len;
+	}
+
+	private long capacity(int numPart) {
+		//capacity of the first numPart blocks, if each block fits
+		long len = 0;
+		for(int i=0; i<numPart; i++) {
+			int lrlen = (int)(Math.min((long)(i+1)*blen,rlen)-(long)i*blen);
+			if( data[i].capacity() < lrlen*clen )
+				return -1;
+			len += data[i].capacity();
+		}
+		return len;
+	}
+
+	@Override
+	public long countNonZeros() {
+		return countNonZeros(0, rlen, 0, clen);
+	}
+
+	@Override
+	public int countNonZeros(int r) {
+		return (int)countNonZeros(r, r+1, 0, clen);
+	}
+
+	@Override
+	public long countNonZeros(int rl, int ru, int cl, int cu) {
+		long nnz = 0;
+		for(int i=rl; i<ru; i++) {
+			DoubleBuffer a = data[index(i)];
+			for(int j=pos(i, cl), jmax=pos(i, cu); j<jmax; j++)
+				nnz += (a.get(j) != 0) ? 1 : 0;
+		}
+		return nnz;
+	}
+
+	@Override
+	public double[][] values() {
+		throw new UnsupportedOperationException("Off-heap dense blocks are not accessible as arrays (use MatrixBlock.getHeapDenseCopy).");
+	}
+
+	@Override
+	public double[] values(int r) {
+		throw new UnsupportedOperationException("Off-heap dense blocks are not accessible as arrays (use MatrixBlock.getHeapDenseCopy).");
+	}
+
+	@Override
+	public double[] valuesAt(int bix) {
+		throw new UnsupportedOperationException("Off-heap dense blocks are not accessible as arrays (use MatrixBlock.getHeapDenseCopy).");
+	}
+
+	@Override
+	public int index(int r) {
+		return r / blen;
+	}
+
+	@Override
+	public int pos(int r) {
+		return (r % blen) * clen;
+	}
+
+	@Override
+	public int pos(int r, int c) {
+		return (r % blen) * clen + c;
+	}
+
+	@Override
+	public void set(double v) {
+		for(int i=0; i<numBlocks(); i++)
+			fill(data[i], 0, size(i), v);
+	}
+
+	@Override
+	public void set(int rl, int ru, int cl, int cu, double v) {
+		if( cl == 0 && cu == clen && index(rl) == index(ru-1) )
+			fill(data[index(rl)], pos(rl), pos(rl) + (ru-rl)*clen, v);
+		else
+			for(int i=rl; i<ru; i++)
+				fill(data[index(i)], pos(i, cl), pos(i, cu), v);
+	}
+
+	@Override
+	public void set(int r, int c, double v) {
+		data[index(r)].put(pos(r, c), v);
+	}
+
+	@Override
+	public void set(int r, double[] v) {
+		set(r, r+1, 0, clen, v, 0);
+	}
+
+	@Override
+	public void set(DenseBlock db) {
+		if( db.isOffHeap() && db.blockSize() == blen ) {
+			for(int bi=0; bi<numBlocks(); bi++) {
+				DoubleBuffer a = ((DenseBlockOffHeap)db).data[bi].duplicate();
+				a.limit(size(bi));
+				DoubleBuffer c = data[bi].duplicate();
+				c.put(a);
+			}
+		}
+		else if( !db.hasDoubleArrays() ) {
+			double[] tmp = new double[clen];
+			for(int i=0; i<rlen; i++) {
+				db.get(i, i+1, 0, clen, tmp, 0);
+				set(i, i+1, 0, clen, tmp, 0);
+			}
+		}
+		else {
+			for(int i=0; i<rlen; i++)
+				set(i, i+1, 0, clen, db.values(i), db.pos(i));
+		}
+	}
+
+	@Override
+	public void set(int rl, int ru, int cl, int cu, DenseBlock db) {
+		int len = cu - cl;
+		double[] tmp = !db.hasDoubleArrays() ? new double[len] : null;
+		for(int i=rl; i<ru; i++) {
+			if( !db.hasDoubleArrays() ) {
+				db.get(i-rl, i-rl+1, 0, len, tmp, 0);
+				set(i, i+1, cl, cu, tmp, 0);
+			}
+			else
+				set(i, i+1, cl, cu, db.values(i-rl), db.pos(i-rl));
+		}
+	}
+
+	@Override
+	public void set(int rl, int ru, int cl, int cu, double[] v, int vix) {
+		int len = cu - cl;
+		if( cl == 0 && cu == clen && index(rl) == index(ru-1) ) {
+			//bulk copy of contiguous rows
+			DoubleBuffer c = data[index(rl)].duplicate();
+			c.position(pos(rl));
+			c.put(v, vix, (ru-rl)*clen);
+		}
+		else {
+			for(int i=rl; i<ru; i++, vix+=len) {
+				DoubleBuffer c = data[index(i)].duplicate();
+				c.position(pos(i, cl));
+				c.put(v, vix, len);
+			}
+		}
+	}
+
+	@Override
+	public double get(int r, int c) {
+		return data[index(r)].get(pos(r, c));
+	}
+
+	@Override
+	public void get(int rl, int ru, int cl, int cu, double[] v, int vix) {
+		int len = cu - cl;
+		if( cl == 0 && cu == clen && index(rl) == index(ru-1) ) {
+			//bulk copy of contiguous rows
+			DoubleBuffer a = data[index(rl)].duplicate();
+			a.position(pos(rl));
+			a.get(v, vix, (ru-rl)*clen);
+		}
+		else {
+			for(int i=rl; i<ru; i++, vix+=len) {
+				DoubleBuffer a = data[index(i)].duplicate();
+				a.position(pos(i, cl));
+				a.get(v, vix, len);
+			}
+		}
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder sb = new StringBuilder();
+		for(int i=0; i<rlen; i++) {
+			for(int j=0; j<clen; j++) {
+				sb.append(get(i, j));
+				sb.append("\t");
+			}
+			sb.append("\n");
+		}
+		return sb.toString();
+	}
+
+	private void writeObject(ObjectOutputStream out) throws IOException {
+		out.defaultWriteObject();
+		double[] tmp = new double[clen];
+		for(int i=0; i<rlen; i++) {
+			get(i, i+1, 0, clen, tmp, 0);
+			for(int j=0; j<clen; j++)
+				out.writeDouble(tmp[j]);
+		}
+	}
+
+	private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+		in.defaultReadObject();
+		reset(rlen, clen, blen, 0);
+		double[] tmp = new double[clen];
+		for(int i=0; i<rlen; i++) {
+			for(int j=0; j<clen; j++)
+				tmp[j] = in.readDouble();
+			set(i, i+1, 0, clen, tmp, 0);
+		}
+	}
+
+	private static DoubleBuffer allocBuffer(int len) {
+		return ByteBuffer.allocateDirect(len * 8)
+			.order(ByteOrder.nativeOrder()).asDoubleBuffer();
+	}
+
+	private static void fill(DoubleBuffer a, int ai, int aimax, double v) {
+		//bulk put of a small chunk of replicated values
+		double[] tmp = new double[Math.min(aimax-ai, 1024)];
+		Arrays.fill(tmp, v);
+		DoubleBuffer c = a.duplicate();
+		c.position(ai);
+		for(int i=ai; i<aimax; i+=tmp.length)
+			c.put(tmp, 0, Math.min(tmp.length, aimax-i));
+	}
+
+	private static int blocksize(int rlen, int clen) {
+		return Math.max(Math.min(rlen, MAX_BLOCK_SIZE / Math.max(clen, 1)), 1);
+	}
+}
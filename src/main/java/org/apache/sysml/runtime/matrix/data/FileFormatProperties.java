@@ -23,7 +23,7 @@ public class FileFormatProperties
 {
 	private String description;
 	
-	public enum FileFormat { CSV, NATIVE }
+	public enum FileFormat { CSV, COLUMNAR, NATIVE }
 	
 	FileFormat fmt;
 	
@@ -42,6 +42,7 @@ import org.apache.sysml.runtime.controlprogram.caching.CacheBlock;
 import org.apache.sysml.runtime.io.IOUtilFunctions;
 import org.apache.sysml.runtime.transform.encode.EncoderRecode;
 import org.apache.sysml.runtime.util.IndexRange;
+import org.apache.sysml.runtime.util.StringIntDictionary;
 import org.apache.sysml.runtime.util.UtilFunctions;
 
 @SuppressWarnings({"rawtypes","unchecked"}) //allow generic native arrays
@@ -480,7 +481,12 @@ public class FrameBlock implements Writable, CacheBlock, Externalizable
 
 	public Object getColumnData(int c) {
 		switch(_schema[c]) {
-			case STRING:  return ((StringArray)_coldata[c])._data; 
+			case STRING:  
+				//decode dictionary-encoded column into a plain string column
+				//because callers might update the returned backing array
+				if( _coldata[c] instanceof DictStringArray )
+					_coldata[c] = ((DictStringArray)_coldata[c]).decode();
+				return ((StringArray)_coldata[c])._data; 
 			case BOOLEAN: return ((BooleanArray)_coldata[c])._data;
 			case INT:     return ((LongArray)_coldata[c])._data;
 			case DOUBLE:  return ((DoubleArray)_coldata[c])._data;
@@ -492,6 +498,60 @@ public class FrameBlock implements Writable, CacheBlock, Externalizable
 		return _coldata[c]; 
 	}
 	
+	/**
+	 * Converts all allocated string columns into a dictionary-encoded 
+	 * representation of integer codes per row and a shared dictionary of
+	 * distinct values stored as UTF-8 bytes with offsets. This reduces the
+	 * memory footprint of categorical columns (and of string columns in
+	 * general due to avoided per-cell objects) and allows columnar access 
+	 * via {@link #getColumnDictCodes(int)}. Dictionary-encoded columns do
+	 * not support concurrent updates of disjoint row ranges, and are decoded
+	 * back into plain string columns on {@link #getColumnData(int)}. 
+	 */
+	public void compressStringColumns() {
+		if( _coldata == null )
+			return;
+		for( int j=0; j<_schema.length; j++ )
+			if( _schema[j] == ValueType.STRING && _coldata[j] instanceof StringArray )
+				_coldata[j] = new DictStringArray((StringArray)_coldata[j]);
+	}
+	
+	/**
+	 * Indicates if the given column is a dictionary-encoded string column.
+	 * 
+	 * @param c column index, 0-based
+	 * @return true if dictionary-encoded
+	 */
+	public boolean isColumnDictEncoded(int c) {
+		return _coldata != null && _coldata[c] instanceof DictStringArray;
+	}
+	
+	/**
+	 * Obtains the codes of a dictionary-encoded string column, where code 
+	 * c&gt;0 refers to position c-1 in the column dictionary and code 0 
+	 * encodes null. The returned array is not copied and might be larger 
+	 * than the number of rows.
+	 * 
+	 * @param c column index, 0-based
+	 * @return codes array, or null if the column is not dictionary-encoded
+	 */
+	public int[] getColumnDictCodes(int c) {
+		return isColumnDictEncoded(c) ? 
+			((DictStringArray)_coldata[c])._codes : null;
+	}
+	
+	/**
+	 * Obtains the dictionary of distinct values of a dictionary-encoded 
+	 * string column (see {@link #getColumnDictCodes(int)}).
+	 * 
+	 * @param c column index, 0-based
+	 * @return dictionary, or null if the column is not dictionary-encoded
+	 */
+	public StringIntDictionary getColumnDictionary(int c) {
+		return isColumnDictEncoded(c) ? 
+			((DictStringArray)_coldata[c])._dict : null;
+	}
+	
 	public void setColumn(int c, Array column) {
 		if( _coldata == null )
 			_coldata = new Array[getNumColumns()];
@@ -710,6 +770,10 @@ public class FrameBlock implements Writable, CacheBlock, Externalizable
 				case INT:
 				case DOUBLE: size += 8*_numRows; break;
 				case STRING: 
+					if( _coldata[j] instanceof DictStringArray ) {
+						size += ((DictStringArray)_coldata[j]).getInMemorySize();
+						break;
+					}
 					StringArray arr = (StringArray)_coldata[j];
 					for( int i=0; i<_numRows; i++ )
 						size += getInMemoryStringSize(arr.get(i));
@@ -741,6 +805,10 @@ public class FrameBlock implements Writable, CacheBlock, Externalizable
 				case INT:
 				case DOUBLE: size += 8*_numRows; break;
 				case STRING: 
+					if( _coldata[j] instanceof DictStringArray ) {
+						size += ((DictStringArray)_coldata[j]).getExactSerializedSize();
+						break;
+					}
 					StringArray arr = (StringArray)_coldata[j];
 					for( int i=0; i<_numRows; i++ )
 						size += IOUtilFunctions.getUTFSize(arr.get(i));
@@ -1057,26 +1125,45 @@ public class FrameBlock implements Writable, CacheBlock, Externalizable
 	 * This function will split every Recode map in the column using delimiter Lop.DATATYPE_PREFIX, 
 	 * as Recode map generated earlier in the form of Code+Lop.DATATYPE_PREFIX+Token and store it in a map 
 	 * which contains token and code for every unique tokens.
+	 * <p>
+	 * Note: this map is kept for API compatibility and constructed from the compact 
+	 * recode dictionary on every call; internal uses should rely on {@link #getRecodeDictionary(int)}.
 	 *
 	 * @param col	is the column # from frame data which contains Recode map generated earlier.
 	 * @return map of token and code for every element in the input column of a frame containing Recode map
 	 */
 	public HashMap<String,Long> getRecodeMap(int col) {
+		StringIntDictionary dict = getRecodeDictionary(col);
+		HashMap<String,Long> map = new HashMap<>();
+		for( int i=0; i<dict.size(); i++ )
+			map.put(dict.getKey(i), (long)dict.getCode(i));
+		return map;
+	}
+	
+	/**
+	 * Obtains the recode map of the given column (see {@link #getRecodeMap(int)}) as a
+	 * compact dictionary of tokens and codes. Since recode maps are stored as rows of 
+	 * the meta data frame, codes are bounded by the number of rows and hence int.
+	 *
+	 * @param col	is the column # from frame data which contains Recode map generated earlier.
+	 * @return dictionary of token and code for every element in the input column of a frame containing Recode map
+	 */
+	public StringIntDictionary getRecodeDictionary(int col) {
 		//probe cache for existing map
 		if( REUSE_RECODE_MAPS ) {
-			SoftReference<HashMap<String,Long>> tmp = _coldata[col]._rcdMapCache;
-			HashMap<String,Long> map = (tmp!=null) ? tmp.get() : null;
+			SoftReference<StringIntDictionary> tmp = _coldata[col]._rcdMapCache;
+			StringIntDictionary map = (tmp!=null) ? tmp.get() : null;
 			if( map != null ) return map;
 		}
 		
 		//construct recode map
-		HashMap<String,Long> map = new HashMap<>();
+		StringIntDictionary map = new StringIntDictionary(getNumRows());
 		Array ldata = _coldata[col]; 
 		for( int i=0; i<getNumRows(); i++ ) {
 			Object val = ldata.get(i);
 			if( val != null ) {
 				String[] tmp = EncoderRecode.splitRecodeMapEntry(val.toString());
-				map.put(tmp[0], Long.parseLong(tmp[1]));
+				map.put(tmp[0], Integer.parseInt(tmp[1]));
 			}
 		}
 		
@@ -1291,7 +1378,7 @@ public class FrameBlock implements Writable, CacheBlock, Externalizable
 	 * in order to avoid unnecessary dependencies.
 	 */
 	private abstract static class Array<T> implements Writable {
-		protected SoftReference<HashMap<String,Long>> _rcdMapCache = null;
+		protected SoftReference<StringIntDictionary> _rcdMapCache = null;
 		
 		protected int _size = 0;
 		protected int newSize() {
@@ -1331,14 +1418,19 @@ public class FrameBlock implements Writable, CacheBlock, Externalizable
 		}
 		@Override
 		public void set(int rl, int ru, Array value, int rlSrc) {
-			System.arraycopy(((StringArray)value)._data, rlSrc, _data, rl, ru-rl+1);
+			if( value instanceof StringArray )
+				System.arraycopy(((StringArray)value)._data, rlSrc, _data, rl, ru-rl+1);
+			else //dictionary-encoded source
+				for( int i=rl; i<ru+1; i++ )
+					_data[i] = (String)value.get(rlSrc+i-rl);
 		}
 		@Override
 		public void setNz(int rl, int ru, Array value) {
-			String[] data2 = ((StringArray)value)._data;
-			for( int i=rl; i<ru+1; i++ )
-				if( data2[i]!=null )
-					_data[i] = data2[i];
+			for( int i=rl; i<ru+1; i++ ) {
+				String tmp = (String)value.get(i);
+				if( tmp!=null )
+					_data[i] = tmp;
+			}
 		}
 		@Override
 		public void append(String value) {
@@ -1373,6 +1465,139 @@ public class FrameBlock implements Writable, CacheBlock, Externalizable
 		}
 	}
 
+	/**
+	 * Dictionary-encoded string array, which stores per row the 1-based 
+	 * position of its value in a dictionary of distinct strings (0 for null). 
+	 * The dictionary keeps all distinct strings as UTF-8 bytes in a single 
+	 * buffer with offsets, which avoids per-cell string objects for both
+	 * categorical and unique values. Note that this array is not thread-safe
+	 * for concurrent updates because the dictionary is shared by all rows.
+	 */
+	private static class DictStringArray extends Array<String> {
+		private int[] _codes = null;
+		private StringIntDictionary _dict = null;
+		
+		public DictStringArray(int[] codes, StringIntDictionary dict) {
+			_codes = codes;
+			_dict = dict;
+			_size = _codes.length;
+		}
+		public DictStringArray(StringArray arr) {
+			this(new int[arr._size], new StringIntDictionary());
+			for( int i=0; i<_size; i++ )
+				set(i, arr._data[i]);
+		}
+		@Override
+		public String get(int index) {
+			int code = _codes[index];
+			return (code > 0) ? _dict.getKey(code-1) : null;
+		}
+		@Override
+		public void set(int index, String value) {
+			_codes[index] = (value!=null) ? _dict.add(value) : 0;
+			compactIfNecessary();
+		}
+		@Override
+		public void set(int rl, int ru, Array value) {
+			set(rl, ru, value, 0);
+		}
+		@Override
+		public void set(int rl, int ru, Array value, int rlSrc) {
+			for( int i=rl; i<ru+1; i++ )
+				set(i, (String)value.get(rlSrc+i-rl));
+		}
+		@Override
+		public void setNz(int rl, int ru, Array value) {
+			for( int i=rl; i<ru+1; i++ ) {
+				String tmp = (String)value.get(i);
+				if( tmp!=null )
+					set(i, tmp);
+			}
+		}
+		@Override
+		public void append(String value) {
+			if( _codes.length <= _size )
+				_codes = Arrays.copyOf(_codes, newSize());
+			_codes[_size++] = (value!=null) ? _dict.add(value) : 0;
+			compactIfNecessary();
+		}
+		public void write(DataOutput out) throws IOException {
+			//same format as string arrays for compatibility
+			for( int i=0; i<_size; i++ ) {
+				String tmp = get(i);
+				out.writeUTF((tmp!=null)?tmp:"");
+			}
+		}
+		public void readFields(DataInput in) throws IOException {
+			//deserialized frames always use plain string arrays
+			throw new UnsupportedOperationException("Dictionary-encoded columns are not deserialized.");
+		}
+		@Override
+		public Array clone() {
+			return new DictStringArray(Arrays.copyOf(_codes, _size), 
+				new StringIntDictionary(_dict));
+		}
+		@Override
+		public Array slice(int rl, int ru) {
+			//compact dictionary w/ one decode per distinct value
+			DictStringArray ret = new DictStringArray(
+				new int[ru-rl+1], new StringIntDictionary());
+			int[] map = new int[_dict.size()+1];
+			for( int i=rl; i<ru+1; i++ ) {
+				int code = _codes[i];
+				if( code > 0 && map[code] == 0 )
+					map[code] = ret._dict.add(_dict.getKey(code-1));
+				ret._codes[i-rl] = map[code];
+			}
+			return ret;
+		}
+		@Override
+		public void reset(int size) {
+			if( _codes.length < size )
+				_codes = new int[size];
+			else
+				Arrays.fill(_codes, 0, size, 0);
+			_dict = new StringIntDictionary();
+			_size = size;
+		}
+		public StringArray decode() {
+			String[] data = new String[_size];
+			for( int i=0; i<_size; i++ )
+				data[i] = get(i);
+			return new StringArray(data);
+		}
+		private void compactIfNecessary() {
+			//remove unused values of overwritten cells, where the dictionary 
+			//size is bounded by twice the number of cells (amortized costs)
+			if( _dict.size() <= 2 * _size + 64 )
+				return;
+			StringIntDictionary dict = new StringIntDictionary();
+			int[] map = new int[_dict.size()+1];
+			for( int i=0; i<_size; i++ ) {
+				int code = _codes[i];
+				if( code > 0 && map[code] == 0 )
+					map[code] = dict.add(_dict.getKey(code-1));
+				_codes[i] = map[code];
+			}
+			_dict = dict;
+		}
+		public long getInMemorySize() {
+			return 16 + 4 + 8 + 8 //object, size, references
+				+ 16 + 4L * _codes.length + _dict.getInMemorySize();
+		}
+		public long getExactSerializedSize() {
+			//utf sizes computed once per distinct value
+			long[] sizes = new long[_dict.size()+1];
+			sizes[0] = IOUtilFunctions.getUTFSize(null);
+			for( int pos=0; pos<_dict.size(); pos++ )
+				sizes[pos+1] = IOUtilFunctions.getUTFSize(_dict.getKey(pos));
+			long size = 0;
+			for( int i=0; i<_size; i++ )
+				size += sizes[_codes[i]];
+			return size;
+		}
+	}
+
 	private static class BooleanArray extends Array<Boolean> {
 		private boolean[] _data = null;
 		
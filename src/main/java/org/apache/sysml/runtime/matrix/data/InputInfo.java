@@ -26,6 +26,7 @@ import java.io.Serializable;
 import org.apache.hadoop.io.DoubleWritable;
 import org.apache.hadoop.io.IntWritable;
 import org.apache.hadoop.io.LongWritable;
+import org.apache.hadoop.io.NullWritable;
 import org.apache.hadoop.io.Text;
 import org.apache.hadoop.io.Writable;
 import org.apache.hadoop.mapred.InputFormat;
@@ -83,6 +84,10 @@ public class InputInfo implements Serializable
 	public static final InputInfo CSVInputInfo=new InputInfo(TextInputFormat.class, 
 			 LongWritable.class, Text.class);
 	
+	//note: columnar files are only written and read in CP (single file, no input format)
+	public static final InputInfo ColumnarInputInfo=new InputInfo(SequenceFileInputFormat.class, 
+			NullWritable.class, MatrixBlock.class);
+	
 	public static OutputInfo getMatchingOutputInfo(InputInfo ii) throws DMLRuntimeException {
 		if ( ii == InputInfo.BinaryBlockInputInfo )
 			return OutputInfo.BinaryBlockOutputInfo;
@@ -100,6 +105,8 @@ public class InputInfo implements Serializable
 			return OutputInfo.WeightedPairOutputInfo;
 		else if ( ii == InputInfo.CSVInputInfo)
 			return OutputInfo.CSVOutputInfo;
+		else if ( ii == InputInfo.ColumnarInputInfo)
+			return OutputInfo.ColumnarOutputInfo;
 		else 
 			throw new DMLRuntimeException("Unrecognized output info: " + ii);
 	}
@@ -125,6 +132,8 @@ public class InputInfo implements Serializable
 			return WeightedPairInputInfo;
 		else if ( str.equalsIgnoreCase("csv"))
 			return CSVInputInfo;
+		else if ( str.equalsIgnoreCase("columnar"))
+			return ColumnarInputInfo;
 		return null;
 	}
 
@@ -137,6 +146,8 @@ public class InputInfo implements Serializable
 			return InputInfo.CSVInputInfo; 
 		else if( DataExpression.FORMAT_TYPE_VALUE_BINARY.equals(str) )
 			return InputInfo.BinaryBlockInputInfo; 		
+		else if( DataExpression.FORMAT_TYPE_VALUE_COLUMNAR.equals(str) )
+			return InputInfo.ColumnarInputInfo;
 		return null;
 	}
 	
@@ -159,6 +170,8 @@ public class InputInfo implements Serializable
 			return "matrixmarket";
 		else if ( ii == CSVInputInfo )
 			return "csv";
+		else if ( ii == ColumnarInputInfo )
+			return "columnar";
 		else
 			throw new DMLRuntimeException("Unrecognized inputInfo: " + ii);
 	}
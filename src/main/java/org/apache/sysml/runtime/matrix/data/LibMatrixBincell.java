@@ -42,6 +42,7 @@ import org.apache.sysml.runtime.matrix.operators.BinaryOperator;
 import org.apache.sysml.runtime.matrix.operators.ScalarOperator;
 import org.apache.sysml.runtime.util.DataConverter;
 import org.apache.sysml.runtime.util.SortUtils;
+import org.apache.sysml.runtime.util.UtilFunctions;
 
 /**
  * MB:
@@ -57,6 +58,8 @@ import org.apache.sysml.runtime.util.SortUtils;
  */
 public class LibMatrixBincell 
 {
+	private static final int BUFFER_SIZE = 64 * 1024; //512KB per buffer
+	
 
 	public enum BinaryAccessType {
 		MATRIX_MATRIX,
@@ -115,8 +118,22 @@ public class LibMatrixBincell
 	public static void bincellOp(MatrixBlock m1, MatrixBlock m2, MatrixBlock ret, BinaryOperator op) 
 		throws DMLRuntimeException
 	{
+		//explicit conversion of dense blocks w/o double arrays (e.g., off-heap)
+		//for all but the dense matrix-matrix and matrix-vector kernels
+		boolean safe = op.sparseSafe || isSparseSafeDivide(op, m2);
+		BinaryAccessType atype = getBinaryAccessType(m1, m2);
+		boolean dense = !m1.sparse && !m2.sparse && !ret.sparse;
+		boolean denseMM = safe && dense && atype == BinaryAccessType.MATRIX_MATRIX;
+		boolean denseMV = safe && dense && (atype == BinaryAccessType.MATRIX_COL_VECTOR
+			|| atype == BinaryAccessType.MATRIX_ROW_VECTOR);
+		if( !denseMM ) {
+			m2 = m2.getHeapDenseCopy();
+			if( !denseMV )
+				m1 = m1.getHeapDenseCopy();
+		}
+		
 		//execute binary cell operations
-		if(op.sparseSafe || isSparseSafeDivide(op, m2))
+		if( safe )
 			safeBinary(m1, m2, ret, op);
 		else
 			unsafeBinary(m1, m2, ret, op);
@@ -264,6 +281,12 @@ public class LibMatrixBincell
 		if( skipEmpty && (m1.isEmptyBlock(false) || m2.isEmptyBlock(false) ) )
 			return; // skip entire empty block
 		
+		//input w/o double arrays, e.g., off-heap (w/o materialization)
+		if( m1.denseBlock != null && !m1.denseBlock.hasDoubleArrays() ) {
+			safeBinaryMVDenseBuffered(m1, m2, ret, op);
+			return;
+		}
+		
 		ret.allocateDenseBlock();
 		DenseBlock da = m1.getDenseBlock();
 		DenseBlock dc = ret.getDenseBlock();
@@ -344,6 +367,33 @@ public class LibMatrixBincell
 		ret.nonZeros = nnz;
 	}
 
+	private static void safeBinaryMVDenseBuffered(MatrixBlock m1, MatrixBlock m2, MatrixBlock ret, BinaryOperator op) 
+		throws DMLRuntimeException 
+	{
+		boolean colVector = (getBinaryAccessType(m1, m2) == BinaryAccessType.MATRIX_COL_VECTOR);
+		ValueFunction fn = op.fn;
+		ret.allocateConfiguredDenseBlock(true);
+		DenseBlock da = m1.denseBlock, dc = ret.denseBlock;
+		double[] b = m2.getDenseBlockValues(); // always single block
+		
+		//process row blocks over a buffer that fits into L2 cache
+		int n = m1.clen, blen = Math.max(1, BUFFER_SIZE / n);
+		double[] a = new double[blen * n];
+		long nnz = 0;
+		for( int bi=0; bi<m1.rlen; bi+=blen ) {
+			int bimin = Math.min(m1.rlen, bi+blen);
+			da.get(bi, bimin, 0, n, a, 0);
+			for( int i=bi, ix=0; i<bimin; i++, ix+=n )
+				for( int j=0; j<n; j++ ) {
+					double v2 = (b==null) ? 0 : colVector ? b[i] : b[j];
+					a[ix+j] = fn.execute(a[ix+j], v2);
+				}
+			nnz += UtilFunctions.computeNnz(a, 0, (bimin-bi)*n);
+			dc.set(bi, bimin, 0, n, a, 0);
+		}
+		ret.setNonZeros(nnz);
+	}
+	
 	private static void safeBinaryMVSparse(MatrixBlock m1, MatrixBlock m2, MatrixBlock ret, BinaryOperator op) 
 		throws DMLRuntimeException 
 	{
@@ -720,11 +770,47 @@ public class LibMatrixBincell
 	private static void safeBinaryMMDenseDenseDense(MatrixBlock m1, MatrixBlock m2, MatrixBlock ret, BinaryOperator op) 
 		throws DMLRuntimeException 
 	{
-		ret.allocateDenseBlock();
+		ret.allocateConfiguredDenseBlock(true);
+		ValueFunction fn = op.fn;
+		
+		//single-precision inputs and output (float kernel)
+		if( m1.denseBlock instanceof DenseBlockFP32 && m2.denseBlock instanceof DenseBlockFP32
+			&& ret.denseBlock instanceof DenseBlockFP32 ) {
+			float[] a = ((DenseBlockFP32)m1.denseBlock).valuesFP32();
+			float[] b = ((DenseBlockFP32)m2.denseBlock).valuesFP32();
+			float[] c = ((DenseBlockFP32)ret.denseBlock).valuesFP32();
+			int len = m1.rlen * m1.clen;
+			vectBinaryWrite(fn, a, b, c, len);
+			long lnnz = 0;
+			for( int i=0; i<len; i++ )
+				lnnz += (c[i]!=0)? 1 : 0;
+			ret.setNonZeros(lnnz);
+			return;
+		}
+		
+		//inputs or outputs w/o double arrays, e.g., off-heap (w/o materialization)
+		if( !m1.denseBlock.hasDoubleArrays() || !m2.denseBlock.hasDoubleArrays() || !ret.denseBlock.hasDoubleArrays() ) {
+			DenseBlock da = m1.denseBlock, db = m2.denseBlock, dc = ret.denseBlock;
+			int n = m1.clen, blen = Math.max(1, BUFFER_SIZE / n);
+			double[] a = new double[blen * n];
+			double[] b = new double[blen * n];
+			long lnnz = 0;
+			for( int bi=0; bi<m1.rlen; bi+=blen ) {
+				int bimin = Math.min(m1.rlen, bi+blen);
+				int len = (bimin - bi) * n;
+				da.get(bi, bimin, 0, n, a, 0);
+				db.get(bi, bimin, 0, n, b, 0);
+				vectBinaryWrite(fn, a, b, a, 0, 0, 0, len);
+				lnnz += UtilFunctions.computeNnz(a, 0, len);
+				dc.set(bi, bimin, 0, n, a, 0);
+			}
+			ret.setNonZeros(lnnz);
+			return;
+		}
+		
 		DenseBlock da = m1.getDenseBlock();
 		DenseBlock db = m2.getDenseBlock();
 		DenseBlock dc = ret.getDenseBlock();
-		ValueFunction fn = op.fn;
 		
 		//compute dense-dense binary, maintain nnz on-the-fly
 		long lnnz = 0;
@@ -733,14 +819,67 @@ public class LibMatrixBincell
 			double[] b = db.valuesAt(bi);
 			double[] c = dc.valuesAt(bi);
 			int len = da.size(bi);
-			for( int i=0; i<len; i++ ) {
-				c[i] = fn.execute(a[i], b[i]);
-				lnnz += (c[i]!=0)? 1 : 0;
-			}
+			vectBinaryWrite(fn, a, b, c, 0, 0, 0, len);
+			lnnz += UtilFunctions.computeNnz(c, 0, len);
 		}
 		ret.setNonZeros(lnnz);
 	}
 	
+	/**
+	 * Dense-dense cellwise binary operation c = fn(a, b) over a range of cells.
+	 * The common arithmetic operations are specialized into simple counted
+	 * loops w/o function calls, which the JIT compiler reliably vectorizes
+	 * (SIMD); all other operations use the generic value function.
+	 * 
+	 * @param fn value function
+	 * @param a left input array
+	 * @param b right input array
+	 * @param c output array (may be identical to a)
+	 * @param ai start position in a
+	 * @param bi start position in b
+	 * @param ci start position in c
+	 * @param len number of cells
+	 */
+	private static void vectBinaryWrite(ValueFunction fn, double[] a, double[] b, double[] c, int ai, int bi, int ci, int len)
+		throws DMLRuntimeException
+	{
+		if( fn instanceof Plus )
+			for( int j=0; j<len; j++ )
+				c[ci+j] = a[ai+j] + b[bi+j];
+		else if( fn instanceof Minus )
+			for( int j=0; j<len; j++ )
+				c[ci+j] = a[ai+j] - b[bi+j];
+		else if( fn instanceof Multiply )
+			for( int j=0; j<len; j++ )
+				c[ci+j] = a[ai+j] * b[bi+j];
+		else if( fn instanceof Divide )
+			for( int j=0; j<len; j++ )
+				c[ci+j] = a[ai+j] / b[bi+j];
+		else
+			for( int j=0; j<len; j++ )
+				c[ci+j] = fn.execute(a[ai+j], b[bi+j]);
+	}
+	
+	private static void vectBinaryWrite(ValueFunction fn, float[] a, float[] b, float[] c, int len)
+		throws DMLRuntimeException
+	{
+		if( fn instanceof Plus )
+			for( int j=0; j<len; j++ )
+				c[j] = a[j] + b[j];
+		else if( fn instanceof Minus )
+			for( int j=0; j<len; j++ )
+				c[j] = a[j] - b[j];
+		else if( fn instanceof Multiply )
+			for( int j=0; j<len; j++ )
+				c[j] = a[j] * b[j];
+		else if( fn instanceof Divide )
+			for( int j=0; j<len; j++ )
+				c[j] = a[j] / b[j];
+		else
+			for( int j=0; j<len; j++ )
+				c[j] = (float) fn.execute(a[j], b[j]);
+	}
+	
 	private static void safeBinaryMMSparseDenseSkip(MatrixBlock m1, MatrixBlock m2, MatrixBlock ret, BinaryOperator op) 
 		throws DMLRuntimeException 
 	{
@@ -1050,7 +1189,41 @@ public class LibMatrixBincell
 		throws DMLRuntimeException 
 	{
 		//allocate dense block (if necessary), incl clear nnz
-		ret.allocateDenseBlock(true);
+		ret.allocateConfiguredDenseBlock(true);
+		
+		//single-precision input and output (float kernel)
+		if( m1.denseBlock instanceof DenseBlockFP32 && ret.denseBlock instanceof DenseBlockFP32 ) {
+			float[] a = ((DenseBlockFP32)m1.denseBlock).valuesFP32();
+			float[] c = ((DenseBlockFP32)ret.denseBlock).valuesFP32();
+			int len = m1.rlen * m1.clen;
+			long nnz = 0;
+			for( int i=0; i<len; i++ ) {
+				c[i] = (float) op.executeScalar( a[i] );
+				nnz += (c[i] != 0) ? 1 : 0;
+			}
+			ret.nonZeros = nnz;
+			return;
+		}
+		
+		//input or output w/o double arrays, e.g., off-heap (w/o materialization)
+		if( !m1.denseBlock.hasDoubleArrays() || !ret.denseBlock.hasDoubleArrays() ) {
+			DenseBlock da = m1.denseBlock, dc = ret.denseBlock;
+			int n = m1.clen, blen = Math.max(1, BUFFER_SIZE / n);
+			double[] a = new double[blen * n];
+			long nnz = 0;
+			for( int bi=0; bi<m1.rlen; bi+=blen ) {
+				int bimin = Math.min(m1.rlen, bi+blen);
+				int len = (bimin - bi) * n;
+				da.get(bi, bimin, 0, n, a, 0);
+				for( int i=0; i<len; i++ ) {
+					a[i] = op.executeScalar( a[i] );
+					nnz += (a[i] != 0) ? 1 : 0;
+				}
+				dc.set(bi, bimin, 0, n, a, 0);
+			}
+			ret.nonZeros = nnz;
+			return;
+		}
 		
 		DenseBlock da = m1.getDenseBlock();
 		DenseBlock dc = ret.getDenseBlock();
@@ -19,6 +19,7 @@
 package org.apache.sysml.runtime.matrix.data;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.concurrent.Callable;
 
 import org.apache.sysml.api.DMLScript;
@@ -194,6 +195,69 @@ public class LibMatrixDNNConv2dHelper {
 		}
 	}
 	
+	/**
+	 * This implementation is similar to LoopedIm2ColConv2dAllChan, except for using
+	 * single-precision im2col and matrix multiplication over the float arrays of
+	 * single-precision dense input and output blocks (w/o conversion to double).
+	 */
+	public static class LoopedIm2ColConv2dFP32 implements Callable<Long> 
+	{
+		protected final int _rl, _ru; 
+		protected final ConvolutionParameters _params;
+		protected final float[] _filter; //K x CRS
+		protected final float[] _bias; //K x 1, or null
+		
+		public LoopedIm2ColConv2dFP32(int rl, int ru, ConvolutionParameters params, float[] filter, float[] bias) {
+			_rl = rl; _ru = ru;
+			_params = params;
+			_filter = filter;
+			_bias = bias;
+		}
+
+		@Override
+		public Long call() throws Exception {
+			final int C = _params.C, H = _params.H, W = _params.W, K = _params.K;
+			final int R = _params.R, S = _params.S, P = _params.P, Q = _params.Q;
+			final int PQ = P*Q, CRS = C*R*S, CHW = C*H*W;
+			float[] in = ((DenseBlockFP32)_params.input1.denseBlock).valuesFP32();
+			float[] out = ((DenseBlockFP32)_params.output.denseBlock).valuesFP32();
+			float[] im2col = new float[CRS*PQ];
+			
+			for(int n = _rl; n < _ru; n++)  {
+				// im2col(input) => im2col [CRS x PQ]
+				for(int c = 0, ix = 0; c < C; c++)
+					for(int r = 0; r < R; r++)
+						for(int s = 0; s < S; s++, ix+=PQ)
+							for(int p = 0; p < P; p++) {
+								int h = p*_params.stride_h - _params.pad_h + r;
+								int cix = ix + p*Q;
+								if( h < 0 || h >= H ) {
+									Arrays.fill(im2col, cix, cix+Q, 0);
+									continue;
+								}
+								int inPos = n*CHW + c*H*W + h*W;
+								for(int q = 0; q < Q; q++) {
+									int w = q*_params.stride_w - _params.pad_w + s;
+									im2col[cix+q] = (w >= 0 && w < W) ? in[inPos+w] : 0;
+								}
+							}
+				
+				// bias + filter %*% im2col => output row [K x PQ]
+				for(int k = 0, oix = n*K*PQ; k < K; k++, oix+=PQ) {
+					Arrays.fill(out, oix, oix+PQ, (_bias != null) ? _bias[k] : 0);
+					for(int crs = 0, fix = k*CRS; crs < CRS; crs++) {
+						float fval = _filter[fix+crs];
+						if( fval != 0 )
+							LibMatrixMult.vectMultiplyAddFP32(fval, im2col, out, crs*PQ, oix, PQ);
+					}
+				}
+			}
+			
+			//multi-threaded nnz maintenance of current working set
+			return _params.output.recomputeNonZeros(_rl, _ru-1);
+		}
+	}
+	
 	/**
 	 * This implementation is similar to LoopedIm2ColConv2dAllChan, except for using a 
 	 * sparse-dense matrix multiplication with t(t(Xi) %*% t(F)) instead of a 
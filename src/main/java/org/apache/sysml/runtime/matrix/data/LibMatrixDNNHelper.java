@@ -144,10 +144,18 @@ public class LibMatrixDNNHelper {
 				new MatrixBlock(params.input2.clen, params.input2.rlen, false), k);
 		}
 		
+		//single-precision dense input and output (float kernel)
+		boolean applyFP32 = !applyNative && !isEmptyDenseInput && !in1.sparse 
+			&& in1.denseBlock instanceof DenseBlockFP32 && params.output.denseBlock instanceof DenseBlockFP32;
+		float[] filterFP32 = applyFP32 ? toFloatArray(params.input2) : null;
+		float[] biasFP32 = (applyFP32 && params.bias != null) ? toFloatArray(params.bias) : null;
+		
 		for(int i = 0; i*taskSize < params.N; i++) {
 			//note: we prefer the java backend for sparse inputs because the native 
 			//implementation simply converts the sparse input into dense rows
-			if( applyNative ) 
+			if( applyFP32 )
+				ret.add(new LoopedIm2ColConv2dFP32(i*taskSize, Math.min((i+1)*taskSize, params.N), params, filterFP32, biasFP32));
+			else if( applyNative ) 
 				ret.add(new SparseNativeConv2d(i*taskSize, Math.min((i+1)*taskSize, params.N), params));
 			else if(!isEmptyDenseInput && allChannels && isTransPref)
 				ret.add(new LoopedIm2ColConv2dTransAllChan(i*taskSize, Math.min((i+1)*taskSize, params.N), params));
@@ -356,6 +364,16 @@ public class LibMatrixDNNHelper {
 		ret.setNonZeros((long)ret.rlen*ret.clen);
 	}
 	
+	private static float[] toFloatArray(MatrixBlock mb) {
+		//row-major copy of small inputs (e.g., filter, bias), which are potentially sparse
+		float[] ret = new float[mb.rlen * mb.clen];
+		if( !mb.isEmptyBlock(false) )
+			for(int i = 0, ix = 0; i < mb.rlen; i++)
+				for(int j = 0; j < mb.clen; j++, ix++)
+					ret[ix] = (float) mb.quickGetValue(i, j);
+		return ret;
+	}
+	
 	static void addBias(int r, double [] out, double [] bias, int K, int PQ) {
 		for(int k=0, cix=r*K*PQ; k<K; k++, cix+=PQ)
 			LibMatrixMult.vectAddInPlace(bias[k], out, cix, PQ);
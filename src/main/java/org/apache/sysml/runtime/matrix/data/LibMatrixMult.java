@@ -58,6 +58,8 @@ public class LibMatrixMult
 	private static final long MEM_OVERHEAD_THRESHOLD = 2L*1024*1024; //MAX 2 MB
 	private static final long PAR_MINFLOP_THRESHOLD = 2L*1024*1024; //MIN 2 MFLOP
 	private static final int L2_CACHESIZE = 256 *1024; //256KB (common size)
+	private static final int BUFFER_SIZE = 1024 *1024; //8MB per buffer
+	private static final int SPGEMM_HASH_RATIO = 32; //max output row density of hash accumulators
 	
 	private LibMatrixMult() {
 		//prevent instantiation via private constructor
@@ -123,9 +125,18 @@ public class LibMatrixMult
 		
 		//pre-processing: output allocation
 		boolean ultraSparse = isUltraSparseMatrixMult(m1, m2);
+		boolean sparseOut = !ultraSparse && isSparseOutputMatrixMult(m1, m2);
 		boolean tm2 = checkPrepMatrixMultRightInput(m1,m2);
+		if( ultraSparse || sparseOut || m1.sparse || m2.sparse ) {
+			//explicit conversion of dense blocks w/o double arrays (e.g., off-heap),
+			//which are only supported by the dense-dense kernels
+			m1 = m1.getHeapDenseCopy();
+			m2 = m2.getHeapDenseCopy();
+		}
+		else if( tm2 )
+			m2 = m2.getHeapDenseCopy();
 		m2 = prepMatrixMultRightInput(m1, m2);
-		ret.sparse = ultraSparse;
+		ret.sparse = ultraSparse || sparseOut;
 		ret.allocateBlock();
 		
 		//prepare row-upper for special cases of vector-matrix
@@ -136,6 +147,8 @@ public class LibMatrixMult
 		//core matrix mult computation
 		if( ultraSparse )
 			matrixMultUltraSparse(m1, m2, ret, 0, ru2);
+		else if( sparseOut )
+			ret.nonZeros = matrixMultSparseSparseMM(m1, m2, ret, 0, ru2);
 		else if(!m1.sparse && !m2.sparse)
 			matrixMultDenseDense(m1, m2, ret, tm2, pm2, 0, ru2, 0, cu);
 		else if(m1.sparse && m2.sparse)
@@ -189,9 +202,18 @@ public class LibMatrixMult
 		//pre-processing: output allocation (in contrast to single-threaded,
 		//we need to allocate sparse as well in order to prevent synchronization)
 		boolean ultraSparse = isUltraSparseMatrixMult(m1, m2);
+		boolean sparseOut = !ultraSparse && isSparseOutputMatrixMult(m1, m2);
 		boolean tm2 = checkPrepMatrixMultRightInput(m1,m2);
+		if( ultraSparse || sparseOut || m1.sparse || m2.sparse ) {
+			//explicit conversion of dense blocks w/o double arrays (e.g., off-heap),
+			//which are only supported by the dense-dense kernels
+			m1 = m1.getHeapDenseCopy();
+			m2 = m2.getHeapDenseCopy();
+		}
+		else if( tm2 )
+			m2 = m2.getHeapDenseCopy();
 		m2 = prepMatrixMultRightInput(m1, m2);
-		ret.sparse = ultraSparse;
+		ret.sparse = ultraSparse || sparseOut;
 		ret.allocateBlock();
 		
 		if (!ret.isThreadSafe()) {
@@ -216,15 +238,21 @@ public class LibMatrixMult
 			List<Future<Object>> taskret = pool.invokeAll(tasks);
 			pool.shutdown();
 			//aggregate partial results (nnz, ret for vector/matrix)
+			//(via temporary array for outputs w/o double arrays, e.g., off-heap)
 			ret.nonZeros = 0; //reset after execute
+			double[] c = !pm2r ? null : ret.denseBlock.hasDoubleArrays() ?
+				ret.getDenseBlockValues() : new double[ret.rlen*ret.clen];
 			for( Future<Object> task : taskret ) {
 				if( pm2r ) //guaranteed single block
-					vectAdd((double[])task.get(), ret.getDenseBlockValues(), 0, 0, ret.rlen*ret.clen);
+					vectAdd((double[])task.get(), c, 0, 0, ret.rlen*ret.clen);
 				else
 					ret.nonZeros += (Long)task.get();
 			}
-			if( pm2r )
+			if( pm2r ) {
+				if( !ret.denseBlock.hasDoubleArrays() )
+					ret.denseBlock.set(0, ret.rlen, 0, ret.clen, c, 0);
 				ret.recomputeNonZeros();
+			}
 		}
 		catch(Exception ex) {
 			throw new DMLRuntimeException(ex);
@@ -926,6 +954,23 @@ public class LibMatrixMult
 	private static void matrixMultDenseDense(MatrixBlock m1, MatrixBlock m2, MatrixBlock ret, boolean tm2, boolean pm2, int rl, int ru, int cl, int cu) 
 		throws DMLRuntimeException
 	{
+		//single-precision inputs and outputs (float kernel)
+		if( m1.denseBlock instanceof DenseBlockFP32 && m2.denseBlock instanceof DenseBlockFP32
+			&& ret.denseBlock instanceof DenseBlockFP32 ) {
+			matrixMultDenseDenseFP32((DenseBlockFP32)m1.denseBlock, (DenseBlockFP32)m2.denseBlock, 
+				(DenseBlockFP32)ret.denseBlock, tm2, pm2, m1.rlen, tm2 ? m2.rlen : m2.clen, m1.clen,
+				rl, ru, tm2 ? 0 : cl, tm2 ? m2.rlen : cu);
+			return;
+		}
+		
+		//inputs or outputs w/o double arrays, e.g., off-heap (w/o materialization)
+		if( !m1.denseBlock.hasDoubleArrays() || !m2.denseBlock.hasDoubleArrays() || !ret.denseBlock.hasDoubleArrays() ) {
+			//note: transposed rhs (tm2) always covers all output columns
+			matrixMultDenseDenseBuffered(m1.denseBlock, m2.denseBlock, ret.denseBlock, tm2, pm2,
+				m1.rlen, tm2 ? m2.rlen : m2.clen, m1.clen, rl, ru, tm2 ? 0 : cl, tm2 ? m2.rlen : cu);
+			return;
+		}
+		
 		DenseBlock a = m1.getDenseBlock();
 		DenseBlock b = m2.getDenseBlock();
 		DenseBlock c = ret.getDenseBlock();
@@ -1092,6 +1137,86 @@ public class LibMatrixMult
 		}
 	}
 	
+	private static void matrixMultDenseDenseBuffered(DenseBlock a, DenseBlock b, DenseBlock c, boolean tm2, boolean pm2, 
+		int m, int n, int cd, int rl, int ru, int cl, int cu) 
+	{
+		//row ranges of lhs and common dimension (see pm2 parallelization over rows in rhs)
+		final int il = pm2 ? 0 : rl, iu = pm2 ? m : ru;
+		final int kl = pm2 ? rl : 0, ku = pm2 ? ru : cd;
+		final int clen = cu - cl;
+		
+		//process blocks of lhs rows copied into heap buffers, which amortizes
+		//the buffer copies of rhs rows and keeps the inner loops vectorizable
+		final int blocksizeI = Math.max(1, Math.min(iu-il, BUFFER_SIZE/Math.max(cd, clen)));
+		double[] abuf = new double[blocksizeI * cd];
+		double[] cbuf = new double[blocksizeI * clen];
+		double[] bbuf = new double[tm2 ? cd : n];
+		
+		for( int bi = il; bi < iu; bi+=blocksizeI ) {
+			int bimin = Math.min(iu, bi+blocksizeI);
+			int len = bimin - bi;
+			a.get(bi, bimin, 0, cd, abuf, 0);
+			c.get(bi, bimin, cl, cu, cbuf, 0);
+			if( !tm2 ) {
+				//rank-1 updates with rows of rhs
+				for( int k = kl; k < ku; k++ ) {
+					b.get(k, k+1, 0, n, bbuf, 0);
+					for( int i = 0, aix = k, cix = 0; i < len; i++, aix+=cd, cix+=clen ) {
+						double val = abuf[aix];
+						if( val != 0 )
+							vectMultiplyAdd(val, bbuf, cbuf, cl, cix, clen);
+					}
+				}
+			}
+			else {
+				//dot products with rows of transposed rhs
+				for( int j = cl; j < cu; j++ ) {
+					b.get(j, j+1, 0, cd, bbuf, 0);
+					for( int i = 0, aix = 0, cix = j-cl; i < len; i++, aix+=cd, cix+=clen )
+						cbuf[cix] += dotProduct(abuf, bbuf, aix+kl, kl, ku-kl);
+				}
+			}
+			c.set(bi, bimin, cl, cu, cbuf, 0);
+		}
+	}
+	
+	private static void matrixMultDenseDenseFP32(DenseBlockFP32 a, DenseBlockFP32 b, DenseBlockFP32 c, boolean tm2, boolean pm2, 
+		int m, int n, int cd, int rl, int ru, int cl, int cu) 
+	{
+		float[] avals = a.valuesFP32();
+		float[] bvals = b.valuesFP32();
+		float[] cvals = c.valuesFP32();
+		
+		//row ranges of lhs and common dimension (see pm2 parallelization over rows in rhs)
+		final int il = pm2 ? 0 : rl, iu = pm2 ? m : ru;
+		final int kl = pm2 ? rl : 0, ku = pm2 ? ru : cd;
+		
+		if( tm2 ) {
+			//dot products with rows of transposed rhs
+			for( int i = il, aix = il*cd; i < iu; i++, aix+=cd )
+				for( int j = cl, bix = cl*cd, cix = i*n+cl; j < cu; j++, bix+=cd, cix++ )
+					cvals[cix] += dotProductFP32(avals, bvals, aix+kl, bix+kl, ku-kl);
+			return;
+		}
+		
+		//blocked execution similar to matrixMultDenseDenseMM, but with simple
+		//inner loops, which are reliably vectorized by the JIT compiler
+		final int blocksizeI = 32, blocksizeK = 24, blocksizeJ = 1024;
+		for( int bi = il; bi < iu; bi+=blocksizeI )
+			for( int bk = kl, bimin = Math.min(iu, bi+blocksizeI); bk < ku; bk+=blocksizeK ) 
+				for( int bj = cl, bkmin = Math.min(ku, bk+blocksizeK); bj < cu; bj+=blocksizeJ ) {
+					int bjlen = Math.min(cu, bj+blocksizeJ)-bj;
+					for( int i = bi; i < bimin; i++ ) {
+						int aixi = i * cd, cixj = i * n + bj;
+						for( int k = bk; k < bkmin; k++ ) {
+							float val = avals[aixi + k];
+							if( val != 0 )
+								vectMultiplyAddFP32(val, bvals, cvals, k*n+bj, cixj, bjlen);
+						}
+					}
+				}
+	}
+	
 	private static void matrixMultDenseDenseMM(DenseBlock a, DenseBlock b, DenseBlock c, int n, int cd, int rl, int ru, int cl, int cu) 
 		throws DMLRuntimeException
 	{
@@ -1542,6 +1667,136 @@ public class LibMatrixMult
 		}
 	}
 
+	/**
+	 * Gustavson-style sparse-sparse matrix multiplication with sparse output, which 
+	 * computes the output row-by-row via thread-local accumulators. Depending on the 
+	 * number of multiply-adds per row (upper bound of the row nnz), we use either a
+	 * dense sparse accumulator (SPA) w/ row markers or - if the SPA would exceed the
+	 * L2 cache and the output row is very sparse - an open-addressing hash accumulator
+	 * of size proportional to the row nnz. Output rows are allocated once with their
+	 * exact number of non-zeros.
+	 * 
+	 * @param m1 first matrix (sparse)
+	 * @param m2 second matrix (sparse)
+	 * @param ret result matrix (sparse, allocated)
+	 * @param rl row lower bound
+	 * @param ru row upper bound
+	 * @return number of non-zeros in the row range
+	 */
+	private static long matrixMultSparseSparseMM(MatrixBlock m1, MatrixBlock m2, MatrixBlock ret, int rl, int ru) 
+	{
+		SparseBlock a = m1.sparseBlock;
+		SparseBlock b = m2.sparseBlock;
+		SparseBlock c = ret.sparseBlock;
+		final int n = m2.clen;
+		final boolean spaFitsL2 = 12L * n <= L2_CACHESIZE;
+		
+		//thread-local accumulators (allocated on demand)
+		double[] spaVals = null; //dense accumulator
+		int[] spaMark = null;    //row markers to avoid resets
+		int[] hashKeys = null;   //hash keys (-1 for empty)
+		double[] hashVals = null;
+		int[] cix = new int[32];  //column indexes of output row
+		long lnnz = 0;
+		
+		for( int i=rl; i<Math.min(ru, a.numRows()); i++ ) {
+			if( a.isEmpty(i) ) continue;
+			final int apos = a.pos(i);
+			final int alen = a.size(i);
+			final int[] aix = a.indexes(i);
+			final double[] avals = a.values(i);
+			
+			//upper bound of output row nnz
+			long flops = 0;
+			for( int k=apos; k<apos+alen; k++ )
+				flops += b.isEmpty(aix[k]) ? 0 : b.size(aix[k]);
+			if( flops == 0 ) continue;
+			final int maxnnz = (int)Math.min(flops, n);
+			if( cix.length < maxnnz )
+				cix = new int[Math.min(Math.max(2*cix.length, maxnnz), n)];
+			int cnt = 0;
+			
+			if( spaFitsL2 || (long)maxnnz * SPGEMM_HASH_RATIO >= n ) {
+				//dense sparse accumulator (SPA)
+				if( spaVals == null ) {
+					spaVals = new double[n];
+					spaMark = new int[n];
+				}
+				final int mark = i + 1;
+				for( int k=apos; k<apos+alen; k++ ) {
+					if( b.isEmpty(aix[k]) ) continue;
+					final double aval = avals[k];
+					final int bpos = b.pos(aix[k]);
+					final int blen = b.size(aix[k]);
+					final int[] bix = b.indexes(aix[k]);
+					final double[] bvals = b.values(aix[k]);
+					for( int j=bpos; j<bpos+blen; j++ ) {
+						final int col = bix[j];
+						if( spaMark[col] != mark ) {
+							spaMark[col] = mark;
+							spaVals[col] = 0;
+							cix[cnt++] = col;
+						}
+						spaVals[col] += aval * bvals[j];
+					}
+				}
+				//sorted output of touched columns
+				Arrays.sort(cix, 0, cnt);
+				c.allocate(i, cnt);
+				for( int j=0; j<cnt; j++ )
+					c.append(i, cix[j], spaVals[cix[j]]);
+			}
+			else {
+				//hash accumulator w/ linear probing (load factor <= 0.5)
+				final int cap = Integer.highestOneBit(Math.max(maxnnz, 8)) << 2;
+				if( hashKeys == null || hashKeys.length < cap ) {
+					hashKeys = new int[cap];
+					hashVals = new double[cap];
+					Arrays.fill(hashKeys, -1);
+				}
+				final int mask = cap - 1;
+				for( int k=apos; k<apos+alen; k++ ) {
+					if( b.isEmpty(aix[k]) ) continue;
+					final double aval = avals[k];
+					final int bpos = b.pos(aix[k]);
+					final int blen = b.size(aix[k]);
+					final int[] bix = b.indexes(aix[k]);
+					final double[] bvals = b.values(aix[k]);
+					for( int j=bpos; j<bpos+blen; j++ ) {
+						final int col = bix[j];
+						int h = hashSlot(col, mask);
+						while( hashKeys[h] != -1 && hashKeys[h] != col )
+							h = (h + 1) & mask;
+						if( hashKeys[h] == -1 ) {
+							hashKeys[h] = col;
+							hashVals[h] = 0;
+							cix[cnt++] = col;
+						}
+						hashVals[h] += aval * bvals[j];
+					}
+				}
+				//sorted output of touched columns
+				Arrays.sort(cix, 0, cnt);
+				c.allocate(i, cnt);
+				for( int j=0; j<cnt; j++ ) {
+					int h = hashSlot(cix[j], mask);
+					while( hashKeys[h] != cix[j] )
+						h = (h + 1) & mask;
+					c.append(i, cix[j], hashVals[h]);
+				}
+				//reset used part of the hash table
+				Arrays.fill(hashKeys, 0, cap, -1);
+			}
+			lnnz += c.size(i);
+		}
+		return lnnz;
+	}
+	
+	private static int hashSlot(int key, int mask) {
+		int h = key * 0x9E3779B9; //multiplicative hashing
+		return (h ^ (h >>> 16)) & mask;
+	}
+
 	/**
 	 * This implementation applies to any combination of dense/sparse if at least one
 	 * input is ultrasparse (sparse and very few nnz). In that case, most importantly,
@@ -3128,7 +3383,20 @@ public class LibMatrixMult
 		return val; 
 	}
 
-	//note: public for use by codegen for consistency
+	private static float dotProductFP32( float[] a, float[] b, int ai, int bi, final int len ) {
+		//accumulate in double (exact products of floats) to avoid the error
+		//growth of long float sums, and round once to float at the end
+		double val = 0;
+		for( int i = 0; i < len; i++ )
+			val += (double)a[ ai+i ] * b[ bi+i ];
+		return (float) val;
+	}
+	
+	public static void vectMultiplyAddFP32( final float aval, float[] b, float[] c, int bi, int ci, final int len ) {
+		for( int j = 0; j < len; j++ )
+			c[ ci+j ] += aval * b[ bi+j ];
+	}
+	
 	public static void vectMultiplyAdd( final double aval, double[] b, double[] c, int bi, int ci, final int len )
 	{
 		final int bn = len%8;
@@ -3737,6 +4005,18 @@ public class LibMatrixMult
 				&& OptimizerUtils.getSparsity(m2.rlen, m2.clen, m2.nonZeros)<1.0);
 	}
 
+	public static boolean isSparseOutputMatrixMult(MatrixBlock m1, MatrixBlock m2) {
+		//sparse output for sparse-sparse matrix-matrix products (no vectors) if 
+		//the estimated output (average-case estimate) is in sparse format as well
+		if( !m1.sparse || !m2.sparse || m1.rlen == 1 || m2.clen == 1 
+			|| !LOW_LEVEL_OPTIMIZATION )
+			return false;
+		double sp1 = OptimizerUtils.getSparsity(m1.rlen, m1.clen, m1.nonZeros);
+		double sp2 = OptimizerUtils.getSparsity(m2.rlen, m2.clen, m2.nonZeros);
+		double spOut = OptimizerUtils.getMatMultSparsity(sp1, sp2, m1.rlen, m1.clen, m2.clen, false);
+		return MatrixBlock.evalSparseFormatInMemory(m1.rlen, m2.clen, (long)(spOut*m1.rlen*m2.clen));
+	}
+	
 	private static MatrixBlock prepMatrixMultRightInput( MatrixBlock m1, MatrixBlock m2 ) 
 		throws DMLRuntimeException
 	{
@@ -3884,7 +4164,10 @@ public class LibMatrixMult
 				_ret.allocateDenseBlock();
 			
 			//compute block matrix multiplication
-			if( _ret.sparse ) //ultra-sparse
+			if( _ret.sparse && _m1.sparse && _m2.sparse 
+				&& !isUltraSparseMatrixMult(_m1, _m2) ) //sparse-sparse, sparse output
+				return matrixMultSparseSparseMM(_m1, _m2, _ret, rl, ru);
+			else if( _ret.sparse ) //ultra-sparse
 				matrixMultUltraSparse(_m1, _m2, _ret, rl, ru);
 			else if(!_m1.sparse && !_m2.sparse)
 				matrixMultDenseDense(_m1, _m2, _ret, _tm2, _pm2r, rl, ru, cl, cu);
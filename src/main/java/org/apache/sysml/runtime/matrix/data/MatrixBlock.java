@@ -170,6 +170,19 @@ public class MatrixBlock extends MatrixValue implements CacheBlock, Externalizab
 		sparseBlock = sblock;
 	}
 	
+	/**
+	 * Constructs a dense {@link MatrixBlock} with a given instance of a {@link DenseBlock} 
+	 * @param rl number of rows
+	 * @param cl number of columns
+	 * @param nnz number of non zeroes
+	 * @param dblock dense block
+	 */
+	public MatrixBlock(int rl, int cl, long nnz, DenseBlock dblock) {
+		this(rl, cl, false, nnz);
+		nonZeros = nnz;
+		denseBlock = dblock;
+	}
+	
 	public MatrixBlock(MatrixBlock that, SparseBlock.Type stype, boolean deep) {
 		this(that.rlen, that.clen, that.sparse);
 		
@@ -286,9 +299,8 @@ public class MatrixBlock extends MatrixValue implements CacheBlock, Externalizab
 		allocateDenseBlock();
 		
 		//copy and compute nnz
-		DenseBlock db = getDenseBlock();
 		for(int i=0; i < r; i++)
-			System.arraycopy(arr[i], 0, db.values(i), db.pos(i), arr[i].length);
+			denseBlock.set(i, i+1, 0, arr[i].length, arr[i], 0);
 		recomputeNonZeros();
 	}
 	
@@ -336,11 +348,28 @@ public class MatrixBlock extends MatrixValue implements CacheBlock, Externalizab
 	}
 	
 	public boolean allocateDenseBlock(boolean clearNNZ) {
+		return allocateDenseBlock(clearNNZ, false);
+	}
+	
+	/**
+	 * Allocates the dense block (if non-existing) in the configured single-precision
+	 * or off-heap type, if enabled. This is only used by operations that access the
+	 * dense block via the dense block API instead of the underlying double arrays.
+	 * 
+	 * @param clearNNZ if true, clear the number of non-zeros
+	 * @return true if the dense block was allocated or reset
+	 */
+	public boolean allocateConfiguredDenseBlock(boolean clearNNZ) {
+		return allocateDenseBlock(clearNNZ, true);
+	}
+	
+	private boolean allocateDenseBlock(boolean clearNNZ, boolean configured) {
 		//allocate block if non-existing or too small (guaranteed to be 0-initialized),
 		long limit = (long)rlen * clen;
 		boolean reset = (denseBlock == null || denseBlock.capacity() < limit);
 		if( denseBlock == null )
-			denseBlock = DenseBlockFactory.createDenseBlock(rlen, clen);
+			denseBlock = configured ? DenseBlockFactory.createConfiguredDenseBlock(rlen, clen) :
+				DenseBlockFactory.createDenseBlock(rlen, clen);
 		else if( denseBlock.capacity() < limit )
 			denseBlock.reset(rlen, clen);
 		
@@ -508,12 +537,19 @@ public class MatrixBlock extends MatrixValue implements CacheBlock, Externalizab
 	// Data handling
 	
 	public DenseBlock getDenseBlock() {
+		//note: off-heap or single-precision blocks are returned as is, i.e.,
+		//operations that access the underlying arrays require an explicit
+		//conversion via getHeapDenseCopy()
 		return denseBlock;
 	}
 	
 	public double[] getDenseBlockValues() {
 		//this method is used as a short-hand for all operations that
 		//guaranteed only deal with dense blocks of a single block.
+		if( denseBlock != null && !denseBlock.hasDoubleArrays() ) {
+			throw new RuntimeException("Dense block of type "+DenseBlockFactory.getDenseBlockType(denseBlock)
+				+ " is not backed by double arrays and requires an explicit conversion via getHeapDenseCopy().");
+		}
 		if( denseBlock != null && denseBlock.numBlocks() > 1 ) {
 			throw new RuntimeException("Large dense in-memory block (with numblocks="+denseBlock.numBlocks()+") "
 				+ "allocated but operation access to first block only, which might cause incorrect results.");
@@ -521,6 +557,24 @@ public class MatrixBlock extends MatrixValue implements CacheBlock, Externalizab
 		return (denseBlock != null) ? denseBlock.valuesAt(0) : null;
 	}
 	
+	/**
+	 * Obtains a matrix block with a dense block that is backed by double arrays,
+	 * which is required by all operations that access the underlying arrays. For
+	 * off-heap or single-precision dense blocks, this creates a shallow copy of
+	 * the meta data with a heap double copy of the dense block, without modifying
+	 * this block. Otherwise (incl. sparse blocks), this block is returned.
+	 * 
+	 * @return this block or a copy with heap double dense block
+	 */
+	public MatrixBlock getHeapDenseCopy() {
+		if( sparse || denseBlock == null || denseBlock.hasDoubleArrays() )
+			return this;
+		MatrixBlock ret = new MatrixBlock(rlen, clen, false);
+		ret.denseBlock = DenseBlockFactory.createHeapDenseBlock(denseBlock);
+		ret.nonZeros = nonZeros;
+		return ret;
+	}
+	
 	public SparseBlock getSparseBlock() {
 		return sparseBlock;
 	}
@@ -1081,6 +1135,9 @@ public class MatrixBlock extends MatrixValue implements CacheBlock, Externalizab
 		final int m = rlen;
 		final int n = clen;
 		
+		//row buffer for dense blocks w/o double arrays (e.g., off-heap)
+		double[] tmp = !a.hasDoubleArrays() ? new double[n] : null;
+		
 		if( nonZeros <= Integer.MAX_VALUE ) {
 			//allocate target in memory-efficient CSR format
 			int lnnz = (int) nonZeros;
@@ -1088,8 +1145,10 @@ public class MatrixBlock extends MatrixValue implements CacheBlock, Externalizab
 			int[] indexes = new int[lnnz];
 			double[] values = new double[lnnz];
 			for( int i=0, pos=0; i<m; i++ ) {
-				double[] avals = a.values(i);
-				int aix = a.pos(i);
+				if( tmp != null )
+					a.get(i, i+1, 0, n, tmp, 0);
+				double[] avals = (tmp != null) ? tmp : a.values(i);
+				int aix = (tmp != null) ? 0 : a.pos(i);
 				for(int j=0; j<n; j++) {
 					double aval = avals[aix+j];
 					if( aval != 0 ) {
@@ -1110,8 +1169,10 @@ public class MatrixBlock extends MatrixValue implements CacheBlock, Externalizab
 				reset(); //reset if not allocated
 			SparseBlock sblock = sparseBlock;
 			for( int i=0; i<m; i++ ) {
-				double[] avals = a.values(i);
-				int aix = a.pos(i);
+				if( tmp != null )
+					a.get(i, i+1, 0, n, tmp, 0);
+				double[] avals = (tmp != null) ? tmp : a.values(i);
+				int aix = (tmp != null) ? 0 : a.pos(i);
 				//compute nnz per row (not via recomputeNonZeros as sparse allocated)
 				int lnnz = UtilFunctions.computeNnz(avals, aix, clen);
 				if( lnnz <= 0 ) continue;
@@ -1805,9 +1866,20 @@ public class MatrixBlock extends MatrixValue implements CacheBlock, Externalizab
 		if( !allocateDenseBlock(false) ) //allocate block
 			denseBlock.reset(rlen, clen);
 		
-		DenseBlock a = getDenseBlock();
+		DenseBlock a = denseBlock;
 		long nnz = 0;
-		if( in instanceof MatrixBlockDataInput ) { //fast deserialize
+		if( !a.hasDoubleArrays() ) { //row-wise deserialize w/o double array materialization
+			double[] tmp = new double[clen];
+			for( int i=0; i<rlen; i++ ) {
+				if( in instanceof MatrixBlockDataInput )
+					nnz += ((MatrixBlockDataInput)in).readDoubleArray(clen, tmp);
+				else
+					for( int j=0; j<clen; j++ )
+						nnz += ((tmp[j] = in.readDouble()) != 0) ? 1 : 0;
+				a.set(i, i+1, 0, clen, tmp, 0);
+			}
+		}
+		else if( in instanceof MatrixBlockDataInput ) { //fast deserialize
 			MatrixBlockDataInput mbin = (MatrixBlockDataInput)in;
 			for( int i=0; i<a.numBlocks(); i++ )
 				nnz += mbin.readDoubleArray(a.size(i), a.valuesAt(i));
@@ -1982,8 +2054,19 @@ public class MatrixBlock extends MatrixValue implements CacheBlock, Externalizab
 	{
 		out.writeByte( BlockType.DENSE_BLOCK.ordinal() );
 		
-		DenseBlock a = getDenseBlock();
-		if( out instanceof MatrixBlockDataOutput ) { //fast serialize
+		DenseBlock a = denseBlock;
+		if( !a.hasDoubleArrays() ) { //row-wise serialize w/o double array materialization
+			double[] tmp = new double[clen];
+			for(int i=0; i<rlen; i++) {
+				a.get(i, i+1, 0, clen, tmp, 0);
+				if( out instanceof MatrixBlockDataOutput )
+					((MatrixBlockDataOutput)out).writeDoubleArray(clen, tmp);
+				else
+					for(int j=0; j<clen; j++)
+						out.writeDouble(tmp[j]);
+			}
+		}
+		else if( out instanceof MatrixBlockDataOutput ) { //fast serialize
 			MatrixBlockDataOutput mout = (MatrixBlockDataOutput)out;
 			for(int i=0; i<a.numBlocks(); i++)
 				mout.writeDoubleArray(a.size(i), a.valuesAt(i));
@@ -3546,11 +3629,12 @@ public class MatrixBlock extends MatrixValue implements CacheBlock, Externalizab
 				if( src.sparse || src.isEmptyBlock(false) )
 					sblock.setIndexRange(rl, ru+1, cl, cu+1, src.getSparseBlock());
 				else { //dense
-					for(int bi=0; bi<src.denseBlock.numBlocks(); bi++) {
-						int rpos = bi * src.denseBlock.blockSize();
-						int blen = src.denseBlock.blockSize(bi);
+					DenseBlock a = src.getDenseBlock();
+					for(int bi=0; bi<a.numBlocks(); bi++) {
+						int rpos = bi * a.blockSize();
+						int blen = a.blockSize(bi);
 						sblock.setIndexRange(rl+rpos, rl+rpos+blen, cl, cu+1,
-							src.denseBlock.valuesAt(bi), 0, src.rlen*src.clen);
+							a.valuesAt(bi), 0, src.rlen*src.clen);
 					}
 				}
 				result.nonZeros = sblock.size();
@@ -3725,10 +3809,11 @@ public class MatrixBlock extends MatrixValue implements CacheBlock, Externalizab
 			return;
 		dest.allocateDenseBlock();
 
-		//indexing operation
+		//indexing operation (note: the output is always a heap block, while the
+		//input is accessed via the dense block API if not backed by double arrays)
 		if( cl==cu ) { //COLUMN INDEXING
 			//note: output always single block
-			if( clen==1 ) { //vector -> vector
+			if( clen==1 && denseBlock.hasDoubleArrays() ) { //vector -> vector
 				System.arraycopy(getDenseBlockValues(), rl,
 					dest.getDenseBlockValues(), 0, ru-rl+1);
 			}
@@ -3743,8 +3828,14 @@ public class MatrixBlock extends MatrixValue implements CacheBlock, Externalizab
 			DenseBlock a = getDenseBlock();
 			DenseBlock c = dest.getDenseBlock();
 			int len = dest.clen;
-			for(int i = rl; i <= ru; i++)
-				System.arraycopy(a.values(i), a.pos(i)+cl, c.values(i-rl), c.pos(i-rl), len);
+			if( !a.hasDoubleArrays() ) {
+				for(int i = rl; i <= ru; i++)
+					a.get(i, i+1, cl, cu+1, c.values(i-rl), c.pos(i-rl));
+			}
+			else {
+				for(int i = rl; i <= ru; i++)
+					System.arraycopy(a.values(i), a.pos(i)+cl, c.values(i-rl), c.pos(i-rl), len);
+			}
 		}
 		
 		//compute nnz of output (not maintained due to native calls)
@@ -4659,9 +4750,20 @@ public class MatrixBlock extends MatrixValue implements CacheBlock, Externalizab
 			ret.reset(rl, cl, sp.sparse, sp.estimatedNonZeros);
 		
 		//compute matrix multiplication (only supported binary aggregate operation)
-		if( NativeHelper.isNativeLibraryLoaded() )
-			LibMatrixNative.matrixMult(m1, m2, ret, op.getNumThreads());
-		else if( op.getNumThreads() > 1 )
+		if( NativeHelper.isNativeLibraryLoaded() ) {
+			//explicit conversion for native kernels over double arrays
+			LibMatrixNative.matrixMult(m1.getHeapDenseCopy(),
+				m2.getHeapDenseCopy(), ret, op.getNumThreads());
+			return ret;
+		}
+		
+		//configured dense output (e.g., off-heap) for dense-dense products,
+		//whose java kernels access the dense blocks via the dense block API
+		if( !ret.sparse && !m1.sparse && !m2.sparse && !m1.isEmptyBlock(false)
+			&& !m2.isEmptyBlock(false) && !LibMatrixMult.isUltraSparseMatrixMult(m1, m2) )
+			ret.allocateConfiguredDenseBlock(true);
+		
+		if( op.getNumThreads() > 1 )
 			LibMatrixMult.matrixMult(m1, m2, ret, op.getNumThreads());
 		else
 			LibMatrixMult.matrixMult(m1, m2, ret);
@@ -0,0 +1,193 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.sysml.runtime.transform;
+
+import java.io.IOException;
+import java.util.Iterator;
+
+import org.apache.hadoop.fs.Path;
+import org.apache.sysml.conf.DMLConfig;
+import org.apache.sysml.hops.OptimizerUtils;
+import org.apache.sysml.parser.Expression.ValueType;
+import org.apache.sysml.runtime.DMLRuntimeException;
+import org.apache.sysml.runtime.controlprogram.caching.FrameObject;
+import org.apache.sysml.runtime.controlprogram.caching.MatrixObject;
+import org.apache.sysml.runtime.io.FrameReaderTextCSV;
+import org.apache.sysml.runtime.io.IOUtilFunctions;
+import org.apache.sysml.runtime.io.WriterBinaryBlock;
+import org.apache.sysml.runtime.matrix.MatrixCharacteristics;
+import org.apache.sysml.runtime.matrix.MetaDataFormat;
+import org.apache.sysml.runtime.matrix.data.CSVFileFormatProperties;
+import org.apache.sysml.runtime.matrix.data.FrameBlock;
+import org.apache.sysml.runtime.matrix.data.InputInfo;
+import org.apache.sysml.runtime.matrix.data.MatrixBlock;
+import org.apache.sysml.runtime.matrix.data.OutputInfo;
+import org.apache.sysml.runtime.transform.encode.Encoder;
+import org.apache.sysml.runtime.transform.encode.EncoderFactory;
+import org.apache.sysml.runtime.util.MapReduceTool;
+import org.apache.sysml.runtime.util.UtilFunctions;
+
+/**
+ * Streaming transformapply for csv frame inputs that would exceed the memory
+ * budget if pinned in memory. Instead of reading the entire input frame, row 
+ * chunks are read in order via the csv frame reader, encoded, and incrementally 
+ * written as binary block part files. Encoded rows are only buffered up to the
+ * next row block boundary, which keeps the memory requirements bounded by the
+ * size of an input and output chunk.
+ */
+public class TfStreamingApply 
+{
+	//fraction of the memory budget used for a single input and output chunk
+	public static double CHUNK_MEM_FRACTION = 0.1;
+	
+	//estimated in-memory size per frame cell w/o the string characters
+	//(string object, hash, array reference, and array header)
+	private static final long FRAME_CELL_SIZE = 60;
+	
+	/**
+	 * Indicates if the streaming transformapply is applicable and beneficial,
+	 * i.e., if the input is an unmodified csv file that is not in memory,
+	 * the output is a binary block matrix, and the in-memory input and output
+	 * would exceed the given memory budget.
+	 * 
+	 * @param in input frame object
+	 * @param out output matrix object
+	 * @param memBudget memory budget in bytes
+	 * @return true if streaming transformapply should be used
+	 * @throws IOException if IOException occurs
+	 */
+	public static boolean isApplicable(FrameObject in, MatrixObject out, double memBudget) 
+		throws IOException
+	{
+		//check for unmodified csv input that is not in memory
+		MatrixCharacteristics mc = in.getMatrixCharacteristics();
+		if( !(in.getMetaData() instanceof MetaDataFormat)
+			|| ((MetaDataFormat)in.getMetaData()).getInputInfo() != InputInfo.CSVInputInfo
+			|| !mc.dimsKnown() || in.getFileName() == null || !in.isEmpty(true)
+			|| in.isDirty() || in.getRDDHandle() != null )
+			return false;
+		
+		//check for binary block output
+		if( !(out.getMetaData() instanceof MetaDataFormat) 
+			|| ((MetaDataFormat)out.getMetaData()).getOutputInfo() != OutputInfo.BinaryBlockOutputInfo )
+			return false;
+		
+		//check for input and output exceeding the memory budget
+		return estimateSize(in) > memBudget;
+	}
+	
+	/**
+	 * Applies the given transform specification and meta data to the given
+	 * csv frame input in a streaming manner, and writes the output as binary
+	 * block matrix to the given file name.
+	 * 
+	 * @param spec transform specification as json string
+	 * @param meta transform meta data
+	 * @param in input frame object
+	 * @param fnameOut output file name
+	 * @param brlen number of rows in block
+	 * @param bclen number of columns in block
+	 * @param memBudget memory budget in bytes
+	 * @param k degree of parallelism for encoding a chunk
+	 * @return matrix characteristics of the output
+	 * @throws IOException if IOException occurs
+	 * @throws DMLRuntimeException if DMLRuntimeException occurs
+	 */
+	public static MatrixCharacteristics apply(String spec, FrameBlock meta, FrameObject in, 
+			String fnameOut, int brlen, int bclen, double memBudget, int k) 
+		throws IOException, DMLRuntimeException
+	{
+		MatrixCharacteristics mc = in.getMatrixCharacteristics();
+		int clen = (int) mc.getCols();
+		
+		//determine number of chunks w/ bounded input and output chunk size
+		int numChunks = (int) Math.max(Math.ceil(estimateSize(in)
+			/ (CHUNK_MEM_FRACTION * memBudget)), 1);
+		
+		//create chunk iterator over csv input 
+		CSVFileFormatProperties props = (in.getFileFormatProperties() instanceof CSVFileFormatProperties) ?
+			(CSVFileFormatProperties) in.getFileFormatProperties() : new CSVFileFormatProperties();
+		ValueType[] schema = (in.getSchema() != null) ? in.getSchema() :
+			UtilFunctions.nCopies(clen, ValueType.STRING);
+		FrameReaderTextCSV reader = new FrameReaderTextCSV(props);
+		Iterator<FrameBlock> iter = reader.readFrameChunksFromHDFS(
+			in.getFileName(), schema, reader.getDefColNames(clen), clen, numChunks);
+		
+		//prepare output directory of part files
+		WriterBinaryBlock writer = new WriterBinaryBlock(-1);
+		MapReduceTool.deleteFileIfExistOnHDFS(fnameOut);
+		MapReduceTool.createDirIfNotExistOnHDFS(fnameOut, DMLConfig.DEFAULT_SHARED_DIR_PERMISSION);
+		
+		//create encoder up front w/ the column names of the header (parsed
+		//with the first chunk, even if empty), and the number of output 
+		//columns from the meta data (e.g., domain sizes of dummycoding)
+		FrameBlock first = iter.next();
+		Encoder encoder = EncoderFactory.createEncoder(spec, 
+			first.getColumnNames(), first.getNumColumns(), meta);
+		
+		//read, encode, and write chunks, where incomplete row blocks 
+		//are kept as tail and prepended to the next encoded chunk
+		MatrixBlock tail = null;
+		long rows = 0, nnz = 0;
+		int ncol = encoder.getNumCols(), partID = 0;
+		for( FrameBlock chunk = first; chunk != null; chunk = iter.hasNext() ? iter.next() : null ) {
+			MatrixBlock out = tail;
+			if( chunk.getNumRows() > 0 ) {
+				MatrixBlock tmp = encoder.apply(chunk, 
+					new MatrixBlock(chunk.getNumRows(), chunk.getNumColumns(), false), k);
+				out = (tail != null) ? tail.appendOperations(tmp, new MatrixBlock(), false) : tmp;
+				ncol = out.getNumColumns();
+			}
+			if( out == null )
+				continue;
+			
+			//write complete row blocks (all rows for last chunk)
+			int rfull = iter.hasNext() ? out.getNumRows()/brlen*brlen : out.getNumRows();
+			if( rfull > 0 ) {
+				MatrixBlock part = (rfull < out.getNumRows()) ?
+					out.sliceOperations(0, rfull-1, 0, ncol-1, new MatrixBlock()) : out;
+				writer.writePartitionToHDFS(part, fnameOut, partID++, rows, brlen, bclen);
+				rows += rfull;
+				nnz += part.getNonZeros();
+			}
+			tail = (rfull < out.getNumRows()) ? 
+				out.sliceOperations(rfull, out.getNumRows()-1, 0, ncol-1, new MatrixBlock()) : null;
+		}
+		
+		//handle empty outputs (e.g., all rows omitted)
+		if( partID == 0 ) {
+			writer.writeEmptyMatrixToHDFS(new Path(fnameOut,
+				IOUtilFunctions.getPartFileName(0)).toString(), rows, ncol, brlen, bclen);
+		}
+		
+		return new MatrixCharacteristics(rows, ncol, brlen, bclen, nnz);
+	}
+	
+	private static double estimateSize(FrameObject in) 
+		throws IOException
+	{
+		//estimate in-memory input frame (cells and characters) and
+		//output matrix (dense intermediate and final output)
+		MatrixCharacteristics mc = in.getMatrixCharacteristics();
+		long fsize = MapReduceTool.getFilesizeOnHDFS(new Path(in.getFileName()));
+		return (double)mc.getRows() * mc.getCols() * FRAME_CELL_SIZE + 2 * fsize
+			+ 2 * OptimizerUtils.estimateSize(mc.getRows(), mc.getCols());
+	}
+}
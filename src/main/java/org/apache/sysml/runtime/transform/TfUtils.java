@@ -54,6 +54,7 @@ public class TfUtils implements Serializable
 	public static final String TXMETHOD_DUMMYCODE = "dummycode";
 	public static final String TXMETHOD_SCALE     = "scale";
 	public static final String TXMETHOD_OMIT      = "omit";
+	public static final String TXMETHOD_HASH      = "hash";
 		
 	//transform meta data constants (frame-based transform)
 	public static final String TXMTD_MVPREFIX = "#Meta"+Lop.DATATYPE_PREFIX+"MV";
@@ -71,6 +72,7 @@ public class TfUtils implements Serializable
 	public static final String JSON_MTHD 	= "methods"; 
 	public static final String JSON_CONSTS = "constants"; 
 	public static final String JSON_NBINS 	= "numbins"; 		
+	public static final String JSON_K 	= "K";
 
 	private String _headerLine = null;
 	private boolean _hasHeader;
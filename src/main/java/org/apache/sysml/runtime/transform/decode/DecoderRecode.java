@@ -19,7 +19,7 @@
 
 package org.apache.sysml.runtime.transform.decode;
 
-import java.util.HashMap;
+import java.util.Arrays;
 
 import org.apache.sysml.parser.Expression.ValueType;
 import org.apache.sysml.runtime.matrix.data.FrameBlock;
@@ -38,7 +38,8 @@ public class DecoderRecode extends Decoder
 {
 	private static final long serialVersionUID = -3784249774608228805L;
 
-	private HashMap<Long, Object>[] _rcMaps = null;
+	//inverted recode maps, indexed by recode code
+	private Object[][] _rcMaps = null;
 	private boolean _onOut = false;
 	
 	protected DecoderRecode(ValueType[] schema, boolean onOut, int[] rcCols) {
@@ -55,7 +56,7 @@ public class DecoderRecode extends Decoder
 					double val = UtilFunctions.objectToDouble(
 							out.getSchema()[colID-1], out.get(i, colID-1));
 					long key = UtilFunctions.toLong(val);
-					out.set(i, colID-1, _rcMaps[j].get(key));
+					out.set(i, colID-1, lookupRCDMap(j, key));
 				}
 			}
 		}
@@ -65,26 +66,34 @@ public class DecoderRecode extends Decoder
 				for( int j=0; j<_colList.length; j++ ) {
 					double val = in.quickGetValue(i, _colList[j]-1);
 					long key = UtilFunctions.toLong(val);
-					out.set(i, _colList[j]-1, _rcMaps[j].get(key));
+					out.set(i, _colList[j]-1, lookupRCDMap(j, key));
 				}
 			}
 		}
 		return out;
 	}
 
+	private Object lookupRCDMap(int j, long key) {
+		Object[] map = _rcMaps[j];
+		return (key >= 0 && key < map.length) ? map[(int)key] : null;
+	}
+
 	@Override
-	@SuppressWarnings("unchecked")
 	public void initMetaData(FrameBlock meta) {
-		//initialize recode maps according to schema
-		_rcMaps = new HashMap[_colList.length];
+		//initialize inverted recode maps according to schema
+		//(codes are dense in 1..n, hence array-based lookups)
+		_rcMaps = new Object[_colList.length][];
 		for( int j=0; j<_colList.length; j++ ) {
-			HashMap<Long, Object> map = new HashMap<>();
+			Object[] map = new Object[meta.getNumRows()+1];
 			for( int i=0; i<meta.getNumRows(); i++ ) {
 				if( meta.get(i, _colList[j]-1)==null )
 					break; //reached end of recode map
 				String[] tmp = EncoderRecode.splitRecodeMapEntry(meta.get(i, _colList[j]-1).toString());
 				Object obj = UtilFunctions.stringToObject(_schema[_colList[j]-1], tmp[0]);
-				map.put(Long.parseLong(tmp[1]), obj);
+				int code = Integer.parseInt(tmp[1]);
+				if( code >= map.length )
+					map = Arrays.copyOf(map, Math.max(code+1, 2*map.length));
+				map[code] = obj;
 			}
 			_rcMaps[j] = map;
 		}
@@ -21,11 +21,13 @@ package org.apache.sysml.runtime.transform.encode;
 
 import java.io.Serializable;
 import java.util.Arrays;
+import java.util.function.ToDoubleFunction;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.apache.sysml.runtime.matrix.data.FrameBlock;
 import org.apache.sysml.runtime.matrix.data.MatrixBlock;
+import org.apache.sysml.runtime.util.StringIntDictionary;
 import org.apache.sysml.runtime.util.UtilFunctions;
 import org.apache.wink.json4j.JSONArray;
 
@@ -39,6 +41,9 @@ public abstract class Encoder implements Serializable
 	private static final long serialVersionUID = 2299156350718979064L;
 	protected static final Log LOG = LogFactory.getLog(Encoder.class.getName());
 	
+	//minimum number of rows for multi-threaded build and apply
+	protected static final int PAR_NUMROW_THRESHOLD = 16*1024;
+	
 	protected int _clen = -1; 
 	protected int[] _colList = null;
 	
@@ -103,6 +108,20 @@ public abstract class Encoder implements Serializable
 	 * @return output matrix block
 	 */
 	public abstract MatrixBlock encode(FrameBlock in, MatrixBlock out);
+	
+	/**
+	 * Block encode: build and apply (transform encode) with the given
+	 * degree of parallelism. By default, this falls back to the 
+	 * single-threaded block encode.
+	 * 
+	 * @param in input frame block
+	 * @param out output matrix block
+	 * @param k degree of parallelism
+	 * @return output matrix block
+	 */
+	public MatrixBlock encode(FrameBlock in, MatrixBlock out, int k) {
+		return encode(in, out);
+	}
 
 	/**
 	 * Build the transform meta data for the given block input. This call modifies
@@ -112,6 +131,18 @@ public abstract class Encoder implements Serializable
 	 */
 	public abstract void build(FrameBlock in);
 	
+	/**
+	 * Build the transform meta data for the given block input with the
+	 * given degree of parallelism. By default, this falls back to the
+	 * single-threaded build.
+	 * 
+	 * @param in input frame block
+	 * @param k degree of parallelism
+	 */
+	public void build(FrameBlock in, int k) {
+		build(in);
+	}
+	
 	/**
 	 * Encode input data blockwise according to existing transform meta
 	 * data (transform apply).
@@ -121,6 +152,84 @@ public abstract class Encoder implements Serializable
 	 * @return output matrix block
 	 */
 	public abstract MatrixBlock apply(FrameBlock in, MatrixBlock out);
+	
+	/**
+	 * Encode input data blockwise according to existing transform meta
+	 * data (transform apply) with the given degree of parallelism. By
+	 * default, this falls back to the single-threaded apply.
+	 * 
+	 * @param in input frame block
+	 * @param out output matrix block
+	 * @param k degree of parallelism
+	 * @return output matrix block
+	 */
+	public MatrixBlock apply(FrameBlock in, MatrixBlock out, int k) {
+		return apply(in, out);
+	}
+	
+	/**
+	 * Indicates if this encoder only writes the cells of its own columns
+	 * in an output of the same number of rows as the input, which allows 
+	 * applying it concurrently over disjoint row partitions.
+	 * 
+	 * @return true if row-partitioned apply is supported
+	 */
+	public boolean isRowPartitionable() {
+		return false;
+	}
+	
+	/**
+	 * Encode the given row range of the input according to existing transform
+	 * meta data. This is only supported for row-partitionable encoders and 
+	 * requires an allocated dense output, whose number of non-zeros is 
+	 * maintained by the caller.
+	 * 
+	 * @param in input frame block
+	 * @param out output matrix block
+	 * @param rl row lower bound (inclusive)
+	 * @param ru row upper bound (exclusive)
+	 * @return output matrix block
+	 */
+	public MatrixBlock apply(FrameBlock in, MatrixBlock out, int rl, int ru) {
+		throw new RuntimeException("Row-partitioned apply not supported by "
+			+ getClass().getSimpleName() + ".");
+	}
+	
+	/**
+	 * Encode the given row range of a dictionary-encoded string column 
+	 * (see {@link FrameBlock#getColumnDictCodes(int)}) into the output
+	 * column of the same index, where the given value mapping is evaluated 
+	 * at most once per distinct value instead of once per row. Null values
+	 * are mapped to NaN.
+	 * 
+	 * @param in input frame block
+	 * @param out output matrix block
+	 * @param col column index, 0-based
+	 * @param rl row lower bound (inclusive)
+	 * @param ru row upper bound (exclusive)
+	 * @param fn value mapping of non-null values
+	 */
+	protected static void applyDictColumn(FrameBlock in, MatrixBlock out, 
+		int col, int rl, int ru, ToDoubleFunction<String> fn) 
+	{
+		int[] codes = in.getColumnDictCodes(col);
+		StringIntDictionary dict = in.getColumnDictionary(col);
+		
+		//lazily computed mapping of dictionary positions, which avoids
+		//decoding values that do not appear in the given row range
+		double[] map = new double[dict.size()+1];
+		boolean[] mapped = new boolean[dict.size()+1];
+		map[0] = Double.NaN;
+		mapped[0] = true;
+		for( int i=rl; i<ru; i++ ) {
+			int code = codes[i];
+			if( !mapped[code] ) {
+				map[code] = fn.applyAsDouble(dict.getKey(code-1));
+				mapped[code] = true;
+			}
+			out.quickSetValue(i, col, map[code]);
+		}
+	}
 
 	/**
 	 * Construct a frame block out of the transform meta data.
@@ -120,9 +120,19 @@ public class EncoderBin extends Encoder
 	
 	@Override
 	public MatrixBlock apply(FrameBlock in, MatrixBlock out) {
+		return apply(in, out, 0, in.getNumRows());
+	}
+	
+	@Override
+	public boolean isRowPartitionable() {
+		return true;
+	}
+	
+	@Override
+	public MatrixBlock apply(FrameBlock in, MatrixBlock out, int rl, int ru) {
 		for(int j=0; j<_colList.length; j++) {
 			int colID = _colList[j];
-			for( int i=0; i<in.getNumRows(); i++ ) {
+			for( int i=rl; i<ru; i++ ) {
 				double inVal = UtilFunctions.objectToDouble(
 						in.getSchema()[colID-1], in.get(i, colID-1));
 				int ix = Arrays.binarySearch(_binMaxs[j], inVal);
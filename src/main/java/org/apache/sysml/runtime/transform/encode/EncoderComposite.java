@@ -19,8 +19,13 @@
 
 package org.apache.sysml.runtime.transform.encode;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import org.apache.sysml.parser.Expression.ValueType;
 import org.apache.sysml.runtime.matrix.data.FrameBlock;
@@ -58,10 +63,15 @@ public class EncoderComposite extends Encoder
 	
 	@Override
 	public MatrixBlock encode(FrameBlock in, MatrixBlock out) {
+		return encode(in, out, 1);
+	}
+	
+	@Override
+	public MatrixBlock encode(FrameBlock in, MatrixBlock out, int k) {
 		try {
 			//build meta data first (for all encoders)
 			for( Encoder encoder : _encoders )
-				encoder.build(in);
+				encoder.build(in, k);
 			
 			//propagate meta data 
 			_meta = new FrameBlock(in.getNumColumns(), ValueType.STRING);
@@ -71,8 +81,7 @@ public class EncoderComposite extends Encoder
 				encoder.initMetaData(_meta);
 			
 			//apply meta data
-			for( Encoder encoder : _encoders )
-				out = encoder.apply(in, out);
+			out = applyInternal(in, out, k);
 		}
 		catch(Exception ex) {
 			LOG.error("Failed transform-encode frame with \n" + this);
@@ -88,11 +97,21 @@ public class EncoderComposite extends Encoder
 			encoder.build(in);
 	}
 	
+	@Override
+	public void build(FrameBlock in, int k) {
+		for( Encoder encoder : _encoders )
+			encoder.build(in, k);
+	}
+	
 	@Override 
 	public MatrixBlock apply(FrameBlock in, MatrixBlock out) {
+		return apply(in, out, 1);
+	}
+	
+	@Override 
+	public MatrixBlock apply(FrameBlock in, MatrixBlock out, int k) {
 		try {
-			for( Encoder encoder : _encoders )
-				out = encoder.apply(in, out);
+			out = applyInternal(in, out, k);
 		}
 		catch(Exception ex) {
 			LOG.error("Failed to transform-apply frame with \n" + this);
@@ -101,6 +120,62 @@ public class EncoderComposite extends Encoder
 		return out;
 	}
 	
+	private MatrixBlock applyInternal(FrameBlock in, MatrixBlock out, int k) {
+		//single-threaded apply for small inputs
+		if( k <= 1 || in.getNumRows() < PAR_NUMROW_THRESHOLD ) {
+			for( Encoder encoder : _encoders )
+				out = encoder.apply(in, out);
+			return out;
+		}
+		
+		//multi-threaded apply of consecutive row-partitionable encoders
+		//(e.g., recode, pass-through, bin) over row partitions, while
+		//encoders that restructure the output (e.g., dummycode, omit)
+		//are applied single-threaded in between
+		List<Encoder> group = new ArrayList<>();
+		for( Encoder encoder : _encoders ) {
+			if( encoder.isRowPartitionable() && !out.isInSparseFormat()
+				&& out.getNumRows() == in.getNumRows() ) {
+				group.add(encoder);
+			}
+			else {
+				out = applyRowPartitioned(group, in, out, k);
+				group.clear();
+				out = encoder.apply(in, out);
+			}
+		}
+		return applyRowPartitioned(group, in, out, k);
+	}
+	
+	private static MatrixBlock applyRowPartitioned(List<Encoder> encoders, FrameBlock in, MatrixBlock out, int k) {
+		if( encoders.isEmpty() )
+			return out;
+		
+		//allocate dense output for concurrent writes of disjoint rows
+		out.allocateDenseBlock(false);
+		
+		ExecutorService pool = Executors.newFixedThreadPool( k );
+		try {
+			ArrayList<ApplyTask> tasks = new ArrayList<>();
+			int blklen = (int)(Math.ceil((double)in.getNumRows()/k));
+			for( int i=0; i<k && i*blklen<in.getNumRows(); i++ )
+				tasks.add(new ApplyTask(encoders, in, out, 
+					i*blklen, Math.min((i+1)*blklen, in.getNumRows())));
+			for( Future<Object> task : pool.invokeAll(tasks) )
+				task.get();
+		}
+		catch(Exception ex) {
+			throw new RuntimeException(ex);
+		}
+		finally {
+			pool.shutdown();
+		}
+		
+		//post-processing (nnz maintenance not thread-safe)
+		out.recomputeNonZeros();
+		return out;
+	}
+	
 	@Override
 	public FrameBlock getMetaData(FrameBlock out) {
 		if( _meta != null )
@@ -153,4 +228,28 @@ public class EncoderComposite extends Encoder
 		}
 		return sb.toString();
 	}
+	
+	private static class ApplyTask implements Callable<Object>
+	{
+		private final List<Encoder> _encoders;
+		private final FrameBlock _in;
+		private final MatrixBlock _out;
+		private final int _rl;
+		private final int _ru;
+		
+		protected ApplyTask(List<Encoder> encoders, FrameBlock in, MatrixBlock out, int rl, int ru) {
+			_encoders = encoders;
+			_in = in;
+			_out = out;
+			_rl = rl;
+			_ru = ru;
+		}
+		
+		@Override
+		public Object call() {
+			for( Encoder encoder : _encoders )
+				encoder.apply(_in, _out, _rl, _ru);
+			return null;
+		}
+	}
 }
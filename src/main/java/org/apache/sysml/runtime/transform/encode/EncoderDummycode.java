@@ -19,6 +19,8 @@
 
 package org.apache.sysml.runtime.transform.encode;
 
+import java.util.Arrays;
+
 import org.apache.sysml.runtime.matrix.data.FrameBlock;
 import org.apache.sysml.runtime.matrix.data.MatrixBlock;
 import org.apache.sysml.runtime.transform.TfUtils;
@@ -32,6 +34,8 @@ public class EncoderDummycode extends Encoder
 
 	private int[] _domainSizes = null;  // length = #of dummycoded columns
 	private long _dummycodedLength = 0; // #of columns after dummycoded
+	private int[] _hashList = null;     // hashed columns w/ domain size K
+	private long _K = -1;               // #of hash buckets
 
 	public EncoderDummycode(JSONObject parsedSpec, String[] colnames, int clen) throws JSONException {
 		super(null, clen);
@@ -40,6 +44,18 @@ public class EncoderDummycode extends Encoder
 			int[] collist = TfMetaUtils.parseJsonIDList(parsedSpec, colnames, TfUtils.TXMETHOD_DUMMYCODE);
 			initColList(collist);
 		}
+		if ( parsedSpec.containsKey(TfUtils.TXMETHOD_HASH) ) {
+			_hashList = TfMetaUtils.parseJsonIDList(parsedSpec, colnames, TfUtils.TXMETHOD_HASH);
+			_K = EncoderFeatureHash.getK(parsedSpec);
+		}
+	}
+	
+	private long getDomainSize(FrameBlock meta, int colID) {
+		//hashed columns have a fixed domain of K buckets, independent 
+		//of the meta data (which does not contain any hash maps)
+		if( _hashList != null && Arrays.binarySearch(_hashList, colID) >= 0 )
+			return _K;
+		return meta.getColumnMetadata(colID-1).getNumDistinct();
 	}
 	
 	@Override
@@ -96,7 +112,7 @@ public class EncoderDummycode extends Encoder
 		_dummycodedLength = _clen;
 		for( int j=0; j<_colList.length; j++ ) {
 			int colID = _colList[j]; //1-based
-			_domainSizes[j] = (int)meta.getColumnMetadata()[colID-1].getNumDistinct();
+			_domainSizes[j] = (int)getDomainSize(meta, colID);
 			_dummycodedLength += _domainSizes[j]-1;
 		}
 	}
@@ -107,7 +123,7 @@ public class EncoderDummycode extends Encoder
 		for(int colID=1, idx=0, ncolID=1; colID <= clen; colID++) {
 			int start = ncolID;
 			if( idx < _colList.length && colID==_colList[idx] ) {
-				ncolID += meta.getColumnMetadata(colID-1).getNumDistinct();
+				ncolID += getDomainSize(meta, colID);
 				idx ++;
 			}
 			else {
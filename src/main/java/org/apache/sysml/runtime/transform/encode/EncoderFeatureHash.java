@@ -0,0 +1,134 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.sysml.runtime.transform.encode;
+
+import org.apache.sysml.runtime.matrix.data.FrameBlock;
+import org.apache.sysml.runtime.matrix.data.MatrixBlock;
+import org.apache.sysml.runtime.transform.TfUtils;
+import org.apache.sysml.runtime.transform.meta.TfMetaUtils;
+import org.apache.wink.json4j.JSONException;
+import org.apache.wink.json4j.JSONObject;
+
+/**
+ * Feature hashing encoder (hashing trick) that maps string values of
+ * high-cardinality columns to codes in [1,K], without building any
+ * recode maps. Similar to recoded columns, hashed columns can be
+ * dummycoded, which yields one-hot encoded outputs with K columns
+ * per hashed column. Missing values (null or empty strings) are
+ * encoded as NaN.
+ * 
+ */
+public class EncoderFeatureHash extends Encoder
+{
+	private static final long serialVersionUID = 7435806042138687342L;
+	
+	private long _K = -1;
+	
+	public EncoderFeatureHash(JSONObject parsedSpec, String[] colnames, int clen) 
+		throws JSONException 
+	{
+		super(null, clen);
+		_colList = TfMetaUtils.parseJsonIDList(parsedSpec, colnames, TfUtils.TXMETHOD_HASH);
+		_K = getK(parsedSpec);
+	}
+	
+	/**
+	 * Obtains the number of hash buckets K from the given transform
+	 * specification.
+	 * 
+	 * @param parsedSpec parsed transform specification
+	 * @return number of hash buckets
+	 * @throws JSONException if JSONException occurs
+	 */
+	public static long getK(JSONObject parsedSpec) throws JSONException {
+		if( !parsedSpec.containsKey(TfUtils.JSON_K) )
+			throw new JSONException("Missing number of hash buckets '"
+				+ TfUtils.JSON_K + "' for feature hashing.");
+		long K = parsedSpec.getLong(TfUtils.JSON_K);
+		if( K < 1 || K > Integer.MAX_VALUE )
+			throw new JSONException("Invalid number of hash buckets: "+K);
+		return K;
+	}
+	
+	public long getK() {
+		return _K;
+	}
+	
+	private long getCode(String key) {
+		return Math.floorMod(key.hashCode(), _K) + 1;
+	}
+	
+	@Override
+	public MatrixBlock encode(FrameBlock in, MatrixBlock out) {
+		return apply(in, out);
+	}
+
+	@Override
+	public void build(FrameBlock in) {
+		//do nothing (no meta data)
+	}
+	
+	@Override 
+	public MatrixBlock apply(FrameBlock in, MatrixBlock out) {
+		return apply(in, out, 0, in.getNumRows());
+	}
+	
+	@Override
+	public boolean isRowPartitionable() {
+		return true;
+	}
+	
+	@Override 
+	public MatrixBlock apply(FrameBlock in, MatrixBlock out, int rl, int ru) {
+		for( int j=0; j<_colList.length; j++ ) {
+			int colID = _colList[j];
+			if( in.isColumnDictEncoded(colID-1) ) {
+				//hash once per distinct value
+				applyDictColumn(in, out, colID-1, rl, ru, 
+					key -> key.isEmpty() ? Double.NaN : getCode(key));
+				continue;
+			}
+			for( int i=rl; i<ru; i++ ) {
+				Object okey = in.get(i, colID-1);
+				String key = (okey!=null) ? okey.toString() : null;
+				out.quickSetValue(i, colID-1, (key==null || key.isEmpty()) ?
+					Double.NaN : getCode(key));
+			}
+		}
+		return out;
+	}
+
+	@Override
+	public FrameBlock getMetaData(FrameBlock meta) {
+		if( !isApplicable() )
+			return meta;
+		
+		//propagate domain sizes (e.g., for dummycoding), but
+		//w/o column allocation, i.e., no recode map entries
+		for( int j=0; j<_colList.length; j++ )
+			meta.getColumnMetadata(_colList[j]-1).setNumDistinct(_K);
+		return meta;
+	}
+	
+	@Override
+	public void initMetaData(FrameBlock meta) {
+		//do nothing (K obtained from spec)
+	}
+}
@@ -339,7 +339,17 @@ public class EncoderMVImpute extends Encoder
 	
 	@Override
 	public MatrixBlock apply(FrameBlock in, MatrixBlock out) {
-		for(int i=0; i<in.getNumRows(); i++) {
+		return apply(in, out, 0, in.getNumRows());
+	}
+	
+	@Override
+	public boolean isRowPartitionable() {
+		return true;
+	}
+	
+	@Override
+	public MatrixBlock apply(FrameBlock in, MatrixBlock out, int rl, int ru) {
+		for(int i=rl; i<ru; i++) {
 			for(int j=0; j<_colList.length; j++) {
 				int colID = _colList[j];
 				if( Double.isNaN(out.quickGetValue(i, colID-1)) )
@@ -366,10 +376,10 @@ public class EncoderMVImpute extends Encoder
 			int colID = _colList[j];	
 			String mvVal = UtilFunctions.unquote(meta.getColumnMetadata(colID-1).getMvValue()); 
 			if( _rcList.contains(colID) ) {
-				Long mvVal2 = meta.getRecodeMap(colID-1).get(mvVal);
-				if( mvVal2 == null)
+				int mvVal2 = meta.getRecodeDictionary(colID-1).get(mvVal);
+				if( mvVal2 < 0 )
 					throw new RuntimeException("Missing recode value for impute value '"+mvVal+"' (colID="+colID+").");
-				_replacementList[j] = mvVal2.toString();
+				_replacementList[j] = String.valueOf(mvVal2);
 			}
 			else {
 				_replacementList[j] = mvVal;
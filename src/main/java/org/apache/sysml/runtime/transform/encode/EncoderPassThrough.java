@@ -51,10 +51,26 @@ public class EncoderPassThrough extends Encoder
 	
 	@Override 
 	public MatrixBlock apply(FrameBlock in, MatrixBlock out) {
+		return apply(in, out, 0, in.getNumRows());
+	}
+	
+	@Override
+	public boolean isRowPartitionable() {
+		return true;
+	}
+	
+	@Override 
+	public MatrixBlock apply(FrameBlock in, MatrixBlock out, int rl, int ru) {
 		for( int j=0; j<_colList.length; j++ ) {
 			int col = _colList[j]-1;
 			ValueType vt = in.getSchema()[col];
-			for( int i=0; i<in.getNumRows(); i++ ) {
+			if( in.isColumnDictEncoded(col) ) {
+				//parse once per distinct value
+				applyDictColumn(in, out, col, rl, ru, val -> val.isEmpty() ?
+					Double.NaN : UtilFunctions.objectToDouble(vt, val));
+				continue;
+			}
+			for( int i=rl; i<ru; i++ ) {
 				Object val = in.get(i, col);
 				out.quickSetValue(i, col, (val==null||(vt==ValueType.STRING 
 						&& val.toString().isEmpty())) ? Double.NaN : 
@@ -19,16 +19,24 @@
 
 package org.apache.sysml.runtime.transform.encode;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
-import java.util.Map.Entry;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import org.apache.sysml.lops.Lop;
 import org.apache.sysml.runtime.matrix.data.FrameBlock;
 import org.apache.sysml.runtime.matrix.data.MatrixBlock;
 import org.apache.sysml.runtime.transform.TfUtils;
 import org.apache.sysml.runtime.transform.meta.TfMetaUtils;
+import org.apache.sysml.runtime.util.StringIntDictionary;
 import org.apache.wink.json4j.JSONException;
 import org.apache.wink.json4j.JSONObject;
 
@@ -37,7 +45,7 @@ public class EncoderRecode extends Encoder
 	private static final long serialVersionUID = 8213163881283341874L;
 	
 	//recode maps and custom map for partial recode maps 
-	private HashMap<Integer, HashMap<String, Long>> _rcdMaps  = new HashMap<>();
+	private HashMap<Integer, StringIntDictionary> _rcdMaps  = new HashMap<>();
 	private HashMap<Integer, HashSet<Object>> _rcdMapsPart = null;
 	
 	public EncoderRecode(JSONObject parsedSpec, String[] colnames, int clen)
@@ -50,7 +58,7 @@ public class EncoderRecode extends Encoder
 		}
 	}
 	
-	public HashMap<Integer, HashMap<String,Long>> getCPRecodeMaps() { 
+	public HashMap<Integer, StringIntDictionary> getCPRecodeMaps() { 
 		return _rcdMaps; 
 	}
 	
@@ -61,8 +69,7 @@ public class EncoderRecode extends Encoder
 	private long lookupRCDMap(int colID, String key) {
 		if( !_rcdMaps.containsKey(colID) )
 			return -1; //empty recode map
-		Long tmp = _rcdMaps.get(colID).get(key);
-		return (tmp!=null) ? tmp : -1;
+		return _rcdMaps.get(colID).get(key);
 	}
 	
 	@Override
@@ -82,21 +89,76 @@ public class EncoderRecode extends Encoder
 		if( !isApplicable() )
 			return;
 
-		Iterator<String[]> iter = in.getStringRowIterator(_colList);
+		//allocate column maps if necessary
+		for( int j=0; j<_colList.length; j++ )
+			if( !_rcdMaps.containsKey(_colList[j]) ) 
+				_rcdMaps.put(_colList[j], new StringIntDictionary());
+		
+		//columnar build over dictionary-encoded columns
+		for( int j=0; j<_colList.length; j++ ) {
+			if( !in.isColumnDictEncoded(_colList[j]-1) )
+				continue;
+			StringIntDictionary map = _rcdMaps.get(_colList[j]);
+			for( String key : getDistinctDictValues(in, _colList[j]-1, 0, in.getNumRows()) )
+				map.add(key);
+		}
+		
+		//row-wise build over all other columns
+		int[] rowCols = getNonDictColumns(in, _colList);
+		if( rowCols.length == 0 )
+			return;
+		Iterator<String[]> iter = in.getStringRowIterator(rowCols);
 		while( iter.hasNext() ) {
 			String[] row = iter.next(); 
-			for( int j=0; j<_colList.length; j++ ) {
-				int colID = _colList[j]; //1-based
-				//allocate column map if necessary
-				if( !_rcdMaps.containsKey(colID) ) 
-					_rcdMaps.put(colID, new HashMap<String,Long>());
+			for( int j=0; j<rowCols.length; j++ ) {
 				//probe and build column map
-				HashMap<String,Long> map = _rcdMaps.get(colID);
+				StringIntDictionary map = _rcdMaps.get(rowCols[j]);
 				String key = row[j];
-				if( key!=null && !key.isEmpty() && !map.containsKey(key) )
-					map.put(key, Long.valueOf(map.size()+1));
+				if( key!=null && !key.isEmpty() )
+					map.add(key);
+			}
+		}
+	}
+
+	@Override
+	public void build(FrameBlock in, int k) {
+		if( !isApplicable() )
+			return;
+		if( k <= 1 || in.getNumRows() < PAR_NUMROW_THRESHOLD ) {
+			build(in);
+			return;
+		}
+		
+		ExecutorService pool = Executors.newFixedThreadPool( k );
+		try {
+			//build thread-local partial recode maps over row partitions
+			ArrayList<BuildPartialTask> tasks = new ArrayList<>();
+			int blklen = (int)(Math.ceil((double)in.getNumRows()/k));
+			for( int i=0; i<k && i*blklen<in.getNumRows(); i++ )
+				tasks.add(new BuildPartialTask(in, _colList, 
+					i*blklen, Math.min((i+1)*blklen, in.getNumRows())));
+			List<Future<List<LinkedHashSet<String>>>> taskret = pool.invokeAll(tasks);
+			
+			//merge partial maps in partition order, which assigns
+			//the same codes (order of first occurrence) as a serial build
+			for( Future<List<LinkedHashSet<String>>> task : taskret ) {
+				List<LinkedHashSet<String>> part = task.get();
+				for( int j=0; j<_colList.length; j++ ) {
+					int colID = _colList[j]; //1-based
+					if( !_rcdMaps.containsKey(colID) ) 
+						_rcdMaps.put(colID, new StringIntDictionary());
+					StringIntDictionary map = _rcdMaps.get(colID);
+					for( String key : part.get(j) )
+						map.add(key);
+				}
 			}
 		}
+		catch(Exception ex) {
+			throw new RuntimeException(ex);
+		}
+		finally {
+			pool.shutdown();
+		}
 	}
 
 	public void buildPartial(FrameBlock in) {
@@ -126,10 +188,27 @@ public class EncoderRecode extends Encoder
 	
 	@Override
 	public MatrixBlock apply(FrameBlock in, MatrixBlock out) {
+		return apply(in, out, 0, in.getNumRows());
+	}
+	
+	@Override
+	public boolean isRowPartitionable() {
+		return true;
+	}
+	
+	@Override
+	public MatrixBlock apply(FrameBlock in, MatrixBlock out, int rl, int ru) {
 		//apply recode maps column wise
 		for( int j=0; j<_colList.length; j++ ) {
 			int colID = _colList[j];
-			for( int i=0; i<in.getNumRows(); i++ ) {
+			if( in.isColumnDictEncoded(colID-1) ) {
+				//probe recode map once per distinct value
+				applyDictColumn(in, out, colID-1, rl, ru, key -> {
+					long code = lookupRCDMap(colID, key);
+					return (code >= 0) ? code : Double.NaN; });
+				continue;
+			}
+			for( int i=rl; i<ru; i++ ) {
 				Object okey = in.get(i, colID-1);
 				String key = (okey!=null) ? okey.toString() : null;
 				long code = lookupRCDMap(colID, key);
@@ -160,11 +239,13 @@ public class EncoderRecode extends Encoder
 		for( int j=0; j<_colList.length; j++ ) {
 			int colID = _colList[j]; //1-based
 			int rowID = 0;
-			if( _rcdMaps.containsKey(_colList[j]) )
-				for( Entry<String, Long> e : _rcdMaps.get(colID).entrySet() ) {
+			if( _rcdMaps.containsKey(_colList[j]) ) {
+				StringIntDictionary map = _rcdMaps.get(colID);
+				for( int pos=0; pos<map.size(); pos++ ) {
 					meta.set(rowID++, colID-1, 
-						constructRecodeMapEntry(e.getKey(), e.getValue(), sb)); 
+						constructRecodeMapEntry(map.getKey(pos), map.getCode(pos), sb)); 
 				}
+			}
 			meta.getColumnMetadata(colID-1).setNumDistinct(
 					_rcdMaps.get(colID).size());
 		}
@@ -186,7 +267,7 @@ public class EncoderRecode extends Encoder
 		
 		for( int j=0; j<_colList.length; j++ ) {
 			int colID = _colList[j]; //1-based
-			_rcdMaps.put(colID, meta.getRecodeMap(colID-1));
+			_rcdMaps.put(colID, meta.getRecodeDictionary(colID-1));
 		}
 	}
 	
@@ -202,10 +283,10 @@ public class EncoderRecode extends Encoder
 		return constructRecodeMapEntry(token, code, sb);
 	}
 	
-	private static String constructRecodeMapEntry(String token, Long code, StringBuilder sb) {
+	private static String constructRecodeMapEntry(String token, long code, StringBuilder sb) {
 		sb.setLength(0); //reset reused string builder
 		return sb.append(token).append(Lop.DATATYPE_PREFIX)
-			.append(code.longValue()).toString();
+			.append(code).toString();
 	}
 	
 	/**
@@ -220,4 +301,88 @@ public class EncoderRecode extends Encoder
 		int pos = value.toString().lastIndexOf(Lop.DATATYPE_PREFIX);
 		return new String[] {value.substring(0, pos), value.substring(pos+1)};
 	}
+	
+	private static int[] getNonDictColumns(FrameBlock in, int[] cols) {
+		int len = 0;
+		int[] ret = new int[cols.length];
+		for( int j=0; j<cols.length; j++ )
+			if( !in.isColumnDictEncoded(cols[j]-1) )
+				ret[len++] = cols[j];
+		return (len < cols.length) ? Arrays.copyOf(ret, len) : ret;
+	}
+	
+	/**
+	 * Obtains the distinct non-empty values of a dictionary-encoded
+	 * column in the given row range in order of first occurrence, 
+	 * which decodes every distinct value only once.
+	 * 
+	 * @param in input frame block
+	 * @param col column index, 0-based
+	 * @param rl row lower bound (inclusive)
+	 * @param ru row upper bound (exclusive)
+	 * @return list of distinct values
+	 */
+	private static List<String> getDistinctDictValues(FrameBlock in, int col, int rl, int ru) {
+		int[] codes = in.getColumnDictCodes(col);
+		StringIntDictionary dict = in.getColumnDictionary(col);
+		boolean[] seen = new boolean[dict.size()+1];
+		ArrayList<String> ret = new ArrayList<>();
+		for( int i=rl; i<ru; i++ ) {
+			int code = codes[i];
+			if( code > 0 && !seen[code] ) {
+				seen[code] = true;
+				String key = dict.getKey(code-1);
+				if( !key.isEmpty() )
+					ret.add(key);
+			}
+		}
+		return ret;
+	}
+	
+	private static class BuildPartialTask implements Callable<List<LinkedHashSet<String>>>
+	{
+		private final FrameBlock _in;
+		private final int[] _cols;
+		private final int _rl;
+		private final int _ru;
+		
+		protected BuildPartialTask(FrameBlock in, int[] cols, int rl, int ru) {
+			_in = in;
+			_cols = cols;
+			_rl = rl;
+			_ru = ru;
+		}
+		
+		@Override
+		public List<LinkedHashSet<String>> call() {
+			//collect distinct tokens per column in order of first occurrence
+			List<LinkedHashSet<String>> ret = new ArrayList<>();
+			for( int j=0; j<_cols.length; j++ )
+				ret.add(new LinkedHashSet<String>());
+			
+			//columnar build over dictionary-encoded columns
+			int[] rowCols = getNonDictColumns(_in, _cols);
+			int[] rowPos = new int[rowCols.length];
+			for( int j=0, pos=0; j<_cols.length; j++ ) {
+				if( _in.isColumnDictEncoded(_cols[j]-1) )
+					ret.get(j).addAll(getDistinctDictValues(_in, _cols[j]-1, _rl, _ru));
+				else
+					rowPos[pos++] = j;
+			}
+			
+			//row-wise build over all other columns
+			if( rowCols.length == 0 )
+				return ret;
+			Iterator<String[]> iter = _in.getStringRowIterator(_rl, _ru, rowCols);
+			while( iter.hasNext() ) {
+				String[] row = iter.next();
+				for( int j=0; j<rowCols.length; j++ ) {
+					String key = row[j];
+					if( key!=null && !key.isEmpty() )
+						ret.get(rowPos[j]).add(key);
+				}
+			}
+			return ret;
+		}
+	}
 }
@@ -77,7 +77,8 @@ public class DataConverter
 	{
 		try {
 			MatrixWriter writer = MatrixWriterFactory.createMatrixWriter( outputinfo, replication, formatProperties );
-			writer.writeMatrixToHDFS(mat, dir, mc.getRows(), mc.getCols(), mc.getRowsPerBlock(), mc.getColsPerBlock(), mc.getNonZeros());
+			//explicit conversion of dense blocks w/o double arrays (e.g., off-heap)
+			writer.writeMatrixToHDFS(mat.getHeapDenseCopy(), dir, mc.getRows(), mc.getCols(), mc.getRowsPerBlock(), mc.getColsPerBlock(), mc.getNonZeros());
 		}
 		catch(Exception e)
 		{
@@ -243,10 +244,9 @@ public class DataConverter
 				}
 			}
 			else {
-				double[] a = mb.getDenseBlockValues();
-				for( int i=0, ix=0; i<rows; i++ )
-					for( int j=0; j<cols; j++, ix++ )
-						ret[i][j] = a[ix];
+				DenseBlock a = mb.getDenseBlock();
+				for( int i=0; i<rows; i++ )
+					a.get(i, i+1, 0, cols, ret[i], 0);
 			}
 		}
 		
@@ -358,8 +358,9 @@ public class DataConverter
 	{
 		int rows = mb.getNumRows();
 		int cols = mb.getNumColumns();
-		double[] ret = (!mb.isInSparseFormat() && mb.isAllocated() && !deep) ? 
-			mb.getDenseBlockValues() : new double[rows*cols]; //0-initialized
+		boolean shallow = !mb.isInSparseFormat() && mb.isAllocated() && !deep
+			&& mb.getDenseBlock().hasDoubleArrays();
+		double[] ret = shallow ? mb.getDenseBlockValues() : new double[rows*cols]; //0-initialized
 		
 		if( !mb.isEmptyBlock(false) ) {
 			if( mb.isInSparseFormat() ) {
@@ -369,9 +370,9 @@ public class DataConverter
 					ret[cell.getI()*cols+cell.getJ()] = cell.getV();
 				}
 			}
-			else if( deep ) {
+			else if( !shallow ) {
 				//memcopy row major representation if at least 1 non-zero
-				System.arraycopy(mb.getDenseBlockValues(), 0, ret, 0, rows*cols);
+				mb.getDenseBlock().get(0, rows, 0, cols, ret, 0);
 			}
 		}
 		
@@ -0,0 +1,283 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.sysml.runtime.util;
+
+import java.io.Serializable;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * This compact string - int dictionary is specifically designed for recode
+ * maps of transform encoders, which require probe/add semantics and ordered
+ * iteration. In contrast to a default HashMap&lt;String,Long&gt;, all keys are 
+ * stored as UTF-8 bytes in a single byte array, codes and hashes are stored 
+ * in primitive arrays, and the hash table uses open addressing with linear
+ * probing over entry positions. This avoids per-entry objects (map entries,
+ * strings, boxed codes), which is important for high-cardinality columns 
+ * with tens of millions of distinct values.
+ * 
+ * Entries are kept in insertion order and can be accessed by position in
+ * [0, size()). Lookups of absent or null keys return -1, and hence codes
+ * are required to be non-negative.
+ */
+public class StringIntDictionary implements Serializable
+{
+	private static final long serialVersionUID = -3183384574302431522L;
+	
+	private static final int INIT_CAPACITY = 16;
+	private static final int RESIZE_FACTOR = 2;
+	private static final float LOAD_FACTOR = 0.75f;
+	
+	//entries in insertion order
+	private byte[] _keys;    //concatenated utf-8 keys
+	private int[] _offsets;  //key start offsets (size+1)
+	private int[] _codes;    //codes (values)
+	private int _size;
+	
+	//open-addressing hash table of pairs of entry position+1 (0 empty)
+	//and cached key hash, which avoids entry accesses on collisions
+	private int[] _table;
+	
+	public StringIntDictionary() {
+		this(INIT_CAPACITY);
+	}
+	
+	public StringIntDictionary(int capacity) {
+		int cap = Math.max(capacity, INIT_CAPACITY);
+		_keys = new byte[cap * 8];
+		_offsets = new int[cap + 1];
+		_codes = new int[cap];
+		_table = new int[2 * tableSizeFor((int)Math.min(Integer.MAX_VALUE/4, (long)(cap/LOAD_FACTOR)+1))];
+		_size = 0;
+	}
+	
+	/**
+	 * Creates a deep copy of the given dictionary.
+	 * 
+	 * @param that dictionary to copy
+	 */
+	public StringIntDictionary(StringIntDictionary that) {
+		_keys = Arrays.copyOf(that._keys, that._offsets[that._size]);
+		_offsets = Arrays.copyOf(that._offsets, that._offsets.length);
+		_codes = Arrays.copyOf(that._codes, that._codes.length);
+		_table = Arrays.copyOf(that._table, that._table.length);
+		_size = that._size;
+	}
+	
+	public int size() {
+		return _size;
+	}
+	
+	public boolean isEmpty() {
+		return _size == 0;
+	}
+	
+	public boolean containsKey(String key) {
+		return getPos(key) >= 0;
+	}
+	
+	/**
+	 * Obtains the code of the given key.
+	 * 
+	 * @param key string key
+	 * @return code, or -1 if the key does not exist
+	 */
+	public int get(String key) {
+		int pos = getPos(key);
+		return (pos >= 0) ? _codes[pos] : -1;
+	}
+	
+	/**
+	 * Adds the given key if it does not exist yet, with the next code
+	 * in insertion order (i.e., size+1).
+	 * 
+	 * @param key string key
+	 * @return existing or newly assigned code
+	 */
+	public int add(String key) {
+		int pos = getPos(key);
+		if( pos >= 0 )
+			return _codes[pos];
+		appendEntry(key, _size+1);
+		return _size;
+	}
+	
+	/**
+	 * Puts the given key-code pair, where the code of existing keys
+	 * is overwritten.
+	 * 
+	 * @param key string key
+	 * @param code non-negative code
+	 */
+	public void put(String key, int code) {
+		if( code < 0 )
+			throw new IllegalArgumentException("Invalid negative code: "+code);
+		int pos = getPos(key);
+		if( pos >= 0 )
+			_codes[pos] = code;
+		else
+			appendEntry(key, code);
+	}
+	
+	public String getKey(int pos) {
+		int off = _offsets[pos];
+		return new String(_keys, off, _offsets[pos+1]-off, StandardCharsets.UTF_8);
+	}
+	
+	public int getCode(int pos) {
+		return _codes[pos];
+	}
+	
+	/**
+	 * Obtains the in-memory size of this dictionary in bytes, including
+	 * unused capacity of the underlying arrays.
+	 * 
+	 * @return in-memory size in bytes
+	 */
+	public long getInMemorySize() {
+		long size = 16 + 4 + 4 * 8; //object header, size, array references
+		size += 16 + _keys.length;
+		size += 16 + 4L * (_offsets.length + _codes.length + _table.length);
+		return size;
+	}
+	
+	private int getPos(String key) {
+		if( key == null )
+			return -1;
+		int h = hash(key);
+		int mask = (_table.length >> 1) - 1;
+		for( int ix = h & mask; _table[2*ix] != 0; ix = (ix+1) & mask ) {
+			if( _table[2*ix+1] == h && equalsKey(_table[2*ix]-1, key) )
+				return _table[2*ix] - 1;
+		}
+		return -1;
+	}
+	
+	private boolean equalsKey(int pos, String key) {
+		int off = _offsets[pos];
+		int len = _offsets[pos+1] - off;
+		int slen = key.length();
+		if( slen > len ) //utf-8 requires at least one byte per char
+			return false;
+		//fast path for ascii keys w/o string encoding
+		for( int i=0; i<slen; i++ ) {
+			char c = key.charAt(i);
+			if( c >= 0x80 )
+				return equalsKey(off, len, key.getBytes(StandardCharsets.UTF_8));
+			if( _keys[off+i] != (byte)c )
+				return false;
+		}
+		return slen == len;
+	}
+	
+	private boolean equalsKey(int off, int len, byte[] key) {
+		if( key.length != len )
+			return false;
+		for( int i=0; i<len; i++ )
+			if( _keys[off+i] != key[i] )
+				return false;
+		return true;
+	}
+	
+	private void appendEntry(String key, int code) {
+		//ensure capacity of entry arrays
+		if( _size == _codes.length ) {
+			int newCap = (int)Math.min(Integer.MAX_VALUE-8, (long)_codes.length*RESIZE_FACTOR);
+			_offsets = Arrays.copyOf(_offsets, newCap+1);
+			_codes = Arrays.copyOf(_codes, newCap);
+		}
+		
+		//append key bytes (w/o string encoding for ascii keys)
+		int off = _offsets[_size];
+		int slen = key.length();
+		boolean ascii = true;
+		for( int i=0; i<slen & ascii; i++ )
+			ascii = key.charAt(i) < 0x80;
+		if( ascii ) {
+			ensureKeyCapacity(off + slen);
+			for( int i=0; i<slen; i++ )
+				_keys[off+i] = (byte) key.charAt(i);
+			_offsets[_size+1] = off + slen;
+		}
+		else {
+			byte[] bkey = key.getBytes(StandardCharsets.UTF_8);
+			ensureKeyCapacity(off + bkey.length);
+			System.arraycopy(bkey, 0, _keys, off, bkey.length);
+			_offsets[_size+1] = off + bkey.length;
+		}
+		
+		//append code and probe table
+		_codes[_size] = code;
+		insertTable(_table, hash(key), _size);
+		_size++;
+		
+		//resize table if necessary
+		if( _size >= LOAD_FACTOR * (_table.length >> 1) )
+			resizeTable();
+	}
+	
+	private void ensureKeyCapacity(long len) {
+		if( len > Integer.MAX_VALUE-8 )
+			throw new RuntimeException("Dictionary key capacity exceeded: "+len);
+		if( len > _keys.length ) {
+			long newLen = Math.max(len, (long)_keys.length*RESIZE_FACTOR);
+			_keys = Arrays.copyOf(_keys, (int)Math.min(Integer.MAX_VALUE-8, newLen));
+		}
+	}
+	
+	private void resizeTable() {
+		//check for integer overflow on resize (w/o resize, the
+		//table would fill up and subsequent inserts never terminate)
+		if( _table.length > Integer.MAX_VALUE/RESIZE_FACTOR )
+			throw new RuntimeException("Dictionary capacity exceeded: "+_size);
+		
+		//rehash all entries w/ cached hashes (no key access)
+		int[] table = new int[_table.length*RESIZE_FACTOR];
+		for( int ix=0; ix<_table.length; ix+=2 )
+			if( _table[ix] != 0 )
+				insertTable(table, _table[ix+1], _table[ix]-1);
+		_table = table;
+	}
+	
+	private static void insertTable(int[] table, int h, int pos) {
+		int mask = (table.length >> 1) - 1;
+		int ix = h & mask;
+		while( table[2*ix] != 0 )
+			ix = (ix+1) & mask;
+		table[2*ix] = pos + 1;
+		table[2*ix+1] = h;
+	}
+	
+	private static int hash(String key) {
+		//mix cached string hash codes (murmur3 finalizer), which is
+		//necessary for linear probing over similar keys (e.g., IDs)
+		int h = key.hashCode();
+		h ^= h >>> 16;
+		h *= 0x85ebca6b;
+		h ^= h >>> 13;
+		h *= 0xc2b2ae35;
+		return h ^ (h >>> 16);
+	}
+	
+	private static int tableSizeFor(int n) {
+		int ret = Integer.highestOneBit(Math.max(n, 2) - 1) << 1;
+		return Math.max(ret, INIT_CAPACITY);
+	}
+}
@@ -41,6 +41,8 @@ import org.apache.sysml.runtime.instructions.InstructionUtils;
 import org.apache.sysml.runtime.instructions.MRJobInstruction;
 import org.apache.sysml.runtime.instructions.cp.FunctionCallCPInstruction;
 import org.apache.sysml.runtime.instructions.spark.SPInstruction;
+import org.apache.sysml.runtime.lineage.LineageCacheConfig;
+import org.apache.sysml.runtime.lineage.LineageCacheStatistics;
 import org.apache.sysml.runtime.matrix.data.LibMatrixDNN;
 
 /**
@@ -84,6 +86,23 @@ public class Statistics
 	private static final LongAdder codegenEnumEvalP = new LongAdder(); //count
 	private static final LongAdder codegenPlanCacheHits = new LongAdder(); //count
 	private static final LongAdder codegenPlanCacheTotal = new LongAdder(); //count
+	private static final LongAdder codegenClassCacheHits = new LongAdder(); //count
+	private static final LongAdder codegenClassCacheMisses = new LongAdder(); //count
+	private static final LongAdder codegenAsyncCompile = new LongAdder(); //count
+	private static final LongAdder codegenAsyncCompileTime = new LongAdder(); //in nano
+	
+	//Compression stats
+	private static final LongAdder compressCount = new LongAdder(); //count
+	private static final LongAdder compressAborted = new LongAdder(); //count
+	private static final LongAdder[] compressPhaseTime = new LongAdder[] { //in nano
+		new LongAdder(), new LongAdder(), new LongAdder(), new LongAdder(), new LongAdder()};
+	
+	//Transform stats
+	private static final LongAdder transformStreamingApply = new LongAdder(); //count
+	
+	//Columnar read stats
+	private static final LongAdder columnarChunksRead = new LongAdder(); //count
+	private static final LongAdder columnarChunksTotal = new LongAdder(); //count
 	
 	//Function recompile stats 
 	private static final LongAdder funRecompileTime = new LongAdder(); //in nano sec
@@ -293,6 +312,70 @@ public class Statistics
 		codegenPlanCacheTotal.increment();
 	}
 	
+	public static void incrementCodegenClassCacheHits() {
+		codegenClassCacheHits.increment();
+	}
+	
+	public static void incrementCodegenClassCacheMisses() {
+		codegenClassCacheMisses.increment();
+	}
+	
+	public static void incrementCodegenAsyncCompile() {
+		codegenAsyncCompile.increment();
+	}
+	
+	public static void incrementCodegenAsyncCompileTime(long delta) {
+		codegenAsyncCompileTime.add(delta);
+	}
+	
+	/**
+	 * Maintains the statistics of a single block compression.
+	 * 
+	 * @param phaseTimes times of compression phases 1-5 in ms (negative if not executed)
+	 * @param aborted true if the compression was aborted
+	 */
+	public static void maintainCompressionStats(double[] phaseTimes, boolean aborted) {
+		compressCount.increment();
+		if( aborted )
+			compressAborted.increment();
+		for( int i=0; i<Math.min(phaseTimes.length, compressPhaseTime.length); i++ )
+			if( phaseTimes[i] > 0 )
+				compressPhaseTime[i].add((long)(phaseTimes[i]*1000000));
+	}
+	
+	public static long getCompressionCount() {
+		return compressCount.longValue();
+	}
+	
+	public static long getCompressionAborted() {
+		return compressAborted.longValue();
+	}
+	
+	public static long getCompressionPhaseTime(int phase) {
+		return compressPhaseTime[phase].longValue();
+	}
+	
+	public static void incrementTransformStreamingApply() {
+		transformStreamingApply.increment();
+	}
+	
+	public static long getTransformStreamingApply() {
+		return transformStreamingApply.longValue();
+	}
+	
+	public static void incrementColumnarChunks(long read, long total) {
+		columnarChunksRead.add(read);
+		columnarChunksTotal.add(total);
+	}
+	
+	public static long getColumnarChunksRead() {
+		return columnarChunksRead.longValue();
+	}
+	
+	public static long getColumnarChunksTotal() {
+		return columnarChunksTotal.longValue();
+	}
+	
 	public static long getCodegenDAGCompile() {
 		return codegenHopCompile.longValue();
 	}
@@ -333,6 +416,22 @@ public class Statistics
 	public static long getCodegenPlanCacheTotal() {
 		return codegenPlanCacheTotal.longValue();
 	}
+	
+	public static long getCodegenClassCacheHits() {
+		return codegenClassCacheHits.longValue();
+	}
+	
+	public static long getCodegenClassCacheMisses() {
+		return codegenClassCacheMisses.longValue();
+	}
+	
+	public static long getCodegenAsyncCompile() {
+		return codegenAsyncCompile.longValue();
+	}
+	
+	public static long getCodegenAsyncCompileTime() {
+		return codegenAsyncCompileTime.longValue();
+	}
 
 	public static void incrementFunRecompileTime( long delta ) {
 		funRecompileTime.add(delta);
@@ -417,6 +516,18 @@ public class Statistics
 		codegenClassCompileTime.reset();
 		codegenPlanCacheHits.reset();
 		codegenPlanCacheTotal.reset();
+		codegenClassCacheHits.reset();
+		codegenClassCacheMisses.reset();
+		codegenAsyncCompile.reset();
+		codegenAsyncCompileTime.reset();
+		
+		compressCount.reset();
+		compressAborted.reset();
+		for( LongAdder tmp : compressPhaseTime )
+			tmp.reset();
+		transformStreamingApply.reset();
+		columnarChunksRead.reset();
+		columnarChunksTotal.reset();
 		
 		parforOptCount = 0;
 		parforOptTime = 0;
@@ -428,6 +539,7 @@ public class Statistics
 		lTotalUIPVar.reset();
 		
 		CacheStatistics.reset();
+		LineageCacheStatistics.reset();
 		
 		resetJITCompileTime();
 		resetJVMgcTime();
@@ -794,6 +906,12 @@ public class Statistics
 			sb.append("Cache hits (Mem, WB, FS, HDFS):\t" + CacheStatistics.displayHits() + ".\n");
 			sb.append("Cache writes (WB, FS, HDFS):\t" + CacheStatistics.displayWrites() + ".\n");
 			sb.append("Cache times (ACQr/m, RLS, EXP):\t" + CacheStatistics.displayTime() + " sec.\n");
+			if( CacheStatistics.getMmapWrites() > 0 )
+				sb.append("Cache mmap (W, R, W/R MB):\t" + CacheStatistics.displayMmap() + ".\n");
+			if( CacheStatistics.getCompressedWrites() > 0 )
+				sb.append("Cache compress (W, R, ratio, W/R time):\t" + CacheStatistics.displayCompressed() + " sec.\n");
+			if( CacheStatistics.getPrefetches() > 0 )
+				sb.append("Cache prefetches (restored):\t" + CacheStatistics.getPrefetches() + ".\n");
 			sb.append("HOP DAGs recompiled (PRED, SB):\t" + getHopRecompiledPredDAGs() + "/" + getHopRecompiledSBDAGs() + ".\n");
 			sb.append("HOP DAGs recompile time:\t" + String.format("%.3f", ((double)getHopRecompileTime())/1000000000) + " sec.\n");
 			if( getFunRecompiles()>0 ) {
@@ -808,6 +926,27 @@ public class Statistics
 				sb.append("Codegen compile times (DAG,JC):\t" + String.format("%.3f", (double)getCodegenCompileTime()/1000000000) + "/" + 
 						String.format("%.3f", (double)getCodegenClassCompileTime()/1000000000)  + " sec.\n");
 				sb.append("Codegen plan cache hits:\t" + getCodegenPlanCacheHits() + "/" + getCodegenPlanCacheTotal() + ".\n");
+				if( getCodegenClassCacheHits() + getCodegenClassCacheMisses() > 0 )
+					sb.append("Codegen class cache (hit/miss):\t" + getCodegenClassCacheHits() + "/" + getCodegenClassCacheMisses() + ".\n");
+				if( getCodegenAsyncCompile() > 0 )
+					sb.append("Codegen async compile (JC,time):\t" + getCodegenAsyncCompile() + "/"
+						+ String.format("%.3f", (double)getCodegenAsyncCompileTime()/1000000000) + " sec.\n");
+			}
+			if( getCompressionCount() > 0 ) {
+				sb.append("Compression (count, aborted):\t" + getCompressionCount() + "/" + getCompressionAborted() + ".\n");
+				sb.append("Compression phases (1-5):\t");
+				for( int i=0; i<compressPhaseTime.length; i++ )
+					sb.append(((i>0)?"/":"") + String.format("%.3f", (double)getCompressionPhaseTime(i)/1000000000));
+				sb.append(" sec.\n");
+			}
+			if( getTransformStreamingApply() > 0 )
+				sb.append("Transform streaming apply:\t" + getTransformStreamingApply() + ".\n");
+			if( getColumnarChunksTotal() > 0 )
+				sb.append("Columnar chunks (read/total):\t" + getColumnarChunksRead() + "/" + getColumnarChunksTotal() + ".\n");
+			if( LineageCacheConfig.isReuse() ) {
+				sb.append("LinCache hits (hit/miss):\t" + LineageCacheStatistics.displayHits() + ".\n");
+				sb.append("LinCache writes (put/evict):\t" + LineageCacheStatistics.displayWrites() + ".\n");
+				sb.append("LinCache saved compute time:\t" + LineageCacheStatistics.displaySavedTime() + " sec.\n");
 			}
 			if( OptimizerUtils.isSparkExecutionMode() ){
 				String lazy = SparkExecutionContext.isLazySparkContextCreation() ? "(lazy)" : "(eager)";
@@ -0,0 +1,213 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.apache.sysml.test.integration.functions.caching;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.apache.sysml.parser.Expression.ValueType;
+import org.apache.sysml.runtime.controlprogram.caching.CacheBlock;
+import org.apache.sysml.runtime.controlprogram.caching.EvictionCodec;
+import org.apache.sysml.runtime.controlprogram.caching.LazyWriteBuffer;
+import org.apache.sysml.runtime.matrix.data.DenseBlock;
+import org.apache.sysml.runtime.matrix.data.DenseBlockFactory;
+import org.apache.sysml.runtime.matrix.data.FrameBlock;
+import org.apache.sysml.runtime.matrix.data.MatrixBlock;
+import org.apache.sysml.runtime.util.DataConverter;
+import org.apache.sysml.runtime.util.UtilFunctions;
+import org.apache.sysml.test.integration.AutomatedTestBase;
+import org.apache.sysml.test.utils.TestUtils;
+
+/**
+ * This is a component test for the compressed eviction of cache blocks,
+ * which checks the per-block codec selection and the round trip of
+ * compressed matrices and frames, both directly and through the 
+ * eviction of the lazy write buffer.
+ */
+public class CachingCompressedEvictionTest extends AutomatedTestBase 
+{
+	private final static int rows = 5000;
+	private final static int cols1 = 1000;
+	private final static int cols2 = 100;
+	private final static double sparsity1 = 0.05;
+	
+	private enum InputType {
+		SPARSE_FEATURES, //sparse 0/1 matrix
+		SPARSE_BYTES,    //serialized sparse 0/1 matrix
+		DENSE_CATEGORIES, //dense matrix w/ few distinct values
+		DENSE_CATEGORIES_OFFHEAP, //off-heap dense matrix w/ few distinct values
+		DENSE_RANDOM,    //dense random matrix (incompressible)
+		FRAME_STRINGS,   //frame w/ few distinct strings
+	}
+	
+	@Override
+	public void setUp() {
+		TestUtils.clearAssertionInformation();
+	}
+	
+	@Test
+	public void testDeflateSparse() {
+		runCompressedEvictionTest(InputType.SPARSE_FEATURES, EvictionCodec.Type.DEFLATE, false);
+	}
+	
+	@Test
+	public void testDeflateSparseBytes() {
+		runCompressedEvictionTest(InputType.SPARSE_BYTES, EvictionCodec.Type.DEFLATE, false);
+	}
+	
+	@Test
+	public void testDeflateDenseRandom() {
+		runCompressedEvictionTest(InputType.DENSE_RANDOM, EvictionCodec.Type.DEFLATE, false);
+	}
+	
+	@Test
+	public void testDeflateFrameWriteBuffer() {
+		runCompressedEvictionTest(InputType.FRAME_STRINGS, EvictionCodec.Type.DEFLATE, true);
+	}
+	
+	@Test
+	public void testCLADense() {
+		runCompressedEvictionTest(InputType.DENSE_CATEGORIES, EvictionCodec.Type.CLA, false);
+	}
+	
+	@Test
+	public void testCLADenseWriteBuffer() {
+		runCompressedEvictionTest(InputType.DENSE_CATEGORIES, EvictionCodec.Type.CLA, true);
+	}
+	
+	@Test
+	public void testCLADenseOffHeap() {
+		//fallback to deflate for blocks w/o double arrays
+		runCompressedEvictionTest(InputType.DENSE_CATEGORIES_OFFHEAP, EvictionCodec.Type.CLA, false);
+	}
+	
+	@Test
+	public void testCLASparse() {
+		runCompressedEvictionTest(InputType.SPARSE_FEATURES, EvictionCodec.Type.CLA, false);
+	}
+	
+	@Test
+	public void testNoneSparse() {
+		runCompressedEvictionTest(InputType.SPARSE_FEATURES, EvictionCodec.Type.NONE, false);
+	}
+	
+	private void runCompressedEvictionTest(InputType itype, EvictionCodec.Type ctype, boolean writeBuffer) 
+	{
+		File file = null;
+		try {
+			EvictionCodec.setType(ctype);
+			file = File.createTempFile("comp", ".dat");
+			String fname = file.getAbsolutePath();
+			CacheBlock cb = createInput(itype);
+			boolean matrix = (cb instanceof MatrixBlock);
+			
+			//evict and restore block
+			if( writeBuffer ) {
+				LazyWriteBuffer.init();
+				LazyWriteBuffer.writeBlock(fname, cb);
+				LazyWriteBuffer.forceEviction();
+			}
+			else if( itype == InputType.SPARSE_BYTES ) {
+				ByteArrayOutputStream bos = new ByteArrayOutputStream();
+				cb.write(new DataOutputStream(bos));
+				EvictionCodec.writeBytes(fname, bos.toByteArray());
+			}
+			else {
+				EvictionCodec.writeBlock(fname, cb);
+			}
+			CacheBlock ret = writeBuffer ? LazyWriteBuffer.readBlock(fname, matrix) :
+				EvictionCodec.readBlock(fname, matrix);
+			
+			//check codec selection and results 
+			boolean compressed = ctype != EvictionCodec.Type.NONE 
+				&& itype != InputType.DENSE_RANDOM;
+			Assert.assertEquals(compressed, EvictionCodec.isCompressed(fname));
+			if( compressed )
+				Assert.assertTrue(file.length() * EvictionCodec.MIN_RATIO < cb.getExactSerializedSize());
+			if( matrix ) {
+				MatrixBlock mb1 = (MatrixBlock) cb;
+				MatrixBlock mb2 = (MatrixBlock) ret;
+				Assert.assertEquals(MatrixBlock.class, mb2.getClass());
+				Assert.assertEquals(mb1.getNonZeros(), mb2.getNonZeros());
+				TestUtils.compareMatrices(DataConverter.convertToDoubleMatrix(mb1),
+					DataConverter.convertToDoubleMatrix(mb2), mb1.getNumRows(), mb1.getNumColumns(), 0);
+			}
+			else {
+				FrameBlock fb1 = (FrameBlock) cb;
+				FrameBlock fb2 = (FrameBlock) ret;
+				for( int i=0; i<fb1.getNumRows(); i++ )
+					for( int j=0; j<fb1.getNumColumns(); j++ )
+						Assert.assertEquals(fb1.get(i, j), fb2.get(i, j));
+			}
+		}
+		catch(Exception ex) {
+			throw new RuntimeException(ex);
+		}
+		finally {
+			if( writeBuffer )
+				LazyWriteBuffer.cleanup();
+			EvictionCodec.setType(EvictionCodec.Type.NONE);
+			EvictionCodec.clear();
+			if( file != null )
+				file.delete();
+		}
+	}
+	
+	private CacheBlock createInput(InputType type) throws Exception {
+		switch( type ) {
+			case SPARSE_FEATURES:
+			case SPARSE_BYTES:
+				return MatrixBlock.randOperations(rows, cols1, sparsity1, 1, 1, "uniform", 7);
+			case DENSE_CATEGORIES:
+			case DENSE_CATEGORIES_OFFHEAP:
+			case DENSE_RANDOM: {
+				double[][] A = getRandomMatrix(rows, cols2, 1, 5, 1.0, 7);
+				if( type != InputType.DENSE_RANDOM )
+					for( int i=0; i<rows; i++ )
+						for( int j=0; j<cols2; j++ )
+							A[i][j] = Math.round(A[i][j]);
+				MatrixBlock mb = DataConverter.convertToMatrixBlock(A);
+				if( type == InputType.DENSE_CATEGORIES_OFFHEAP ) {
+					DenseBlock db = DenseBlockFactory.createDenseBlock(DenseBlock.Type.OFFHEAP, rows, cols2);
+					db.set(mb.getDenseBlock());
+					mb = new MatrixBlock(rows, cols2, mb.getNonZeros(), db);
+				}
+				return mb;
+			}
+			case FRAME_STRINGS: {
+				ValueType[] schema = UtilFunctions.nCopies(cols2, ValueType.STRING);
+				FrameBlock fb = new FrameBlock(schema);
+				String[] row = new String[cols2];
+				for( int i=0; i<rows; i++ ) {
+					for( int j=0; j<cols2; j++ )
+						row[j] = "cat" + ((i + j) % 7);
+					fb.appendRow(row);
+				}
+				return fb;
+			}
+			default:
+				throw new RuntimeException("Unsupported input type: "+type);
+		}
+	}
+}
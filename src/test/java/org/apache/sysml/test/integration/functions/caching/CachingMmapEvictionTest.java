@@ -0,0 +1,238 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.sysml.test.integration.functions.caching;
+
+import java.io.File;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.apache.sysml.runtime.controlprogram.caching.CacheBlock;
+import org.apache.sysml.runtime.controlprogram.caching.LazyWriteBuffer;
+import org.apache.sysml.runtime.controlprogram.caching.MmapFileUtils;
+import org.apache.sysml.runtime.matrix.data.DenseBlockOffHeap;
+import org.apache.sysml.runtime.matrix.data.MatrixBlock;
+import org.apache.sysml.runtime.matrix.data.SparseBlock;
+import org.apache.sysml.runtime.util.DataConverter;
+import org.apache.sysml.test.integration.AutomatedTestBase;
+import org.apache.sysml.test.utils.TestUtils;
+
+/**
+ * This is a component test for buffer pool eviction via memory-mapped files,
+ * which checks the round trip of dense, sparse, and empty blocks, both 
+ * directly and through the eviction of the lazy write buffer, as well as
+ * the deletion of evicted files once the cache entries are freed.
+ */
+public class CachingMmapEvictionTest extends AutomatedTestBase 
+{
+	private final static int rows = 1234;
+	private final static int cols = 567;
+	private final static double sparsity1 = 0.7;
+	private final static double sparsity2 = 0.01;
+	
+	@Override
+	public void setUp() {
+		TestUtils.clearAssertionInformation();
+	}
+	
+	@Test
+	public void testMmapDense() {
+		runMmapTest(sparsity1, null, false, false);
+	}
+	
+	@Test
+	public void testMmapSparseMCSR() {
+		runMmapTest(sparsity2, SparseBlock.Type.MCSR, false, false);
+	}
+	
+	@Test
+	public void testMmapSparseCSR() {
+		runMmapTest(sparsity2, SparseBlock.Type.CSR, false, false);
+	}
+	
+	@Test
+	public void testMmapEmpty() {
+		runMmapTest(0, null, false, false);
+	}
+	
+	@Test
+	public void testMmapDenseWriteBuffer() {
+		runMmapTest(sparsity1, null, true, false);
+	}
+	
+	@Test
+	public void testMmapSparseWriteBuffer() {
+		runMmapTest(sparsity2, SparseBlock.Type.CSR, true, false);
+	}
+	
+	@Test
+	public void testMmapDenseOffHeap() {
+		runMmapTest(sparsity1, null, false, true);
+	}
+	
+	@Test
+	public void testMmapDenseOffHeapWriteBuffer() {
+		runMmapTest(sparsity1, null, true, true);
+	}
+	
+	@Test
+	public void testMmapDeleteDense() {
+		runMmapDeleteTest(sparsity1);
+	}
+	
+	@Test
+	public void testMmapDeleteSparse() {
+		runMmapDeleteTest(sparsity2);
+	}
+	
+	@Test
+	public void testMmapDenseRewrite() {
+		File file = null;
+		try {
+			MmapFileUtils.setEnabled(true);
+			file = File.createTempFile("mmap", ".dat");
+			String fname = file.getAbsolutePath();
+			MatrixBlock mb1 = MatrixBlock.randOperations(rows, cols, sparsity1, -1, 1, "uniform", 7);
+			MatrixBlock mb2 = MatrixBlock.randOperations(rows, cols, sparsity1, -1, 1, "uniform", 3);
+			
+			//restored dense blocks are independent of file rewrites
+			MmapFileUtils.writeBlock(fname, mb1);
+			MatrixBlock ret1 = MmapFileUtils.readBlock(fname);
+			MmapFileUtils.writeBlock(fname, mb2);
+			MatrixBlock ret2 = MmapFileUtils.readBlock(fname);
+			compare(mb1, ret1);
+			compare(mb2, ret2);
+			
+			//updates of restored dense blocks do not modify the file
+			ret2.quickSetValue(7, 7, 1234);
+			compare(mb2, MmapFileUtils.readBlock(fname));
+		}
+		catch(Exception ex) {
+			throw new RuntimeException(ex);
+		}
+		finally {
+			MmapFileUtils.setEnabled(false);
+			MmapFileUtils.clear();
+			if( file != null )
+				file.delete();
+		}
+	}
+	
+	private void runMmapTest(double sparsity, SparseBlock.Type type, boolean writeBuffer, boolean offHeap) 
+	{
+		File file = null;
+		try {
+			MmapFileUtils.setEnabled(true);
+			file = File.createTempFile("mmap", ".dat");
+			String fname = file.getAbsolutePath();
+			
+			//create input block of requested format
+			MatrixBlock mb = (sparsity == 0) ? new MatrixBlock(rows, cols, true) :
+				MatrixBlock.randOperations(rows, cols, sparsity, -1, 1, "uniform", 7);
+			if( type != null && !mb.isEmptyBlock(false) ) {
+				mb = new MatrixBlock(mb, type, true);
+				Assert.assertTrue(mb.isInSparseFormat());
+			}
+			if( offHeap ) {
+				DenseBlockOffHeap db = new DenseBlockOffHeap(rows, cols);
+				db.set(mb.getDenseBlock());
+				mb = new MatrixBlock(rows, cols, mb.getNonZeros(), db);
+			}
+			Assert.assertTrue(MmapFileUtils.isApplicable(mb));
+			
+			//evict and restore block
+			MatrixBlock ret = null;
+			if( writeBuffer ) {
+				LazyWriteBuffer.init();
+				LazyWriteBuffer.writeBlock(fname, mb);
+				LazyWriteBuffer.forceEviction();
+				Assert.assertTrue(MmapFileUtils.isMapped(fname));
+				CacheBlock cb = LazyWriteBuffer.readBlock(fname, true);
+				ret = (MatrixBlock) cb;
+			}
+			else {
+				MmapFileUtils.writeBlock(fname, mb);
+				Assert.assertTrue(MmapFileUtils.isMapped(fname));
+				ret = MmapFileUtils.readBlock(fname);
+			}
+			
+			//check formats and results
+			compare(mb, ret);
+			if( offHeap ) //w/o materialization on write
+				Assert.assertTrue(mb.getDenseBlock().isOffHeap()
+					&& ret.getDenseBlock().isOffHeap());
+		}
+		catch(Exception ex) {
+			throw new RuntimeException(ex);
+		}
+		finally {
+			if( writeBuffer )
+				LazyWriteBuffer.cleanup();
+			MmapFileUtils.setEnabled(false);
+			MmapFileUtils.clear();
+			if( file != null )
+				file.delete();
+		}
+	}
+	
+	private void runMmapDeleteTest(double sparsity) 
+	{
+		File file = null;
+		try {
+			MmapFileUtils.setEnabled(true);
+			LazyWriteBuffer.init();
+			file = File.createTempFile("mmap", ".dat");
+			String fname = file.getAbsolutePath();
+			MatrixBlock mb = MatrixBlock.randOperations(rows, cols, sparsity, -1, 1, "uniform", 7);
+			
+			//evict and restore block
+			LazyWriteBuffer.writeBlock(fname, mb);
+			LazyWriteBuffer.forceEviction();
+			Assert.assertTrue(MmapFileUtils.isMapped(fname));
+			MatrixBlock ret = (MatrixBlock) LazyWriteBuffer.readBlock(fname, true);
+			
+			//free cache entry (as in CacheableData.clearData)
+			LazyWriteBuffer.deleteBlock(fname);
+			Assert.assertFalse(MmapFileUtils.isMapped(fname));
+			Assert.assertFalse(file.exists());
+			
+			//restored block remains valid after file deletion
+			compare(mb, ret);
+		}
+		catch(Exception ex) {
+			throw new RuntimeException(ex);
+		}
+		finally {
+			LazyWriteBuffer.cleanup();
+			MmapFileUtils.setEnabled(false);
+			MmapFileUtils.clear();
+			if( file != null )
+				file.delete();
+		}
+	}
+	
+	private static void compare(MatrixBlock mb1, MatrixBlock mb2) {
+		Assert.assertEquals(mb1.getNumRows(), mb2.getNumRows());
+		Assert.assertEquals(mb1.getNumColumns(), mb2.getNumColumns());
+		Assert.assertEquals(mb1.getNonZeros(), mb2.getNonZeros());
+		Assert.assertEquals(mb1.isInSparseFormat(), mb2.isInSparseFormat());
+		TestUtils.compareMatrices(DataConverter.convertToDoubleMatrix(mb1),
+			DataConverter.convertToDoubleMatrix(mb2), mb1.getNumRows(), mb1.getNumColumns(), 0);
+	}
+}
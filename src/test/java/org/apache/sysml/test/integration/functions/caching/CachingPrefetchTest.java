@@ -0,0 +1,149 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.apache.sysml.test.integration.functions.caching;
+
+import java.util.ArrayList;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.apache.sysml.conf.ConfigurationManager;
+import org.apache.sysml.parser.Expression.ValueType;
+import org.apache.sysml.runtime.controlprogram.caching.CachePrefetcher;
+import org.apache.sysml.runtime.controlprogram.caching.CacheableData;
+import org.apache.sysml.runtime.controlprogram.caching.LazyWriteBuffer;
+import org.apache.sysml.runtime.controlprogram.caching.MatrixObject;
+import org.apache.sysml.runtime.controlprogram.context.ExecutionContext;
+import org.apache.sysml.runtime.controlprogram.context.ExecutionContextFactory;
+import org.apache.sysml.runtime.instructions.CPInstructionParser;
+import org.apache.sysml.runtime.instructions.Instruction;
+import org.apache.sysml.runtime.matrix.MatrixCharacteristics;
+import org.apache.sysml.runtime.matrix.MetaDataFormat;
+import org.apache.sysml.runtime.matrix.data.InputInfo;
+import org.apache.sysml.runtime.matrix.data.MatrixBlock;
+import org.apache.sysml.runtime.matrix.data.OutputInfo;
+import org.apache.sysml.runtime.util.DataConverter;
+import org.apache.sysml.test.integration.AutomatedTestBase;
+import org.apache.sysml.test.utils.TestUtils;
+
+/**
+ * This is a component test for the asynchronous prefetch of evicted
+ * variables, which checks the restore into the soft reference cache
+ * as well as the lookahead over the instructions of a program block.
+ */
+public class CachingPrefetchTest extends AutomatedTestBase 
+{
+	private final static int rows = 1234;
+	private final static int cols = 567;
+	private final static double sparsity = 0.7;
+	
+	@Override
+	public void setUp() {
+		TestUtils.clearAssertionInformation();
+	}
+	
+	@Test
+	public void testPrefetchEvicted() {
+		runPrefetchTest(false, true);
+	}
+	
+	@Test
+	public void testPrefetchNotEvicted() {
+		runPrefetchTest(false, false);
+	}
+	
+	@Test
+	public void testPrefetchLookahead() {
+		runPrefetchTest(true, true);
+	}
+	
+	private void runPrefetchTest(boolean lookahead, boolean evict) 
+	{
+		try {
+			CacheableData.initCaching();
+			MatrixBlock mb = MatrixBlock.randOperations(rows, cols, sparsity, -1, 1, "uniform", 7);
+			EvictableMatrixObject mo = createMatrixObject(mb);
+			
+			//evict matrix to local file system
+			if( evict ) {
+				LazyWriteBuffer.forceEviction();
+				mo.dropCache();
+			}
+			Assert.assertEquals(evict, mo.isEvicted());
+			
+			//prefetch evicted matrix 
+			if( lookahead ) {
+				ExecutionContext ec = ExecutionContextFactory.createContext();
+				ec.setVariable("A", mo);
+				ArrayList<Instruction> inst = new ArrayList<>();
+				inst.add(CPInstructionParser.parseSingleInstruction(
+					"CP°*°B·MATRIX·DOUBLE°2·SCALAR·DOUBLE·true°C·MATRIX·DOUBLE"));
+				inst.add(CPInstructionParser.parseSingleInstruction(
+					"CP°+°A·MATRIX·DOUBLE°C·MATRIX·DOUBLE°D·MATRIX·DOUBLE"));
+				CachePrefetcher.setEnabled(true);
+				CachePrefetcher.prefetch(inst, 0, ec);
+				for( int i=0; i<100 && mo.isEvicted(); i++ )
+					Thread.sleep(50);
+			}
+			else {
+				Assert.assertEquals(evict, mo.prefetch());
+			}
+			Assert.assertFalse(mo.isEvicted());
+			
+			//check restored matrix
+			MatrixBlock ret = mo.acquireRead();
+			Assert.assertEquals(mb.getNonZeros(), ret.getNonZeros());
+			TestUtils.compareMatrices(DataConverter.convertToDoubleMatrix(mb),
+				DataConverter.convertToDoubleMatrix(ret), rows, cols, 0);
+			mo.release();
+			mo.clearData();
+		}
+		catch(Exception ex) {
+			throw new RuntimeException(ex);
+		}
+		finally {
+			CachePrefetcher.setEnabled(false);
+			CacheableData.cleanupCacheDir();
+		}
+	}
+	
+	private static EvictableMatrixObject createMatrixObject(MatrixBlock mb) throws Exception {
+		MatrixCharacteristics mc = new MatrixCharacteristics(rows, cols, 
+			ConfigurationManager.getBlocksize(), ConfigurationManager.getBlocksize(), mb.getNonZeros());
+		EvictableMatrixObject mo = new EvictableMatrixObject(new MetaDataFormat(mc,
+			OutputInfo.BinaryBlockOutputInfo, InputInfo.BinaryBlockInputInfo));
+		mo.acquireModify(mb);
+		mo.release();
+		return mo;
+	}
+	
+	private static class EvictableMatrixObject extends MatrixObject {
+		private static final long serialVersionUID = 2383651233573214447L;
+		
+		public EvictableMatrixObject(MetaDataFormat md) {
+			super(ValueType.DOUBLE, "./tmp/A", md);
+		}
+		
+		public void dropCache() {
+			//emulate garbage collection of the soft reference
+			clearCache();
+		}
+	}
+}
@@ -0,0 +1,99 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.apache.sysml.test.integration.functions.codegen;
+
+import java.io.File;
+import java.util.HashMap;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.apache.sysml.runtime.matrix.data.MatrixValue.CellIndex;
+import org.apache.sysml.test.integration.AutomatedTestBase;
+import org.apache.sysml.test.integration.TestConfiguration;
+import org.apache.sysml.test.utils.TestUtils;
+import org.apache.sysml.utils.Statistics;
+
+public class AsyncCompileTest extends AutomatedTestBase 
+{
+	private static final String TEST_NAME1 = "asyncCompile1";
+	private static final String TEST_DIR = "functions/codegen/";
+	private static final String TEST_CLASS_DIR = TEST_DIR + AsyncCompileTest.class.getSimpleName() + "/";
+	private final static String TEST_CONF1 = "SystemML-config-codegen.xml";
+	private final static String TEST_CONF2 = "SystemML-config-codegen-async.xml";
+	private static String TEST_CONF = TEST_CONF1;
+	
+	private static final int rows = 2345;
+	private static final int cols = 321;
+	private static final double sparsity = 0.7;
+	private static final int iterations = 50;
+	private static final double eps = Math.pow(10, -8);
+	
+	@Override
+	public void setUp() {
+		TestUtils.clearAssertionInformation();
+		addTestConfiguration( TEST_NAME1, new TestConfiguration(TEST_CLASS_DIR, TEST_NAME1, new String[] { "R" }) );
+	}
+	
+	@Test
+	public void testCodegenAsyncCompileLoop() {
+		try {
+			//run with synchronous compilation
+			HashMap<CellIndex, Double> R1 = runAsyncCompileTest(TEST_CONF1);
+			Assert.assertTrue(heavyHittersContainsSubString("spoof"));
+			Assert.assertEquals(0, Statistics.getCodegenAsyncCompile());
+			
+			//run with asynchronous compilation and fallback to unfused operators
+			HashMap<CellIndex, Double> R2 = runAsyncCompileTest(TEST_CONF2);
+			Assert.assertTrue(Statistics.getCodegenAsyncCompile() > 0);
+			Assert.assertTrue(heavyHittersContainsSubString("spoof"));
+			Assert.assertTrue(heavyHittersContainsSubString("uark+"));
+			TestUtils.compareMatrices(R1, R2, eps, "Stat-DML1", "Stat-DML2");
+		}
+		finally {
+			TEST_CONF = TEST_CONF1;
+		}
+	}
+	
+	private HashMap<CellIndex, Double> runAsyncCompileTest(String conf) {
+		TEST_CONF = conf;
+		TestConfiguration config = getTestConfiguration(TEST_NAME1);
+		loadTestConfiguration(config);
+		
+		String HOME = SCRIPT_DIR + TEST_DIR;
+		fullDMLScriptName = HOME + TEST_NAME1 + ".dml";
+		programArgs = new String[]{"-stats", "-args", 
+			input("X"), String.valueOf(iterations), output("R") };
+		
+		double[][] X = getRandomMatrix(rows, cols, -1, 1, sparsity, 7);
+		writeInputMatrixWithMTD("X", X, true);
+		
+		runTest(true, false, null, -1);
+		return readDMLMatrixFromHDFS("R");
+	}
+	
+	@Override
+	protected File getConfigTemplateFile() {
+		// Instrumentation in this test's output log to show custom configuration file used for template.
+		File f = new File(SCRIPT_DIR + TEST_DIR, TEST_CONF);
+		System.out.println("This test case overrides default configuration with " + f.getPath());
+		return f;
+	}
+}
@@ -31,6 +31,7 @@ import org.apache.sysml.runtime.codegen.LibSpoofPrimitives;
 import org.apache.sysml.runtime.functionobjects.Builtin;
 import org.apache.sysml.runtime.instructions.InstructionUtils;
 import org.apache.sysml.runtime.matrix.data.MatrixBlock;
+import org.apache.sysml.runtime.matrix.data.SparseRowVector;
 import org.apache.sysml.runtime.matrix.operators.BinaryOperator;
 import org.apache.sysml.runtime.matrix.operators.ScalarOperator;
 import org.apache.sysml.runtime.matrix.operators.UnaryOperator;
@@ -645,6 +646,73 @@ public class CPlanVectorPrimitivesTest extends AutomatedTestBase
 		testVectorBinaryPrimitive(BinType.VECT_GREATEREQUAL, InputType.VECTOR_SPARSE, InputType.VECTOR_DENSE);
 	}
 	
+	@Test
+	public void testVectorVectorMultSparseSparse() {
+		testVectorBinaryPrimitive(BinType.VECT_MULT, InputType.VECTOR_SPARSE, InputType.VECTOR_SPARSE);
+	}
+	
+	@Test
+	public void testVectorVectorPlusSparseSparse() {
+		testVectorBinaryPrimitive(BinType.VECT_PLUS, InputType.VECTOR_SPARSE, InputType.VECTOR_SPARSE);
+	}
+	
+	@Test
+	public void testVectorVectorMinusSparseSparse() {
+		testVectorBinaryPrimitive(BinType.VECT_MINUS, InputType.VECTOR_SPARSE, InputType.VECTOR_SPARSE);
+	}
+	
+	//support sparse-safe vector primitives with sparse row outputs
+	
+	@Test
+	public void testVectorAbsSparseToSparse() {
+		testVectorUnarySparsePrimitive(UnaryType.VECT_ABS);
+	}
+	
+	@Test
+	public void testVectorSqrtSparseToSparse() {
+		testVectorUnarySparsePrimitive(UnaryType.VECT_SQRT);
+	}
+	
+	@Test
+	public void testVectorSignSparseToSparse() {
+		testVectorUnarySparsePrimitive(UnaryType.VECT_SIGN);
+	}
+	
+	@Test
+	public void testVectorScalarMultSparseToSparse() {
+		testVectorBinarySparsePrimitive(BinType.VECT_MULT_SCALAR, InputType.VECTOR_SPARSE, InputType.SCALAR);
+	}
+	
+	@Test
+	public void testScalarVectorMultSparseToSparse() {
+		testVectorBinarySparsePrimitive(BinType.VECT_MULT_SCALAR, InputType.SCALAR, InputType.VECTOR_SPARSE);
+	}
+	
+	@Test
+	public void testVectorScalarDivSparseToSparse() {
+		testVectorBinarySparsePrimitive(BinType.VECT_DIV_SCALAR, InputType.VECTOR_SPARSE, InputType.SCALAR);
+	}
+	
+	@Test
+	public void testVectorVectorMultSparseDenseToSparse() {
+		testVectorBinarySparsePrimitive(BinType.VECT_MULT, InputType.VECTOR_SPARSE, InputType.VECTOR_DENSE);
+	}
+	
+	@Test
+	public void testVectorVectorMultSparseSparseToSparse() {
+		testVectorBinarySparsePrimitive(BinType.VECT_MULT, InputType.VECTOR_SPARSE, InputType.VECTOR_SPARSE);
+	}
+	
+	@Test
+	public void testVectorVectorPlusSparseSparseToSparse() {
+		testVectorBinarySparsePrimitive(BinType.VECT_PLUS, InputType.VECTOR_SPARSE, InputType.VECTOR_SPARSE);
+	}
+	
+	@Test
+	public void testVectorVectorMinusSparseSparseToSparse() {
+		testVectorBinarySparsePrimitive(BinType.VECT_MINUS, InputType.VECTOR_SPARSE, InputType.VECTOR_SPARSE);
+	}
+	
 	@SuppressWarnings("incomplete-switch")
 	private static void testVectorAggPrimitive(UnaryType aggtype, InputType type1)
 	{
@@ -744,6 +812,8 @@ public class CPlanVectorPrimitivesTest extends AutomatedTestBase
 				me = LibSpoofPrimitives.class.getMethod(meName, new Class[]{double.class, double[].class, int[].class, int.class, int.class, int.class});
 			else if( type1==InputType.VECTOR_SPARSE && type2==InputType.VECTOR_DENSE )
 				me = LibSpoofPrimitives.class.getMethod(meName, new Class[]{double[].class, double[].class, int[].class, int.class, int.class, int.class, int.class});
+			else if( type1==InputType.VECTOR_SPARSE && type2==InputType.VECTOR_SPARSE )
+				me = LibSpoofPrimitives.class.getMethod(meName, new Class[]{double[].class, double[].class, int[].class, int[].class, int.class, int.class, int.class, int.class, int.class});
 			
 			for( int i=0; i<m; i++ ) {
 				//execute vector primitive via reflection
@@ -763,6 +833,10 @@ public class CPlanVectorPrimitivesTest extends AutomatedTestBase
 				else if( type1==InputType.VECTOR_SPARSE && type2==InputType.VECTOR_DENSE )
 					ret1 = (double[]) me.invoke(null, inA.getSparseBlock().values(i), inB.getDenseBlockValues(), 
 						inA.getSparseBlock().indexes(i), inA.getSparseBlock().pos(i), i*n, inA.getSparseBlock().size(i), n);
+				else if( type1==InputType.VECTOR_SPARSE && type2==InputType.VECTOR_SPARSE )
+					ret1 = (double[]) me.invoke(null, inA.getSparseBlock().values(i), inB.getSparseBlock().values(i),
+						inA.getSparseBlock().indexes(i), inB.getSparseBlock().indexes(i), inA.getSparseBlock().pos(i), 
+						inB.getSparseBlock().pos(i), inA.getSparseBlock().size(i), inB.getSparseBlock().size(i), n);
 				
 				//execute comparison operation
 				String opcode = Hop.getBinaryOpCode(OpOp2.valueOf(bintype.name().split("_")[1]));
@@ -795,4 +869,113 @@ public class CPlanVectorPrimitivesTest extends AutomatedTestBase
 			throw new RuntimeException(ex);
 		}
 	}
+	
+	private static void testVectorUnarySparsePrimitive(UnaryType utype)
+	{
+		try {
+			//generate input data
+			MatrixBlock in = MatrixBlock.randOperations(m, n, sparsity2, -1, 1, "uniform", 7);
+			
+			//get vector primitive via reflection
+			String meName = "vect"+StringUtils.camelize(utype.name().split("_")[1])+"Write";
+			Method me = LibSpoofPrimitives.class.getMethod(meName, 
+				new Class[]{int.class, double[].class, int[].class, int.class, int.class});
+			
+			for( int i=0; i<m; i++ ) {
+				//execute vector primitive via reflection
+				SparseRowVector ret1 = (SparseRowVector) me.invoke(null, n, in.getSparseBlock().values(i),
+					in.getSparseBlock().indexes(i), in.getSparseBlock().pos(i), in.getSparseBlock().size(i));
+				
+				//execute comparison operation
+				String opcode = utype.name().split("_")[1].toLowerCase();
+				UnaryOperator uop = new UnaryOperator(Builtin.getBuiltinFnObject(opcode));
+				double[] ret2 = DataConverter.convertToDoubleVector(((MatrixBlock)in
+					.sliceOperations(i, i, 0, n-1, new MatrixBlock())
+					.unaryOperations(uop, new MatrixBlock())), false);
+				
+				//compare results
+				TestUtils.compareMatrices(toDenseVector(ret1, n), ret2, eps);
+			}
+		} 
+		catch( Exception ex ) {
+			throw new RuntimeException(ex);
+		}
+	}
+	
+	private static void testVectorBinarySparsePrimitive(BinType bintype, InputType type1, InputType type2)
+	{
+		try {
+			//generate input data (scalar later derived if needed)
+			double sparsityA = (type1 == InputType.VECTOR_DENSE) ? sparsity1 : sparsity2;
+			MatrixBlock inA = MatrixBlock.randOperations(m, n, sparsityA, -5, 5, "uniform", 3);
+			double sparsityB = (type2 == InputType.VECTOR_DENSE) ? sparsity1 : sparsity2;
+			MatrixBlock inB = MatrixBlock.randOperations(m, n, sparsityB, -5, 5, "uniform", 7);
+			
+			//get vector primitive via reflection
+			String meName = "vect"+StringUtils.camelize(bintype.name().split("_")[1])+"Write";
+			Method me = null;
+			if( type1==InputType.VECTOR_SPARSE && type2==InputType.SCALAR )
+				me = LibSpoofPrimitives.class.getMethod(meName, new Class[]{int.class, double[].class, double.class, int[].class, int.class, int.class});
+			else if( type1==InputType.SCALAR && type2==InputType.VECTOR_SPARSE )
+				me = LibSpoofPrimitives.class.getMethod(meName, new Class[]{int.class, double.class, double[].class, int[].class, int.class, int.class});
+			else if( type1==InputType.VECTOR_SPARSE && type2==InputType.VECTOR_DENSE )
+				me = LibSpoofPrimitives.class.getMethod(meName, new Class[]{int.class, double[].class, double[].class, int[].class, int.class, int.class, int.class});
+			else if( type1==InputType.VECTOR_SPARSE && type2==InputType.VECTOR_SPARSE )
+				me = LibSpoofPrimitives.class.getMethod(meName, new Class[]{int.class, double[].class, double[].class, int[].class, int[].class, int.class, int.class, int.class, int.class});
+			
+			for( int i=0; i<m; i++ ) {
+				//execute vector primitive via reflection
+				SparseRowVector ret1 = null;
+				if( type1==InputType.VECTOR_SPARSE && type2==InputType.SCALAR )
+					ret1 = (SparseRowVector) me.invoke(null, n, inA.getSparseBlock().values(i), inB.max(), 
+						inA.getSparseBlock().indexes(i), inA.getSparseBlock().pos(i), inA.getSparseBlock().size(i));
+				else if( type1==InputType.SCALAR && type2==InputType.VECTOR_SPARSE )
+					ret1 = (SparseRowVector) me.invoke(null, n, inA.max(), inB.getSparseBlock().values(i), 
+						inB.getSparseBlock().indexes(i), inB.getSparseBlock().pos(i), inB.getSparseBlock().size(i));
+				else if( type1==InputType.VECTOR_SPARSE && type2==InputType.VECTOR_DENSE )
+					ret1 = (SparseRowVector) me.invoke(null, n, inA.getSparseBlock().values(i), inB.getDenseBlockValues(), 
+						inA.getSparseBlock().indexes(i), inA.getSparseBlock().pos(i), i*n, inA.getSparseBlock().size(i));
+				else if( type1==InputType.VECTOR_SPARSE && type2==InputType.VECTOR_SPARSE )
+					ret1 = (SparseRowVector) me.invoke(null, n, inA.getSparseBlock().values(i), inB.getSparseBlock().values(i),
+						inA.getSparseBlock().indexes(i), inB.getSparseBlock().indexes(i), inA.getSparseBlock().pos(i), 
+						inB.getSparseBlock().pos(i), inA.getSparseBlock().size(i), inB.getSparseBlock().size(i));
+				
+				//execute comparison operation
+				String opcode = Hop.getBinaryOpCode(OpOp2.valueOf(bintype.name().split("_")[1]));
+				MatrixBlock in1 = inA.sliceOperations(i, i, 0, n-1, new MatrixBlock());
+				MatrixBlock in2 = inB.sliceOperations(i, i, 0, n-1, new MatrixBlock());
+				double[] ret2 = null;
+				if( type1 == InputType.SCALAR ) {
+					ScalarOperator bop = InstructionUtils.parseScalarBinaryOperator(opcode, true);
+					bop = bop.setConstant(inA.max());
+					ret2 = DataConverter.convertToDoubleVector((MatrixBlock)
+						in2.scalarOperations(bop, new MatrixBlock()), false);
+				}
+				else if( type2 == InputType.SCALAR ) {
+					ScalarOperator bop = InstructionUtils.parseScalarBinaryOperator(opcode, false);
+					bop = bop.setConstant(inB.max());
+					ret2 = DataConverter.convertToDoubleVector((MatrixBlock)
+						in1.scalarOperations(bop, new MatrixBlock()), false);
+				}
+				else { //vector-vector
+					BinaryOperator bop = InstructionUtils.parseBinaryOperator(opcode);
+					ret2 = DataConverter.convertToDoubleVector((MatrixBlock)
+						in1.binaryOperations(bop, in2, new MatrixBlock()), false);
+				}
+				
+				//compare results
+				TestUtils.compareMatrices(toDenseVector(ret1, n), ret2, eps);
+			}
+		} 
+		catch( Exception ex ) {
+			throw new RuntimeException(ex);
+		}
+	}
+	
+	private static double[] toDenseVector(SparseRowVector in, int len) {
+		double[] ret = new double[len];
+		for( int j=0; j<in.size(); j++ )
+			ret[in.indexes()[j]] = in.values()[j];
+		return ret;
+	}
 }
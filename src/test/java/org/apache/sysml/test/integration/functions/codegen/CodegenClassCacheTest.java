@@ -0,0 +1,156 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.apache.sysml.test.integration.functions.codegen;
+
+import java.io.File;
+import java.util.HashMap;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.apache.sysml.hops.codegen.SpoofCompiler;
+import org.apache.sysml.hops.codegen.SpoofCompiler.CompilerType;
+import org.apache.sysml.runtime.codegen.CodegenClassCache;
+import org.apache.sysml.runtime.matrix.data.MatrixValue.CellIndex;
+import org.apache.sysml.runtime.util.LocalFileUtils;
+import org.apache.sysml.test.integration.AutomatedTestBase;
+import org.apache.sysml.test.integration.TestConfiguration;
+import org.apache.sysml.test.utils.TestUtils;
+import org.apache.sysml.utils.Statistics;
+
+public class CodegenClassCacheTest extends AutomatedTestBase 
+{
+	private static final String TEST_NAME1 = "classCache1";
+	private static final String TEST_DIR = "functions/codegen/";
+	private static final String TEST_CLASS_DIR = TEST_DIR + CodegenClassCacheTest.class.getSimpleName() + "/";
+	private final static String TEST_CONF = "SystemML-config-codegen-classcache.xml";
+	private final static String CACHE_DIR = "target/testTemp/functions/codegen/classcache";
+	
+	private static final int rows = 1234;
+	private static final int cols = 321;
+	private static final double sparsity = 0.3;
+	private static final double eps = Math.pow(10, -10);
+	
+	@Override
+	public void setUp() {
+		TestUtils.clearAssertionInformation();
+		addTestConfiguration( TEST_NAME1, new TestConfiguration(TEST_CLASS_DIR, TEST_NAME1, new String[] { "R" }) );
+	}
+	
+	@Test
+	public void testCodegenClassCacheReuse() {
+		LocalFileUtils.deleteFileIfExists(CACHE_DIR);
+		try {
+			TestConfiguration config = getTestConfiguration(TEST_NAME1);
+			loadTestConfiguration(config);
+			
+			String HOME = SCRIPT_DIR + TEST_DIR;
+			fullDMLScriptName = HOME + TEST_NAME1 + ".dml";
+			programArgs = new String[]{"-stats", "-args", 
+				input("X"), input("Y"), output("R") };
+			
+			double[][] X = getRandomMatrix(rows, cols, 0, 1, sparsity, 7);
+			double[][] Y = getRandomMatrix(rows, cols, 0, 1, sparsity, 3);
+			writeInputMatrixWithMTD("X", X, true);
+			writeInputMatrixWithMTD("Y", Y, true);
+			
+			//first run: compile and populate persistent class cache
+			//(in-memory plan and class caches are cleared after each run)
+			runTest(true, false, null, -1);
+			HashMap<CellIndex, Double> R1 = readDMLMatrixFromHDFS("R");
+			Assert.assertTrue(heavyHittersContainsSubString("spoof"));
+			Assert.assertEquals(0, Statistics.getCodegenClassCacheHits());
+			long misses = Statistics.getCodegenClassCacheMisses();
+			Assert.assertTrue(misses > 0);
+			Assert.assertTrue(CodegenClassCache.getSize() > 0);
+			
+			//second run: load all classes from persistent class cache
+			runTest(true, false, null, -1);
+			HashMap<CellIndex, Double> R2 = readDMLMatrixFromHDFS("R");
+			Assert.assertTrue(heavyHittersContainsSubString("spoof"));
+			Assert.assertEquals(misses, Statistics.getCodegenClassCacheHits());
+			Assert.assertEquals(0, Statistics.getCodegenClassCacheMisses());
+			TestUtils.compareMatrices(R1, R2, eps, "Stat-DML1", "Stat-DML2");
+		}
+		finally {
+			LocalFileUtils.deleteFileIfExists(CACHE_DIR);
+			CodegenClassCache.configure(null, 0);
+		}
+	}
+	
+	@Test
+	public void testCodegenClassCacheEviction() {
+		CompilerType compilerOld = SpoofCompiler.JAVA_COMPILER;
+		LocalFileUtils.deleteFileIfExists(CACHE_DIR);
+		try {
+			SpoofCompiler.JAVA_COMPILER = CompilerType.JAVAC;
+			CodegenClassCache.configure(CACHE_DIR, 1);
+			Assert.assertTrue(CodegenClassCache.isEnabled());
+			
+			//keys independent of the class and variable name sequence
+			String src1 = "public final class TMP7 extends X { public TMP7() {} int TMP71; }";
+			String src2 = "public final class TMP9 extends X { public TMP9() {} int TMP3; }";
+			String key = CodegenClassCache.getKey("codegen.TMP7", src1);
+			Assert.assertEquals(key, CodegenClassCache.getKey("codegen.TMP9", src2));
+			Assert.assertNotEquals(key, CodegenClassCache.getKey("codegen.TMP7", src1+" "));
+			Assert.assertNotEquals(key, CodegenClassCache.getKey("codegen.TMP7", src1.replace("TMP71", "TMP7")));
+			String src3 = "public final class TMP7 extends X { int STMP12; int STMP4; }";
+			String src4 = "public final class TMP9 extends X { int STMP5; int STMP13; }";
+			Assert.assertEquals(CodegenClassCache.getKey("codegen.TMP7", src3), 
+				CodegenClassCache.getKey("codegen.TMP9", src4));
+			String pname = CodegenClassCache.getClassName("codegen.TMP7", key);
+			Assert.assertEquals("codegen."+CodegenClassCache.CLASS_PREFIX+key, pname);
+			Assert.assertTrue(CodegenClassCache.renameClass(src1, "codegen.TMP7", pname)
+				.contains("class "+CodegenClassCache.CLASS_PREFIX+key+" extends X { public "
+				+ CodegenClassCache.CLASS_PREFIX+key+"() {} int TMP71;"));
+			
+			//put entries until the max size of 1MB is exceeded
+			byte[] data = new byte[400 * 1024];
+			for( int i=0; i<3; i++ ) {
+				data[0] = (byte)i;
+				CodegenClassCache.put("key"+i, data);
+				new File(CACHE_DIR, "key"+i+".class").setLastModified(1000L * (i+1));
+			}
+			Assert.assertTrue(CodegenClassCache.getSize() <= 1024 * 1024);
+			Assert.assertNull(CodegenClassCache.get("key0"));
+			Assert.assertEquals(1, CodegenClassCache.get("key1")[0]);
+			Assert.assertEquals(2, CodegenClassCache.get("key2")[0]);
+			
+			//removal and clear
+			CodegenClassCache.remove("key1");
+			Assert.assertNull(CodegenClassCache.get("key1"));
+			CodegenClassCache.clear();
+			Assert.assertEquals(0, CodegenClassCache.getSize());
+		}
+		finally {
+			SpoofCompiler.JAVA_COMPILER = compilerOld;
+			LocalFileUtils.deleteFileIfExists(CACHE_DIR);
+			CodegenClassCache.configure(null, 0);
+		}
+	}
+	
+	@Override
+	protected File getConfigTemplateFile() {
+		// Instrumentation in this test's output log to show custom configuration file used for template.
+		File f = new File(SCRIPT_DIR + TEST_DIR, TEST_CONF);
+		System.out.println("This test case overrides default configuration with " + f.getPath());
+		return f;
+	}
+}
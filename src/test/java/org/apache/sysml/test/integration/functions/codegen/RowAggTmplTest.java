@@ -71,6 +71,7 @@ public class RowAggTmplTest extends AutomatedTestBase
 	private static final String TEST_NAME32 = TEST_NAME+"32"; //X[, 1] - rowSums(X)
 	private static final String TEST_NAME33 = TEST_NAME+"33"; //Kmeans, inner loop
 	private static final String TEST_NAME34 = TEST_NAME+"34"; //X / rowSums(X!=0)
+	private static final String TEST_NAME35 = TEST_NAME+"35"; //t(X) %*% ((abs(X)*3)*(X/2) + sqrt(abs(X))*X), ultra-sparse X
 	
 	private static final String TEST_DIR = "functions/codegen/";
 	private static final String TEST_CLASS_DIR = TEST_DIR + RowAggTmplTest.class.getSimpleName() + "/";
@@ -82,7 +83,7 @@ public class RowAggTmplTest extends AutomatedTestBase
 	@Override
 	public void setUp() {
 		TestUtils.clearAssertionInformation();
-		for(int i=1; i<=34; i++)
+		for(int i=1; i<=35; i++)
 			addTestConfiguration( TEST_NAME+i, new TestConfiguration(TEST_CLASS_DIR, TEST_NAME+i, new String[] { String.valueOf(i) }) );
 	}
 	
@@ -596,6 +597,21 @@ public class RowAggTmplTest extends AutomatedTestBase
 		testCodegenIntegration( TEST_NAME34, false, ExecType.SPARK );
 	}
 	
+	@Test
+	public void testCodegenRowAggRewrite35CP() {
+		testCodegenIntegration( TEST_NAME35, true, ExecType.CP );
+	}
+	
+	@Test
+	public void testCodegenRowAgg35CP() {
+		testCodegenIntegration( TEST_NAME35, false, ExecType.CP );
+	}
+	
+	@Test
+	public void testCodegenRowAgg35SP() {
+		testCodegenIntegration( TEST_NAME35, false, ExecType.SPARK );
+	}
+	
 	private void testCodegenIntegration( String testname, boolean rewrites, ExecType instType )
 	{	
 		boolean oldFlag = OptimizerUtils.ALLOW_ALGEBRAIC_SIMPLIFICATION;
@@ -0,0 +1,241 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.sysml.test.integration.functions.compress;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.sysml.runtime.compress.BitmapEncoder;
+import org.apache.sysml.runtime.compress.CompressedMatrixBlock;
+import org.apache.sysml.runtime.compress.CompressedMatrixBlock.CompressionStatistics;
+import org.apache.sysml.runtime.compress.UncompressedBitmap;
+import org.apache.sysml.runtime.compress.cocode.ColumnGroupPartitionerBinPacking;
+import org.apache.sysml.runtime.compress.cocode.PlanningCoCoder;
+import org.apache.sysml.runtime.compress.estim.CompressedSizeEstimator;
+import org.apache.sysml.runtime.compress.estim.CompressedSizeInfo;
+import org.apache.sysml.runtime.compress.estim.SizeEstimatorFactory;
+import org.apache.sysml.runtime.matrix.data.LibMatrixReorg;
+import org.apache.sysml.runtime.matrix.data.MatrixBlock;
+import org.apache.sysml.runtime.util.DataConverter;
+import org.apache.sysml.test.integration.AutomatedTestBase;
+import org.apache.sysml.test.utils.TestUtils;
+import org.apache.sysml.utils.Statistics;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * This is a component test for compression planning (classification and
+ * co-coding) with different degrees of parallelism, per-phase timing, 
+ * and compression time budgets, incl deadlines hit during co-coding.
+ */
+public class ParCompressionPlanningTest extends AutomatedTestBase
+{
+	//large enough for multiple parallel tasks and mis-aligned
+	private static final int rows = 3 * BitmapEncoder.BITMAP_BLOCK_SZ + 7;
+	private static final int cols = 24;
+	private static final int distinct = 6; //columns w/ shared base values
+	private static final int delay = 10; //ms per co-coding candidate
+	private static final double cocodeBudget = 100; //ms
+	
+	@Override
+	public void setUp() {
+		TestUtils.clearAssertionInformation();
+	}
+	
+	@Test
+	public void testCompressionPlanningSingleThreaded() {
+		runCompressionPlanningTest(1, -1, false);
+	}
+	
+	@Test
+	public void testCompressionPlanningMultiThreaded() {
+		runCompressionPlanningTest(4, -1, false);
+	}
+	
+	@Test
+	public void testCompressionPlanningCocodeSingleThreaded() {
+		runCompressionPlanningTest(1, -1, true);
+	}
+	
+	@Test
+	public void testCompressionPlanningCocodeMultiThreaded() {
+		runCompressionPlanningTest(4, -1, true);
+	}
+	
+	@Test
+	public void testCompressionPlanningCocodeLargeBudget() {
+		runCompressionPlanningTest(4, 3600*1000, true);
+	}
+	
+	@Test
+	public void testCompressionPlanningCocodeExceededBudget() {
+		runCompressionPlanningTest(4, 1e-6, true);
+	}
+	
+	@Test
+	public void testCocodeDeadlineSingleThreaded() {
+		runCocodeDeadlineTest(1);
+	}
+	
+	@Test
+	public void testCocodeDeadlineMultiThreaded() {
+		runCocodeDeadlineTest(4);
+	}
+	
+	private static void runCompressionPlanningTest(int k, double budget, boolean cocode)
+	{
+		double capacity = ColumnGroupPartitionerBinPacking.BIN_CAPACITY;
+		try
+		{
+			//single bin of all columns (parallel candidate estimation)
+			if( cocode )
+				ColumnGroupPartitionerBinPacking.BIN_CAPACITY = 1.0;
+			
+			//generate input data w/ correlated columns for co-coding
+			MatrixBlock mb = createInput();
+			
+			//compress given matrix block
+			Statistics.reset();
+			CompressedMatrixBlock cmb = new CompressedMatrixBlock(mb);
+			MatrixBlock ret = cmb.compress(k, budget);
+			CompressionStatistics stats = cmb.getCompressionStatistics();
+			
+			//check compression decision and phase timing
+			Assert.assertEquals(1, Statistics.getCompressionCount());
+			Assert.assertTrue(stats.timePhase1 >= 0);
+			if( budget > 0 && budget < 1 ) {
+				Assert.assertFalse(ret instanceof CompressedMatrixBlock);
+				Assert.assertTrue(stats.aborted);
+				Assert.assertTrue(stats.isBudgetExceeded());
+				Assert.assertEquals(1, Statistics.getCompressionAborted());
+			}
+			else {
+				Assert.assertTrue(cmb.isCompressed());
+				Assert.assertFalse(stats.aborted);
+				if( cocode )
+					Assert.assertTrue(cmb.getNumColGroups() < cols);
+				for( double time : stats.getPhaseTimes() )
+					Assert.assertTrue(time >= 0);
+				Assert.assertEquals(0, Statistics.getCompressionAborted());
+			}
+			
+			//decompress and compare result with input
+			MatrixBlock tmp = (ret instanceof CompressedMatrixBlock) ?
+				((CompressedMatrixBlock)ret).decompress(k) : ret;
+			double[][] d1 = DataConverter.convertToDoubleMatrix(mb);
+			double[][] d2 = DataConverter.convertToDoubleMatrix(tmp);
+			TestUtils.compareMatrices(d1, d2, rows, cols, 0);
+		}
+		catch(Exception ex) {
+			throw new RuntimeException(ex);
+		}
+		finally {
+			ColumnGroupPartitionerBinPacking.BIN_CAPACITY = capacity;
+		}
+	}
+	
+	private static void runCocodeDeadlineTest(int k)
+	{
+		double capacity = ColumnGroupPartitionerBinPacking.BIN_CAPACITY;
+		try
+		{
+			//single bin of all columns (w/ parallel candidate estimation)
+			ColumnGroupPartitionerBinPacking.BIN_CAPACITY = 1.0;
+			
+			//create size estimator w/ slow estimates of merge candidates
+			MatrixBlock mb = createInput();
+			MatrixBlock raw = !CompressedMatrixBlock.TRANSPOSE_INPUT ? mb :
+				LibMatrixReorg.transpose(mb, new MatrixBlock(cols, rows, false));
+			CompressedSizeEstimator estim = SizeEstimatorFactory.getSizeEstimator(raw, rows);
+			List<Integer> colList = new ArrayList<>();
+			CompressedSizeInfo[] sizeInfos = new CompressedSizeInfo[cols];
+			for( int j=0; j<cols; j++ ) {
+				colList.add(j);
+				sizeInfos[j] = estim.estimateCompressedColGroupSize(new int[]{j});
+			}
+			SlowSizeEstimator sestim = new SlowSizeEstimator(raw, estim);
+			
+			//co-coding w/ deadline during the first greedy iteration
+			List<int[]> groups = PlanningCoCoder.findCocodesByPartitioning(
+				sestim, colList, sizeInfos, rows, k, cocodeBudget);
+			
+			//check early stop w/ at most one merge and valid groups
+			Assert.assertTrue(sestim.getCount() < cols*(cols-1)/2);
+			Assert.assertTrue(groups.size() >= cols-1);
+			boolean[] covered = new boolean[cols];
+			for( int[] group : groups )
+				for( int col : group ) {
+					Assert.assertFalse(covered[col]);
+					covered[col] = true;
+				}
+			for( int j=0; j<cols; j++ )
+				Assert.assertTrue(covered[j]);
+		}
+		catch(Exception ex) {
+			throw new RuntimeException(ex);
+		}
+		finally {
+			ColumnGroupPartitionerBinPacking.BIN_CAPACITY = capacity;
+		}
+	}
+	
+	private static MatrixBlock createInput() {
+		double[][] base = TestUtils.round(TestUtils
+			.generateTestMatrix(rows, distinct, 1, 10, 1.0, 7));
+		double[][] input = new double[rows][cols];
+		for( int i=0; i<rows; i++ )
+			for( int j=0; j<cols; j++ )
+				input[i][j] = base[i][j % distinct] + (j / distinct);
+		return DataConverter.convertToMatrixBlock(input);
+	}
+	
+	private static class SlowSizeEstimator extends CompressedSizeEstimator
+	{
+		private final CompressedSizeEstimator _estim;
+		private final AtomicInteger _count = new AtomicInteger(0);
+		
+		public SlowSizeEstimator(MatrixBlock data, CompressedSizeEstimator estim) {
+			super(data);
+			_estim = estim;
+		}
+		
+		public int getCount() {
+			return _count.get();
+		}
+		
+		@Override
+		public CompressedSizeInfo estimateCompressedColGroupSize(int[] colIndexes) {
+			_count.incrementAndGet();
+			try {
+				Thread.sleep(delay);
+			}
+			catch(InterruptedException ex) {
+				throw new RuntimeException(ex);
+			}
+			return _estim.estimateCompressedColGroupSize(colIndexes);
+		}
+		
+		@Override
+		public CompressedSizeInfo estimateCompressedColGroupSize(UncompressedBitmap ubm) {
+			return _estim.estimateCompressedColGroupSize(ubm);
+		}
+	}
+}
@@ -0,0 +1,237 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.sysml.test.integration.functions.dense;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.apache.sysml.runtime.controlprogram.parfor.stat.InfrastructureAnalyzer;
+import org.apache.sysml.runtime.functionobjects.Multiply;
+import org.apache.sysml.runtime.functionobjects.Plus;
+import org.apache.sysml.runtime.matrix.data.ConvolutionParameters;
+import org.apache.sysml.runtime.matrix.data.DenseBlock;
+import org.apache.sysml.runtime.matrix.data.DenseBlockFactory;
+import org.apache.sysml.runtime.matrix.data.LibMatrixDNN;
+import org.apache.sysml.runtime.matrix.data.MatrixBlock;
+import org.apache.sysml.runtime.matrix.operators.AggregateBinaryOperator;
+import org.apache.sysml.runtime.matrix.operators.AggregateOperator;
+import org.apache.sysml.runtime.matrix.operators.BinaryOperator;
+import org.apache.sysml.runtime.matrix.operators.RightScalarOperator;
+import org.apache.sysml.runtime.util.DataConverter;
+import org.apache.sysml.test.integration.AutomatedTestBase;
+import org.apache.sysml.test.utils.TestUtils;
+
+/**
+ * This is a dense matrix block component test for single-precision dense
+ * blocks, which compares the float kernels and conversions against the
+ * results over double-precision dense blocks.
+ */
+public class DenseBlockFP32Test extends AutomatedTestBase
+{
+	private final static int rows = 1100;
+	private final static int cols = 1000;
+	private final static double sparsity = 0.7;
+	private final static double eps = 1e-3;
+
+	private enum OpType {
+		MM, //matrix-matrix multiply
+		VM, //vector-matrix multiply
+		BINARY, //matrix-matrix plus
+		SCALAR, //matrix-scalar multiply
+		SERIALIZE,
+		CONV2D, //conv2d w/ bias
+	}
+
+	@Override
+	public void setUp() {
+		TestUtils.clearAssertionInformation();
+	}
+
+	@Test
+	public void testDenseBlockGetSet() {
+		DenseBlock db = DenseBlockFactory.createDenseBlock(DenseBlock.Type.FP32, 37, 53);
+		double[][] A = getRandomMatrix(37, 53, -1, 1, sparsity, 7);
+		for( int i=0; i<37; i++ ) {
+			for( int j=0; j<53; j++ )
+				A[i][j] = (float) A[i][j];
+			db.set(i, A[i]);
+		}
+		Assert.assertFalse(db.hasDoubleArrays());
+		Assert.assertEquals(DenseBlock.Type.FP32, DenseBlockFactory.getDenseBlockType(db));
+		long nnz = 0;
+		for( int i=0; i<37; i++ )
+			for( int j=0; j<53; j++ )
+				nnz += (A[i][j] != 0) ? 1 : 0;
+		Assert.assertEquals(nnz, db.countNonZeros());
+
+		//index range copies into and from heap vectors and heap dense blocks
+		double[] tmp = new double[10*20];
+		db.get(5, 15, 3, 23, tmp, 0);
+		DenseBlock db2 = DenseBlockFactory.createDenseBlock(DenseBlock.Type.DRB, 37, 53);
+		db2.set(db);
+		for( int i=0; i<37; i++ )
+			for( int j=0; j<53; j++ ) {
+				Assert.assertEquals(A[i][j], db.get(i, j), 0);
+				Assert.assertEquals(A[i][j], db2.get(i, j), 0);
+				if( i>=5 && i<15 && j>=3 && j<23 )
+					Assert.assertEquals(A[i][j], tmp[(i-5)*20+j-3], 0);
+			}
+		db.set(5, 15, 3, 23, 0);
+		Assert.assertEquals(0, db.countNonZeros(5, 15, 3, 23));
+	}
+
+	@Test
+	public void testFP32MatrixMult() {
+		runFP32Test(OpType.MM, 1);
+	}
+
+	@Test
+	public void testFP32MatrixMultPar() {
+		runFP32Test(OpType.MM, InfrastructureAnalyzer.getLocalParallelism());
+	}
+
+	@Test
+	public void testFP32VectorMatrixMultPar() {
+		runFP32Test(OpType.VM, InfrastructureAnalyzer.getLocalParallelism());
+	}
+
+	@Test
+	public void testFP32Binary() {
+		runFP32Test(OpType.BINARY, 1);
+	}
+
+	@Test
+	public void testFP32Scalar() {
+		runFP32Test(OpType.SCALAR, 1);
+	}
+
+	@Test
+	public void testFP32Serialize() {
+		runFP32Test(OpType.SERIALIZE, 1);
+	}
+
+	@Test
+	public void testFP32Conv2d() {
+		runFP32Test(OpType.CONV2D, 1);
+	}
+
+	@Test
+	public void testFP32Conv2dPar() {
+		runFP32Test(OpType.CONV2D, InfrastructureAnalyzer.getLocalParallelism());
+	}
+
+	private void runFP32Test(OpType type, int k)
+	{
+		try
+		{
+			double[][] A = getRandomMatrix(rows, cols, -1, 1, sparsity, 7);
+			double[][] B = getRandomMatrix(rows, cols, -1, 1, sparsity, 3);
+			double[][] C = getRandomMatrix(cols, 20, -1, 1, sparsity, 4);
+			double[][] v = getRandomMatrix(1, rows, -1, 1, 1.0, 5);
+			//conv2d: N=rows/100 images of C=10 channels of 10x10, K=8 filters of 3x3
+			double[][] I = getRandomMatrix(rows/100, 1000, -1, 1, 1.0, 11);
+			double[][] F = getRandomMatrix(8, 90, -1, 1, 1.0, 12);
+			double[][] b = getRandomMatrix(8, 1, -1, 1, 1.0, 13);
+
+			//compute results over double- and single-precision dense blocks
+			MatrixBlock[] in1 = createInputs(false, A, B, C, v, I, F, b);
+			MatrixBlock ret1 = executeOperation(type, in1, k);
+			DenseBlockFactory.setSinglePrecision(true);
+			MatrixBlock[] in2 = createInputs(true, A, B, C, v, I, F, b);
+			MatrixBlock ret2 = executeOperation(type, in2, k);
+
+			//check that the single-precision inputs were not materialized as
+			//double blocks, and single-precision outputs of the float kernels
+			for( MatrixBlock in : in2 )
+				Assert.assertTrue(DenseBlockFactory.isDenseBlockType(in.getDenseBlock(), DenseBlock.Type.FP32));
+			if( type == OpType.MM || type == OpType.BINARY || type == OpType.SCALAR || type == OpType.CONV2D )
+				Assert.assertTrue(DenseBlockFactory.isDenseBlockType(ret2.getDenseBlock(), DenseBlock.Type.FP32));
+
+			//compare results (w/ tolerance for float rounding errors)
+			if( type != OpType.MM && type != OpType.CONV2D )
+				Assert.assertEquals(ret1.getNonZeros(), ret2.getNonZeros());
+			TestUtils.compareMatrices(DataConverter.convertToDoubleMatrix(ret1),
+				DataConverter.convertToDoubleMatrix(ret2), ret1.getNumRows(), ret1.getNumColumns(), eps);
+		}
+		catch(Exception ex) {
+			throw new RuntimeException(ex);
+		}
+		finally {
+			DenseBlockFactory.setSinglePrecision(false);
+		}
+	}
+
+	private static MatrixBlock[] createInputs(boolean fp32, double[][]... inputs) {
+		MatrixBlock[] ret = new MatrixBlock[inputs.length];
+		for( int i=0; i<inputs.length; i++ ) {
+			ret[i] = DataConverter.convertToMatrixBlock(inputs[i]);
+			if( fp32 ) {
+				DenseBlock db = DenseBlockFactory.createDenseBlock(DenseBlock.Type.FP32,
+					ret[i].getNumRows(), ret[i].getNumColumns());
+				db.set(ret[i].getDenseBlock());
+				ret[i] = new MatrixBlock(ret[i].getNumRows(), ret[i].getNumColumns(), ret[i].getNonZeros(), db);
+			}
+		}
+		return ret;
+	}
+
+	private static MatrixBlock executeOperation(OpType type, MatrixBlock[] in, int k)
+		throws Exception
+	{
+		MatrixBlock mbA = in[0];
+		AggregateBinaryOperator abop = new AggregateBinaryOperator(Multiply.getMultiplyFnObject(),
+			new AggregateOperator(0, Plus.getPlusFnObject()), k);
+		switch( type ) {
+			case MM:
+				return (MatrixBlock) mbA.aggregateBinaryOperations(mbA, in[2], new MatrixBlock(), abop);
+			case VM:
+				return (MatrixBlock) in[3].aggregateBinaryOperations(in[3], mbA, new MatrixBlock(), abop);
+			case BINARY:
+				return (MatrixBlock) mbA.binaryOperations(new BinaryOperator(Plus.getPlusFnObject()),
+					in[1], new MatrixBlock());
+			case SCALAR:
+				return (MatrixBlock) mbA.scalarOperations(
+					new RightScalarOperator(Multiply.getMultiplyFnObject(), 7), new MatrixBlock());
+			case SERIALIZE: {
+				ByteArrayOutputStream bos = new ByteArrayOutputStream();
+				mbA.write(new DataOutputStream(bos));
+				MatrixBlock ret = new MatrixBlock();
+				ret.readFields(new DataInputStream(new ByteArrayInputStream(bos.toByteArray())));
+				return ret;
+			}
+			case CONV2D: {
+				//output allocated as in the conv2d instruction (configured type)
+				ConvolutionParameters params = new ConvolutionParameters(
+					rows/100, 10, 10, 10, 8, 3, 3, 1, 1, 1, 1, k);
+				params.bias = in[6];
+				MatrixBlock ret = new MatrixBlock(params.N, params.K*params.P*params.Q, false);
+				ret.allocateConfiguredDenseBlock(true);
+				LibMatrixDNN.conv2d(in[4], in[5], ret, params);
+				return ret;
+			}
+			default:
+				throw new RuntimeException("Unsupported operation type: "+type);
+		}
+	}
+}
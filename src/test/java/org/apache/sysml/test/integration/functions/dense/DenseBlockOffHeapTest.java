@@ -0,0 +1,249 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.sysml.test.integration.functions.dense;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.apache.sysml.parser.Expression.ValueType;
+import org.apache.sysml.runtime.controlprogram.caching.MatrixObject;
+import org.apache.sysml.runtime.controlprogram.parfor.stat.InfrastructureAnalyzer;
+import org.apache.sysml.runtime.functionobjects.Multiply;
+import org.apache.sysml.runtime.functionobjects.Plus;
+import org.apache.sysml.runtime.matrix.MatrixCharacteristics;
+import org.apache.sysml.runtime.matrix.MetaDataFormat;
+import org.apache.sysml.runtime.matrix.data.DenseBlock;
+import org.apache.sysml.runtime.matrix.data.DenseBlockFactory;
+import org.apache.sysml.runtime.matrix.data.InputInfo;
+import org.apache.sysml.runtime.matrix.data.MatrixBlock;
+import org.apache.sysml.runtime.matrix.data.OutputInfo;
+import org.apache.sysml.runtime.matrix.operators.AggregateBinaryOperator;
+import org.apache.sysml.runtime.matrix.operators.AggregateOperator;
+import org.apache.sysml.runtime.matrix.operators.BinaryOperator;
+import org.apache.sysml.runtime.matrix.operators.RightScalarOperator;
+import org.apache.sysml.runtime.util.DataConverter;
+import org.apache.sysml.test.integration.AutomatedTestBase;
+import org.apache.sysml.test.utils.TestUtils;
+
+/**
+ * This is a dense matrix block component test for off-heap dense blocks,
+ * which compares the off-heap-aware kernels and conversions against the
+ * results over heap dense blocks.
+ */
+public class DenseBlockOffHeapTest extends AutomatedTestBase
+{
+	private final static int rows = 1100;
+	private final static int cols = 1000;
+	private final static double sparsity = 0.7;
+	private final static double eps = 1e-10;
+
+	private enum OpType {
+		MM, //matrix-matrix multiply
+		VM, //vector-matrix multiply
+		BINARY, //matrix-matrix plus
+		BINARY_MV, //matrix-colvector multiply
+		SCALAR, //matrix-scalar multiply
+		SERIALIZE,
+	}
+
+	@Override
+	public void setUp() {
+		TestUtils.clearAssertionInformation();
+	}
+
+	@Test
+	public void testDenseBlockGetSet() {
+		DenseBlock db = DenseBlockFactory.createDenseBlock(DenseBlock.Type.OFFHEAP, 37, 53);
+		double[][] A = getRandomMatrix(37, 53, -1, 1, sparsity, 7);
+		for( int i=0; i<37; i++ )
+			db.set(i, A[i]);
+		Assert.assertTrue(db.isOffHeap());
+		Assert.assertEquals(DenseBlock.Type.OFFHEAP, DenseBlockFactory.getDenseBlockType(db));
+		long nnz = 0;
+		for( int i=0; i<37; i++ )
+			for( int j=0; j<53; j++ )
+				nnz += (A[i][j] != 0) ? 1 : 0;
+		Assert.assertEquals(nnz, db.countNonZeros());
+
+		//index range copies into and from heap vectors and heap dense blocks
+		double[] tmp = new double[10*20];
+		db.get(5, 15, 3, 23, tmp, 0);
+		DenseBlock db2 = DenseBlockFactory.createDenseBlock(DenseBlock.Type.DRB, 37, 53);
+		db2.set(db);
+		for( int i=0; i<37; i++ )
+			for( int j=0; j<53; j++ ) {
+				Assert.assertEquals(A[i][j], db.get(i, j), 0);
+				Assert.assertEquals(A[i][j], db2.get(i, j), 0);
+				if( i>=5 && i<15 && j>=3 && j<23 )
+					Assert.assertEquals(A[i][j], tmp[(i-5)*20+j-3], 0);
+			}
+		db.set(5, 15, 3, 23, 0);
+		Assert.assertEquals(0, db.countNonZeros(5, 15, 3, 23));
+	}
+
+	@Test
+	public void testOffHeapMatrixMult() {
+		runOffHeapTest(OpType.MM, 1);
+	}
+
+	@Test
+	public void testOffHeapMatrixMultPar() {
+		runOffHeapTest(OpType.MM, InfrastructureAnalyzer.getLocalParallelism());
+	}
+
+	@Test
+	public void testOffHeapVectorMatrixMultPar() {
+		runOffHeapTest(OpType.VM, InfrastructureAnalyzer.getLocalParallelism());
+	}
+
+	@Test
+	public void testOffHeapBinary() {
+		runOffHeapTest(OpType.BINARY, 1);
+	}
+
+	@Test
+	public void testOffHeapBinaryMV() {
+		runOffHeapTest(OpType.BINARY_MV, 1);
+	}
+
+	@Test
+	public void testOffHeapScalar() {
+		runOffHeapTest(OpType.SCALAR, 1);
+	}
+
+	@Test
+	public void testOffHeapSerialize() {
+		runOffHeapTest(OpType.SERIALIZE, 1);
+	}
+
+	@Test
+	public void testOffHeapBufferPoolRead() throws Exception {
+		double[][] A = getRandomMatrix(rows, cols, -1, 1, sparsity, 7);
+		MatrixBlock in = createInputs(true, A)[0];
+		MatrixObject mo = new MatrixObject(ValueType.DOUBLE, "./tmp/A", new MetaDataFormat(
+			new MatrixCharacteristics(rows, cols, 1000, 1000),
+			OutputInfo.BinaryBlockOutputInfo, InputInfo.BinaryBlockInputInfo));
+		mo.acquireModify(in);
+		mo.release();
+		
+		//aware readers obtain the off-heap block as is
+		Assert.assertSame(in, mo.acquireReadAnyDense());
+		mo.release();
+		
+		//other readers obtain a heap block, which is converted only once
+		MatrixBlock mb1 = mo.acquireRead();
+		mo.release();
+		MatrixBlock mb2 = mo.acquireRead();
+		mo.release();
+		Assert.assertTrue(mb1.getDenseBlock().hasDoubleArrays());
+		Assert.assertSame(mb1, mb2);
+		Assert.assertSame(mb1, mo.acquireReadAnyDense());
+		mo.release();
+		Assert.assertTrue(in.getDenseBlock().isOffHeap());
+		TestUtils.compareMatrices(A, DataConverter.convertToDoubleMatrix(mb1), rows, cols, 0);
+	}
+
+	private void runOffHeapTest(OpType type, int k)
+	{
+		try
+		{
+			double[][] A = getRandomMatrix(rows, cols, -1, 1, sparsity, 7);
+			double[][] B = getRandomMatrix(rows, cols, -1, 1, sparsity, 3);
+			double[][] C = getRandomMatrix(cols, 20, -1, 1, sparsity, 4);
+			double[][] v = getRandomMatrix(1, rows, -1, 1, 1.0, 5);
+			double[][] w = getRandomMatrix(rows, 1, -1, 1, 1.0, 6);
+
+			//compute results over heap and off-heap dense blocks
+			MatrixBlock[] in1 = createInputs(false, A, B, C, v, w);
+			MatrixBlock ret1 = executeOperation(type, in1, k);
+			DenseBlockFactory.setOffHeap(true);
+			MatrixBlock[] in2 = createInputs(true, A, B, C, v, w);
+			MatrixBlock ret2 = executeOperation(type, in2, k);
+
+			//check that the off-heap inputs were not materialized on heap
+			for( MatrixBlock in : in2 )
+				Assert.assertTrue(in.getDenseBlock().isOffHeap());
+			//check for off-heap outputs of aware kernels (above min size)
+			if( type == OpType.BINARY || type == OpType.BINARY_MV || type == OpType.SCALAR )
+				Assert.assertTrue(ret2.getDenseBlock().isOffHeap());
+
+			//compare results
+			Assert.assertEquals(ret1.getNonZeros(), ret2.getNonZeros());
+			TestUtils.compareMatrices(DataConverter.convertToDoubleMatrix(ret1),
+				DataConverter.convertToDoubleMatrix(ret2), ret1.getNumRows(), ret1.getNumColumns(), eps);
+		}
+		catch(Exception ex) {
+			throw new RuntimeException(ex);
+		}
+		finally {
+			DenseBlockFactory.setOffHeap(false);
+		}
+	}
+
+	private static MatrixBlock[] createInputs(boolean offHeap, double[][]... inputs) {
+		MatrixBlock[] ret = new MatrixBlock[inputs.length];
+		for( int i=0; i<inputs.length; i++ ) {
+			ret[i] = DataConverter.convertToMatrixBlock(inputs[i]);
+			if( offHeap ) {
+				DenseBlock db = DenseBlockFactory.createDenseBlock(DenseBlock.Type.OFFHEAP,
+					ret[i].getNumRows(), ret[i].getNumColumns());
+				db.set(ret[i].getDenseBlock());
+				ret[i] = new MatrixBlock(ret[i].getNumRows(), ret[i].getNumColumns(), ret[i].getNonZeros(), db);
+			}
+		}
+		return ret;
+	}
+
+	private static MatrixBlock executeOperation(OpType type, MatrixBlock[] in, int k)
+		throws Exception
+	{
+		MatrixBlock mbA = in[0];
+		AggregateBinaryOperator abop = new AggregateBinaryOperator(Multiply.getMultiplyFnObject(),
+			new AggregateOperator(0, Plus.getPlusFnObject()), k);
+		switch( type ) {
+			case MM:
+				return (MatrixBlock) mbA.aggregateBinaryOperations(mbA, in[2], new MatrixBlock(), abop);
+			case VM:
+				return (MatrixBlock) in[3].aggregateBinaryOperations(in[3], mbA, new MatrixBlock(), abop);
+			case BINARY:
+				return (MatrixBlock) mbA.binaryOperations(new BinaryOperator(Plus.getPlusFnObject()),
+					in[1], new MatrixBlock());
+			case BINARY_MV:
+				return (MatrixBlock) mbA.binaryOperations(new BinaryOperator(Multiply.getMultiplyFnObject()),
+					in[4], new MatrixBlock());
+			case SCALAR:
+				return (MatrixBlock) mbA.scalarOperations(
+					new RightScalarOperator(Multiply.getMultiplyFnObject(), 7), new MatrixBlock());
+			case SERIALIZE: {
+				ByteArrayOutputStream bos = new ByteArrayOutputStream();
+				mbA.write(new DataOutputStream(bos));
+				MatrixBlock ret = new MatrixBlock();
+				ret.readFields(new DataInputStream(new ByteArrayInputStream(bos.toByteArray())));
+				return ret;
+			}
+			default:
+				throw new RuntimeException("Unsupported operation type: "+type);
+		}
+	}
+}
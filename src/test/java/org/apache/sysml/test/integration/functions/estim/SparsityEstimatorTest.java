@@ -0,0 +1,256 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.sysml.test.integration.functions.estim;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.apache.sysml.hops.OptimizerUtils;
+import org.apache.sysml.hops.estim.MMNode;
+import org.apache.sysml.hops.estim.SparsityEstimator;
+import org.apache.sysml.hops.estim.SparsityEstimator.EstimatorType;
+import org.apache.sysml.runtime.matrix.MatrixCharacteristics;
+import org.apache.sysml.runtime.matrix.data.DenseBlock;
+import org.apache.sysml.runtime.matrix.data.DenseBlockFactory;
+import org.apache.sysml.runtime.matrix.data.LibMatrixMult;
+import org.apache.sysml.runtime.matrix.data.MatrixBlock;
+import org.apache.sysml.test.integration.AutomatedTestBase;
+import org.apache.sysml.test.utils.TestUtils;
+
+/**
+ * This is a component test for the sparsity estimators of matrix products,
+ * which compares the estimates against the actual number of non-zeros for 
+ * uniformly distributed, selection, and skewed (power-law-like) inputs. 
+ */
+public class SparsityEstimatorTest extends AutomatedTestBase 
+{
+	private final static int m = 1000;
+	private final static int k = 1000;
+	private final static int n = 1000;
+	private final static double sparsity1 = 0.01;
+	private final static double sparsity2 = 0.001;
+	private final static double tol = 0.1; //relative error
+	
+	@Override
+	public void setUp() {
+		TestUtils.clearAssertionInformation();
+	}
+	
+	@Test
+	public void testUniformBasicAvg() {
+		runSparsityEstimateTest(EstimatorType.BASIC_AVG, 1);
+	}
+	
+	@Test
+	public void testUniformBitset() {
+		runSparsityEstimateTest(EstimatorType.BITSET, 1);
+	}
+	
+	@Test
+	public void testUniformDensityMap() {
+		runSparsityEstimateTest(EstimatorType.DENSITY_MAP, 1);
+	}
+	
+	@Test
+	public void testUniformMatrixHistogram() {
+		runSparsityEstimateTest(EstimatorType.MATRIX_HISTOGRAM, 1);
+	}
+	
+	@Test
+	public void testSelectionBitset() {
+		runSparsityEstimateTest(EstimatorType.BITSET, 2);
+	}
+	
+	@Test
+	public void testSelectionMatrixHistogram() {
+		runSparsityEstimateTest(EstimatorType.MATRIX_HISTOGRAM, 2);
+	}
+	
+	@Test
+	public void testSkewedBitset() {
+		runSparsityEstimateTest(EstimatorType.BITSET, 3);
+	}
+	
+	@Test
+	public void testSkewedMatrixHistogram() {
+		runSparsityEstimateTest(EstimatorType.MATRIX_HISTOGRAM, 3);
+	}
+	
+	@Test
+	public void testChainBitset() {
+		runSparsityEstimateChainTest(EstimatorType.BITSET);
+	}
+	
+	@Test
+	public void testChainDensityMap() {
+		runSparsityEstimateChainTest(EstimatorType.DENSITY_MAP);
+	}
+	
+	@Test
+	public void testChainMatrixHistogram() {
+		runSparsityEstimateChainTest(EstimatorType.MATRIX_HISTOGRAM);
+	}
+	
+	@Test
+	public void testOffHeapBitset() {
+		runSparsityEstimateOffHeapTest(EstimatorType.BITSET);
+	}
+	
+	@Test
+	public void testOffHeapDensityMap() {
+		runSparsityEstimateOffHeapTest(EstimatorType.DENSITY_MAP);
+	}
+	
+	@Test
+	public void testOffHeapMatrixHistogram() {
+		runSparsityEstimateOffHeapTest(EstimatorType.MATRIX_HISTOGRAM);
+	}
+	
+	@Test
+	public void testMetadataFallback() {
+		MatrixCharacteristics mc1 = new MatrixCharacteristics(m, k, -1, -1, (long)(sparsity1*m*k));
+		MatrixCharacteristics mc2 = new MatrixCharacteristics(k, n, -1, -1, (long)(sparsity1*k*n));
+		double expected = OptimizerUtils.getMatMultSparsity(sparsity1, sparsity1, m, k, n, false);
+		for( EstimatorType type : EstimatorType.values() ) {
+			if( type == EstimatorType.BASIC_WORST ) continue;
+			double est = SparsityEstimator.createEstimator(type).estim(mc1, mc2);
+			Assert.assertEquals("Wrong fallback estimate for "+type, expected, est, 1e-10);
+		}
+	}
+	
+	/**
+	 * @param type sparsity estimator
+	 * @param scenario 1: uniform, 2: selection matrix, 3: skewed (dense column/row)
+	 */
+	private void runSparsityEstimateTest(EstimatorType type, int scenario)
+	{
+		try
+		{
+			MatrixBlock A = null, B = null;
+			switch( scenario ) {
+				case 1:
+					A = MatrixBlock.randOperations(m, k, sparsity1, 1, 2, "uniform", 7);
+					B = MatrixBlock.randOperations(k, n, sparsity1, 1, 2, "uniform", 3);
+					break;
+				case 2:
+					//selection of 10 distinct rows (one non-zero per row)
+					A = new MatrixBlock(m, k, true);
+					for( int i=0; i<m; i++ )
+						A.quickSetValue(i, i%10, 1);
+					B = MatrixBlock.randOperations(k, n, sparsity1, 1, 2, "uniform", 3);
+					break;
+				case 3:
+					//outer product of dense column and dense row
+					A = MatrixBlock.randOperations(m, k, sparsity2, 1, 2, "uniform", 7);
+					B = MatrixBlock.randOperations(k, n, sparsity2, 1, 2, "uniform", 3);
+					for( int i=0; i<m; i++ )
+						A.quickSetValue(i, 0, 1);
+					for( int j=0; j<n; j++ )
+						B.quickSetValue(0, j, 1);
+					break;
+			}
+		
+			//compute estimate and actual output sparsity
+			double est = SparsityEstimator.createEstimator(type).estim(A, B);
+			MatrixBlock C = new MatrixBlock(m, n, false);
+			LibMatrixMult.matrixMult(A, B, C);
+			double actual = OptimizerUtils.getSparsity(m, n, C.getNonZeros());
+		
+			//exact estimators, or exact for selection matrices
+			if( type == EstimatorType.BITSET || (type == EstimatorType.MATRIX_HISTOGRAM && scenario==2) )
+				Assert.assertEquals(C.getNonZeros(), Math.round(est * m * n));
+			else
+				Assert.assertEquals(actual, est, actual * tol);
+		
+			//the metadata-based estimate badly underestimates skewed products
+			if( scenario == 3 ) {
+				double avg = SparsityEstimator.createEstimator(EstimatorType.BASIC_AVG).estim(A, B);
+				Assert.assertTrue(Math.abs(est - actual) < Math.abs(avg - actual));
+			}
+		}
+		catch(Exception ex) {
+			throw new RuntimeException(ex);
+		}
+	}
+	
+	private void runSparsityEstimateChainTest(EstimatorType type)
+	{
+		try
+		{
+			MatrixBlock A = MatrixBlock.randOperations(m, k, sparsity1, 1, 2, "uniform", 7);
+			MatrixBlock B = MatrixBlock.randOperations(k, n, sparsity1, 1, 2, "uniform", 3);
+			MatrixBlock C = MatrixBlock.randOperations(n, m, sparsity2, 1, 2, "uniform", 5);
+		
+			//estimate (A %*% B) %*% C
+			MMNode root = new MMNode(new MMNode(new MMNode(A), new MMNode(B)), new MMNode(C));
+			double est = SparsityEstimator.createEstimator(type).estim(root);
+		
+			//actual output sparsity
+			MatrixBlock AB = new MatrixBlock(m, n, false);
+			LibMatrixMult.matrixMult(A, B, AB);
+			MatrixBlock ABC = new MatrixBlock(m, m, false);
+			LibMatrixMult.matrixMult(AB, C, ABC);
+			double actual = OptimizerUtils.getSparsity(m, m, ABC.getNonZeros());
+		
+			if( type == EstimatorType.BITSET )
+				Assert.assertEquals(ABC.getNonZeros(), Math.round(est * m * m));
+			else
+				Assert.assertEquals(actual, est, actual * tol);
+			Assert.assertEquals((long)Math.ceil(est * m * m), root.getMatrixCharacteristics().getNonZeros());
+		}
+		catch(Exception ex) {
+			throw new RuntimeException(ex);
+		}
+	}
+	
+	private void runSparsityEstimateOffHeapTest(EstimatorType type)
+	{
+		try
+		{
+			//dense inputs with zeros (in heap dense format)
+			MatrixBlock A = MatrixBlock.randOperations(m, k, sparsity1, 1, 2, "uniform", 7);
+			MatrixBlock B = MatrixBlock.randOperations(k, n, sparsity1, 1, 2, "uniform", 3);
+			A.sparseToDense();
+			B.sparseToDense();
+			double est1 = SparsityEstimator.createEstimator(type).estim(A, B);
+			
+			//equal estimate over off-heap dense blocks
+			DenseBlockFactory.setOffHeap(true);
+			MatrixBlock A2 = createOffHeapBlock(A);
+			MatrixBlock B2 = createOffHeapBlock(B);
+			double est2 = SparsityEstimator.createEstimator(type).estim(A2, B2);
+			Assert.assertTrue(A2.getDenseBlock().isOffHeap());
+			Assert.assertTrue(B2.getDenseBlock().isOffHeap());
+			Assert.assertEquals(est1, est2, 0);
+		}
+		catch(Exception ex) {
+			throw new RuntimeException(ex);
+		}
+		finally {
+			DenseBlockFactory.setOffHeap(false);
+		}
+	}
+	
+	private static MatrixBlock createOffHeapBlock(MatrixBlock in) {
+		DenseBlock db = DenseBlockFactory.createDenseBlock(DenseBlock.Type.OFFHEAP,
+			in.getNumRows(), in.getNumColumns());
+		db.set(in.getDenseBlock());
+		return new MatrixBlock(in.getNumRows(), in.getNumColumns(), in.getNonZeros(), db);
+	}
+}
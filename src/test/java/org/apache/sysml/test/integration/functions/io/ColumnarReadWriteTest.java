@@ -0,0 +1,233 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.apache.sysml.test.integration.functions.io;
+
+import java.io.FileInputStream;
+import java.io.InputStream;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.apache.sysml.parser.Expression.ValueType;
+import org.apache.sysml.runtime.io.IOUtilFunctions;
+import org.apache.sysml.runtime.io.ReaderColumnar;
+import org.apache.sysml.runtime.io.WriterColumnar;
+import org.apache.sysml.runtime.io.WriterColumnar.ColumnChunk;
+import org.apache.sysml.runtime.matrix.MatrixCharacteristics;
+import org.apache.sysml.runtime.matrix.data.ColumnarFileFormatProperties;
+import org.apache.sysml.runtime.matrix.data.InputInfo;
+import org.apache.sysml.runtime.matrix.data.MatrixBlock;
+import org.apache.sysml.runtime.matrix.data.OutputInfo;
+import org.apache.sysml.runtime.util.DataConverter;
+import org.apache.sysml.runtime.util.MapReduceTool;
+import org.apache.sysml.test.integration.AutomatedTestBase;
+import org.apache.sysml.test.integration.TestConfiguration;
+import org.apache.sysml.test.utils.TestUtils;
+import org.apache.sysml.utils.Statistics;
+
+/**
+ * This is a test for the columnar binary format, which compares full and
+ * column-projected reads (from files and input streams) against the original
+ * data and slices thereof, and checks the pushdown of right indexing into 
+ * columnar reads, i.e., that only the overlapping column chunks are read.
+ */
+public class ColumnarReadWriteTest extends AutomatedTestBase
+{
+	private final static String TEST_NAME1 = "ColumnarWrite";
+	private final static String TEST_NAME2 = "ColumnarProject";
+	private final static String TEST_DIR = "functions/io/";
+	private final static String TEST_CLASS_DIR = TEST_DIR + ColumnarReadWriteTest.class.getSimpleName() + "/";
+	
+	private final static int rows = 1234;
+	private final static int cols = 1500;
+	private final static double sparsity1 = 0.7;
+	private final static double sparsity2 = 0.01;
+	
+	@Override
+	public void setUp() {
+		TestUtils.clearAssertionInformation();
+		addTestConfiguration(TEST_NAME1, new TestConfiguration(TEST_CLASS_DIR, TEST_NAME1, new String[] { "C" }) );
+		addTestConfiguration(TEST_NAME2, new TestConfiguration(TEST_CLASS_DIR, TEST_NAME2, new String[] { "R" }) );
+	}
+	
+	@Test
+	public void testRoundtripDense() {
+		runColumnarReadTest(sparsity1, true, -1, -1, false);
+	}
+	
+	@Test
+	public void testRoundtripSparse() {
+		runColumnarReadTest(sparsity2, true, -1, -1, false);
+	}
+	
+	@Test
+	public void testRoundtripDenseUncompressed() {
+		runColumnarReadTest(sparsity1, false, -1, -1, false);
+	}
+	
+	@Test
+	public void testRoundtripSparseUncompressed() {
+		runColumnarReadTest(sparsity2, false, -1, -1, false);
+	}
+	
+	@Test
+	public void testProjectionDense() {
+		runColumnarReadTest(sparsity1, true, 7, 700, false);
+	}
+	
+	@Test
+	public void testProjectionSparse() {
+		runColumnarReadTest(sparsity2, true, 7, 700, false);
+	}
+	
+	@Test
+	public void testProjectionSingleColumn() {
+		runColumnarReadTest(sparsity1, true, 1234, 1234, false);
+	}
+	
+	@Test
+	public void testRoundtripSparseStream() {
+		runColumnarReadTest(sparsity2, true, -1, -1, true);
+	}
+	
+	@Test
+	public void testProjectionDenseStream() {
+		runColumnarReadTest(sparsity1, true, 7, 700, true);
+	}
+	
+	@Test
+	public void testPushdownDense() {
+		runColumnarPushdownTest(sparsity1, 3, 17, 9, 215);
+	}
+	
+	@Test
+	public void testPushdownSparse() {
+		runColumnarPushdownTest(sparsity2, 3, 17, 9, 215);
+	}
+	
+	@Test
+	public void testPushdownEqualRanges() {
+		runColumnarPushdownTest(sparsity1, 101, 300, 101, 300);
+	}
+	
+	private void runColumnarReadTest(double sparsity, boolean compress, int cl, int cu, boolean stream) {
+		loadTestConfiguration(getTestConfiguration(TEST_NAME1));
+		String fname = output("A");
+		try {
+			MatrixBlock A = DataConverter.convertToMatrixBlock(
+				getRandomMatrix(rows, cols, -1, 1, sparsity, 7));
+			new WriterColumnar(new ColumnarFileFormatProperties(compress))
+				.writeMatrixToHDFS(A, fname, rows, cols, -1, -1, A.getNonZeros());
+			
+			//check chunk directory and stats
+			ColumnChunk[] chunks = ReaderColumnar.readColumnChunks(fname);
+			long nnz = 0;
+			for( int i=0; i<chunks.length; i++ ) {
+				ColumnChunk c = chunks[i];
+				Assert.assertEquals((i==0) ? 0 : chunks[i-1].cu, c.cl);
+				nnz += c.nnz;
+				MatrixBlock tmp = A.sliceOperations(0, rows-1, c.cl, c.cu-1, new MatrixBlock());
+				Assert.assertEquals(tmp.getNonZeros(), c.nnz);
+				Assert.assertEquals(tmp.min(), c.min, 0);
+				Assert.assertEquals(tmp.max(), c.max, 0);
+				Assert.assertTrue(compress || !c.compressed);
+			}
+			Assert.assertEquals(cols, chunks[chunks.length-1].cu);
+			Assert.assertEquals(A.getNonZeros(), nnz);
+			
+			//read full or column projection, and compare with slice
+			boolean proj = cl > 0;
+			ReaderColumnar reader = new ReaderColumnar(proj ? new ColumnarFileFormatProperties(cl, cu) : null);
+			MatrixBlock ret = null;
+			if( stream ) {
+				InputStream is = new FileInputStream(fname);
+				try {
+					ret = reader.readMatrixFromInputStream(is, rows, proj ? cu-cl+1 : cols, -1, -1, -1);
+				}
+				finally {
+					IOUtilFunctions.closeSilently(is);
+				}
+			}
+			else
+				ret = reader.readMatrixFromHDFS(fname, rows, proj ? cu-cl+1 : cols, -1, -1, -1);
+			MatrixBlock expect = proj ? A.sliceOperations(0, rows-1, cl-1, cu-1, new MatrixBlock()) : A;
+			Assert.assertEquals(expect.getNonZeros(), ret.getNonZeros());
+			TestUtils.compareMatrices(DataConverter.convertToDoubleMatrix(expect),
+				DataConverter.convertToDoubleMatrix(ret), expect.getNumRows(), expect.getNumColumns(), 0);
+		}
+		catch(Exception ex) {
+			throw new RuntimeException(ex);
+		}
+		finally {
+			try { MapReduceTool.deleteFileIfExistOnHDFS(fname); } catch(Exception ex) {}
+		}
+	}
+	
+	private void runColumnarPushdownTest(double sparsity, int cl1, int cu1, int cl2, int cu2) {
+		try {
+			String HOME = SCRIPT_DIR + TEST_DIR;
+			MatrixCharacteristics mc = new MatrixCharacteristics(rows, cols, 1000, 1000);
+			MatrixBlock A = DataConverter.convertToMatrixBlock(
+				getRandomMatrix(rows, cols, -1, 1, sparsity, 3));
+			
+			//write columnar file via dml script
+			loadTestConfiguration(getTestConfiguration(TEST_NAME1));
+			fullDMLScriptName = HOME + TEST_NAME1 + ".dml";
+			String fnameC = output("C");
+			programArgs = new String[]{"-args", input("A"), fnameC };
+			DataConverter.writeMatrixToHDFS(A, input("A"), OutputInfo.BinaryBlockOutputInfo, mc);
+			MapReduceTool.writeMetaDataFile(input("A.mtd"), ValueType.DOUBLE, mc, OutputInfo.BinaryBlockOutputInfo);
+			runTest(true, false, null, -1);
+			
+			//read column ranges w/ projection pushdown
+			loadTestConfiguration(getTestConfiguration(TEST_NAME2));
+			fullDMLScriptName = HOME + TEST_NAME2 + ".dml";
+			programArgs = new String[]{"-stats", "-args", fnameC, 
+				String.valueOf(cl1), String.valueOf(cu1), String.valueOf(cl2), String.valueOf(cu2), output("R") };
+			runTest(true, false, null, -1);
+			
+			//compare result with slices of the original data
+			int ncol = cu1-cl1+1 + cu2-cl2+1;
+			MatrixBlock R = DataConverter.readMatrixFromHDFS(output("R"), 
+				InputInfo.BinaryBlockInputInfo, rows, ncol, 1000, 1000);
+			MatrixBlock expect = A.sliceOperations(0, rows-1, cl1-1, cu1-1, new MatrixBlock())
+				.appendOperations(A.sliceOperations(0, rows-1, cl2-1, cu2-1, new MatrixBlock()), new MatrixBlock());
+			TestUtils.compareMatrices(DataConverter.convertToDoubleMatrix(expect),
+				DataConverter.convertToDoubleMatrix(R), rows, ncol, 0);
+			
+			//check projected read of only the chunks overlapping the column ranges
+			int cl = Math.min(cl1, cl2)-1, cu = Math.max(cu1, cu2);
+			int numSel = 0;
+			ColumnChunk[] chunks = ReaderColumnar.readColumnChunks(fnameC);
+			for( ColumnChunk c : chunks )
+				numSel += (c.cu > cl && c.cl < cu && c.nnz > 0) ? 1 : 0;
+			Assert.assertTrue(numSel < chunks.length);
+			Assert.assertEquals(chunks.length, Statistics.getColumnarChunksTotal());
+			Assert.assertEquals(numSel, Statistics.getColumnarChunksRead());
+			
+			//check removed right indexing for equal column ranges
+			if( cl1 == cl2 && cu1 == cu2 )
+				Assert.assertFalse(heavyHittersContainsString("rightIndex"));
+		}
+		catch(Exception ex) {
+			throw new RuntimeException(ex);
+		}
+	}
+}
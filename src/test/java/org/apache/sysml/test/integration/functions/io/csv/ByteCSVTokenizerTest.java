@@ -0,0 +1,187 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.apache.sysml.test.integration.functions.io.csv;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.apache.sysml.parser.Expression.ValueType;
+import org.apache.sysml.runtime.io.ByteCSVTokenizer;
+import org.apache.sysml.runtime.io.FrameReaderTextCSV;
+import org.apache.sysml.runtime.io.FrameReaderTextCSVParallel;
+import org.apache.sysml.runtime.io.FrameWriterTextCSV;
+import org.apache.sysml.runtime.io.IOUtilFunctions;
+import org.apache.sysml.runtime.io.ReaderTextCSV;
+import org.apache.sysml.runtime.io.ReaderTextCSVParallel;
+import org.apache.sysml.runtime.io.WriterTextCSV;
+import org.apache.sysml.runtime.matrix.data.CSVFileFormatProperties;
+import org.apache.sysml.runtime.matrix.data.FrameBlock;
+import org.apache.sysml.runtime.matrix.data.MatrixBlock;
+import org.apache.sysml.runtime.util.DataConverter;
+import org.apache.sysml.runtime.util.MapReduceTool;
+import org.apache.sysml.runtime.util.UtilFunctions;
+import org.apache.sysml.test.integration.AutomatedTestBase;
+import org.apache.sysml.test.utils.TestUtils;
+
+/**
+ * This is a component test for the byte-level csv tokenizer, which compares
+ * the parsed tokens and values against the string-based split and parse
+ * functions, as well as parallel against sequential csv reads.
+ */
+public class ByteCSVTokenizerTest extends AutomatedTestBase
+{
+	private final static String TEST_DIR = "functions/io/csv/";
+	
+	private final static int rows = 1234;
+	private final static int cols = 73;
+	private final static double sparsity1 = 0.7;
+	private final static double sparsity2 = 0.05;
+	
+	@Override
+	public void setUp() {
+		TestUtils.clearAssertionInformation();
+	}
+	
+	@Test
+	public void testParseDouble() {
+		String[] vals = new String[] {"0", "-0", "1", "-1.5", "3.14159", "1e10", "1E-5",
+			"-2.5e+3", ".5", "5.", "123456789012345", "1234567890123456789", "0.1",
+			"1.7976931348623157E308", "4.9E-324", "1e-400", "NaN", "Infinity", "-Infinity"};
+		for( String val : vals )
+			checkParseDouble(val);
+		Random rand = new Random(7);
+		for( int i=0; i<100000; i++ ) {
+			checkParseDouble(Double.toString(rand.nextDouble()*Math.pow(10, rand.nextInt(40)-20)));
+			checkParseDouble(Double.toString((double)rand.nextInt()));
+		}
+	}
+	
+	@Test
+	public void testParseLong() {
+		String[] vals = new String[] {"0", "-1", "+7", "123456789012345678", 
+			"9223372036854775807", "-9223372036854775808"};
+		for( String val : vals ) {
+			byte[] b = val.getBytes(StandardCharsets.UTF_8);
+			Assert.assertEquals(Long.parseLong(val), ByteCSVTokenizer.parseLong(b, 0, b.length));
+		}
+	}
+	
+	@Test
+	public void testTokenize() {
+		String[] lines = new String[] {"1,2,3", " 1 , 2 ,3 ", "1,,3", ",,", "a,b,", 
+			",x", "7", "  true,false,TRUE  "};
+		ByteCSVTokenizer tok = new ByteCSVTokenizer(",");
+		for( String line : lines ) {
+			String[] parts = IOUtilFunctions.split(line.trim(), ",");
+			byte[] b = line.getBytes(StandardCharsets.UTF_8);
+			tok.reset(b, b.length);
+			int pos = 0;
+			while( tok.next() ) {
+				Assert.assertEquals(parts[pos].trim(), tok.getString());
+				Assert.assertEquals(parts[pos].trim().isEmpty(), tok.isEmpty());
+				pos++;
+			}
+			Assert.assertEquals(parts.length, pos);
+		}
+	}
+	
+	@Test
+	public void testParReadDense() {
+		runParallelReadTest(sparsity1);
+	}
+	
+	@Test
+	public void testParReadSparse() {
+		runParallelReadTest(sparsity2);
+	}
+	
+	@Test
+	public void testParReadFrame() {
+		runParallelFrameReadTest();
+	}
+	
+	private void runParallelReadTest(double sparsity) {
+		String fname = SCRIPT_DIR + TEST_DIR + "ByteCSVTokenizerTest/A";
+		try {
+			CSVFileFormatProperties props = new CSVFileFormatProperties(true, ",", true);
+			CSVFileFormatProperties rprops = new CSVFileFormatProperties(true, ",", true, 0, null);
+			MatrixBlock A = DataConverter.convertToMatrixBlock(
+				getRandomMatrix(rows, cols, -1, 1, sparsity, 7));
+			new WriterTextCSV(props).writeMatrixToHDFS(A, fname, rows, cols, -1, -1, A.getNonZeros());
+			
+			//read with string-based sequential and byte-based parallel reader
+			MatrixBlock ret1 = new ReaderTextCSV(rprops).readMatrixFromHDFS(fname, rows, cols, -1, -1, -1);
+			MatrixBlock ret2 = new ReaderTextCSVParallel(rprops).readMatrixFromHDFS(fname, rows, cols, -1, -1, -1);
+			
+			Assert.assertEquals(A.getNonZeros(), ret2.getNonZeros());
+			TestUtils.compareMatrices(DataConverter.convertToDoubleMatrix(ret1),
+				DataConverter.convertToDoubleMatrix(ret2), rows, cols, 0);
+			TestUtils.compareMatrices(DataConverter.convertToDoubleMatrix(A),
+				DataConverter.convertToDoubleMatrix(ret2), rows, cols, 0);
+		}
+		catch(Exception ex) {
+			throw new RuntimeException(ex);
+		}
+		finally {
+			try { MapReduceTool.deleteFileIfExistOnHDFS(fname); } catch(Exception ex) {}
+		}
+	}
+	
+	private void runParallelFrameReadTest() {
+		String fname = SCRIPT_DIR + TEST_DIR + "ByteCSVTokenizerTest/F";
+		try {
+			ValueType[] schema = new ValueType[]{ValueType.STRING, ValueType.DOUBLE, ValueType.INT, ValueType.BOOLEAN};
+			CSVFileFormatProperties props = new CSVFileFormatProperties(false, ",", true, 0, null);
+			double[][] A = getRandomMatrix(rows, schema.length, -10, 10, 0.9, 3);
+			FrameBlock frame = new FrameBlock(schema);
+			Object[] row = new Object[schema.length];
+			for( int i=0; i<rows; i++ ) {
+				for( int j=0; j<schema.length; j++ )
+					row[j] = UtilFunctions.doubleToObject(schema[j], A[i][j]);
+				frame.appendRow(row);
+			}
+			new FrameWriterTextCSV(props).writeFrameToHDFS(frame, fname, rows, schema.length);
+			
+			//read with sequential and parallel reader
+			FrameBlock ret1 = new FrameReaderTextCSV(props).readFrameFromHDFS(fname, schema, rows, schema.length);
+			FrameBlock ret2 = new FrameReaderTextCSVParallel(props).readFrameFromHDFS(fname, schema, rows, schema.length);
+			for( int i=0; i<rows; i++ )
+				for( int j=0; j<schema.length; j++ ) {
+					Assert.assertEquals(0, UtilFunctions.compareTo(schema[j], frame.get(i, j), ret1.get(i, j)));
+					Assert.assertEquals(0, UtilFunctions.compareTo(schema[j], frame.get(i, j), ret2.get(i, j)));
+				}
+		}
+		catch(Exception ex) {
+			throw new RuntimeException(ex);
+		}
+		finally {
+			try { MapReduceTool.deleteFileIfExistOnHDFS(fname); } catch(Exception ex) {}
+		}
+	}
+	
+	private static void checkParseDouble(String val) {
+		byte[] b = val.getBytes(StandardCharsets.UTF_8);
+		Assert.assertEquals("Wrong value for "+val, Double.doubleToLongBits(Double.parseDouble(val)),
+			Double.doubleToLongBits(ByteCSVTokenizer.parseDouble(b, 0, b.length)));
+	}
+}
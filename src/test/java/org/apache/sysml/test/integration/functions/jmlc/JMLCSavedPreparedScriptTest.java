@@ -0,0 +1,115 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.apache.sysml.test.integration.functions.jmlc;
+
+import java.io.File;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.apache.sysml.api.jmlc.Connection;
+import org.apache.sysml.api.jmlc.PreparedScript;
+import org.apache.sysml.api.jmlc.ResultVariables;
+import org.apache.sysml.conf.CompilerConfig.ConfigType;
+import org.apache.sysml.test.integration.AutomatedTestBase;
+import org.apache.sysml.test.utils.TestUtils;
+
+public class JMLCSavedPreparedScriptTest extends AutomatedTestBase 
+{
+	private final static String TEST_DIR = "functions/jmlc/";
+	
+	//scoring script with functions and control flow (codegen requires known sizes)
+	private static final String SCRIPT =
+		  "foo = function(Matrix[double] A, Matrix[double] B) return (Matrix[double] C) {"
+		+ "  C = A %%*%% B;"
+		+ "  if( sum(C) > 0 )"
+		+ "    C = C * 2;"
+		+ "}"
+		+ "X = read(\"./tmp/X\", rows=%d, cols=%d);"
+		+ "W = read(\"./tmp/W\", rows=%d, cols=3);"
+		+ "Z = foo(X, W);"
+		+ "for( i in 1:3 )"
+		+ "  Z = Z + i * rowSums(X * X);"
+		+ "Y = 1 / (1 + exp(-Z));"
+		+ "s = sum(Y);"
+		+ "write(Y, \"./tmp/Y\");"
+		+ "write(s, \"./tmp/s\");";
+	
+	private final static int rows = 17;
+	private final static int cols = 23;
+	private final static double eps = 1e-10;
+	
+	@Override
+	public void setUp() {
+		//do nothing
+	}
+	
+	@Test
+	public void testSaveLoadPreparedScript() throws Exception {
+		runSavedPreparedScriptTest(false);
+	}
+	
+	@Test
+	public void testSaveLoadPreparedScriptCodegen() throws Exception {
+		runSavedPreparedScriptTest(true);
+	}
+	
+	private void runSavedPreparedScriptTest(boolean codegen) 
+		throws Exception
+	{
+		String fname = SCRIPT_DIR + TEST_DIR + "JMLCSavedPreparedScriptTest.plan";
+		double[][] X = getRandomMatrix(rows, cols, -1, 1, 0.9, 7);
+		double[][] W = getRandomMatrix(cols, 3, -1, 1, 1.0, 3);
+		try {
+			//compile, execute and save prepared script
+			double[][] Y1 = null;
+			double s1 = 0;
+			try( Connection conn = codegen ? 
+				new Connection(ConfigType.CODEGEN_ENABLED) : new Connection() ) {
+				String script = codegen ? String.format(SCRIPT, rows, cols, cols) :
+					String.format(SCRIPT, -1, -1, -1);
+				PreparedScript pscript = conn.prepareScript(script, 
+					new String[]{"X","W"}, new String[]{"Y","s"}, false);
+				Assert.assertEquals(codegen, pscript.explain().contains("spoof"));
+				pscript.setMatrix("X", X);
+				pscript.setMatrix("W", W, true);
+				pscript.save(fname);
+				ResultVariables rs = pscript.executeScript();
+				Y1 = rs.getMatrix("Y");
+				s1 = rs.getDouble("s");
+			}
+			
+			//load and execute prepared script
+			try( Connection conn = new Connection() ) {
+				PreparedScript pscript = conn.loadPreparedScript(fname);
+				pscript.setMatrix("X", X);
+				pscript.setMatrix("W", W, true);
+				ResultVariables rs = pscript.executeScript();
+				double[][] Y2 = rs.getMatrix("Y");
+				double s2 = rs.getDouble("s");
+				TestUtils.compareMatrices(Y1, Y2, rows, 3, eps);
+				Assert.assertEquals(s1, s2, eps);
+			}
+		}
+		finally {
+			new File(fname).delete();
+		}
+	}
+}
@@ -0,0 +1,205 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.apache.sysml.test.integration.functions.jmlc;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.apache.sysml.api.DMLException;
+import org.apache.sysml.api.jmlc.Connection;
+import org.apache.sysml.api.jmlc.MicroBatchScorer;
+import org.apache.sysml.api.jmlc.PreparedScript;
+import org.apache.sysml.runtime.matrix.data.MatrixBlock;
+import org.apache.sysml.runtime.util.DataConverter;
+import org.apache.sysml.test.integration.AutomatedTestBase;
+import org.apache.sysml.test.utils.TestUtils;
+
+public class MicroBatchScorerTest extends AutomatedTestBase 
+{
+	//row-wise scoring script with reused model
+	private static final String SCRIPT1 =
+		  "X = read(\"./tmp/X\", rows=-1, cols=-1);"
+		+ "W = read(\"./tmp/W\", rows=-1, cols=-1);"
+		+ "Y = X %*% W + rowSums(X);"
+		+ "write(Y, \"./tmp/Y\");";
+	
+	//aggregating script that is not row-wise independent
+	private static final String SCRIPT2 =
+		  "X = read(\"./tmp/X\", rows=-1, cols=-1);"
+		+ "W = read(\"./tmp/W\", rows=-1, cols=-1);"
+		+ "Y = colSums(X) %*% W;"
+		+ "write(Y, \"./tmp/Y\");";
+	
+	private final static int cols = 37;
+	private final static int numModel = 3;
+	private final static int numReq = 256;
+	private final static double eps = 1e-10;
+	
+	@Override
+	public void setUp() {
+		//do nothing
+	}
+	
+	@Test
+	public void testMicroBatchSequential() throws Exception {
+		runMicroBatchTest(1, 16, 1);
+	}
+	
+	@Test
+	public void testMicroBatchConcurrent() throws Exception {
+		runMicroBatchTest(16, 32, 1);
+	}
+	
+	@Test
+	public void testMicroBatchConcurrentMultiWorker() throws Exception {
+		runMicroBatchTest(16, 32, 4);
+	}
+	
+	@Test
+	public void testMicroBatchInvalidScript() throws Exception {
+		try( Connection conn = new Connection() ) {
+			PreparedScript pscript = conn.prepareScript(SCRIPT2, new String[]{"X","W"}, new String[]{"Y"}, false);
+			pscript.setMatrix("W", getRandomMatrix(cols, numModel, -1, 1, 1.0, 3), true);
+			try( MicroBatchScorer scorer = new MicroBatchScorer(pscript, "X", "Y", 8, 1000) ) {
+				List<CompletableFuture<MatrixBlock>> rets = new ArrayList<>();
+				for( int i=0; i<8; i++ )
+					rets.add(scorer.scoreAsync(DataConverter.convertToMatrixBlock(getRandomMatrix(1, cols, -1, 1, 1.0, i))));
+				for( CompletableFuture<MatrixBlock> ret : rets )
+					Assert.assertTrue(ret.isCompletedExceptionally() || failsWithDMLException(ret));
+			}
+		}
+	}
+	
+	@Test
+	public void testMicroBatchConcurrentClose() throws Exception {
+		try( Connection conn = new Connection() ) {
+			PreparedScript pscript = conn.prepareScript(SCRIPT1, new String[]{"X","W"}, new String[]{"Y"}, false);
+			pscript.setMatrix("W", getRandomMatrix(cols, numModel, -1, 1, 1.0, 3), true);
+			MatrixBlock row = DataConverter.convertToMatrixBlock(getRandomMatrix(1, cols, -1, 1, 1.0, 7));
+			for( int r=0; r<20; r++ ) {
+				//submit requests concurrently to close, all of which need to complete
+				final MicroBatchScorer scorer = new MicroBatchScorer(pscript, "X", "Y", 4, 1, 2);
+				final List<CompletableFuture<MatrixBlock>> rets = new ArrayList<>();
+				Thread submitter = new Thread(() -> {
+					try {
+						while( true ) {
+							CompletableFuture<MatrixBlock> ret = scorer.scoreAsync(row);
+							synchronized( rets ) { rets.add(ret); }
+						}
+					}
+					catch(IllegalStateException ex) {
+						//expected after close
+					}
+				});
+				submitter.start();
+				Thread.sleep(5);
+				scorer.close();
+				submitter.join();
+				for( CompletableFuture<MatrixBlock> ret : rets )
+					Assert.assertTrue(ret.isDone());
+			}
+		}
+	}
+	
+	private void runMicroBatchTest(int numThreads, int maxBatchSize, int k) 
+		throws Exception
+	{
+		try( Connection conn = new Connection() ) {
+			PreparedScript pscript = conn.prepareScript(SCRIPT1, new String[]{"X","W"}, new String[]{"Y"}, false);
+			double[][] W = getRandomMatrix(cols, numModel, -1, 1, 1.0, 3);
+			double[][] X = getRandomMatrix(numReq, cols, -1, 1, 0.9, 7);
+			pscript.setMatrix("W", W, true);
+			
+			//compute expected results via single-row execution
+			double[][] expect = new double[numReq][];
+			for( int i=0; i<numReq; i++ ) {
+				pscript.setMatrix("X", new double[][]{X[i]});
+				expect[i] = pscript.executeScript().getMatrix("Y")[0];
+			}
+			
+			//score rows via micro batches
+			double[][] actual = new double[numReq][];
+			MicroBatchScorer scorer = new MicroBatchScorer(pscript, "X", "Y", maxBatchSize, 1000, k);
+			try {
+				if( numThreads == 1 ) {
+					//async submission of all requests, which yields full batches
+					List<CompletableFuture<MatrixBlock>> rets = new ArrayList<>();
+					for( int i=0; i<numReq; i++ )
+						rets.add(scorer.scoreAsync(DataConverter.convertToMatrixBlock(new double[][]{X[i]})));
+					for( int i=0; i<numReq; i++ )
+						actual[i] = DataConverter.convertToDoubleVector(rets.get(i).get());
+					Assert.assertEquals(numReq/maxBatchSize, scorer.getNumBatches());
+				}
+				else {
+					ExecutorService pool = Executors.newFixedThreadPool(numThreads);
+					List<Callable<double[]>> tasks = new ArrayList<>();
+					for( int i=0; i<numReq; i++ )
+						tasks.add(new ScoringTask(scorer, X[i]));
+					List<Future<double[]>> rets = pool.invokeAll(tasks);
+					for( int i=0; i<numReq; i++ )
+						actual[i] = rets.get(i).get();
+					pool.shutdown();
+					Assert.assertTrue(scorer.getNumBatches() < numReq);
+				}
+			}
+			finally {
+				scorer.close();
+			}
+			
+			//compare results
+			Assert.assertEquals(numReq, scorer.getNumRequests());
+			TestUtils.compareMatrices(expect, actual, numReq, numModel, eps);
+		}
+	}
+	
+	private static boolean failsWithDMLException(CompletableFuture<MatrixBlock> ret) {
+		try {
+			ret.get();
+			return false;
+		}
+		catch(Exception ex) {
+			return ex.getCause() instanceof DMLException;
+		}
+	}
+	
+	private static class ScoringTask implements Callable<double[]> 
+	{
+		private final MicroBatchScorer _scorer;
+		private final double[] _row;
+		
+		protected ScoringTask(MicroBatchScorer scorer, double[] row) {
+			_scorer = scorer;
+			_row = row;
+		}
+		
+		@Override
+		public double[] call() throws DMLException {
+			return _scorer.score(_row);
+		}
+	}
+}
@@ -0,0 +1,124 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.apache.sysml.test.integration.functions.jmlc;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.apache.sysml.api.DMLException;
+import org.apache.sysml.api.jmlc.Connection;
+import org.apache.sysml.api.jmlc.PreparedScript;
+import org.apache.sysml.api.jmlc.PreparedScriptPool;
+import org.apache.sysml.runtime.controlprogram.parfor.stat.InfrastructureAnalyzer;
+import org.apache.sysml.runtime.matrix.data.MatrixBlock;
+import org.apache.sysml.runtime.util.DataConverter;
+import org.apache.sysml.test.integration.AutomatedTestBase;
+import org.apache.sysml.test.utils.TestUtils;
+
+public class PreparedScriptPoolTest extends AutomatedTestBase 
+{
+	//scoring script with reused model and function call
+	private static final String SCRIPT =
+		  "foo = function(Matrix[double] A, Matrix[double] B) return (Matrix[double] C) {"
+		+ "  C = A %*% B;"
+		+ "}"
+		+ "X = read(\"./tmp/X\", rows=-1, cols=-1);"
+		+ "W = read(\"./tmp/W\", rows=-1, cols=-1);"
+		+ "Z = foo(X, W);"
+		+ "Y = Z + sum(X);"
+		+ "write(Y, \"./tmp/Y\");";
+	
+	private final static int rows = 10;
+	private final static int cols = 57;
+	private final static int numModel = 4;
+	private final static int numReq = 512;
+	private final static double eps = 1e-10;
+	
+	@Override
+	public void setUp() {
+		//do nothing
+	}
+	
+	@Test
+	public void testPooledScriptSingleThread() throws Exception {
+		runPreparedScriptPoolTest(1);
+	}
+	
+	@Test
+	public void testPooledScriptMultiThreaded() throws Exception {
+		runPreparedScriptPoolTest(Math.max(InfrastructureAnalyzer.getLocalParallelism(), 4));
+	}
+	
+	private void runPreparedScriptPoolTest(int k) 
+		throws Exception
+	{
+		try( Connection conn = new Connection() ) {
+			PreparedScript pscript = conn.prepareScript(SCRIPT, new String[]{"X","W"}, new String[]{"Y"}, false);
+			pscript.setMatrix("W", getRandomMatrix(cols, numModel, -1, 1, 1.0, 3), true);
+			
+			//compute expected results via sequential execution
+			List<double[][]> X = new ArrayList<>();
+			List<double[][]> expect = new ArrayList<>();
+			for( int i=0; i<numReq; i++ ) {
+				X.add(getRandomMatrix(rows, cols, -1, 1, 0.9, i));
+				pscript.setMatrix("X", X.get(i));
+				expect.add(pscript.executeScript().getMatrix("Y"));
+			}
+			
+			//concurrent execution over pooled prepared scripts
+			PreparedScriptPool pool = new PreparedScriptPool(pscript);
+			ExecutorService exec = Executors.newFixedThreadPool(k);
+			List<Callable<double[][]>> tasks = new ArrayList<>();
+			for( int i=0; i<numReq; i++ )
+				tasks.add(new PooledScoringTask(pool, X.get(i)));
+			List<Future<double[][]>> rets = exec.invokeAll(tasks);
+			for( int i=0; i<numReq; i++ )
+				TestUtils.compareMatrices(expect.get(i), rets.get(i).get(), rows, numModel, eps);
+			exec.shutdown();
+			
+			//check one prepared script per thread
+			Assert.assertTrue(pool.getNumPreparedScripts() <= k);
+		}
+	}
+	
+	private static class PooledScoringTask implements Callable<double[][]> 
+	{
+		private final PreparedScriptPool _pool;
+		private final double[][] _X;
+		
+		protected PooledScoringTask(PreparedScriptPool pool, double[][] X) {
+			_pool = pool;
+			_X = X;
+		}
+		
+		@Override
+		public double[][] call() throws DMLException {
+			MatrixBlock X = DataConverter.convertToMatrixBlock(_X);
+			return _pool.executeScript("X", X).getMatrix("Y");
+		}
+	}
+}
@@ -0,0 +1,121 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.sysml.test.integration.functions.lineage;
+
+import java.io.File;
+import java.util.HashMap;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.apache.sysml.api.DMLScript.RUNTIME_PLATFORM;
+import org.apache.sysml.runtime.lineage.LineageCacheConfig;
+import org.apache.sysml.runtime.lineage.LineageCacheStatistics;
+import org.apache.sysml.runtime.matrix.data.MatrixValue.CellIndex;
+import org.apache.sysml.test.integration.AutomatedTestBase;
+import org.apache.sysml.test.integration.TestConfiguration;
+import org.apache.sysml.test.utils.TestUtils;
+
+public class LineageReuseTest extends AutomatedTestBase
+{
+	private static final String TEST_NAME1 = "LineageReuse1"; //for loop
+	private static final String TEST_NAME2 = "LineageReuse2"; //for loop w/ functions
+	private static final String TEST_NAME3 = "LineageReuse3"; //parfor loop w/ functions (cache populated before the parfor)
+	private static final String TEST_DIR = "functions/lineage/";
+	private static final String TEST_CLASS_DIR = TEST_DIR + LineageReuseTest.class.getSimpleName() + "/";
+	private final static String TEST_CONF = "SystemML-config-lineage.xml";
+	private final static File   TEST_CONF_FILE = new File(SCRIPT_DIR + TEST_DIR, TEST_CONF);
+
+	private static final int rows = 1234;
+	private static final int cols = 27;
+	private static final double eps = Math.pow(10, -10);
+
+	private boolean _reuse = false;
+
+	@Override
+	public void setUp() {
+		TestUtils.clearAssertionInformation();
+		addTestConfiguration( TEST_NAME1, new TestConfiguration(TEST_CLASS_DIR, TEST_NAME1, new String[] { "R" }) );
+		addTestConfiguration( TEST_NAME2, new TestConfiguration(TEST_CLASS_DIR, TEST_NAME2, new String[] { "R" }) );
+		addTestConfiguration( TEST_NAME3, new TestConfiguration(TEST_CLASS_DIR, TEST_NAME3, new String[] { "R" }) );
+	}
+
+	@Test
+	public void testReuseForLoop() {
+		runLineageReuseTest(TEST_NAME1);
+	}
+
+	@Test
+	public void testReuseForLoopFunctions() {
+		runLineageReuseTest(TEST_NAME2);
+	}
+
+	@Test
+	public void testReuseParForLoopFunctions() {
+		runLineageReuseTest(TEST_NAME3);
+	}
+
+	private void runLineageReuseTest(String testname)
+	{
+		RUNTIME_PLATFORM platformOld = rtplatform;
+		rtplatform = RUNTIME_PLATFORM.HYBRID;
+
+		try
+		{
+			String HOME = SCRIPT_DIR + TEST_DIR;
+			fullDMLScriptName = HOME + testname + ".dml";
+			double[][] X = getRandomMatrix(rows, cols, -1, 1, 0.9, 7);
+			double[][] y = getRandomMatrix(rows, 1, -1, 1, 1.0, 3);
+
+			//run without reuse
+			_reuse = false;
+			loadTestConfiguration(getTestConfiguration(testname));
+			programArgs = new String[]{"-stats", "-args", input("X"), input("y"), output("R") };
+			writeInputMatrixWithMTD("X", X, true);
+			writeInputMatrixWithMTD("y", y, true);
+			runTest(true, false, null, -1);
+			HashMap<CellIndex, Double> R1 = readDMLMatrixFromHDFS("R");
+
+			//run with lineage-based reuse
+			_reuse = true;
+			loadTestConfiguration(getTestConfiguration(testname));
+			writeInputMatrixWithMTD("X", X, true);
+			writeInputMatrixWithMTD("y", y, true);
+			runTest(true, false, null, -1);
+			HashMap<CellIndex, Double> R2 = readDMLMatrixFromHDFS("R");
+
+			//compare results and check for actual reuse
+			TestUtils.compareMatrices(R1, R2, eps, "Stat-NoReuse", "Stat-Reuse");
+			Assert.assertTrue(LineageCacheStatistics.getHits() > 0);
+		}
+		finally {
+			rtplatform = platformOld;
+			LineageCacheConfig.setReuse(false);
+		}
+	}
+
+	/**
+	 * Override default configuration with custom test configuration to ensure
+	 * scratch space and local temporary directory locations are also updated.
+	 */
+	@Override
+	protected File getConfigTemplateFile() {
+		return _reuse ? TEST_CONF_FILE : super.getConfigTemplateFile();
+	}
+}
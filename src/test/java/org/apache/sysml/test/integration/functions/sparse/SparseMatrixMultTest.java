@@ -0,0 +1,113 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.sysml.test.integration.functions.sparse;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.apache.sysml.runtime.controlprogram.parfor.stat.InfrastructureAnalyzer;
+import org.apache.sysml.runtime.matrix.data.LibMatrixMult;
+import org.apache.sysml.runtime.matrix.data.MatrixBlock;
+import org.apache.sysml.runtime.matrix.data.SparseBlock;
+import org.apache.sysml.test.integration.AutomatedTestBase;
+import org.apache.sysml.test.utils.TestUtils;
+
+/**
+ * This is a sparse matrix multiplication component test for sparse-sparse
+ * matrix products with sparse outputs, which covers both the dense sparse
+ * accumulator (small number of columns) and the hash accumulator (large 
+ * number of columns and very sparse output rows).
+ */
+public class SparseMatrixMultTest extends AutomatedTestBase 
+{
+	private final static int rows = 1000;
+	private final static int cols1 = 1000;
+	private final static int cols2 = 50000;
+	private final static double sparsity1 = 0.01;
+	private final static double sparsity2 = 0.005;
+	private final static double sparsity3 = 0.0005;
+	private final static double eps = 1e-10;
+	
+	@Override
+	public void setUp() {
+		TestUtils.clearAssertionInformation();
+	}
+	
+	@Test
+	public void testSparseSparseMatrixMultSPA() {
+		runSparseMatrixMultTest(cols1, sparsity1, sparsity1, 1);
+	}
+	
+	@Test
+	public void testSparseSparseMatrixMultSPAPar() {
+		runSparseMatrixMultTest(cols1, sparsity1, sparsity1, InfrastructureAnalyzer.getLocalParallelism());
+	}
+	
+	@Test
+	public void testSparseSparseMatrixMultHash() {
+		runSparseMatrixMultTest(cols2, sparsity2, sparsity3, 1);
+	}
+	
+	@Test
+	public void testSparseSparseMatrixMultHashPar() {
+		runSparseMatrixMultTest(cols2, sparsity2, sparsity3, InfrastructureAnalyzer.getLocalParallelism());
+	}
+	
+	private void runSparseMatrixMultTest(int n, double sp1, double sp2, int k)
+	{
+		try
+		{
+			MatrixBlock A = MatrixBlock.randOperations(rows, cols1, sp1, -1, 1, "uniform", 7);
+			MatrixBlock B = MatrixBlock.randOperations(cols1, n, sp2, -1, 1, "uniform", 3);
+			Assert.assertTrue(A.isInSparseFormat() && B.isInSparseFormat());
+			Assert.assertTrue(LibMatrixMult.isSparseOutputMatrixMult(A, B));
+			
+			//compute sparse-sparse matrix multiplication
+			MatrixBlock C = new MatrixBlock(rows, n, true);
+			LibMatrixMult.matrixMult(A, B, C, k);
+			Assert.assertTrue(C.isInSparseFormat());
+			
+			//compare with reference row-wise dense accumulation
+			SparseBlock a = A.getSparseBlock();
+			SparseBlock b = B.getSparseBlock();
+			long nnz = 0;
+			for( int i=0; i<rows; i++ ) {
+				double[] c = new double[n];
+				if( !a.isEmpty(i) ) {
+					int apos = a.pos(i);
+					int alen = a.size(i);
+					for( int p=apos; p<apos+alen; p++ ) {
+						int r = a.indexes(i)[p];
+						if( b.isEmpty(r) ) continue;
+						for( int q=b.pos(r); q<b.pos(r)+b.size(r); q++ )
+							c[b.indexes(r)[q]] += a.values(i)[p] * b.values(r)[q];
+					}
+				}
+				for( int j=0; j<n; j++ ) {
+					Assert.assertEquals(c[j], C.quickGetValue(i, j), eps);
+					nnz += (c[j] != 0) ? 1 : 0;
+				}
+			}
+			Assert.assertEquals(nnz, C.getNonZeros());
+		}
+		catch(Exception ex) {
+			throw new RuntimeException(ex);
+		}
+	}
+}
@@ -0,0 +1,188 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.sysml.test.integration.functions.transform;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.apache.sysml.parser.Expression.ValueType;
+import org.apache.sysml.runtime.matrix.data.FrameBlock;
+import org.apache.sysml.runtime.matrix.data.MatrixBlock;
+import org.apache.sysml.runtime.transform.encode.Encoder;
+import org.apache.sysml.runtime.transform.encode.EncoderFactory;
+import org.apache.sysml.test.integration.AutomatedTestBase;
+import org.apache.sysml.test.utils.TestUtils;
+
+/**
+ * This is a component test for dictionary-encoded string columns of
+ * frame blocks, which compares basic frame operations as well as 
+ * transform encode and apply (via columnar encoder accessors) against 
+ * frames with plain string columns.
+ */
+public class TransformFrameEncodeDictColumnsTest extends AutomatedTestBase 
+{
+	private static final int rows = 40000;
+	private static final int K = 64;
+	
+	private static final ValueType[] SCHEMA = new ValueType[]{ValueType.STRING, 
+		ValueType.STRING, ValueType.DOUBLE, ValueType.STRING};
+	private static final int[] DISTINCT = new int[]{3, 100, 0, rows/10};
+	private static final double[] NULLS = new double[]{0, 0.05, 0, 0};
+	
+	private static final String SPEC1 = "{ids:true, recode:[1,2,4]}";
+	private static final String SPEC2 = "{ids:true, recode:[1,2], dummycode:[1,2]}";
+	private static final String SPEC3 = "{ids:true, hash:[1,4], recode:[2], dummycode:[1,2], K:"+K+"}";
+	
+	@Override
+	public void setUp() {
+		TestUtils.clearAssertionInformation();
+	}
+	
+	@Test
+	public void testDictColumnsFrameOperations() {
+		try {
+			FrameBlock data = TestUtils.generateTestFrame(rows, SCHEMA, DISTINCT, NULLS, 7);
+			FrameBlock cdata = new FrameBlock(data);
+			cdata.compressStringColumns();
+			
+			//check dictionary-encoded string columns only
+			Assert.assertTrue(cdata.isColumnDictEncoded(0));
+			Assert.assertTrue(cdata.isColumnDictEncoded(1));
+			Assert.assertFalse(cdata.isColumnDictEncoded(2));
+			Assert.assertTrue(cdata.isColumnDictEncoded(3));
+			Assert.assertEquals(3, cdata.getColumnDictionary(0).size());
+			TestUtils.compareFrames(data, cdata);
+			
+			//check reduced memory footprint
+			Assert.assertTrue(cdata.getInMemorySize() * 3 < data.getInMemorySize());
+			
+			//check updates, slicing, and copies
+			data.set(7, 0, "new");
+			cdata.set(7, 0, "new");
+			data.set(9, 1, null);
+			cdata.set(9, 1, null);
+			TestUtils.compareFrames(data, cdata);
+			TestUtils.compareFrames(data.sliceOperations(10, 2000, 0, 3, new FrameBlock()),
+				cdata.sliceOperations(10, 2000, 0, 3, new FrameBlock()));
+			TestUtils.compareFrames(data, new FrameBlock(cdata));
+			
+			//check serialization (same format as plain string columns)
+			Assert.assertEquals(data.getExactSerializedSize(), cdata.getExactSerializedSize());
+			ByteArrayOutputStream bos = new ByteArrayOutputStream();
+			DataOutputStream dos = new DataOutputStream(bos);
+			cdata.write(dos);
+			dos.flush();
+			Assert.assertEquals(cdata.getExactSerializedSize(), bos.size());
+			FrameBlock rdata = new FrameBlock();
+			rdata.readFields(new DataInputStream(new ByteArrayInputStream(bos.toByteArray())));
+			TestUtils.compareFrames(data, rdata);
+		}
+		catch(Exception ex) {
+			throw new RuntimeException(ex);
+		}
+	}
+	
+	@Test
+	public void testDictColumnsOverwritesAndColumnData() {
+		FrameBlock data = TestUtils.generateTestFrame(1000, SCHEMA, DISTINCT, NULLS, 7);
+		FrameBlock cdata = new FrameBlock(data);
+		cdata.compressStringColumns();
+		
+		//check bounded dictionary size on repeated overwrites
+		for( int i=0; i<100000; i++ ) {
+			data.set(i%10, 3, "X" + i);
+			cdata.set(i%10, 3, "X" + i);
+		}
+		Assert.assertTrue(cdata.getColumnDictionary(3).size() <= 2 * 1000 + 64);
+		TestUtils.compareFrames(data, cdata);
+		
+		//check updates via column data of decoded columns
+		String[] col = (String[]) cdata.getColumnData(3);
+		Assert.assertFalse(cdata.isColumnDictEncoded(3));
+		Assert.assertTrue(cdata.isColumnDictEncoded(1));
+		col[7] = "new";
+		data.set(7, 3, "new");
+		TestUtils.compareFrames(data, cdata);
+	}
+	
+	@Test
+	public void testTransformEncodeApplyDictColumnsRecode() {
+		runTransformEncodeDictColumnsTest(SPEC1, 1);
+	}
+	
+	@Test
+	public void testTransformEncodeApplyDictColumnsDummycode() {
+		runTransformEncodeDictColumnsTest(SPEC2, 1);
+	}
+	
+	@Test
+	public void testTransformEncodeApplyDictColumnsHash() {
+		runTransformEncodeDictColumnsTest(SPEC3, 1);
+	}
+	
+	@Test
+	public void testTransformEncodeApplyDictColumnsRecodeParallel() {
+		runTransformEncodeDictColumnsTest(SPEC1, 4);
+	}
+	
+	@Test
+	public void testTransformEncodeApplyDictColumnsDummycodeParallel() {
+		runTransformEncodeDictColumnsTest(SPEC2, 4);
+	}
+	
+	@Test
+	public void testTransformEncodeApplyDictColumnsHashParallel() {
+		runTransformEncodeDictColumnsTest(SPEC3, 4);
+	}
+	
+	private void runTransformEncodeDictColumnsTest(String spec, int k)
+	{
+		try {
+			FrameBlock data = TestUtils.generateTestFrame(rows, SCHEMA, DISTINCT, NULLS, 7);
+			FrameBlock cdata = new FrameBlock(data);
+			cdata.compressStringColumns();
+			String[] colnames = data.getColumnNames();
+			int clen = data.getNumColumns();
+			
+			//transform encode w/ plain and dictionary-encoded columns
+			Encoder encoder1 = EncoderFactory.createEncoder(spec, colnames, clen, null);
+			MatrixBlock out1 = encoder1.encode(data, new MatrixBlock(rows, clen, false), k);
+			FrameBlock meta1 = encoder1.getMetaData(new FrameBlock(clen, ValueType.STRING));
+			Encoder encoder2 = EncoderFactory.createEncoder(spec, colnames, clen, null);
+			MatrixBlock out2 = encoder2.encode(cdata, new MatrixBlock(rows, clen, false), k);
+			FrameBlock meta2 = encoder2.getMetaData(new FrameBlock(clen, ValueType.STRING));
+			TestUtils.compareMatrices(out1, out2, 1e-14);
+			TestUtils.compareFrames(meta1, meta2);
+			
+			//transform apply w/ dictionary-encoded columns
+			meta1.setColumnNames(colnames);
+			Encoder encoder3 = EncoderFactory.createEncoder(spec, colnames, clen, meta1);
+			MatrixBlock out3 = encoder3.apply(cdata, new MatrixBlock(rows, clen, false), k);
+			TestUtils.compareMatrices(out1, out3, 1e-14);
+		}
+		catch(Exception ex) {
+			throw new RuntimeException(ex);
+		}
+	}
+}
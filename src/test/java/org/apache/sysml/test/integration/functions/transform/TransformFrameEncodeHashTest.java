@@ -0,0 +1,206 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.sysml.test.integration.functions.transform;
+
+import java.util.HashMap;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.apache.sysml.api.DMLScript.RUNTIME_PLATFORM;
+import org.apache.sysml.parser.Expression.DataType;
+import org.apache.sysml.parser.Expression.ValueType;
+import org.apache.sysml.runtime.io.FrameWriterFactory;
+import org.apache.sysml.runtime.matrix.MatrixCharacteristics;
+import org.apache.sysml.runtime.matrix.data.CSVFileFormatProperties;
+import org.apache.sysml.runtime.matrix.data.FrameBlock;
+import org.apache.sysml.runtime.matrix.data.MatrixBlock;
+import org.apache.sysml.runtime.matrix.data.MatrixValue.CellIndex;
+import org.apache.sysml.runtime.matrix.data.OutputInfo;
+import org.apache.sysml.runtime.transform.encode.Encoder;
+import org.apache.sysml.runtime.transform.encode.EncoderFactory;
+import org.apache.sysml.runtime.util.DataConverter;
+import org.apache.sysml.runtime.util.MapReduceTool;
+import org.apache.sysml.test.integration.AutomatedTestBase;
+import org.apache.sysml.test.integration.TestConfiguration;
+import org.apache.sysml.test.utils.TestUtils;
+
+/**
+ * This is a component test for feature hashing in transform encode
+ * and apply, standalone and in combination with dummycoding, as well
+ * as a script-level test of transformencode and transformapply.
+ */
+public class TransformFrameEncodeHashTest extends AutomatedTestBase 
+{
+	private final static String TEST_NAME1 = "TransformFrameEncodeHash";
+	private final static String TEST_DIR = "functions/transform/";
+	private final static String TEST_CLASS_DIR = TEST_DIR + TransformFrameEncodeHashTest.class.getSimpleName() + "/";
+	
+	private static final int rows = 40000;
+	private static final int K = 100;
+	
+	private static final ValueType[] SCHEMA = new ValueType[]{ValueType.STRING, ValueType.STRING, ValueType.DOUBLE};
+	private static final int[] DISTINCT = new int[]{rows, rows, 0};
+	private static final double[] NULLS = new double[]{0, 0, 0};
+	
+	private static final String SPEC1 = "{ids:true, hash:[1,2], K:"+K+"}";
+	private static final String SPEC2 = "{ids:true, hash:[1], recode:[2], dummycode:[1], K:"+K+"}";
+	private static final String SPEC3 = "{ids:true, hash:[1,2], dummycode:[1,2], K:"+K+"}";
+	
+	@Override
+	public void setUp() {
+		TestUtils.clearAssertionInformation();
+		addTestConfiguration(TEST_NAME1, 
+			new TestConfiguration(TEST_CLASS_DIR, TEST_NAME1, new String[] { "tfout1", "tfout2" }) );
+	}
+	
+	@Test
+	public void testTransformEncodeApplyHash() {
+		runTransformEncodeHashTest(SPEC1, false, 1);
+	}
+	
+	@Test
+	public void testTransformEncodeApplyHashDummycode() {
+		runTransformEncodeHashTest(SPEC2, true, 1);
+	}
+	
+	@Test
+	public void testTransformEncodeApplyHashDummycode2() {
+		runTransformEncodeHashTest(SPEC3, true, 1);
+	}
+	
+	@Test
+	public void testTransformEncodeApplyHashParallel() {
+		runTransformEncodeHashTest(SPEC1, false, 4);
+	}
+	
+	@Test
+	public void testTransformEncodeApplyHashDummycodeParallel() {
+		runTransformEncodeHashTest(SPEC3, true, 4);
+	}
+	
+	@Test
+	public void testTransformEncodeApplyHashSingleNode() {
+		runTransformEncodeHashDMLTest(SPEC1);
+	}
+	
+	@Test
+	public void testTransformEncodeApplyHashDummycodeSingleNode() {
+		runTransformEncodeHashDMLTest(SPEC3);
+	}
+	
+	private void runTransformEncodeHashTest(String spec, boolean dummy, int k)
+	{
+		try {
+			//generate input frame w/ high-cardinality column
+			FrameBlock data = createInputFrame();
+			String[] colnames = data.getColumnNames();
+			
+			//execute transform encode
+			Encoder encoder1 = EncoderFactory.createEncoder(spec, colnames, data.getNumColumns(), null);
+			MatrixBlock out1 = encoder1.encode(data, new MatrixBlock(rows, data.getNumColumns(), false), k);
+			FrameBlock meta = encoder1.getMetaData(new FrameBlock(data.getNumColumns(), ValueType.STRING));
+			
+			//check hashed codes (no recode maps), and one-hot outputs
+			Assert.assertEquals(K, meta.getColumnMetadata(0).getNumDistinct());
+			Assert.assertEquals(rows, out1.getNumRows());
+			if( !dummy ) {
+				Assert.assertEquals(data.getNumColumns(), out1.getNumColumns());
+				Assert.assertEquals(0, meta.getNumRows());
+				for( int i=0; i<rows; i++ ) {
+					double code = out1.quickGetValue(i, 0);
+					Assert.assertTrue(code >= 1 && code <= K);
+					Assert.assertEquals(code, out1.quickGetValue(i, 1), 0);
+				}
+			}
+			else {
+				int clen = K + (spec.contains("dummycode:[1,2]") ? K : 1) + 1;
+				Assert.assertEquals(clen, out1.getNumColumns());
+				Assert.assertTrue(out1.isInSparseFormat());
+				Assert.assertEquals(3*rows, out1.getNonZeros());
+				for( int i=0; i<rows; i++ ) {
+					double sum = 0;
+					for( int j=0; j<K; j++ )
+						sum += out1.quickGetValue(i, j);
+					Assert.assertEquals(1, sum, 0);
+				}
+			}
+			
+			//execute transform apply and compare
+			meta.setColumnNames(colnames);
+			Encoder encoder2 = EncoderFactory.createEncoder(spec, colnames, data.getNumColumns(), meta);
+			MatrixBlock out2 = encoder2.apply(data, new MatrixBlock(rows, data.getNumColumns(), false), k);
+			TestUtils.compareMatrices(out1, out2, 1e-14);
+		}
+		catch(Exception ex) {
+			throw new RuntimeException(ex);
+		}
+	}
+	
+	private void runTransformEncodeHashDMLTest(String spec)
+	{
+		RUNTIME_PLATFORM rtold = rtplatform;
+		rtplatform = RUNTIME_PLATFORM.SINGLE_NODE;
+		
+		try {
+			getAndLoadTestConfiguration(TEST_NAME1);
+			
+			//write csv input frame (w/ header and meta data file) and spec
+			FrameBlock data = createInputFrame();
+			CSVFileFormatProperties props = new CSVFileFormatProperties(true, ",", false);
+			FrameWriterFactory.createFrameWriter(OutputInfo.CSVOutputInfo, props)
+				.writeFrameToHDFS(data, input("X"), rows, data.getNumColumns());
+			MapReduceTool.writeMetaDataFile(input("X.mtd"), ValueType.STRING, data.getSchema(), DataType.FRAME, 
+				new MatrixCharacteristics(rows, data.getNumColumns(), -1, -1), OutputInfo.CSVOutputInfo, props);
+			MapReduceTool.writeStringToHDFS(spec, input("spec"));
+			
+			String HOME = SCRIPT_DIR + TEST_DIR;
+			fullDMLScriptName = HOME + TEST_NAME1 + ".dml";
+			programArgs = new String[]{"-nvargs", "DATA=" + input("X"), "TFSPEC=" + input("spec"),
+				"TFDATA1=" + output("tfout1"), "TFDATA2=" + output("tfout2") };
+			runTest(true, false, null, -1);
+			
+			//compare transformencode and transformapply against in-memory encode
+			Encoder encoder = EncoderFactory.createEncoder(spec, data.getColumnNames(), data.getNumColumns(), null);
+			MatrixBlock out = encoder.encode(data, new MatrixBlock(rows, data.getNumColumns(), false));
+			HashMap<CellIndex, Double> expected = TestUtils.convert2DDoubleArrayToHashMap(
+				DataConverter.convertToDoubleMatrix(out));
+			for( String fname : new String[]{"tfout1", "tfout2"} ) {
+				HashMap<CellIndex, Double> actual = readDMLMatrixFromHDFS(fname);
+				Assert.assertEquals(out.getNonZeros(), actual.size());
+				Assert.assertTrue(TestUtils.compareMatrices(expected, actual, 0, "Expected", fname));
+				checkDMLMetaDataFile(fname, new MatrixCharacteristics(rows, out.getNumColumns(), -1, -1));
+			}
+		}
+		catch(Exception ex) {
+			throw new RuntimeException(ex);
+		}
+		finally {
+			rtplatform = rtold;
+		}
+	}
+	
+	private static FrameBlock createInputFrame() {
+		//high-cardinality columns w/ equal values (and thus equal hash codes)
+		FrameBlock ret = TestUtils.generateTestFrame(rows, SCHEMA, DISTINCT, NULLS, 7);
+		for( int i=0; i<rows; i++ )
+			ret.set(i, 1, ret.get(i, 0));
+		return ret;
+	}
+}
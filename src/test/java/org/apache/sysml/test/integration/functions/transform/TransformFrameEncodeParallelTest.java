@@ -0,0 +1,108 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.sysml.test.integration.functions.transform;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.apache.sysml.parser.Expression.ValueType;
+import org.apache.sysml.runtime.matrix.data.FrameBlock;
+import org.apache.sysml.runtime.matrix.data.MatrixBlock;
+import org.apache.sysml.runtime.transform.encode.Encoder;
+import org.apache.sysml.runtime.transform.encode.EncoderFactory;
+import org.apache.sysml.runtime.util.StringIntDictionary;
+import org.apache.sysml.test.integration.AutomatedTestBase;
+import org.apache.sysml.test.utils.TestUtils;
+
+/**
+ * This is a component test for multi-threaded transform encode and apply,
+ * which compares the outputs and meta data against single-threaded 
+ * execution (including identical recode maps).
+ */
+public class TransformFrameEncodeParallelTest extends AutomatedTestBase 
+{
+	private static final int rows = 40000;
+	private static final int numThreads = 4;
+	
+	private static final ValueType[] SCHEMA = new ValueType[]{ValueType.STRING, ValueType.STRING, ValueType.DOUBLE};
+	private static final int[] DISTINCT = new int[]{rows/4, 13, 0};
+	private static final double[] NULLS = new double[]{0, 0, 0.1};
+	
+	private static final String SPEC1 = "{ids:true, recode:[1,2]}";
+	private static final String SPEC2 = "{ids:true, recode:[1], dummycode:[2]}";
+	private static final String SPEC3 = "{ids:true, recode:[1,2], impute:[{id:3, method:\"constant\", value:\"7\"}]}";
+	
+	@Override
+	public void setUp() {
+		TestUtils.clearAssertionInformation();
+	}
+	
+	@Test
+	public void testTransformEncodeApplyRecode() {
+		runTransformEncodeParallelTest(SPEC1);
+	}
+	
+	@Test
+	public void testTransformEncodeApplyDummycode() {
+		runTransformEncodeParallelTest(SPEC2);
+	}
+	
+	@Test
+	public void testTransformEncodeApplyImpute() {
+		runTransformEncodeParallelTest(SPEC3);
+	}
+	
+	private void runTransformEncodeParallelTest(String spec)
+	{
+		try {
+			//generate input frame w/ categorical and numeric columns
+			FrameBlock data = TestUtils.generateTestFrame(rows, SCHEMA, DISTINCT, NULLS, 7);
+			String[] colnames = data.getColumnNames();
+			
+			//execute single- and multi-threaded transform encode
+			Encoder encoder1 = EncoderFactory.createEncoder(spec, colnames, data.getNumColumns(), null);
+			MatrixBlock out1 = encoder1.encode(data, new MatrixBlock(rows, data.getNumColumns(), false));
+			FrameBlock meta1 = encoder1.getMetaData(new FrameBlock(data.getNumColumns(), ValueType.STRING));
+			Encoder encoder2 = EncoderFactory.createEncoder(spec, colnames, data.getNumColumns(), null);
+			MatrixBlock out2 = encoder2.encode(data, new MatrixBlock(rows, data.getNumColumns(), false), numThreads);
+			FrameBlock meta2 = encoder2.getMetaData(new FrameBlock(data.getNumColumns(), ValueType.STRING));
+			
+			//check outputs and meta data
+			TestUtils.compareMatrices(out1, out2, 1e-14);
+			Assert.assertEquals(meta1.getNumRows(), meta2.getNumRows());
+			for( int j=0; j<2; j++ ) //recoded columns
+				compareRecodeMaps(meta1.getRecodeDictionary(j), meta2.getRecodeDictionary(j));
+			
+			//execute single- and multi-threaded transform apply
+			meta1.setColumnNames(colnames);
+			Encoder encoder3 = EncoderFactory.createEncoder(spec, colnames, data.getNumColumns(), meta1);
+			MatrixBlock out3 = encoder3.apply(data, new MatrixBlock(rows, data.getNumColumns(), false), numThreads);
+			TestUtils.compareMatrices(out1, out3, 1e-14);
+		}
+		catch(Exception ex) {
+			throw new RuntimeException(ex);
+		}
+	}
+	
+	private static void compareRecodeMaps(StringIntDictionary map1, StringIntDictionary map2) {
+		Assert.assertEquals(map1.size(), map2.size());
+		for( int i=0; i<map1.size(); i++ )
+			Assert.assertEquals(map1.getCode(i), map2.get(map1.getKey(i)));
+	}
+}
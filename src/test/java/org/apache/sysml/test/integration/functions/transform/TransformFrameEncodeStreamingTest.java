@@ -0,0 +1,328 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.sysml.test.integration.functions.transform;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.apache.sysml.api.DMLScript.RUNTIME_PLATFORM;
+import org.apache.sysml.parser.Expression.DataType;
+import org.apache.sysml.parser.Expression.ValueType;
+import org.apache.sysml.runtime.controlprogram.caching.CacheableData;
+import org.apache.sysml.runtime.controlprogram.caching.FrameObject;
+import org.apache.sysml.runtime.controlprogram.caching.MatrixObject;
+import org.apache.sysml.runtime.controlprogram.context.ExecutionContext;
+import org.apache.sysml.runtime.controlprogram.context.ExecutionContextFactory;
+import org.apache.sysml.runtime.controlprogram.parfor.stat.InfrastructureAnalyzer;
+import org.apache.sysml.runtime.instructions.CPInstructionParser;
+import org.apache.sysml.runtime.instructions.cp.VariableCPInstruction;
+import org.apache.sysml.runtime.io.FrameWriterFactory;
+import org.apache.sysml.runtime.io.MatrixReaderFactory;
+import org.apache.sysml.runtime.matrix.MatrixCharacteristics;
+import org.apache.sysml.runtime.matrix.MetaDataFormat;
+import org.apache.sysml.runtime.matrix.data.CSVFileFormatProperties;
+import org.apache.sysml.runtime.matrix.data.FrameBlock;
+import org.apache.sysml.runtime.matrix.data.InputInfo;
+import org.apache.sysml.runtime.matrix.data.MatrixBlock;
+import org.apache.sysml.runtime.matrix.data.OutputInfo;
+import org.apache.sysml.runtime.transform.TfStreamingApply;
+import org.apache.sysml.runtime.transform.encode.Encoder;
+import org.apache.sysml.runtime.transform.encode.EncoderFactory;
+import org.apache.sysml.runtime.util.DataConverter;
+import org.apache.sysml.runtime.util.MapReduceTool;
+import org.apache.sysml.test.integration.AutomatedTestBase;
+import org.apache.sysml.test.integration.TestConfiguration;
+import org.apache.sysml.test.utils.TestUtils;
+import org.apache.sysml.utils.Statistics;
+
+/**
+ * This test checks the streaming transform apply over csv inputs, which 
+ * compares the incrementally written outputs against the in-memory transform
+ * apply, both directly and through transformapply in DML scripts w/ small 
+ * memory budget, incl the cleanup of the written output on rmvar.
+ */
+public class TransformFrameEncodeStreamingTest extends AutomatedTestBase 
+{
+	private final static String TEST_NAME1 = "TransformFrameEncodeStreaming";
+	private final static String TEST_DIR = "functions/transform/";
+	private final static String TEST_CLASS_DIR = TEST_DIR + TransformFrameEncodeStreamingTest.class.getSimpleName() + "/";
+	
+	private static final int rows = 12345;
+	private static final int blksz = 1000;
+	private static final double memBudget = 256*1024;
+	private static final long maxMem = 2*1024*1024; //DML and instructions
+	
+	private static final ValueType[] SCHEMA = new ValueType[]{ValueType.STRING, ValueType.STRING, ValueType.STRING};
+	private static final int[] DISTINCT = new int[]{rows/4, 13, 0};
+	private static final double[] NULLS = new double[]{0, 0, 0.1};
+	
+	private static final String SPEC1 = "{ids:true, recode:[1,2]}";
+	private static final String SPEC2 = "{ids:true, recode:[1], dummycode:[2]}";
+	private static final String SPEC3 = "{ids:true, hash:[1], dummycode:[1,2], K:50}";
+	private static final String SPEC4 = "{ids:true, recode:[1,2], omit:[3]}";
+	
+	@Override
+	public void setUp() {
+		TestUtils.clearAssertionInformation();
+		addTestConfiguration(TEST_NAME1, 
+			new TestConfiguration(TEST_CLASS_DIR, TEST_NAME1, new String[] { "R" }) );
+	}
+	
+	@Test
+	public void testTransformApplyStreamingRecode() {
+		runTransformApplyStreamingTest(SPEC1);
+	}
+	
+	@Test
+	public void testTransformApplyStreamingDummycode() {
+		runTransformApplyStreamingTest(SPEC2);
+	}
+	
+	@Test
+	public void testTransformApplyStreamingHashDummycode() {
+		runTransformApplyStreamingTest(SPEC3);
+	}
+	
+	@Test
+	public void testTransformApplyStreamingOmit() {
+		runTransformApplyStreamingTest(SPEC4);
+	}
+	
+	@Test
+	public void testTransformApplyStreamingRecodeSingleNode() {
+		runTransformApplyStreamingDMLTest(SPEC1);
+	}
+	
+	@Test
+	public void testTransformApplyStreamingDummycodeSingleNode() {
+		runTransformApplyStreamingDMLTest(SPEC2);
+	}
+	
+	@Test
+	public void testTransformApplyStreamingOmitSingleNode() {
+		runTransformApplyStreamingDMLTest(SPEC4);
+	}
+	
+	@Test
+	public void testTransformApplyStreamingRmvarRecode() {
+		runTransformApplyStreamingRmvarTest(SPEC1);
+	}
+	
+	@Test
+	public void testTransformApplyStreamingRmvarOmit() {
+		runTransformApplyStreamingRmvarTest(SPEC4);
+	}
+	
+	@Test
+	public void testTransformApplyStreamingEmptyDummycode() {
+		try {
+			getAndLoadTestConfiguration(TEST_NAME1);
+			
+			//build meta data over the input frame, but stream a header-only csv
+			FrameBlock data = TestUtils.generateTestFrame(rows, SCHEMA, DISTINCT, NULLS, 7);
+			FrameBlock meta = createMetaData(SPEC2, data);
+			MatrixBlock out1 = applyInMemory(SPEC2, data, meta);
+			MapReduceTool.writeStringToHDFS(String.join(",", data.getColumnNames()) + "\n", input("X"));
+			
+			//check dummycoded number of columns of the empty output
+			MatrixCharacteristics mc2 = TfStreamingApply.apply(SPEC2, meta,
+				createFrameObject(data, input("X")), output("R"), blksz, blksz, memBudget, 1);
+			Assert.assertEquals(0, mc2.getRows());
+			Assert.assertEquals(out1.getNumColumns(), mc2.getCols());
+			Assert.assertTrue(out1.getNumColumns() > data.getNumColumns());
+		}
+		catch(Exception ex) {
+			throw new RuntimeException(ex);
+		}
+	}
+	
+	private void runTransformApplyStreamingTest(String spec)
+	{
+		try {
+			getAndLoadTestConfiguration(TEST_NAME1);
+			
+			//generate and write csv input frame w/ header and missing values
+			FrameBlock data = TestUtils.generateTestFrame(rows, SCHEMA, DISTINCT, NULLS, 7);
+			writeInputFrame(data, input("X"));
+			
+			//build meta data and in-memory reference output
+			FrameBlock meta = createMetaData(spec, data);
+			MatrixBlock out1 = applyInMemory(spec, data, meta);
+			
+			//execute streaming transform apply w/ small memory budget
+			MatrixCharacteristics mc2 = TfStreamingApply.apply(spec, meta,
+				createFrameObject(data, input("X")), output("R"), blksz, blksz, memBudget, 1);
+			
+			//read and compare outputs
+			Assert.assertEquals(out1.getNumRows(), mc2.getRows());
+			Assert.assertEquals(out1.getNumColumns(), mc2.getCols());
+			Assert.assertEquals(out1.getNonZeros(), mc2.getNonZeros());
+			MatrixBlock out2 = DataConverter.readMatrixFromHDFS(output("R"), 
+				InputInfo.BinaryBlockInputInfo, mc2.getRows(), mc2.getCols(), blksz, blksz);
+			TestUtils.compareMatrices(out1, out2, 1e-14);
+		}
+		catch(Exception ex) {
+			throw new RuntimeException(ex);
+		}
+	}
+	
+	private void runTransformApplyStreamingDMLTest(String spec)
+	{
+		RUNTIME_PLATFORM rtold = rtplatform;
+		long memOld = InfrastructureAnalyzer.getLocalMaxMemory();
+		rtplatform = RUNTIME_PLATFORM.SINGLE_NODE;
+		
+		try {
+			getAndLoadTestConfiguration(TEST_NAME1);
+			
+			//write two copies of the csv input frame (w/ meta data files),
+			//where the first is encoded in memory and the second is streamed
+			FrameBlock data = TestUtils.generateTestFrame(rows, SCHEMA, DISTINCT, NULLS, 7);
+			writeInputFrame(data, input("X1"));
+			writeInputFrame(data, input("X2"));
+			MapReduceTool.writeStringToHDFS(spec, input("spec"));
+			
+			String HOME = SCRIPT_DIR + TEST_DIR;
+			fullDMLScriptName = HOME + TEST_NAME1 + ".dml";
+			programArgs = new String[]{"-stats", "-nvargs", 
+				"DATA1=" + input("X1"), "DATA2=" + input("X2"),
+				"TFSPEC=" + input("spec"), "TFDATA1=" + output("tfout1"),
+				"TFDATA2=" + output("tfout2"), "TFDATA3=" + output("tfout3") };
+			
+			//run script w/ memory budget smaller than the input
+			InfrastructureAnalyzer.setLocalMaxMemory(maxMem);
+			runTest(true, false, null, -1);
+			Assert.assertEquals(1, Statistics.getTransformStreamingApply());
+			
+			//compare in-memory and streaming outputs, incl meta data
+			double[][] R1 = readCSVMatrix(output("tfout1"));
+			double[][] R2 = readCSVMatrix(output("tfout2"));
+			double[][] R3 = readCSVMatrix(output("tfout3"));
+			TestUtils.compareMatrices(R1, R2, R1.length, R1[0].length, 0);
+			TestUtils.compareMatrices(new double[R1.length][R1[0].length], R3, R1.length, R1[0].length, 0);
+			checkDMLMetaDataFile("tfout2", new MatrixCharacteristics(R1.length, R1[0].length, -1, -1));
+		}
+		catch(Exception ex) {
+			throw new RuntimeException(ex);
+		}
+		finally {
+			rtplatform = rtold;
+			InfrastructureAnalyzer.setLocalMaxMemory(memOld);
+		}
+	}
+	
+	private void runTransformApplyStreamingRmvarTest(String spec)
+	{
+		long memOld = InfrastructureAnalyzer.getLocalMaxMemory();
+		try {
+			getAndLoadTestConfiguration(TEST_NAME1);
+			CacheableData.initCaching();
+			InfrastructureAnalyzer.setLocalMaxMemory(maxMem);
+			Statistics.reset();
+			
+			//generate csv input frame, meta data, and in-memory reference output
+			FrameBlock data = TestUtils.generateTestFrame(rows, SCHEMA, DISTINCT, NULLS, 7);
+			writeInputFrame(data, input("X"));
+			FrameBlock meta = createMetaData(spec, data);
+			MatrixBlock out1 = applyInMemory(spec, data, meta);
+			
+			//setup symbol table w/ unpinned input, pinned meta data, and outputs
+			ExecutionContext ec = ExecutionContextFactory.createContext();
+			ec.setVariable("X", createFrameObject(data, input("X")));
+			FrameObject fmeta = new FrameObject(output("M"), new MetaDataFormat(
+				new MatrixCharacteristics(meta.getNumRows(), meta.getNumColumns(), blksz, blksz),
+				OutputInfo.BinaryBlockOutputInfo, InputInfo.BinaryBlockInputInfo));
+			fmeta.acquireModify(meta);
+			fmeta.release();
+			ec.setVariable("M", fmeta);
+			ec.setVariable("Y", createMatrixObject(output("Y")));
+			ec.setVariable("Z", createMatrixObject(output("Z")));
+			
+			//streaming transformapply w/ output written to its file
+			CPInstructionParser.parseSingleInstruction("CP°transformapply°target=X°meta=M°spec="
+				+ spec + "°Y·MATRIX·DOUBLE").processInstruction(ec);
+			Assert.assertEquals(1, Statistics.getTransformStreamingApply());
+			Assert.assertTrue(MapReduceTool.existsFileOnHDFS(output("Y")));
+			
+			//subsequent instruction reading the output via its file
+			CPInstructionParser.parseSingleInstruction(
+				"CP°+°Y·MATRIX·DOUBLE°0·SCALAR·DOUBLE·true°Z·MATRIX·DOUBLE").processInstruction(ec);
+			TestUtils.compareMatrices(out1, ec.getMatrixInput("Z"), 1e-14);
+			ec.releaseMatrixInput("Z");
+			
+			//rmvar of the output deletes the written file
+			VariableCPInstruction.prepareRemoveInstruction("Y").processInstruction(ec);
+			Assert.assertFalse(MapReduceTool.existsFileOnHDFS(output("Y")));
+		}
+		catch(Exception ex) {
+			throw new RuntimeException(ex);
+		}
+		finally {
+			InfrastructureAnalyzer.setLocalMaxMemory(memOld);
+			CacheableData.cleanupCacheDir();
+		}
+	}
+	
+	private static void writeInputFrame(FrameBlock data, String fname) throws Exception {
+		MatrixCharacteristics mc = new MatrixCharacteristics(rows, data.getNumColumns(), blksz, blksz);
+		FrameWriterFactory.createFrameWriter(OutputInfo.CSVOutputInfo, getFormatProperties())
+			.writeFrameToHDFS(data, fname, rows, data.getNumColumns());
+		MapReduceTool.writeMetaDataFile(fname+".mtd", ValueType.STRING, data.getSchema(), 
+			DataType.FRAME, mc, OutputInfo.CSVOutputInfo, getFormatProperties());
+	}
+	
+	private static FrameObject createFrameObject(FrameBlock data, String fname) {
+		MatrixCharacteristics mc = new MatrixCharacteristics(rows, data.getNumColumns(), blksz, blksz);
+		FrameObject fo = new FrameObject(fname, new MetaDataFormat(mc, 
+			OutputInfo.CSVOutputInfo, InputInfo.CSVInputInfo), data.getSchema());
+		fo.setFileFormatProperties(getFormatProperties());
+		return fo;
+	}
+	
+	private static MatrixObject createMatrixObject(String fname) {
+		return new MatrixObject(ValueType.DOUBLE, fname, new MetaDataFormat(
+			new MatrixCharacteristics(-1, -1, blksz, blksz),
+			OutputInfo.BinaryBlockOutputInfo, InputInfo.BinaryBlockInputInfo));
+	}
+	
+	private static CSVFileFormatProperties getFormatProperties() {
+		return new CSVFileFormatProperties(true, ",", true, 0, "");
+	}
+	
+	private static FrameBlock createMetaData(String spec, FrameBlock data) throws Exception {
+		String[] colnames = data.getColumnNames();
+		Encoder encoder = EncoderFactory.createEncoder(spec, colnames, data.getNumColumns(), null);
+		encoder.build(data);
+		FrameBlock meta = encoder.getMetaData(new FrameBlock(data.getNumColumns(), ValueType.STRING));
+		meta.setColumnNames(colnames);
+		return meta;
+	}
+	
+	private static MatrixBlock applyInMemory(String spec, FrameBlock data, FrameBlock meta) throws Exception {
+		Encoder encoder = EncoderFactory.createEncoder(spec, 
+			data.getColumnNames(), data.getNumColumns(), meta);
+		return encoder.apply(data, new MatrixBlock(rows, data.getNumColumns(), false));
+	}
+	
+	private static double[][] readCSVMatrix(String fname) throws Exception {
+		return DataConverter.convertToDoubleMatrix(MatrixReaderFactory
+			.createMatrixReader(InputInfo.CSVInputInfo)
+			.readMatrixFromHDFS(fname, -1L, -1L, blksz, blksz, -1));
+	}
+}
@@ -0,0 +1,128 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.sysml.test.integration.functions.transform;
+
+import java.util.HashMap;
+import java.util.Random;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.apache.sysml.parser.Expression.ValueType;
+import org.apache.sysml.runtime.matrix.data.FrameBlock;
+import org.apache.sysml.runtime.transform.encode.EncoderRecode;
+import org.apache.sysml.runtime.util.StringIntDictionary;
+import org.apache.sysml.test.integration.AutomatedTestBase;
+import org.apache.sysml.test.utils.TestUtils;
+
+public class TransformRecodeDictionaryTest extends AutomatedTestBase 
+{
+	private static final int rows = 100000;
+	private static final int distinct = 20000;
+	
+	@Override
+	public void setUp()  {
+		TestUtils.clearAssertionInformation();
+	}
+	
+	@Test
+	public void testDictionaryAddAscii() {
+		runDictionaryTest(false, false);
+	}
+	
+	@Test
+	public void testDictionaryAddNonAscii() {
+		runDictionaryTest(true, false);
+	}
+	
+	@Test
+	public void testDictionaryPutAscii() {
+		runDictionaryTest(false, true);
+	}
+	
+	@Test
+	public void testDictionaryPutNonAscii() {
+		runDictionaryTest(true, true);
+	}
+	
+	@Test
+	public void testDictionaryAbsentKeys() {
+		StringIntDictionary dict = new StringIntDictionary();
+		Assert.assertTrue(dict.isEmpty());
+		Assert.assertEquals(-1, dict.get("a"));
+		Assert.assertEquals(-1, dict.get(null));
+		Assert.assertEquals(1, dict.add("a"));
+		Assert.assertEquals(2, dict.add(""));
+		Assert.assertEquals(1, dict.add("a"));
+		Assert.assertEquals(2, dict.get(""));
+		Assert.assertEquals(-1, dict.get("b"));
+		Assert.assertFalse(dict.containsKey("aa"));
+		Assert.assertEquals(2, dict.size());
+	}
+	
+	@Test
+	public void testFrameRecodeMapCompatibility() {
+		//meta data frame w/ recode map entries of a single column
+		FrameBlock meta = new FrameBlock(1, ValueType.STRING);
+		meta.ensureAllocatedColumns(distinct);
+		for( int i=0; i<distinct; i++ )
+			meta.set(i, 0, EncoderRecode.constructRecodeMapEntry("ID"+i, (long)i+1));
+		
+		//check equal contents of recode map and dictionary
+		HashMap<String, Long> map = meta.getRecodeMap(0);
+		StringIntDictionary dict = meta.getRecodeDictionary(0);
+		Assert.assertEquals(distinct, map.size());
+		Assert.assertEquals(distinct, dict.size());
+		for( int i=0; i<dict.size(); i++ )
+			Assert.assertEquals(Long.valueOf(dict.getCode(i)), map.get(dict.getKey(i)));
+		Assert.assertEquals(Long.valueOf(7), map.get("ID6"));
+	}
+	
+	private static void runDictionaryTest(boolean nonAscii, boolean put) {
+		//generate keys w/ duplicates and compare against reference map
+		Random rand = new Random(7);
+		StringIntDictionary dict = new StringIntDictionary();
+		HashMap<String, Integer> ref = new HashMap<>();
+		for( int i=0; i<rows; i++ ) {
+			String key = (nonAscii && i%3==0 ? "ä€" : "ID") + rand.nextInt(distinct);
+			if( put ) {
+				int code = rand.nextInt(Integer.MAX_VALUE);
+				dict.put(key, code);
+				ref.put(key, code);
+			}
+			else {
+				if( !ref.containsKey(key) )
+					ref.put(key, ref.size()+1);
+				Assert.assertEquals((int)ref.get(key), dict.add(key));
+			}
+		}
+		
+		//check lookups and positional access
+		Assert.assertEquals(ref.size(), dict.size());
+		for( String key : ref.keySet() )
+			Assert.assertEquals((int)ref.get(key), dict.get(key));
+		for( int i=0; i<dict.size(); i++ ) {
+			String key = dict.getKey(i);
+			Assert.assertEquals((int)ref.get(key), dict.getCode(i));
+			if( !put ) //insertion order
+				Assert.assertEquals(i+1, dict.getCode(i));
+		}
+		Assert.assertEquals(-1, dict.get("x"+distinct));
+	}
+}
@@ -684,6 +684,37 @@ public class TestUtils
 		assertTrue("" + countErrors + " values are not in equal", countErrors == 0);
 	}
 	
+	/**
+	 * Compares two matrix blocks cell-wise, including their dimensions
+	 * and maintained number of non-zeros.
+	 * 
+	 * @param expected expected matrix block
+	 * @param actual actual matrix block
+	 * @param epsilon tolerance for value comparisons
+	 */
+	public static void compareMatrices(MatrixBlock expected, MatrixBlock actual, double epsilon) {
+		assertEquals(expected.getNumRows(), actual.getNumRows());
+		assertEquals(expected.getNumColumns(), actual.getNumColumns());
+		assertEquals(expected.getNonZeros(), actual.getNonZeros());
+		for( int i=0; i<expected.getNumRows(); i++ )
+			for( int j=0; j<expected.getNumColumns(); j++ )
+				assertEquals(expected.quickGetValue(i, j), actual.quickGetValue(i, j), epsilon);
+	}
+	
+	/**
+	 * Compares two frame blocks cell-wise, including their dimensions.
+	 * 
+	 * @param expected expected frame block
+	 * @param actual actual frame block
+	 */
+	public static void compareFrames(FrameBlock expected, FrameBlock actual) {
+		assertEquals(expected.getNumRows(), actual.getNumRows());
+		assertEquals(expected.getNumColumns(), actual.getNumColumns());
+		for( int i=0; i<expected.getNumRows(); i++ )
+			for( int j=0; j<expected.getNumColumns(); j++ )
+				assertEquals(expected.get(i, j), actual.get(i, j));
+	}
+	
 	public static void compareScalars(double d1, double d2, double tol) {
 		if(!compareCellValue(d1, d2, tol, false)) {
 			assertTrue("Given scalars do not match: " + d1 + " != " + d2 , false);
@@ -1556,6 +1587,36 @@ public class TestUtils
 		writeTestFrame(file, data, schema, oi, false);
 	}
 
+	/**
+	 * Generates a test frame w/ categorical columns (values "V0" to "V{d-1}" 
+	 * for d distinct values) and numeric columns (d &lt;= 0, values in [1,2)),
+	 * where each cell is null w/ the given column-wise probability. Numeric
+	 * values of string columns are stored as strings.
+	 * 
+	 * @param rows number of rows
+	 * @param schema column value types
+	 * @param distinct number of distinct values per column (or &lt;= 0 for numeric columns)
+	 * @param nulls probability of null values per column
+	 * @param seed seed
+	 * @return random frame block
+	 */
+	public static FrameBlock generateTestFrame(int rows, ValueType[] schema, int[] distinct, double[] nulls, long seed) {
+		FrameBlock ret = new FrameBlock(schema, FrameBlock.createColNames(schema.length));
+		ret.ensureAllocatedColumns(rows);
+		Random random = (seed == -1) ? TestUtils.random : new Random(seed);
+		for( int i=0; i<rows; i++ )
+			for( int j=0; j<schema.length; j++ ) {
+				if( random.nextDouble() < nulls[j] ) {
+					ret.set(i, j, null);
+					continue;
+				}
+				Object val = (distinct[j] > 0) ?
+					"V" + random.nextInt(distinct[j]) : (Object)(1 + random.nextDouble());
+				ret.set(i, j, (schema[j] == ValueType.STRING) ? String.valueOf(val) : val);
+			}
+		return ret;
+	}
+	
 	/**
 	 * 
 	 * @param frame
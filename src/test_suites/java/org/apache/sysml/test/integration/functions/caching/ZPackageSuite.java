@@ -26,6 +26,9 @@ import org.junit.runners.Suite;
  *  won't run two of them at once. */
 @RunWith(Suite.class)
 @Suite.SuiteClasses({
+	CachingCompressedEvictionTest.class,
+	CachingMmapEvictionTest.class,
+	CachingPrefetchTest.class,
 	CachingPWriteExportTest.class
 })
 
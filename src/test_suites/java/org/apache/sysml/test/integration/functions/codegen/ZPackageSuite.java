@@ -37,7 +37,9 @@ import org.junit.runners.Suite;
 	AlgorithmMSVM.class,
 	AlgorithmPNMF.class,
 	APICodegenTest.class,
+	AsyncCompileTest.class,
 	CellwiseTmplTest.class,
+	CodegenClassCacheTest.class,
 	CompressedCellwiseTest.class,
 	CompressedMultiAggregateTest.class,
 	CompressedOuterProductTest.class,
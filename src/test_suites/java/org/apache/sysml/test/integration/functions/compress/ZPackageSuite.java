@@ -47,6 +47,7 @@ import org.junit.runners.Suite;
 	LargeParMatrixVectorMultTest.class,
 	LargeParUnaryAggregateTest.class,
 	LargeVectorMatrixMultTest.class,
+	ParCompressionPlanningTest.class,
 	ParCompressionTest.class,
 	ParMatrixMultChainTest.class,
 	ParMatrixVectorMultTest.class,
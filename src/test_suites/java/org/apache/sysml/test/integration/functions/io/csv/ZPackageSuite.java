@@ -26,6 +26,7 @@ import org.junit.runners.Suite;
  *  won't run two of them at once. */
 @RunWith(Suite.class)
 @Suite.SuiteClasses({
+	ByteCSVTokenizerTest.class,
 	CSVParametersTest.class,
 	FormatChangeTest.class,
 	ReadCSVTest.class,
@@ -38,6 +38,9 @@ import org.junit.runners.Suite;
 	JMLCInputOutputTest.class,
 	JMLCInputStreamReadTest.class,
 	JMLCParfor2ForCompileTest.class,
+	JMLCSavedPreparedScriptTest.class,
+	MicroBatchScorerTest.class,
+	PreparedScriptPoolTest.class,
 	ReuseModelVariablesTest.class,
 	MulticlassSVMScoreTest.class
 })
@@ -37,6 +37,7 @@ import org.junit.runners.Suite;
 	SparseBlockMerge.class,
 	SparseBlockScan.class,
 	SparseBlockSize.class,
+	SparseMatrixMultTest.class,
 })
 
 
@@ -36,6 +36,11 @@ import org.junit.runners.Suite;
 	TransformFrameEncodeColmapTest.class,
 	TransformFrameEncodeDecodeTest.class,
 	TransformFrameEncodeDecodeTokenTest.class,
+	TransformFrameEncodeDictColumnsTest.class,
+	TransformFrameEncodeHashTest.class,
+	TransformFrameEncodeParallelTest.class,
+	TransformFrameEncodeStreamingTest.class,
+	TransformRecodeDictionaryTest.class,
 })
 
 